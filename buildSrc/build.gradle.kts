@@ -25,6 +25,7 @@ dependencies {
     implementation("gradle.plugin.io.snyk.gradle.plugin:snyk:0.7.0")
     implementation("io.freefair.gradle:lombok-plugin:8.14")
     implementation("io.spring.gradle:dependency-management-plugin:1.1.7")
+    implementation("me.champeau.jmh:jmh-gradle-plugin:0.7.3")
     implementation("org.apache.commons:commons-compress:1.27.1")
     implementation("org.flywaydb:flyway-database-postgresql:11.10.4")
     implementation("org.cyclonedx:cyclonedx-gradle-plugin:2.3.1")
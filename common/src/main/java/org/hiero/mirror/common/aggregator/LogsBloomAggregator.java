@@ -2,8 +2,10 @@
 
 package org.hiero.mirror.common.aggregator;
 
+import com.google.protobuf.ByteString;
 import lombok.NoArgsConstructor;
 import org.apache.commons.lang3.ArrayUtils;
+import org.hiero.mirror.common.util.DomainUtils;
 
 @NoArgsConstructor
 public class LogsBloomAggregator {
@@ -12,14 +14,22 @@ public class LogsBloomAggregator {
     private byte[] aggregatedBlooms = ArrayUtils.EMPTY_BYTE_ARRAY;
 
     public LogsBloomAggregator aggregate(byte[] bloom) {
+        return aggregate(DomainUtils.fromBytes(bloom));
+    }
+
+    /**
+     * Aggregates the bloom without copying it to a byte array first, since the bloom of a parsed record may be a view of
+     * a larger buffer that would have to be copied.
+     */
+    public LogsBloomAggregator aggregate(ByteString bloom) {
         if (bloom == null) {
             return this;
         }
         if (aggregatedBlooms.length == 0) {
             aggregatedBlooms = new byte[BYTE_SIZE];
         }
-        for (int i = 0; i < bloom.length; i++) {
-            aggregatedBlooms[i] |= bloom[i];
+        for (int i = 0; i < bloom.size(); i++) {
+            aggregatedBlooms[i] |= bloom.byteAt(i);
         }
         return this;
     }
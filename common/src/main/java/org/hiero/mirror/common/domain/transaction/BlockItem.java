@@ -118,6 +118,9 @@ public class BlockItem implements StreamItem {
     }
 
     public static class BlockItemBuilder {
+
+        private boolean protobufAliasing;
+
         public BlockItem build() {
             parseBody();
             return new BlockItem(
@@ -130,17 +133,30 @@ public class BlockItem implements StreamItem {
                     signatureMap);
         }
 
+        /**
+         * Parses the transaction bytes with aliasing, so the bytes fields of the transaction body are views of the
+         * transaction's buffer instead of copies.
+         */
+        public BlockItemBuilder protobufAliasing(boolean protobufAliasing) {
+            this.protobufAliasing = protobufAliasing;
+            return this;
+        }
+
         @SuppressWarnings("deprecation")
         private void parseBody() {
             if (transactionBody == null || signatureMap == null) {
                 try {
                     if (transaction.getSignedTransactionBytes().isEmpty()) {
-                        this.transactionBody(TransactionBody.parseFrom(transaction.getBodyBytes()))
-                                .signatureMap(transaction.getSigMap());
+                        var body = DomainUtils.parse(
+                                TransactionBody.parser(), transaction.getBodyBytes(), protobufAliasing);
+                        this.transactionBody(body).signatureMap(transaction.getSigMap());
                     } else {
-                        var signedTransaction = SignedTransaction.parseFrom(transaction.getSignedTransactionBytes());
-                        this.transactionBody(TransactionBody.parseFrom(signedTransaction.getBodyBytes()))
-                                .signatureMap(signedTransaction.getSigMap());
+                        // The transaction retains the signed transaction bytes anyway, so aliasing them adds no retention
+                        var signedTransaction = DomainUtils.parse(
+                                SignedTransaction.parser(), transaction.getSignedTransactionBytes(), protobufAliasing);
+                        var body = DomainUtils.parse(
+                                TransactionBody.parser(), signedTransaction.getBodyBytes(), protobufAliasing);
+                        this.transactionBody(body).signatureMap(signedTransaction.getSigMap());
                     }
                 } catch (InvalidProtocolBufferException e) {
                     throw new ProtobufException("Error parsing transaction body from transaction", e);
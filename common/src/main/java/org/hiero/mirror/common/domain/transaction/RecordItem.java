@@ -99,6 +99,15 @@ public class RecordItem implements StreamItem {
     @Setter
     private EthereumTransaction ethereumTransaction;
 
+    // The domain objects prepared from this record item alone, before it's processed in order with the others
+    @NonFinal
+    @Setter
+    private EthereumTransaction preparedEthereumTransaction;
+
+    @NonFinal
+    @Setter
+    private org.hiero.mirror.common.domain.transaction.Transaction preparedTransaction;
+
     @Builder.Default
     @NonFinal
     @Setter
@@ -174,6 +183,15 @@ public class RecordItem implements StreamItem {
         return transactionRecord.getTransactionID().getNonce() == 0;
     }
 
+    /**
+     * Clears the domain objects prepared from this record item, so they're not retained when the record item is
+     * skipped and a retry of the record item starts from fresh ones.
+     */
+    public void clearPrepared() {
+        preparedEthereumTransaction = null;
+        preparedTransaction = null;
+    }
+
     /**
      * Check whether ethereum transaction exist in the record item and returns it hash, if not return 32-byte
      * representation of the transaction hash
@@ -183,8 +201,13 @@ public class RecordItem implements StreamItem {
     public byte[] getTransactionHash() {
         return Optional.ofNullable(getEthereumTransaction())
                 .map(EthereumTransaction::getHash)
-                .orElseGet(() -> Arrays.copyOfRange(
-                        DomainUtils.toBytes(getTransactionRecord().getTransactionHash()), 0, 32));
+                .orElseGet(() -> {
+                    // Copy only the first 32 bytes, instead of the whole hash when it's a view of a larger buffer
+                    var transactionHash = getTransactionRecord().getTransactionHash();
+                    return transactionHash.size() >= 32
+                            ? transactionHash.substring(0, 32).toByteArray()
+                            : Arrays.copyOf(transactionHash.toByteArray(), 32);
+                });
     }
 
     private Map<Long, ContractTransaction> getContractTransactions() {
@@ -206,6 +229,7 @@ public class RecordItem implements StreamItem {
 
     public static class RecordItemBuilder {
 
+        private boolean protobufAliasing;
         private TransactionRecord.Builder transactionRecordBuilder;
 
         public RecordItem build() {
@@ -228,6 +252,15 @@ public class RecordItem implements StreamItem {
             return this;
         }
 
+        /**
+         * Parses the transaction bytes with aliasing, so the bytes fields of the transaction body are views of the
+         * transaction's buffer instead of copies.
+         */
+        public RecordItemBuilder protobufAliasing(boolean protobufAliasing) {
+            this.protobufAliasing = protobufAliasing;
+            return this;
+        }
+
         public TransactionRecord.Builder transactionRecordBuilder() {
             if (transactionRecordBuilder == null) {
                 transactionRecordBuilder =
@@ -286,11 +319,15 @@ public class RecordItem implements StreamItem {
             if (transactionBody == null || signatureMap == null) {
                 try {
                     if (!transaction.getSignedTransactionBytes().equals(ByteString.EMPTY)) {
-                        var signedTransaction = SignedTransaction.parseFrom(transaction.getSignedTransactionBytes());
-                        this.transactionBody = TransactionBody.parseFrom(signedTransaction.getBodyBytes());
+                        // The transaction retains the signed transaction bytes anyway, so aliasing them adds no retention
+                        var signedTransaction = DomainUtils.parse(
+                                SignedTransaction.parser(), transaction.getSignedTransactionBytes(), protobufAliasing);
+                        this.transactionBody = DomainUtils.parse(
+                                TransactionBody.parser(), signedTransaction.getBodyBytes(), protobufAliasing);
                         this.signatureMap = signedTransaction.getSigMap();
                     } else if (!transaction.getBodyBytes().equals(ByteString.EMPTY)) {
-                        this.transactionBody = TransactionBody.parseFrom(transaction.getBodyBytes());
+                        this.transactionBody = DomainUtils.parse(
+                                TransactionBody.parser(), transaction.getBodyBytes(), protobufAliasing);
                         this.signatureMap = transaction.getSigMap();
                     } else if (transaction.hasBody()) {
                         this.transactionBody = transaction.getBody();
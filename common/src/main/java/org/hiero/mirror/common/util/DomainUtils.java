@@ -8,6 +8,9 @@ import com.google.common.primitives.Longs;
 import com.google.protobuf.ByteOutput;
 import com.google.protobuf.ByteString;
 import com.google.protobuf.Internal;
+import com.google.protobuf.InvalidProtocolBufferException;
+import com.google.protobuf.MessageLite;
+import com.google.protobuf.Parser;
 import com.google.protobuf.UnsafeByteOperations;
 import com.hedera.services.stream.proto.HashObject;
 import com.hederahashgraph.api.proto.java.AccountID;
@@ -236,7 +239,8 @@ public class DomainUtils {
      * since we never modify the array and just directly store it in the database.
      * <p>
      * If the ByteString is smaller than the estimated size to allocate an UnsafeByteOutput object, copy the array
-     * regardless since we'd be allocating a similar amount of memory either way.
+     * regardless since we'd be allocating a similar amount of memory either way. A ByteString aliasing a slice of a
+     * larger buffer, like the ones parsed by {@link #parseAliased}, is always copied.
      *
      * @param byteString to convert
      * @return bytes extracted from the ByteString
@@ -264,6 +268,56 @@ public class DomainUtils {
         return byteString.toByteArray();
     }
 
+    /**
+     * Parses a protobuf message from the ByteString with aliasing enabled, so the bytes fields of the message are views
+     * of the ByteString's buffer instead of copies. This is safe since a ByteString is immutable, but the parsed bytes
+     * fields retain the whole buffer for as long as any of them is reachable.
+     *
+     * @param parser the parser of the message
+     * @param byteString the serialized message
+     * @return the parsed message
+     * @throws InvalidProtocolBufferException if the bytes are not a valid message
+     */
+    public static <T extends MessageLite> T parseAliased(Parser<T> parser, ByteString byteString)
+            throws InvalidProtocolBufferException {
+        var input = byteString.newCodedInput();
+        input.enableAliasing(true);
+        var message = parser.parseFrom(input);
+        input.checkLastTagWas(0);
+        return message;
+    }
+
+    /**
+     * Parses a protobuf message from the ByteString, with aliasing enabled only if requested.
+     *
+     * @param parser the parser of the message
+     * @param byteString the serialized message
+     * @param aliasing whether the bytes fields of the message should be views of the ByteString's buffer
+     * @return the parsed message
+     * @throws InvalidProtocolBufferException if the bytes are not a valid message
+     * @see #parseAliased(Parser, ByteString)
+     */
+    public static <T extends MessageLite> T parse(Parser<T> parser, ByteString byteString, boolean aliasing)
+            throws InvalidProtocolBufferException {
+        return aliasing ? parseAliased(parser, byteString) : parser.parseFrom(byteString);
+    }
+
+    /**
+     * Returns the ByteString itself if it owns its whole backing array, otherwise a copy of it. A ByteString aliasing a
+     * slice of a larger buffer, like the ones parsed by {@link #parseAliased}, retains the whole buffer, so it has to be
+     * copied before it's kept for longer than the buffer, e.g. as a cache key.
+     *
+     * @param byteString the ByteString to detach
+     * @return a ByteString not retaining any larger buffer
+     */
+    public static ByteString detach(ByteString byteString) {
+        if (byteString == null || UnsafeByteOutput.isLiteral(byteString)) {
+            return byteString;
+        }
+
+        return fromBytes(byteString.toByteArray());
+    }
+
     public static ByteString fromBytes(byte[] bytes) {
         if (bytes == null) {
             return null;
@@ -392,8 +446,12 @@ public class DomainUtils {
         private byte[] bytes;
 
         private static boolean supports(ByteString byteString) {
-            return byteString.size() > UnsafeByteOutput.SIZE
-                    && byteString.getClass() == UnsafeByteOutput.SUPPORTED_CLASS;
+            return byteString.size() > UnsafeByteOutput.SIZE && isLiteral(byteString);
+        }
+
+        // The exact class check excludes its BoundedByteString subclass, which is a slice of a larger array
+        private static boolean isLiteral(ByteString byteString) {
+            return byteString.getClass() == UnsafeByteOutput.SUPPORTED_CLASS;
         }
 
         @Override
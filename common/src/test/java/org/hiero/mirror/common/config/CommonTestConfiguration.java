@@ -99,6 +99,8 @@ public class CommonTestConfiguration {
                 o -> !Strings.CS.contains(o.getUtf8StringWithoutLineEnding(), excluded));
         return new PostgreSQLContainer<>(dockerImageName)
                 .withClasspathResourceMapping("init.sql", "/docker-entrypoint-initdb.d/init.sql", BindMode.READ_ONLY)
+                // Prepared transactions are used by the importer's parallel flush
+                .withCommand("postgres", "-c", "fsync=off", "-c", "max_prepared_transactions=32")
                 .withDatabaseName("mirror_node")
                 .withLogConsumer(logConsumer)
                 .withPassword("mirror_node_pass")
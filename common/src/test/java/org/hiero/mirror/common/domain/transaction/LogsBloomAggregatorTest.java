@@ -43,6 +43,20 @@ class LogsBloomAggregatorTest {
         assertThat(bloomAggregator.getBloom()).isEqualTo(expectedResult);
     }
 
+    @Test
+    void aggregateByteString() {
+        byte[] bytes1 = {127, -128, 78, -1, -19, -26, 125, 15, -14, -127, -75, 3, -62, -57, -35, 14, -69, -80, 43, 113};
+        byte[] bytes2 = {-127, 1, 99, -54, -4, 126, -64, -78, -115, -70, -122, 127, 127, 54, -95, -40, -25, 84, 11, 59};
+
+        var expected = new LogsBloomAggregator().aggregate(bytes1).aggregate(bytes2);
+        var bloomAggregator = new LogsBloomAggregator()
+                .aggregate(ByteString.copyFrom(bytes1))
+                .aggregate(ByteString.copyFrom(bytes2).substring(0, bytes2.length))
+                .aggregate((ByteString) null);
+
+        assertThat(bloomAggregator.getBloom()).isEqualTo(expected.getBloom());
+    }
+
     @Test
     void nullIsConsideredToBeInTheBloom() {
         LogsBloomAggregator bloomAggregator = new LogsBloomAggregator();
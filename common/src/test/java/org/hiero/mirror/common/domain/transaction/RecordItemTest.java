@@ -120,6 +120,21 @@ class RecordItemTest {
                 .isEqualTo(TRANSACTION_RECORD.getTransactionHash().toByteArray());
     }
 
+    @Test
+    void clearPrepared() {
+        var recordItem = RecordItem.builder()
+                .transaction(DEFAULT_TRANSACTION)
+                .transactionRecord(TRANSACTION_RECORD)
+                .build();
+        recordItem.setPreparedEthereumTransaction(new EthereumTransaction());
+        recordItem.setPreparedTransaction(new org.hiero.mirror.common.domain.transaction.Transaction());
+
+        recordItem.clearPrepared();
+
+        assertThat(recordItem.getPreparedEthereumTransaction()).isNull();
+        assertThat(recordItem.getPreparedTransaction()).isNull();
+    }
+
     @Test
     void getTransactionHashNotEthereum() {
         var recordItem = RecordItem.builder()
@@ -236,13 +251,15 @@ class RecordItemTest {
         assertRecordItem(transaction, recordItem);
     }
 
-    @Test
-    void testWithSignedTransaction() {
+    @ParameterizedTest
+    @ValueSource(booleans = {true, false})
+    void testWithSignedTransaction(boolean protobufAliasing) {
         Transaction transaction = Transaction.newBuilder()
                 .setSignedTransactionBytes(SIGNED_TRANSACTION.toByteString())
                 .build();
         RecordItem recordItem = RecordItem.builder()
                 .hapiVersion(DEFAULT_HAPI_VERSION)
+                .protobufAliasing(protobufAliasing)
                 .transactionRecord(TRANSACTION_RECORD)
                 .transaction(transaction)
                 .build();
@@ -13,6 +13,7 @@ import static org.junit.jupiter.params.provider.Arguments.arguments;
 
 import com.google.protobuf.ByteString;
 import com.google.protobuf.Internal;
+import com.google.protobuf.InvalidProtocolBufferException;
 import com.google.protobuf.UnsafeByteOperations;
 import com.hedera.services.stream.proto.HashObject;
 import com.hederahashgraph.api.proto.java.AccountID;
@@ -299,6 +300,59 @@ class DomainUtilsTest {
                 .isNotSameAs(largeArray);
     }
 
+    @Test
+    @SneakyThrows
+    void parseAliased() {
+        var hash = nextBytes(48);
+        var hashObject = HashObject.newBuilder()
+                .setHash(ByteString.copyFrom(hash))
+                .setLength(48)
+                .build();
+        var bytes = hashObject.toByteArray();
+
+        var parsed = DomainUtils.parseAliased(HashObject.parser(), UnsafeByteOperations.unsafeWrap(bytes));
+
+        assertThat(parsed).isEqualTo(hashObject);
+        // The aliased slice is copied instead of returning the whole buffer
+        assertThat(DomainUtils.toBytes(parsed.getHash())).isEqualTo(hash).isNotSameAs(bytes);
+        assertThrows(
+                InvalidProtocolBufferException.class,
+                () -> DomainUtils.parseAliased(HashObject.parser(), ByteString.copyFrom(new byte[] {0x0A, 0x05})));
+    }
+
+    @Test
+    @SneakyThrows
+    void parse() {
+        var hashObject = HashObject.newBuilder()
+                .setHash(ByteString.copyFrom(nextBytes(48)))
+                .setLength(48)
+                .build();
+        var bytes = UnsafeByteOperations.unsafeWrap(hashObject.toByteArray());
+
+        var aliased = DomainUtils.parse(HashObject.parser(), bytes, true);
+        var copied = DomainUtils.parse(HashObject.parser(), bytes, false);
+
+        assertThat(aliased).isEqualTo(hashObject).isEqualTo(copied);
+        assertThat(aliased.getHash().getClass()).isNotEqualTo(ByteString.EMPTY.getClass());
+        assertThat(copied.getHash().getClass()).isEqualTo(ByteString.EMPTY.getClass());
+    }
+
+    @Test
+    void detach() {
+        var bytes = nextBytes(48);
+        var literal = UnsafeByteOperations.unsafeWrap(bytes);
+        var slice = UnsafeByteOperations.unsafeWrap(bytes, 8, 32);
+
+        assertThat(DomainUtils.detach(null)).isNull();
+        assertThat(DomainUtils.detach(ByteString.EMPTY)).isSameAs(ByteString.EMPTY);
+        assertThat(DomainUtils.detach(literal)).isSameAs(literal);
+        assertThat(DomainUtils.detach(slice))
+                .isEqualTo(slice)
+                .isNotSameAs(slice)
+                .extracting(ByteString::getClass)
+                .isEqualTo(literal.getClass());
+    }
+
     @Test
     void fromBytes() {
         var bytes = nextBytes(16);
@@ -9,6 +9,7 @@ import java.time.Duration;
 import lombok.Data;
 import org.hiero.mirror.grpc.config.NettyProperties;
 import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
 import org.springframework.validation.annotation.Validated;
 
 @Data
@@ -27,4 +28,7 @@ public class GrpcProperties {
     @NotNull
     @Valid
     private NettyProperties netty = new NettyProperties();
+
+    @NotNull
+    private DataSize responseCacheSize = DataSize.ofMegabytes(16);
 }
@@ -19,11 +19,25 @@ import org.springframework.context.annotation.Primary;
 @EnableCaching
 public class CacheConfiguration {
 
+    public static final String ADDRESS_BOOK_CACHE = "addressBookCache";
     public static final String ADDRESS_BOOK_ENTRY_CACHE = "addressBookEntryCache";
     public static final String NODE_STAKE_CACHE = "nodeStakeCache";
     public static final String ENTITY_CACHE = "entityCache";
     public static final String CACHE_NAME = "default";
 
+    // Snapshots are keyed by the address book and node stake timestamps so they never go stale and only need to expire
+    // once they're no longer requested
+    @Bean(ADDRESS_BOOK_CACHE)
+    CacheManager addressBookCache(AddressBookProperties addressBookProperties) {
+        CaffeineCacheManager caffeineCacheManager = new CaffeineCacheManager();
+        caffeineCacheManager.setCacheNames(Set.of(CACHE_NAME));
+        caffeineCacheManager.setCaffeine(Caffeine.newBuilder()
+                .expireAfterAccess(addressBookProperties.getCacheExpiry())
+                .maximumSize(addressBookProperties.getCacheSize())
+                .recordStats());
+        return caffeineCacheManager;
+    }
+
     @Bean(ADDRESS_BOOK_ENTRY_CACHE)
     CacheManager addressBookEntryCache(AddressBookProperties addressBookProperties) {
         CaffeineCacheManager caffeineCacheManager = new CaffeineCacheManager();
@@ -2,6 +2,8 @@
 
 package org.hiero.mirror.grpc.controller;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import com.google.protobuf.InvalidProtocolBufferException;
 import com.hedera.mirror.api.proto.ConsensusTopicQuery;
 import com.hedera.mirror.api.proto.ConsensusTopicResponse;
@@ -9,13 +11,15 @@ import com.hedera.mirror.api.proto.ReactorConsensusServiceGrpc;
 import com.hederahashgraph.api.proto.java.ConsensusMessageChunkInfo;
 import com.hederahashgraph.api.proto.java.Timestamp;
 import com.hederahashgraph.api.proto.java.TransactionID;
+import io.grpc.ServerServiceDefinition;
+import io.micrometer.core.instrument.MeterRegistry;
 import java.util.Objects;
 import lombok.CustomLog;
-import lombok.RequiredArgsConstructor;
 import net.devh.boot.grpc.server.service.GrpcService;
 import org.hiero.mirror.common.domain.entity.EntityId;
 import org.hiero.mirror.common.domain.topic.TopicMessage;
 import org.hiero.mirror.common.util.DomainUtils;
+import org.hiero.mirror.grpc.GrpcProperties;
 import org.hiero.mirror.grpc.domain.TopicMessageFilter;
 import org.hiero.mirror.grpc.service.TopicMessageService;
 import org.hiero.mirror.grpc.util.ProtoUtil;
@@ -30,14 +34,36 @@ import reactor.core.publisher.Mono;
  */
 @GrpcService
 @CustomLog
-@RequiredArgsConstructor
 public class ConsensusController extends ReactorConsensusServiceGrpc.ConsensusServiceImplBase {
 
     // Blockstreams no longer contain runningHashVersion, default to the latest version
     static final int DEFAULT_RUNNING_HASH_VERSION = 3;
 
+    private final ConsensusTopicResponseMarshaller responseMarshaller;
     private final TopicMessageService topicMessageService;
 
+    // Live messages from the shared topic listeners are the same instance for every subscriber of a topic, so they're
+    // converted once and the response is kept only as long as the message is referenced. Historical messages aren't
+    // shared, so the size is bounded to not hold on to them until they're collected.
+    private final Cache<TopicMessage, ConsensusTopicResponse> responses;
+
+    public ConsensusController(
+            GrpcProperties grpcProperties, MeterRegistry meterRegistry, TopicMessageService topicMessageService) {
+        var responseCacheSize = grpcProperties.getResponseCacheSize();
+        this.responseMarshaller = new ConsensusTopicResponseMarshaller(meterRegistry, responseCacheSize);
+        this.responses = Caffeine.newBuilder()
+                .maximumWeight(responseCacheSize.toBytes())
+                .weakKeys()
+                .weigher((TopicMessage message, ConsensusTopicResponse response) -> response.getSerializedSize())
+                .build();
+        this.topicMessageService = topicMessageService;
+    }
+
+    @Override
+    public ServerServiceDefinition bindService() {
+        return responseMarshaller.bind(super.bindService());
+    }
+
     @Override
     public Flux<ConsensusTopicResponse> subscribeTopic(Mono<ConsensusTopicQuery> request) {
         return request.map(this::toFilter)
@@ -74,8 +100,11 @@ public class ConsensusController extends ReactorConsensusServiceGrpc.ConsensusSe
         return DomainUtils.timestampInNanosMax(timestamp);
     }
 
-    // Consider caching this conversion for multiple subscribers to the same topic if the need arises.
-    private ConsensusTopicResponse toResponse(TopicMessage t) {
+    private ConsensusTopicResponse toResponse(TopicMessage topicMessage) {
+        return responses.get(topicMessage, this::convert);
+    }
+
+    private ConsensusTopicResponse convert(TopicMessage t) {
         var consensusTopicResponseBuilder = ConsensusTopicResponse.newBuilder()
                 .setConsensusTimestamp(ProtoUtil.toTimestamp(t.getConsensusTimestamp()))
                 .setMessage(ProtoUtil.toByteString(t.getMessage()))
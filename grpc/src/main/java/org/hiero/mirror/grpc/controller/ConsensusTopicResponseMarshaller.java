@@ -0,0 +1,134 @@
+// SPDX-License-Identifier: Apache-2.0
+
+package org.hiero.mirror.grpc.controller;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.google.common.annotations.VisibleForTesting;
+import com.hedera.mirror.api.proto.ConsensusTopicResponse;
+import io.grpc.Drainable;
+import io.grpc.KnownLength;
+import io.grpc.MethodDescriptor;
+import io.grpc.ServerMethodDefinition;
+import io.grpc.ServerServiceDefinition;
+import io.grpc.ServiceDescriptor;
+import io.grpc.protobuf.ProtoUtils;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * Serializes each {@link ConsensusTopicResponse} instance once no matter how many subscriber streams send it. The
+ * encoded bytes are weakly keyed by the response instance, so they're kept only as long as the response is, which is
+ * shared by the subscribers of a topic while they receive the same live message. Responses that aren't shared, like
+ * historical messages, would otherwise be kept until collected, so the total size of the encoded bytes is bounded.
+ */
+final class ConsensusTopicResponseMarshaller implements MethodDescriptor.Marshaller<ConsensusTopicResponse> {
+
+    private static final MethodDescriptor.Marshaller<ConsensusTopicResponse> DELEGATE =
+            ProtoUtils.marshaller(ConsensusTopicResponse.getDefaultInstance());
+
+    private final Cache<ConsensusTopicResponse, byte[]> encoded;
+    private final Counter encodeCounter;
+    private final Counter sendCounter;
+
+    ConsensusTopicResponseMarshaller(MeterRegistry meterRegistry, DataSize maxSize) {
+        encoded = Caffeine.newBuilder()
+                .maximumWeight(maxSize.toBytes())
+                .weakKeys()
+                .weigher((ConsensusTopicResponse response, byte[] bytes) -> bytes.length)
+                .build();
+        encodeCounter = Counter.builder("hiero.mirror.grpc.response.encoded")
+                .description("The number of responses serialized")
+                .tag("type", ConsensusTopicResponse.class.getSimpleName())
+                .register(meterRegistry);
+        sendCounter = Counter.builder("hiero.mirror.grpc.response.sent")
+                .description("The number of responses sent to subscribers")
+                .tag("type", ConsensusTopicResponse.class.getSimpleName())
+                .register(meterRegistry);
+    }
+
+    @Override
+    public InputStream stream(ConsensusTopicResponse response) {
+        sendCounter.increment();
+        return new EncodedInputStream(encoded.get(response, this::encode));
+    }
+
+    @Override
+    public ConsensusTopicResponse parse(InputStream stream) {
+        return DELEGATE.parse(stream);
+    }
+
+    /**
+     * Rebinds the methods of a service definition that respond with {@link ConsensusTopicResponse} to use this
+     * marshaller.
+     *
+     * @param definition the service definition to rebind
+     * @return the rebound service definition
+     */
+    ServerServiceDefinition bind(ServerServiceDefinition definition) {
+        var serviceDescriptor = definition.getServiceDescriptor();
+        var serviceDescriptorBuilder = ServiceDescriptor.newBuilder(serviceDescriptor.getName())
+                .setSchemaDescriptor(serviceDescriptor.getSchemaDescriptor());
+        List<ServerMethodDefinition<?, ?>> methods = new ArrayList<>();
+
+        for (var method : definition.getMethods()) {
+            var rebound = bind(method);
+            serviceDescriptorBuilder.addMethod(rebound.getMethodDescriptor());
+            methods.add(rebound);
+        }
+
+        var builder = ServerServiceDefinition.builder(serviceDescriptorBuilder.build());
+        methods.forEach(builder::addMethod);
+        return builder.build();
+    }
+
+    @SuppressWarnings("unchecked")
+    private <R, S> ServerMethodDefinition<R, S> bind(ServerMethodDefinition<R, S> method) {
+        var methodDescriptor = method.getMethodDescriptor();
+        if (!(methodDescriptor.getResponseMarshaller() instanceof MethodDescriptor.ReflectableMarshaller<?> m)
+                || m.getMessageClass() != ConsensusTopicResponse.class) {
+            return method;
+        }
+
+        var marshaller = (MethodDescriptor.Marshaller<S>) this;
+        var rebound = methodDescriptor.toBuilder(methodDescriptor.getRequestMarshaller(), marshaller).build();
+        return ServerMethodDefinition.create(rebound, method.getServerCallHandler());
+    }
+
+    @VisibleForTesting
+    long getEncodedSize() {
+        encoded.cleanUp();
+        return encoded.policy().eviction().orElseThrow().weightedSize().orElse(0L);
+    }
+
+    private byte[] encode(ConsensusTopicResponse response) {
+        encodeCounter.increment();
+        return response.toByteArray();
+    }
+
+    /*
+     * Lets gRPC know the length of the message up front and copy it directly to its buffer. Each stream has its own
+     * position over the shared bytes.
+     */
+    private static final class EncodedInputStream extends ByteArrayInputStream implements Drainable, KnownLength {
+
+        private EncodedInputStream(byte[] bytes) {
+            super(bytes);
+        }
+
+        @Override
+        public synchronized int drainTo(OutputStream target) throws IOException {
+            int length = count - pos;
+            target.write(buf, pos, length);
+            pos = count;
+            return length;
+        }
+    }
+}
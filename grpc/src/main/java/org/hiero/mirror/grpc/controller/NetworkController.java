@@ -2,6 +2,8 @@
 
 package org.hiero.mirror.grpc.controller;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import com.google.protobuf.ByteString;
 import com.hedera.mirror.api.proto.AddressBookQuery;
 import com.hedera.mirror.api.proto.ReactorNetworkServiceGrpc;
@@ -28,11 +30,16 @@ public class NetworkController extends ReactorNetworkServiceGrpc.NetworkServiceI
 
     private final NetworkService networkService;
 
+    // The service returns the same entries while it serves an address book from its snapshot, so each entry is only
+    // converted once and the node address is kept as long as the entry is referenced
+    private final Cache<AddressBookEntry, NodeAddress> nodeAddresses =
+            Caffeine.newBuilder().weakKeys().build();
+
     @Override
     public Flux<NodeAddress> getNodes(Mono<AddressBookQuery> request) {
         return request.map(this::toFilter)
                 .flatMapMany(networkService::getNodes)
-                .map(this::toNodeAddress)
+                .map(e -> nodeAddresses.get(e, this::toNodeAddress))
                 .onErrorMap(ProtoUtil::toStatusRuntimeException);
     }
 
@@ -10,6 +10,7 @@ import java.util.concurrent.TimeUnit;
 import lombok.RequiredArgsConstructor;
 import org.hiero.mirror.common.domain.topic.TopicMessage;
 import org.hiero.mirror.grpc.domain.TopicMessageFilter;
+import org.hiero.mirror.grpc.retriever.TopicMessageCache;
 import org.springframework.context.annotation.Primary;
 import reactor.core.publisher.Flux;
 
@@ -21,7 +22,10 @@ final class CompositeTopicListener implements TopicListener {
     private final ListenerProperties listenerProperties;
     private final PollingTopicListener pollingTopicListener;
     private final RedisTopicListener redisTopicListener;
+    private final RingBufferTopicListener ringBufferTopicListener;
     private final SharedPollingTopicListener sharedPollingTopicListener;
+    private final TopicMessageCache topicMessageCache;
+    private final TopicPollingTopicListener topicPollingTopicListener;
     private final MeterRegistry meterRegistry;
     private Timer consensusLatencyTimer;
 
@@ -39,10 +43,8 @@ final class CompositeTopicListener implements TopicListener {
             return Flux.empty();
         }
 
-        return getTopicListener()
-                .listen(filter)
-                .filter(t -> filterMessage(t, filter))
-                .doOnNext(this::recordMetric);
+        var topicMessages = getTopicListener().listen(filter).filter(t -> filterMessage(t, filter));
+        return topicMessageCache.feed(filter.getTopicId(), topicMessages).doOnNext(this::recordMetric);
     }
 
     private TopicListener getTopicListener() {
@@ -53,8 +55,12 @@ final class CompositeTopicListener implements TopicListener {
                 return pollingTopicListener;
             case REDIS:
                 return redisTopicListener;
+            case RING_BUFFER:
+                return ringBufferTopicListener;
             case SHARED_POLL:
                 return sharedPollingTopicListener;
+            case TOPIC_POLL:
+                return topicPollingTopicListener;
             default:
                 throw new UnsupportedOperationException("Unknown listener type: " + type);
         }
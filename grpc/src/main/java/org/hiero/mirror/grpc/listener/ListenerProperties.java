@@ -39,6 +39,8 @@ public class ListenerProperties {
     public enum ListenerType {
         POLL,
         REDIS,
-        SHARED_POLL
+        RING_BUFFER,
+        SHARED_POLL,
+        TOPIC_POLL
     }
 }
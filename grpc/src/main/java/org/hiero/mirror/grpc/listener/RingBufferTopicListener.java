@@ -0,0 +1,239 @@
+// SPDX-License-Identifier: Apache-2.0
+
+package org.hiero.mirror.grpc.listener;
+
+import jakarta.inject.Named;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import lombok.CustomLog;
+import lombok.RequiredArgsConstructor;
+import org.hiero.mirror.common.domain.entity.EntityId;
+import org.hiero.mirror.common.domain.topic.TopicMessage;
+import org.hiero.mirror.grpc.domain.TopicMessageFilter;
+import org.hiero.mirror.grpc.retriever.TopicMessageRetriever;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.FluxSink;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * Fans out the messages of a single shared database poll to the subscribers of each topic through a per-topic ring
+ * buffer, so each message is stored once per topic instead of once per subscriber and no Redis is needed. The polling
+ * thread is the single writer of every ring buffer while each subscriber reads with its own cursor. A subscriber that
+ * falls behind by more than the buffer size is resynced from the database before it continues reading from the ring
+ * buffer.
+ */
+@CustomLog
+@Named
+@RequiredArgsConstructor
+public class RingBufferTopicListener implements TopicListener {
+
+    private final ListenerProperties listenerProperties;
+    private final SharedPollingTopicListener sharedPollingTopicListener;
+    private final TopicMessageRetriever topicMessageRetriever;
+    private final Scheduler scheduler = Schedulers.boundedElastic();
+    private final Map<EntityId, TopicBuffer> topicBuffers = new ConcurrentHashMap<>();
+    private Disposable subscription;
+
+    @Override
+    public Flux<TopicMessage> listen(TopicMessageFilter filter) {
+        return Flux.using(
+                        () -> subscribe(filter), cursor -> Flux.defer(cursor::next).repeat(), this::unsubscribe)
+                .doOnSubscribe(s -> log.info("Subscribing: {}", filter));
+    }
+
+    private Cursor subscribe(TopicMessageFilter filter) {
+        var topicBuffer = topicBuffers.compute(filter.getTopicId(), (topicId, existing) -> {
+            var buffer = existing != null ? existing : new TopicBuffer(listenerProperties.getMaxBufferSize());
+            buffer.subscribers++;
+            return buffer;
+        });
+
+        var cursor = new Cursor(filter, topicBuffer);
+        topicBuffer.cursors.add(cursor);
+        start();
+        return cursor;
+    }
+
+    private void unsubscribe(Cursor cursor) {
+        var topicBuffer = cursor.topicBuffer;
+        topicBuffer.cursors.remove(cursor);
+        topicBuffers.computeIfPresent(
+                cursor.filter.getTopicId(), (topicId, buffer) -> --buffer.subscribers > 0 ? buffer : null);
+        stop();
+    }
+
+    private synchronized void start() {
+        if (subscription == null) {
+            log.info("Starting to fan out shared topic messages");
+            subscription = sharedPollingTopicListener
+                    .getTopicMessages()
+                    .subscribe(this::publish, t -> log.error("Error fanning out topic messages", t));
+        }
+    }
+
+    private synchronized void stop() {
+        if (subscription != null && topicBuffers.isEmpty()) {
+            log.info("Stopping fanning out shared topic messages since there are no subscribers");
+            subscription.dispose();
+            subscription = null;
+        }
+    }
+
+    private void publish(TopicMessage topicMessage) {
+        var topicBuffer = topicBuffers.get(topicMessage.getTopicId());
+        if (topicBuffer != null) {
+            topicBuffer.publish(topicMessage);
+        }
+    }
+
+    /**
+     * A ring buffer of the latest messages of a topic with a single writer and many readers. A message is written to
+     * its slot before the published count is incremented, so a reader can detect that the slot it read was overwritten
+     * by checking the published count again afterward.
+     */
+    private static class TopicBuffer {
+
+        private final int capacity;
+        private final Set<Cursor> cursors = ConcurrentHashMap.newKeySet();
+        private final int mask;
+        private final AtomicReferenceArray<TopicMessage> messages;
+        private final AtomicLong published = new AtomicLong();
+        private int subscribers; // Only accessed while holding the topic's map entry
+
+        private TopicBuffer(int maxBufferSize) {
+            this.capacity = maxBufferSize > 1 ? Integer.highestOneBit(maxBufferSize - 1) << 1 : 1;
+            this.mask = capacity - 1;
+            this.messages = new AtomicReferenceArray<>(capacity);
+        }
+
+        private TopicMessage get(long sequence) {
+            return messages.get((int) (sequence & mask));
+        }
+
+        // The slot about to be written next is considered overwritten to account for the writer being mid-write
+        private long getOldest() {
+            return Math.max(0L, published.get() - capacity + 1);
+        }
+
+        private boolean isOverwritten(long sequence) {
+            return published.get() - sequence >= capacity;
+        }
+
+        // A full volatile write so reading a cursor's demand in signal() can't be reordered before it
+        private void publish(TopicMessage topicMessage) {
+            long sequence = published.get();
+            messages.set((int) (sequence & mask), topicMessage);
+            published.set(sequence + 1);
+            cursors.forEach(Cursor::signal);
+        }
+    }
+
+    /**
+     * A subscriber's position in its topic's ring buffer. Messages are only emitted on request, so nothing is queued
+     * per subscriber. Once the writer overwrites the position the cursor hasn't read yet, the current read completes
+     * and the next one retrieves the missed messages from the database before reading from the oldest message still
+     * buffered, skipping messages already emitted.
+     */
+    private class Cursor {
+
+        private final TopicMessageFilter filter;
+        private final AtomicReference<FluxSink<TopicMessage>> sink = new AtomicReference<>();
+        private final TopicBuffer topicBuffer;
+        private final AtomicInteger wip = new AtomicInteger();
+        private volatile long lastTimestamp;
+        private volatile boolean lapped;
+        private long position;
+
+        private Cursor(TopicMessageFilter filter, TopicBuffer topicBuffer) {
+            this.filter = filter;
+            this.topicBuffer = topicBuffer;
+            this.lastTimestamp = filter.getStartTime() - 1;
+        }
+
+        private Flux<TopicMessage> next() {
+            return lapped ? resync() : read();
+        }
+
+        private Flux<TopicMessage> read() {
+            return Flux.create(s -> {
+                position = topicBuffer.getOldest();
+                sink.set(s);
+                s.onDispose(() -> sink.compareAndSet(s, null));
+                s.onRequest(n -> signal());
+            });
+        }
+
+        private Flux<TopicMessage> resync() {
+            lapped = false;
+            var newFilter = filter.toBuilder().startTime(lastTimestamp + 1).build();
+            log.info(
+                    "[{}] Resyncing topic {} from the database after falling behind by more than {} messages",
+                    filter.getSubscriberId(),
+                    filter.getTopicId(),
+                    topicBuffer.capacity);
+            return topicMessageRetriever
+                    .retrieve(newFilter, true)
+                    .doOnNext(t -> lastTimestamp = t.getConsensusTimestamp());
+        }
+
+        /*
+         * Coalesces the signals of every publish and request into at most one drain per cursor queued or running on
+         * the scheduler, since only the signal that moves wip from zero schedules a drain and the running drain loops
+         * until it has consumed the signals missed in the meantime. A cursor without demand is signalled again on
+         * request, so it doesn't queue a drain that can't emit anything.
+         */
+        private void signal() {
+            var current = sink.get();
+            if (current == null || current.requestedFromDownstream() == 0) {
+                return;
+            }
+
+            if (wip.getAndIncrement() == 0) {
+                scheduler.schedule(this::drain);
+            }
+        }
+
+        private void drain() {
+            int missed = 1;
+
+            do {
+                var current = sink.get();
+                if (current != null && !lapped) {
+                    emit(current);
+                }
+
+                missed = wip.addAndGet(-missed);
+            } while (missed != 0);
+        }
+
+        private void emit(FluxSink<TopicMessage> current) {
+            long requested = current.requestedFromDownstream();
+            long published = topicBuffer.published.get();
+
+            while (requested > 0 && position < published && !current.isCancelled()) {
+                var topicMessage = topicBuffer.get(position);
+
+                if (topicBuffer.isOverwritten(position)) {
+                    lapped = true;
+                    current.complete();
+                    return;
+                }
+
+                position++;
+
+                if (topicMessage.getConsensusTimestamp() > lastTimestamp) {
+                    lastTimestamp = topicMessage.getConsensusTimestamp();
+                    current.next(topicMessage);
+                    requested--;
+                }
+            }
+        }
+    }
+}
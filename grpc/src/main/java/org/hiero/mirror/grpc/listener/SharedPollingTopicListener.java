@@ -55,6 +55,13 @@ public class SharedPollingTopicListener extends SharedTopicListener {
         return topicMessages;
     }
 
+    /**
+     * @return the shared flux of topic messages for all topics, polling the database while it has subscribers
+     */
+    Flux<TopicMessage> getTopicMessages() {
+        return topicMessages;
+    }
+
     private Flux<TopicMessage> poll(PollingContext context) {
         if (!listenerProperties.isEnabled()) {
             return Flux.empty();
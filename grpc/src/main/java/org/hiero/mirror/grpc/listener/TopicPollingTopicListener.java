@@ -0,0 +1,169 @@
+// SPDX-License-Identifier: Apache-2.0
+
+package org.hiero.mirror.grpc.listener;
+
+import com.google.common.annotations.VisibleForTesting;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.observation.ObservationRegistry;
+import jakarta.inject.Named;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import lombok.Data;
+import lombok.RequiredArgsConstructor;
+import org.hiero.mirror.common.domain.entity.EntityId;
+import org.hiero.mirror.common.domain.topic.TopicMessage;
+import org.hiero.mirror.common.util.DomainUtils;
+import org.hiero.mirror.grpc.domain.TopicMessageFilter;
+import org.hiero.mirror.grpc.repository.TopicMessageRepository;
+import org.reactivestreams.Subscription;
+import reactor.core.observability.micrometer.Micrometer;
+import reactor.core.publisher.Flux;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+import reactor.retry.Jitter;
+import reactor.retry.Repeat;
+import reactor.util.retry.Retry;
+
+/**
+ * Runs one polling loop per topic with active subscribers and shares its results with all of them, instead of one
+ * polling loop per subscriber. A topic's loop starts with its first subscriber and stops once its last subscriber
+ * cancels. The subscribers of a topic are counted atomically with the lookup of its loop, so a subscriber arriving while
+ * the last one cancels either joins the existing loop or starts a new one, but never leaves two loops for a topic.
+ */
+@Named
+public class TopicPollingTopicListener extends SharedTopicListener {
+
+    private final MeterRegistry meterRegistry;
+    private final ObservationRegistry observationRegistry;
+    private final TopicMessageRepository topicMessageRepository;
+    private final Scheduler scheduler;
+    private final Timer timer;
+    private final Map<EntityId, TopicPoller> topicPollers; // Topic ID to active polling loop
+
+    public TopicPollingTopicListener(
+            ListenerProperties listenerProperties,
+            MeterRegistry meterRegistry,
+            ObservationRegistry observationRegistry,
+            TopicMessageRepository topicMessageRepository) {
+        super(listenerProperties);
+        this.meterRegistry = meterRegistry;
+        this.observationRegistry = observationRegistry;
+        this.topicMessageRepository = topicMessageRepository;
+        this.scheduler = Schedulers.newParallel("topic-poll", 4 * Runtime.getRuntime().availableProcessors(), true);
+        this.timer = Timer.builder("hiero.mirror.grpc.listener.poll")
+                .description("The time it took to poll the database for new messages of a topic")
+                .register(meterRegistry);
+        this.topicPollers = new ConcurrentHashMap<>();
+    }
+
+    @Override
+    protected Flux<TopicMessage> getSharedListener(TopicMessageFilter filter) {
+        var topicId = filter.getTopicId();
+        return Flux.defer(() -> {
+            var topicPoller = topicPollers.compute(topicId, (id, current) -> {
+                var poller = current != null ? current : new TopicPoller(subscribe(id));
+                poller.subscribers++;
+                return poller;
+            });
+            return topicPoller.messages.doFinally(s -> release(topicId, topicPoller));
+        });
+    }
+
+    @VisibleForTesting
+    int getSubscriberCount(EntityId topicId) {
+        var topicPoller = topicPollers.get(topicId);
+        return topicPoller != null ? topicPoller.subscribers : 0;
+    }
+
+    private Flux<TopicMessage> subscribe(EntityId topicId) {
+        Duration interval = listenerProperties.getInterval();
+        PollingContext context = new PollingContext(topicId);
+
+        return Flux.defer(() -> poll(context).subscribeOn(scheduler))
+                .repeatWhen(Repeat.times(Long.MAX_VALUE)
+                        .fixedBackoff(interval)
+                        .jitter(Jitter.random(0.1))
+                        .withBackoffScheduler(scheduler))
+                .name(METRIC)
+                .tag(METRIC_TAG, "topic poll")
+                .tap(Micrometer.observation(observationRegistry))
+                .doOnCancel(() -> log.info("Cancelled polling topic {}", topicId))
+                .doOnError(t -> log.error("Error polling the database for topic {}", topicId, t))
+                .doOnSubscribe(context::onStart)
+                .retryWhen(Retry.backoff(Long.MAX_VALUE, interval).maxBackoff(interval.multipliedBy(4L)))
+                .share();
+    }
+
+    private Flux<TopicMessage> poll(PollingContext context) {
+        if (!listenerProperties.isEnabled()) {
+            return Flux.empty();
+        }
+
+        var filter = TopicMessageFilter.builder()
+                .limit(listenerProperties.getMaxPageSize())
+                .startTime(context.getLastConsensusTimestamp().get() + 1)
+                .topicId(context.getTopicId())
+                .build();
+
+        return Flux.fromStream(() -> topicMessageRepository.findByFilter(filter))
+                .doOnNext(context::onNext)
+                .doOnCancel(context::onPollEnd)
+                .doOnComplete(context::onPollEnd)
+                .doOnSubscribe(context::onPollStart);
+    }
+
+    private void release(EntityId topicId, TopicPoller topicPoller) {
+        topicPollers.computeIfPresent(topicId, (id, current) -> {
+            if (current == topicPoller && --current.subscribers == 0) {
+                return null;
+            }
+            return current;
+        });
+    }
+
+    // Only accessed inside the compute functions of the map, which run atomically for the topic
+    @RequiredArgsConstructor
+    private static class TopicPoller {
+        private final Flux<TopicMessage> messages;
+        private int subscribers;
+    }
+
+    @Data
+    private class PollingContext {
+
+        private final AtomicLong lastConsensusTimestamp = new AtomicLong();
+        private final AtomicReference<Timer.Sample> sample = new AtomicReference<>();
+        private final EntityId topicId;
+
+        void onNext(TopicMessage topicMessage) {
+            lastConsensusTimestamp.set(topicMessage.getConsensusTimestamp());
+            if (log.isTraceEnabled()) {
+                log.trace("Next message: {}", topicMessage);
+            }
+        }
+
+        void onPollEnd() {
+            var current = sample.getAndSet(null);
+            if (current != null) {
+                current.stop(timer);
+            }
+        }
+
+        void onPollStart(Subscription subscription) {
+            sample.set(Timer.start(meterRegistry));
+            log.debug("Querying topic {} for messages after timestamp {}", topicId, lastConsensusTimestamp);
+        }
+
+        void onStart(Subscription subscription) {
+            lastConsensusTimestamp.compareAndSet(0L, DomainUtils.now());
+            log.info(
+                    "Starting to poll topic {} every {}ms",
+                    topicId,
+                    listenerProperties.getInterval().toMillis());
+        }
+    }
+}
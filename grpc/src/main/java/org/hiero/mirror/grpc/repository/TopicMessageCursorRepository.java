@@ -0,0 +1,200 @@
+// SPDX-License-Identifier: Apache-2.0
+
+package org.hiero.mirror.grpc.repository;
+
+import jakarta.inject.Named;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import javax.sql.DataSource;
+import lombok.CustomLog;
+import lombok.RequiredArgsConstructor;
+import org.hiero.mirror.common.domain.entity.EntityId;
+import org.hiero.mirror.common.domain.topic.TopicMessage;
+import org.hiero.mirror.grpc.domain.TopicMessageFilter;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.UncategorizedSQLException;
+import org.springframework.jdbc.support.SQLExceptionSubclassTranslator;
+import org.springframework.jdbc.support.SQLExceptionTranslator;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.SynchronousSink;
+
+/**
+ * Streams topic messages from a server-side cursor, fetching the next batch of rows from the database only when the
+ * subscriber requests more messages. Rows are mapped directly to {@link TopicMessage} without going through the JPA
+ * persistence context.
+ *
+ * <p>Each open cursor holds a connection from the pool with an open read-only transaction, so the pool has to be sized
+ * for the number of concurrently streaming subscribers in addition to the other queries of the application. To bound
+ * how long a connection is held, a cursor is closed after streaming a maximum number of rows and the stream continues
+ * from a new cursor opened after the last message. Subscribers are still expected to apply a timeout, since a cursor
+ * whose subscriber stops requesting messages holds its connection until the subscription is cancelled.
+ */
+@CustomLog
+@Named
+@RequiredArgsConstructor
+public class TopicMessageCursorRepository {
+
+    private static final String SELECT_QUERY =
+            """
+            select chunk_num, chunk_total, consensus_timestamp, initial_transaction_id, message, payer_account_id,
+              running_hash, running_hash_version, sequence_number, topic_id, valid_start_timestamp
+            from topic_message
+            where topic_id = ? and consensus_timestamp >= ? and consensus_timestamp < ?
+            order by consensus_timestamp
+            """;
+    private static final String LIMIT_CLAUSE = "limit ?";
+    // make the cost estimation of using the index on (topic_id, consensus_timestamp) lower than that of
+    // the primary key so pg planner will choose the better index when querying topic messages by id
+    private static final String TOPIC_MESSAGES_BY_ID_QUERY_HINT = "set local random_page_cost = 0";
+
+    private final DataSource dataSource;
+    private final SQLExceptionTranslator exceptionTranslator = new SQLExceptionSubclassTranslator();
+
+    /**
+     * Streams the topic messages matching the filter in consensus timestamp order.
+     *
+     * @param filter    the filter to match
+     * @param fetchSize the number of rows to fetch from the cursor at a time
+     * @param maxRows   the maximum number of rows to stream from one cursor before reopening it
+     * @return the matching topic messages
+     */
+    public Flux<TopicMessage> findByFilter(TopicMessageFilter filter, int fetchSize, int maxRows) {
+        return Flux.defer(() -> {
+            var last = new AtomicReference<TopicMessage>();
+            var rows = new AtomicLong(); // Streamed from the current cursor
+            var total = new AtomicLong();
+
+            return Flux.defer(() -> {
+                        rows.set(0L);
+                        var cursorFilter = cursorFilter(filter, last.get(), total.get(), maxRows);
+                        return Flux.using(
+                                () -> new Cursor(cursorFilter, fetchSize),
+                                cursor -> Flux.generate(cursor::next),
+                                Cursor::close);
+                    })
+                    .doOnNext(topicMessage -> {
+                        last.set(topicMessage);
+                        rows.incrementAndGet();
+                        total.incrementAndGet();
+                    })
+                    .repeat(() -> rows.get() == maxRows && (!filter.hasLimit() || total.get() < filter.getLimit()));
+        });
+    }
+
+    private static TopicMessageFilter cursorFilter(
+            TopicMessageFilter filter, TopicMessage last, long total, int maxRows) {
+        long limit = filter.hasLimit() ? Math.min(filter.getLimit() - total, maxRows) : maxRows;
+        long startTime = last != null ? last.getConsensusTimestamp() + 1 : filter.getStartTime();
+        return filter.toBuilder().limit(limit).startTime(startTime).build();
+    }
+
+    private DataAccessException translate(String task, SQLException e) {
+        var translated = exceptionTranslator.translate(task, SELECT_QUERY, e);
+        return translated != null ? translated : new UncategorizedSQLException(task, SELECT_QUERY, e);
+    }
+
+    private static Integer getInteger(ResultSet resultSet, int index) throws SQLException {
+        int value = resultSet.getInt(index);
+        return resultSet.wasNull() ? null : value;
+    }
+
+    private static Long getLong(ResultSet resultSet, int index) throws SQLException {
+        long value = resultSet.getLong(index);
+        return resultSet.wasNull() ? null : value;
+    }
+
+    private class Cursor {
+
+        private final Connection connection;
+        private PreparedStatement statement;
+        private ResultSet resultSet;
+
+        private Cursor(TopicMessageFilter filter, int fetchSize) {
+            try {
+                connection = dataSource.getConnection();
+            } catch (SQLException e) {
+                throw translate("Opening connection", e);
+            }
+
+            try {
+                // The driver only fetches rows incrementally from a cursor within a transaction
+                connection.setAutoCommit(false);
+                connection.setReadOnly(true);
+
+                if (filter.getLimit() != 1) {
+                    // only apply the hint when limit is not 1
+                    try (var hint = connection.createStatement()) {
+                        hint.execute(TOPIC_MESSAGES_BY_ID_QUERY_HINT);
+                    }
+                }
+
+                var query = filter.hasLimit() ? SELECT_QUERY + LIMIT_CLAUSE : SELECT_QUERY;
+                statement = connection.prepareStatement(query, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+                statement.setFetchSize(fetchSize);
+                statement.setLong(1, filter.getTopicId().getId());
+                statement.setLong(2, filter.getStartTime());
+                statement.setLong(3, Objects.requireNonNullElse(filter.getEndTime(), Long.MAX_VALUE));
+
+                if (filter.hasLimit()) {
+                    statement.setLong(4, filter.getLimit());
+                }
+
+                resultSet = statement.executeQuery();
+            } catch (SQLException e) {
+                close();
+                throw translate("Opening cursor", e);
+            }
+        }
+
+        private void next(SynchronousSink<TopicMessage> sink) {
+            try {
+                if (resultSet.next()) {
+                    sink.next(map());
+                } else {
+                    sink.complete();
+                }
+            } catch (SQLException e) {
+                sink.error(translate("Fetching from cursor", e));
+            }
+        }
+
+        private TopicMessage map() throws SQLException {
+            return TopicMessage.builder()
+                    .chunkNum(getInteger(resultSet, 1))
+                    .chunkTotal(getInteger(resultSet, 2))
+                    .consensusTimestamp(resultSet.getLong(3))
+                    .initialTransactionId(resultSet.getBytes(4))
+                    .message(resultSet.getBytes(5))
+                    .payerAccountId(EntityId.of(resultSet.getLong(6)))
+                    .runningHash(resultSet.getBytes(7))
+                    .runningHashVersion(getInteger(resultSet, 8))
+                    .sequenceNumber(resultSet.getLong(9))
+                    .topicId(EntityId.of(resultSet.getLong(10)))
+                    .validStartTimestamp(getLong(resultSet, 11))
+                    .build();
+        }
+
+        private void close() {
+            try (connection) {
+                if (resultSet != null) {
+                    resultSet.close();
+                }
+
+                if (statement != null) {
+                    statement.close();
+                }
+
+                connection.rollback();
+                connection.setAutoCommit(true);
+                connection.setReadOnly(false);
+            } catch (SQLException e) {
+                log.warn("Unable to close topic message cursor: {}", e.getMessage());
+            }
+        }
+    }
+}
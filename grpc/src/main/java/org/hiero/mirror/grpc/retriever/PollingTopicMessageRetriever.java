@@ -13,6 +13,7 @@ import lombok.CustomLog;
 import lombok.Data;
 import org.hiero.mirror.common.domain.topic.TopicMessage;
 import org.hiero.mirror.grpc.domain.TopicMessageFilter;
+import org.hiero.mirror.grpc.repository.TopicMessageCursorRepository;
 import org.hiero.mirror.grpc.repository.TopicMessageRepository;
 import reactor.core.observability.micrometer.Micrometer;
 import reactor.core.publisher.Flux;
@@ -28,15 +29,21 @@ public class PollingTopicMessageRetriever implements TopicMessageRetriever {
 
     private final ObservationRegistry observationRegistry;
     private final RetrieverProperties retrieverProperties;
+    private final TopicMessageCache topicMessageCache;
+    private final TopicMessageCursorRepository topicMessageCursorRepository;
     private final TopicMessageRepository topicMessageRepository;
     private final Scheduler scheduler;
 
     public PollingTopicMessageRetriever(
             ObservationRegistry observationRegistry,
             RetrieverProperties retrieverProperties,
+            TopicMessageCache topicMessageCache,
+            TopicMessageCursorRepository topicMessageCursorRepository,
             TopicMessageRepository topicMessageRepository) {
         this.observationRegistry = observationRegistry;
         this.retrieverProperties = retrieverProperties;
+        this.topicMessageCache = topicMessageCache;
+        this.topicMessageCursorRepository = topicMessageCursorRepository;
         this.topicMessageRepository = topicMessageRepository;
         int threadCount =
                 retrieverProperties.getThreadMultiplier() * Runtime.getRuntime().availableProcessors();
@@ -49,6 +56,12 @@ public class PollingTopicMessageRetriever implements TopicMessageRetriever {
             return Flux.empty();
         }
 
+        var cached = topicMessageCache.get(filter);
+        if (cached != null) {
+            log.debug("[{}] Retrieved {} messages from the cache", filter.getSubscriberId(), cached.size());
+            return Flux.fromIterable(cached);
+        }
+
         PollingContext context = new PollingContext(filter, throttled);
         return Flux.defer(() -> poll(context))
                 .repeatWhen(Repeat.create(r -> !context.isComplete(), context.getNumRepeats())
@@ -74,6 +87,18 @@ public class PollingTopicMessageRetriever implements TopicMessageRetriever {
         var startTime = last != null ? last.getConsensusTimestamp() + 1 : filter.getStartTime();
         context.getPageSize().set(0L);
 
+        if (retrieverProperties.isCursor()) {
+            // Stream the entire remaining range with rows fetched from the cursor as the subscriber requests them
+            var newFilter = filter.toBuilder()
+                    .limit(filter.hasLimit() ? limit : 0L)
+                    .startTime(startTime)
+                    .build();
+            log.debug("Executing cursor query: {}", newFilter);
+            return topicMessageCursorRepository
+                    .findByFilter(newFilter, context.getMaxPageSize(), retrieverProperties.getCursorMaxRows())
+                    .subscribeOn(scheduler);
+        }
+
         var newFilter = filter.toBuilder().limit(pageSize).startTime(startTime).build();
 
         log.debug("Executing query: {}", newFilter);
@@ -16,6 +16,15 @@ import org.springframework.validation.annotation.Validated;
 @ConfigurationProperties("hiero.mirror.grpc.retriever")
 public class RetrieverProperties {
 
+    @NotNull
+    @Valid
+    private CacheProperties cache = new CacheProperties();
+
+    private boolean cursor = false;
+
+    @Min(32)
+    private int cursorMaxRows = 10000;
+
     private boolean enabled = true;
 
     @Min(32)
@@ -34,6 +43,23 @@ public class RetrieverProperties {
     @Valid
     private UnthrottledProperties unthrottled = new UnthrottledProperties();
 
+    @Data
+    @Validated
+    public static class CacheProperties {
+
+        private boolean enabled = false;
+
+        @DurationMin(seconds = 1)
+        @NotNull
+        private Duration maxAge = Duration.ofMinutes(5L);
+
+        @Min(1)
+        private int maxMessages = 500;
+
+        @Min(1)
+        private int maxTopics = 100;
+    }
+
     @Data
     @Validated
     public static class UnthrottledProperties {
@@ -0,0 +1,206 @@
+// SPDX-License-Identifier: Apache-2.0
+
+package org.hiero.mirror.grpc.retriever;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.Nullable;
+import jakarta.inject.Named;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import lombok.CustomLog;
+import org.hiero.mirror.common.domain.entity.EntityId;
+import org.hiero.mirror.common.domain.topic.TopicMessage;
+import org.hiero.mirror.grpc.domain.TopicMessageFilter;
+import reactor.core.publisher.Flux;
+
+/**
+ * Caches the latest messages of the topics with active subscribers so historical retrievals of a recent range can be
+ * served from memory. A topic's cache is fed by the messages its subscribers receive from the topic listener and only
+ * exists while the topic has at least one subscriber, since that's the only time it's known to be current. The cached
+ * messages always have consecutive sequence numbers, so a range is covered if the cache holds a message before its
+ * start time or the first message of the topic.
+ */
+@CustomLog
+@Named
+public class TopicMessageCache {
+
+    static final String METRIC = "hiero.mirror.grpc.retriever.cache";
+    private static final String UNCACHED_TOPIC = "none";
+
+    private final MeterRegistry meterRegistry;
+    private final RetrieverProperties.CacheProperties properties;
+    private final Map<EntityId, TopicTail> topicTails = new ConcurrentHashMap<>();
+    private final Counter uncachedMissCounter;
+
+    public TopicMessageCache(MeterRegistry meterRegistry, RetrieverProperties retrieverProperties) {
+        this.meterRegistry = meterRegistry;
+        this.properties = retrieverProperties.getCache();
+        this.uncachedMissCounter = counter("miss", UNCACHED_TOPIC);
+    }
+
+    /**
+     * Caches the messages received by a topic listener subscriber while it's subscribed.
+     *
+     * @param topicId       the topic the subscriber listens to
+     * @param topicMessages the messages received by the subscriber
+     * @return the messages received by the subscriber
+     */
+    public Flux<TopicMessage> feed(EntityId topicId, Flux<TopicMessage> topicMessages) {
+        if (!properties.isEnabled()) {
+            return topicMessages;
+        }
+
+        return Flux.using(
+                () -> subscribe(topicId),
+                subscribed -> subscribed.get() ? topicMessages.doOnNext(this::add) : topicMessages,
+                subscribed -> {
+                    if (subscribed.get()) {
+                        unsubscribe(topicId);
+                    }
+                });
+    }
+
+    /**
+     * Gets the cached messages matching the filter if the cache covers the filter's entire range.
+     *
+     * @param filter the filter to match
+     * @return the matching messages or null if the range is not covered by the cache
+     */
+    @Nullable
+    public List<TopicMessage> get(TopicMessageFilter filter) {
+        if (!properties.isEnabled()) {
+            return null;
+        }
+
+        var topicTail = topicTails.get(filter.getTopicId());
+        if (topicTail == null) {
+            uncachedMissCounter.increment();
+            return null;
+        }
+
+        var topicMessages = topicTail.get(filter);
+        (topicMessages != null ? topicTail.hitCounter : topicTail.missCounter).increment();
+        return topicMessages;
+    }
+
+    private void add(TopicMessage topicMessage) {
+        var topicTail = topicTails.get(topicMessage.getTopicId());
+        if (topicTail != null) {
+            topicTail.add(topicMessage);
+        }
+    }
+
+    private AtomicBoolean subscribe(EntityId topicId) {
+        var subscribed = new AtomicBoolean(false);
+        topicTails.compute(topicId, (id, topicTail) -> {
+            if (topicTail == null) {
+                if (topicTails.size() >= properties.getMaxTopics()) {
+                    return null;
+                }
+
+                log.info("Caching messages of topic {}", topicId);
+                topicTail = new TopicTail(topicId);
+            }
+
+            topicTail.subscribers++;
+            subscribed.set(true);
+            return topicTail;
+        });
+        return subscribed;
+    }
+
+    private void unsubscribe(EntityId topicId) {
+        topicTails.computeIfPresent(topicId, (id, topicTail) -> {
+            if (--topicTail.subscribers > 0) {
+                return topicTail;
+            }
+
+            // Without subscribers the cache can't be kept current
+            log.info("Evicting cached messages of topic {} since it has no subscribers", topicId);
+            meterRegistry.remove(topicTail.hitCounter);
+            meterRegistry.remove(topicTail.missCounter);
+            return null;
+        });
+    }
+
+    private Counter counter(String result, String topic) {
+        return Counter.builder(METRIC)
+                .description("The number of historical topic message retrievals served or not by the cache")
+                .tag("result", result)
+                .tag("topic", topic)
+                .register(meterRegistry);
+    }
+
+    private class TopicTail {
+
+        private final Counter hitCounter;
+        private final Counter missCounter;
+        private final Deque<TopicMessage> topicMessages = new ArrayDeque<>();
+        private int subscribers; // Only accessed while holding the topic's map entry
+
+        private TopicTail(EntityId topicId) {
+            hitCounter = counter("hit", topicId.toString());
+            missCounter = counter("miss", topicId.toString());
+        }
+
+        private synchronized void add(TopicMessage topicMessage) {
+            var last = topicMessages.peekLast();
+            if (last != null) {
+                long sequenceNumber = topicMessage.getSequenceNumber();
+
+                // Already cached by another subscriber
+                if (sequenceNumber <= last.getSequenceNumber()) {
+                    return;
+                }
+
+                // Start over if there's a gap so the cached messages are always consecutive
+                if (sequenceNumber != last.getSequenceNumber() + 1) {
+                    topicMessages.clear();
+                }
+            }
+
+            topicMessages.addLast(topicMessage);
+
+            long minTimestamp =
+                    topicMessage.getConsensusTimestamp() - properties.getMaxAge().toNanos();
+            while (topicMessages.size() > properties.getMaxMessages()
+                    || topicMessages.getFirst().getConsensusTimestamp() < minTimestamp) {
+                topicMessages.removeFirst();
+            }
+        }
+
+        @Nullable
+        private synchronized List<TopicMessage> get(TopicMessageFilter filter) {
+            var first = topicMessages.peekFirst();
+            if (first == null
+                    || (first.getConsensusTimestamp() >= filter.getStartTime() && first.getSequenceNumber() != 1)) {
+                return null;
+            }
+
+            var endTime = filter.getEndTime();
+            List<TopicMessage> matched = new ArrayList<>();
+
+            for (var topicMessage : topicMessages) {
+                long consensusTimestamp = topicMessage.getConsensusTimestamp();
+                if (consensusTimestamp < filter.getStartTime()) {
+                    continue;
+                }
+
+                if ((endTime != null && consensusTimestamp >= endTime)
+                        || (filter.hasLimit() && matched.size() >= filter.getLimit())) {
+                    break;
+                }
+
+                matched.add(topicMessage);
+            }
+
+            return matched;
+        }
+    }
+}
@@ -2,13 +2,17 @@
 
 package org.hiero.mirror.grpc.service;
 
+import static org.hiero.mirror.grpc.config.CacheConfiguration.ADDRESS_BOOK_CACHE;
+import static org.hiero.mirror.grpc.config.CacheConfiguration.CACHE_NAME;
+
 import jakarta.inject.Named;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
-import java.util.concurrent.atomic.AtomicReference;
 import lombok.AccessLevel;
 import lombok.CustomLog;
 import lombok.Getter;
@@ -23,6 +27,8 @@ import org.hiero.mirror.grpc.repository.AddressBookEntryRepository;
 import org.hiero.mirror.grpc.repository.AddressBookRepository;
 import org.hiero.mirror.grpc.repository.NodeStakeRepository;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
 import org.springframework.transaction.support.TransactionOperations;
 import org.springframework.validation.annotation.Validated;
 import reactor.core.publisher.Flux;
@@ -48,6 +54,12 @@ public class NetworkServiceImpl implements NetworkService {
     @Qualifier("readOnly")
     private final TransactionOperations transactionOperations;
 
+    @Qualifier(ADDRESS_BOOK_CACHE)
+    private final CacheManager cacheManager;
+
+    @Getter(lazy = true, value = AccessLevel.PRIVATE)
+    private final Cache addressBookCache = cacheManager.getCache(CACHE_NAME);
+
     @Getter(lazy = true, value = AccessLevel.PRIVATE)
     private final Set<EntityId> validFileIds =
             Set.of(systemEntity.addressBookFile101(), systemEntity.addressBookFile102());
@@ -63,39 +75,53 @@ public class NetworkServiceImpl implements NetworkService {
                 .findLatestTimestamp(fileId.getId())
                 .orElseThrow(() -> new EntityNotFoundException(fileId));
         long nodeStakeTimestamp = nodeStakeRepository.findLatestTimestamp().orElse(NODE_STAKE_EMPTY_TABLE_TIMESTAMP);
-        var nodeStakeMap = nodeStakeRepository.findAllStakeByConsensusTimestamp(nodeStakeTimestamp);
-        var context = new AddressBookContext(addressBookTimestamp, nodeStakeMap);
+        var key = new AddressBookKey(fileId, addressBookTimestamp, nodeStakeTimestamp);
+        var context = new AddressBookContext(key);
+        var snapshot = getAddressBookCache().get(key, AddressBookSnapshot.class);
+
+        var nodes = snapshot != null ? Flux.fromIterable(snapshot.nodes()) : load(context);
+
+        return nodes.take(filter.getLimit() > 0 ? filter.getLimit() : Long.MAX_VALUE)
+                .doOnNext(context::onNext)
+                .doOnSubscribe(s -> log.info("Querying for address book: {}, cached: {}", filter, snapshot != null))
+                .doOnComplete(() -> log.info("Retrieved {} nodes from the address book", context.getCount()));
+    }
 
-        return Flux.defer(() -> page(context))
+    private Flux<AddressBookEntry> load(AddressBookContext context) {
+        var nodeStakeMap = nodeStakeRepository.findAllStakeByConsensusTimestamp(context.getKey().nodeStakeTimestamp());
+
+        return Flux.defer(() -> page(context, nodeStakeMap))
                 .repeatWhen(Repeat.onlyIf(c -> !context.isComplete())
                         .randomBackoff(addressBookProperties.getMinPageDelay(), addressBookProperties.getMaxPageDelay())
                         .jitter(Jitter.random())
-                        .withBackoffScheduler(Schedulers.parallel()))
-                .take(filter.getLimit() > 0 ? filter.getLimit() : Long.MAX_VALUE)
-                .doOnNext(context::onNext)
-                .doOnSubscribe(s -> log.info("Querying for address book: {}", filter))
-                .doOnComplete(() -> log.info("Retrieved {} nodes from the address book", context.getCount()));
+                        .withBackoffScheduler(Schedulers.parallel()));
     }
 
-    private Flux<AddressBookEntry> page(AddressBookContext context) {
+    private Flux<AddressBookEntry> page(AddressBookContext context, Map<Long, Long> nodeStakeMap) {
         return transactionOperations.execute(t -> {
-            var addressBookTimestamp = context.getAddressBookTimestamp();
-            var nodeStakeMap = context.getNodeStakeMap();
+            var addressBookTimestamp = context.getKey().addressBookTimestamp();
             var nextNodeId = context.getNextNodeId();
             var pageSize = addressBookProperties.getPageSize();
             var nodes = addressBookEntryRepository.findByConsensusTimestampAndNodeId(
                     addressBookTimestamp, nextNodeId, pageSize);
             var endpoints = new AtomicInteger(0);
 
-            nodes.forEach(node -> {
-                // Override node stake
-                node.setStake(nodeStakeMap.getOrDefault(node.getNodeId(), 0L));
-                // This hack ensures that the nested serviceEndpoints is loaded eagerly and voids lazy init exceptions
-                endpoints.addAndGet(node.getServiceEndpoints().size());
-            });
+            // Override node stake on a copy since the entries may be shared with the address book entry cache
+            var page = nodes.stream()
+                    .map(node -> {
+                        // This hack ensures that the nested serviceEndpoints is loaded eagerly and voids lazy init
+                        // exceptions
+                        endpoints.addAndGet(node.getServiceEndpoints().size());
+                        return node.toBuilder()
+                                .stake(nodeStakeMap.getOrDefault(node.getNodeId(), 0L))
+                                .build();
+                    })
+                    .toList();
+            context.onPage(page);
 
             if (nodes.size() < pageSize) {
                 context.completed();
+                getAddressBookCache().put(context.getKey(), new AddressBookSnapshot(context.getNodes()));
             }
 
             log.info(
@@ -104,27 +130,37 @@ public class NetworkServiceImpl implements NetworkService {
                     endpoints,
                     addressBookTimestamp,
                     nextNodeId);
-            return Flux.fromIterable(nodes);
+            return Flux.fromIterable(page);
         });
     }
 
+    private record AddressBookKey(EntityId fileId, long addressBookTimestamp, long nodeStakeTimestamp) {}
+
+    // All nodes of a version of an address book with their stake for a version of the node stakes
+    private record AddressBookSnapshot(List<AddressBookEntry> nodes) {}
+
     @Value
     private static class AddressBookContext {
 
         private final AtomicBoolean complete = new AtomicBoolean(false);
         private final AtomicLong count = new AtomicLong(0L);
-        private final AtomicReference<AddressBookEntry> last = new AtomicReference<>();
-        private final long addressBookTimestamp;
-        private final Map<Long, Long> nodeStakeMap;
+        private final List<AddressBookEntry> nodes = new CopyOnWriteArrayList<>();
+        private final AddressBookKey key;
 
         void onNext(AddressBookEntry entry) {
             count.incrementAndGet();
-            last.set(entry);
+        }
+
+        void onPage(List<AddressBookEntry> page) {
+            nodes.addAll(page);
         }
 
         long getNextNodeId() {
-            AddressBookEntry entry = last.get();
-            return entry != null ? entry.getNodeId() + 1 : 0L;
+            return nodes.isEmpty() ? 0L : nodes.get(nodes.size() - 1).getNodeId() + 1;
+        }
+
+        List<AddressBookEntry> getNodes() {
+            return List.copyOf(nodes);
         }
 
         boolean isComplete() {
@@ -0,0 +1,101 @@
+// SPDX-License-Identifier: Apache-2.0
+
+package org.hiero.mirror.grpc.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.google.protobuf.ByteString;
+import com.hedera.mirror.api.proto.ConsensusServiceGrpc;
+import com.hedera.mirror.api.proto.ConsensusTopicResponse;
+import com.hedera.mirror.api.proto.ReactorConsensusServiceGrpc;
+import io.grpc.Drainable;
+import io.grpc.KnownLength;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.ByteArrayOutputStream;
+import java.util.ArrayList;
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.Test;
+import org.springframework.util.unit.DataSize;
+
+class ConsensusTopicResponseMarshallerTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ConsensusTopicResponseMarshaller marshaller =
+            new ConsensusTopicResponseMarshaller(meterRegistry, DataSize.ofMegabytes(1));
+
+    @Test
+    @SneakyThrows
+    void stream() {
+        var response = response(1L);
+
+        try (var stream1 = marshaller.stream(response);
+                var stream2 = marshaller.stream(response)) {
+            assertThat(stream1).isInstanceOf(KnownLength.class);
+            assertThat(stream1.available()).isEqualTo(response.getSerializedSize());
+            assertThat(stream1.readAllBytes()).isEqualTo(response.toByteArray());
+
+            var output = new ByteArrayOutputStream();
+            assertThat(((Drainable) stream2).drainTo(output)).isEqualTo(response.getSerializedSize());
+            assertThat(output.toByteArray()).isEqualTo(response.toByteArray());
+            assertThat(stream2.available()).isZero();
+        }
+
+        assertThat(marshaller.parse(marshaller.stream(response(2L)))).isEqualTo(response(2L));
+        assertThat(count("hiero.mirror.grpc.response.encoded")).isEqualTo(2.0);
+        assertThat(count("hiero.mirror.grpc.response.sent")).isEqualTo(3.0);
+    }
+
+    @Test
+    @SneakyThrows
+    void streamUnsharedResponses() {
+        // Historical responses are sent once and stay referenced while in flight, so the weak keys alone don't bound them
+        var maxSize = DataSize.ofKilobytes(64);
+        var boundedMarshaller = new ConsensusTopicResponseMarshaller(meterRegistry, maxSize);
+        var message = ByteString.copyFrom(new byte[1024]);
+        var responses = new ArrayList<ConsensusTopicResponse>();
+        long streamed = 0;
+
+        for (long i = 1; i <= 1000; i++) {
+            var response = response(i).toBuilder().setMessage(message).build();
+            responses.add(response);
+
+            try (var stream = boundedMarshaller.stream(response)) {
+                streamed += stream.readAllBytes().length;
+            }
+        }
+
+        assertThat(streamed).isGreaterThan(1_000_000L);
+        assertThat(boundedMarshaller.getEncodedSize()).isPositive().isLessThanOrEqualTo(maxSize.toBytes());
+        assertThat(responses).hasSize(1000);
+    }
+
+    @Test
+    void bind() {
+        var definition = new ReactorConsensusServiceGrpc.ConsensusServiceImplBase() {}.bindService();
+        var methodName = ConsensusServiceGrpc.getSubscribeTopicMethod().getFullMethodName();
+
+        var rebound = marshaller.bind(definition);
+
+        assertThat(rebound.getServiceDescriptor().getName())
+                .isEqualTo(definition.getServiceDescriptor().getName());
+        assertThat(rebound.getServiceDescriptor().getSchemaDescriptor())
+                .isSameAs(definition.getServiceDescriptor().getSchemaDescriptor());
+        assertThat(rebound.getMethod(methodName).getMethodDescriptor().getResponseMarshaller())
+                .isSameAs(marshaller);
+        assertThat(rebound.getMethod(methodName).getServerCallHandler())
+                .isSameAs(definition.getMethod(methodName).getServerCallHandler());
+    }
+
+    private double count(String name) {
+        return meterRegistry.get(name).counter().count();
+    }
+
+    private ConsensusTopicResponse response(long sequenceNumber) {
+        return ConsensusTopicResponse.newBuilder()
+                .setMessage(ByteString.copyFromUtf8("message"))
+                .setRunningHash(ByteString.copyFromUtf8("running hash"))
+                .setRunningHashVersion(ConsensusController.DEFAULT_RUNNING_HASH_VERSION)
+                .setSequenceNumber(sequenceNumber)
+                .build();
+    }
+}
@@ -0,0 +1,112 @@
+// SPDX-License-Identifier: Apache-2.0
+
+package org.hiero.mirror.grpc.listener;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hiero.mirror.grpc.domain.ReactiveDomainBuilder.TOPIC_ID;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.LongStream;
+import org.hiero.mirror.common.domain.topic.TopicMessage;
+import org.hiero.mirror.grpc.domain.TopicMessageFilter;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import reactor.core.scheduler.Schedulers;
+import reactor.test.StepVerifier;
+
+class RingBufferTopicListenerTest extends AbstractTopicListenerTest {
+
+    private static final String SCHEDULE_HOOK = "ring-buffer-drains";
+
+    private int defaultMaxBufferSize;
+
+    @Override
+    protected ListenerProperties.ListenerType getType() {
+        return ListenerProperties.ListenerType.RING_BUFFER;
+    }
+
+    @BeforeEach
+    void setupMaxBufferSize() {
+        defaultMaxBufferSize = listenerProperties.getMaxBufferSize();
+    }
+
+    @AfterEach
+    void resetMaxBufferSize() {
+        listenerProperties.setMaxBufferSize(defaultMaxBufferSize);
+    }
+
+    @Test
+    @DisplayName("slow subscriber is resynced from the database and normal subscriber is not affected")
+    void slowSubscriberResync() {
+        int maxBufferSize = 16;
+        int numMessages = maxBufferSize * 3;
+        listenerProperties.setMaxBufferSize(maxBufferSize);
+
+        var filter = TopicMessageFilter.builder().startTime(0).topicId(TOPIC_ID).build();
+        var expected = LongStream.range(1, numMessages + 1).boxed().toList();
+
+        var stepVerifierFast = topicListener
+                .listen(filter)
+                .map(TopicMessage::getSequenceNumber)
+                .as(StepVerifier::create)
+                .expectNextSequence(expected)
+                .thenCancel()
+                .verifyLater();
+
+        topicListener
+                .listen(filter)
+                .map(TopicMessage::getSequenceNumber)
+                .as(p -> StepVerifier.create(p, 1))
+                .thenAwait(Duration.ofMillis(50L))
+                .then(() -> publish(domainBuilder.topicMessages(numMessages, future)))
+                .expectNext(1L)
+                .thenAwait(Duration.ofMillis(500L)) // stall to be lapped by the writer
+                .thenRequest(Long.MAX_VALUE)
+                .expectNextSequence(expected.subList(1, numMessages))
+                .thenCancel()
+                .verify(Duration.ofSeconds(5L));
+
+        stepVerifierFast.verify(Duration.ofSeconds(1L));
+    }
+
+    @Test
+    @DisplayName("drains of a subscriber are coalesced so at most one is queued at a time")
+    void drainsCoalesced() {
+        int numMessages = 100;
+        var queued = new AtomicInteger();
+        var maxQueued = new AtomicInteger();
+        Schedulers.onScheduleHook(SCHEDULE_HOOK, task -> {
+            if (!task.getClass().getName().startsWith(RingBufferTopicListener.class.getName())) {
+                return task;
+            }
+
+            maxQueued.accumulateAndGet(queued.incrementAndGet(), Math::max);
+            return () -> {
+                queued.decrementAndGet();
+                task.run();
+            };
+        });
+
+        try {
+            var filter = TopicMessageFilter.builder().startTime(0).topicId(TOPIC_ID).build();
+            var expected = LongStream.range(1, numMessages + 1).boxed().toList();
+
+            topicListener
+                    .listen(filter)
+                    .map(TopicMessage::getSequenceNumber)
+                    .as(StepVerifier::create)
+                    .thenAwait(Duration.ofMillis(50L))
+                    .then(() -> publish(domainBuilder.topicMessages(numMessages, future)))
+                    .expectNextSequence(expected)
+                    .thenCancel()
+                    .verify(Duration.ofSeconds(5L));
+
+            assertThat(maxQueued).hasValue(1);
+        } finally {
+            Schedulers.resetOnScheduleHook(SCHEDULE_HOOK);
+        }
+    }
+}
@@ -0,0 +1,98 @@
+// SPDX-License-Identifier: Apache-2.0
+
+package org.hiero.mirror.grpc.listener;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hiero.mirror.grpc.domain.ReactiveDomainBuilder.TOPIC_ID;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.Resource;
+import java.time.Duration;
+import org.hiero.mirror.common.domain.topic.TopicMessage;
+import org.hiero.mirror.grpc.domain.TopicMessageFilter;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.core.scheduler.Schedulers;
+import reactor.test.StepVerifier;
+
+class TopicPollingTopicListenerTest extends AbstractSharedTopicListenerTest {
+
+    private static final String METRIC_NAME = "hiero.mirror.grpc.listener.poll";
+
+    @Resource
+    private MeterRegistry meterRegistry;
+
+    @Resource
+    private TopicPollingTopicListener topicPollingTopicListener;
+
+    @Override
+    protected ListenerProperties.ListenerType getType() {
+        return ListenerProperties.ListenerType.TOPIC_POLL;
+    }
+
+    @Test
+    void pollMetric() {
+        var filter = TopicMessageFilter.builder().startTime(0).topicId(TOPIC_ID).build();
+
+        topicListener
+                .listen(filter)
+                .map(TopicMessage::getSequenceNumber)
+                .as(StepVerifier::create)
+                .thenAwait(Duration.ofMillis(250))
+                .then(() -> publish(domainBuilder.topicMessages(2, future)))
+                .expectNext(1L, 2L)
+                .then(() -> assertThat(meterRegistry.find(METRIC_NAME).timer())
+                        .isNotNull()
+                        .satisfies(t -> assertThat(t.getId().getTag("topic")).isNull())
+                        .satisfies(t -> assertThat(t.count()).isPositive()))
+                .thenCancel()
+                .verify(Duration.ofSeconds(2));
+
+        assertThat(topicPollingTopicListener.getSubscriberCount(TOPIC_ID)).isZero();
+    }
+
+    @Test
+    void resubscribeAfterLastCancel() {
+        var filter = TopicMessageFilter.builder().startTime(0).topicId(TOPIC_ID).build();
+
+        topicListener
+                .listen(filter)
+                .as(StepVerifier::create)
+                .then(() -> assertThat(topicPollingTopicListener.getSubscriberCount(TOPIC_ID))
+                        .isOne())
+                .thenCancel()
+                .verify(Duration.ofSeconds(2));
+
+        topicListener
+                .listen(filter)
+                .map(TopicMessage::getSequenceNumber)
+                .as(StepVerifier::create)
+                .thenAwait(Duration.ofMillis(250))
+                .then(() -> publish(domainBuilder.topicMessages(2, future)))
+                .expectNext(1L, 2L)
+                .then(() -> assertThat(topicPollingTopicListener.getSubscriberCount(TOPIC_ID))
+                        .isOne())
+                .thenCancel()
+                .verify(Duration.ofSeconds(2));
+
+        assertThat(topicPollingTopicListener.getSubscriberCount(TOPIC_ID)).isZero();
+    }
+
+    @Test
+    void concurrentSubscribeAndCancel() {
+        var filter = TopicMessageFilter.builder().startTime(0).topicId(TOPIC_ID).build();
+
+        Flux.range(0, 100)
+                .flatMap(
+                        i -> topicListener
+                                .listen(filter)
+                                .take(Duration.ofMillis(10))
+                                .subscribeOn(Schedulers.parallel()),
+                        16)
+                .as(StepVerifier::create)
+                .expectComplete()
+                .verify(Duration.ofSeconds(10));
+
+        assertThat(topicPollingTopicListener.getSubscriberCount(TOPIC_ID)).isZero();
+    }
+}
@@ -0,0 +1,194 @@
+// SPDX-License-Identifier: Apache-2.0
+
+package org.hiero.mirror.grpc.repository;
+
+import java.time.Duration;
+import lombok.RequiredArgsConstructor;
+import org.hiero.mirror.common.domain.entity.EntityId;
+import org.hiero.mirror.common.domain.topic.TopicMessage;
+import org.hiero.mirror.grpc.GrpcIntegrationTest;
+import org.hiero.mirror.grpc.domain.ReactiveDomainBuilder;
+import org.hiero.mirror.grpc.domain.TopicMessageFilter;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+@RequiredArgsConstructor
+class TopicMessageCursorRepositoryTest extends GrpcIntegrationTest {
+
+    private static final Duration WAIT = Duration.ofSeconds(10L);
+    private static final int FETCH_SIZE = 2;
+    private static final int MAX_ROWS = 100;
+
+    private final TopicMessageCursorRepository topicMessageCursorRepository;
+    private final ReactiveDomainBuilder domainBuilder;
+
+    @Test
+    void findByFilterEmpty() {
+        var filter = TopicMessageFilter.builder()
+                .startTime(0)
+                .topicId(EntityId.of(100L))
+                .build();
+
+        topicMessageCursorRepository
+                .findByFilter(filter, FETCH_SIZE, MAX_ROWS)
+                .as(StepVerifier::create)
+                .expectComplete()
+                .verify(WAIT);
+    }
+
+    @Test
+    void findByFilterWithTopicId() {
+        var topicMessage1 =
+                domainBuilder.topicMessage(t -> t.topicId(EntityId.of(-1))).block();
+        var topicMessage2 =
+                domainBuilder.topicMessage(t -> t.topicId(EntityId.of(-2))).block();
+        domainBuilder.topicMessage(t -> t.topicId(EntityId.of(-3))).block();
+
+        var filter = TopicMessageFilter.builder()
+                .topicId(EntityId.of(-2L))
+                .startTime(topicMessage1.getConsensusTimestamp())
+                .build();
+
+        topicMessageCursorRepository
+                .findByFilter(filter, FETCH_SIZE, MAX_ROWS)
+                .as(StepVerifier::create)
+                .expectNext(topicMessage2)
+                .expectComplete()
+                .verify(WAIT);
+    }
+
+    @Test
+    void findByFilterWithStartAndEndTime() {
+        var topicMessage1 = domainBuilder.topicMessage().block();
+        var topicMessage2 = domainBuilder.topicMessage().block();
+        var topicMessage3 = domainBuilder.topicMessage().block();
+        var topicMessage4 = domainBuilder.topicMessage().block();
+
+        var filter = TopicMessageFilter.builder()
+                .startTime(topicMessage2.getConsensusTimestamp())
+                .endTime(topicMessage4.getConsensusTimestamp())
+                .topicId(topicMessage1.getTopicId())
+                .build();
+
+        topicMessageCursorRepository
+                .findByFilter(filter, FETCH_SIZE, MAX_ROWS)
+                .as(StepVerifier::create)
+                .expectNext(topicMessage2, topicMessage3)
+                .expectComplete()
+                .verify(WAIT);
+    }
+
+    @Test
+    void findByFilterWithLimit() {
+        var topicMessage1 = domainBuilder.topicMessage().block();
+        domainBuilder.topicMessage().block();
+        domainBuilder.topicMessage().block();
+
+        var filter = TopicMessageFilter.builder()
+                .limit(1)
+                .startTime(topicMessage1.getConsensusTimestamp())
+                .topicId(topicMessage1.getTopicId())
+                .build();
+
+        topicMessageCursorRepository
+                .findByFilter(filter, FETCH_SIZE, MAX_ROWS)
+                .as(StepVerifier::create)
+                .expectNext(topicMessage1)
+                .expectComplete()
+                .verify(WAIT);
+    }
+
+    @Test
+    void findByFilterWithChunks() {
+        var topicMessage = domainBuilder
+                .topicMessage(t -> t.chunkNum(1).chunkTotal(2).initialTransactionId(new byte[] {1, 2}))
+                .block();
+
+        var filter = TopicMessageFilter.builder()
+                .startTime(topicMessage.getConsensusTimestamp())
+                .topicId(topicMessage.getTopicId())
+                .build();
+
+        topicMessageCursorRepository
+                .findByFilter(filter, FETCH_SIZE, MAX_ROWS)
+                .as(StepVerifier::create)
+                .expectNext(topicMessage)
+                .expectComplete()
+                .verify(WAIT);
+    }
+
+    @Test
+    void findByFilterWithBackpressure() {
+        var topicMessage1 = domainBuilder.topicMessage().block();
+        var topicMessage2 = domainBuilder.topicMessage().block();
+        var topicMessage3 = domainBuilder.topicMessage().block();
+
+        var filter = TopicMessageFilter.builder()
+                .startTime(topicMessage1.getConsensusTimestamp())
+                .topicId(topicMessage1.getTopicId())
+                .build();
+
+        topicMessageCursorRepository
+                .findByFilter(filter, FETCH_SIZE, MAX_ROWS)
+                .map(TopicMessage::getSequenceNumber)
+                .as(p -> StepVerifier.create(p, 1))
+                .expectNext(topicMessage1.getSequenceNumber())
+                .expectNoEvent(Duration.ofMillis(100L))
+                .thenRequest(1)
+                .expectNext(topicMessage2.getSequenceNumber())
+                .thenCancel()
+                .verify(WAIT);
+
+        // The connection is released on cancel and can be used by a new cursor
+        topicMessageCursorRepository
+                .findByFilter(filter.toBuilder().startTime(topicMessage3.getConsensusTimestamp()).build(), FETCH_SIZE, MAX_ROWS)
+                .as(StepVerifier::create)
+                .expectNext(topicMessage3)
+                .expectComplete()
+                .verify(WAIT);
+    }
+
+    @Test
+    void findByFilterReopensCursor() {
+        var topicMessages = Flux.range(0, 5)
+                .concatMap(i -> domainBuilder.topicMessage())
+                .collectList()
+                .block();
+        var first = topicMessages.getFirst();
+
+        var filter = TopicMessageFilter.builder()
+                .startTime(first.getConsensusTimestamp())
+                .topicId(first.getTopicId())
+                .build();
+
+        topicMessageCursorRepository
+                .findByFilter(filter, FETCH_SIZE, 2)
+                .as(StepVerifier::create)
+                .expectNextSequence(topicMessages)
+                .expectComplete()
+                .verify(WAIT);
+    }
+
+    @Test
+    void findByFilterReopensCursorWithLimit() {
+        var topicMessages = Flux.range(0, 5)
+                .concatMap(i -> domainBuilder.topicMessage())
+                .collectList()
+                .block();
+        var first = topicMessages.getFirst();
+
+        var filter = TopicMessageFilter.builder()
+                .limit(3)
+                .startTime(first.getConsensusTimestamp())
+                .topicId(first.getTopicId())
+                .build();
+
+        topicMessageCursorRepository
+                .findByFilter(filter, FETCH_SIZE, 2)
+                .as(StepVerifier::create)
+                .expectNextSequence(topicMessages.subList(0, 3))
+                .expectComplete()
+                .verify(WAIT);
+    }
+}
@@ -162,6 +162,34 @@ class PollingTopicMessageRetrieverTest extends GrpcIntegrationTest {
         restoreMaxPageSize(throttle, maxPageSize);
     }
 
+    @ParameterizedTest
+    @ValueSource(booleans = {true, false})
+    void cursor(boolean throttle) {
+        int maxPageSize = overrideMaxPageSize(throttle, 2);
+        retrieverProperties.setCursor(true);
+
+        domainBuilder.topicMessages(5, now).blockLast();
+
+        var filter = TopicMessageFilter.builder()
+                .startTime(0)
+                .limit(4L)
+                .topicId(TOPIC_ID)
+                .build();
+
+        pollingTopicMessageRetriever
+                .retrieve(filter, throttle)
+                .map(TopicMessage::getSequenceNumber)
+                .as(p -> StepVerifier.create(p, 1))
+                .expectNext(1L)
+                .thenRequest(3)
+                .expectNext(2L, 3L, 4L)
+                .expectComplete()
+                .verify(WAIT);
+
+        retrieverProperties.setCursor(false);
+        restoreMaxPageSize(throttle, maxPageSize);
+    }
+
     @ParameterizedTest
     @ValueSource(booleans = {true, false})
     void startTimeBefore(boolean throttle) {
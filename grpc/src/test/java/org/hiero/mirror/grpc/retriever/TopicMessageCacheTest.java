@@ -0,0 +1,200 @@
+// SPDX-License-Identifier: Apache-2.0
+
+package org.hiero.mirror.grpc.retriever;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.LongStream;
+import org.hiero.mirror.common.domain.entity.EntityId;
+import org.hiero.mirror.common.domain.topic.TopicMessage;
+import org.hiero.mirror.grpc.domain.TopicMessageFilter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Sinks;
+import reactor.test.StepVerifier;
+
+class TopicMessageCacheTest {
+
+    private static final EntityId TOPIC_ID = EntityId.of(100L);
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final RetrieverProperties retrieverProperties = new RetrieverProperties();
+    private TopicMessageCache topicMessageCache;
+
+    @BeforeEach
+    void setup() {
+        retrieverProperties.getCache().setEnabled(true);
+        retrieverProperties.getCache().setMaxMessages(5);
+        topicMessageCache = new TopicMessageCache(meterRegistry, retrieverProperties);
+    }
+
+    @Test
+    void disabled() {
+        retrieverProperties.getCache().setEnabled(false);
+        var topicMessages = topicMessages(1, 3);
+
+        topicMessageCache
+                .feed(TOPIC_ID, Flux.fromIterable(topicMessages))
+                .as(StepVerifier::create)
+                .expectNextSequence(topicMessages)
+                .verifyComplete();
+
+        assertThat(topicMessageCache.get(filter(0L))).isNull();
+    }
+
+    @Test
+    void hit() {
+        var sink = feed();
+        var topicMessages = topicMessages(1, 3);
+        topicMessages.forEach(sink::tryEmitNext);
+
+        assertThat(topicMessageCache.get(filter(2L))).containsExactlyElementsOf(topicMessages.subList(1, 3));
+        assertThat(topicMessageCache.get(filter(0L))).containsExactlyElementsOf(topicMessages);
+        assertThat(count("hit", TOPIC_ID.toString())).isEqualTo(2.0);
+    }
+
+    @Test
+    void hitWithEndTimeAndLimit() {
+        var sink = feed();
+        var topicMessages = topicMessages(10, 15);
+        topicMessages.forEach(sink::tryEmitNext);
+
+        var filter = filter(11L).toBuilder().endTime(14L).build();
+        assertThat(topicMessageCache.get(filter)).containsExactlyElementsOf(topicMessages.subList(1, 4));
+
+        filter = filter(11L).toBuilder().limit(2L).build();
+        assertThat(topicMessageCache.get(filter)).containsExactlyElementsOf(topicMessages.subList(1, 3));
+    }
+
+    @Test
+    void miss() {
+        var sink = feed();
+        topicMessages(10, 12).forEach(sink::tryEmitNext);
+
+        // Messages before the first cached message may exist
+        assertThat(topicMessageCache.get(filter(10L))).isNull();
+        assertThat(topicMessageCache.get(filter(0L))).isNull();
+        assertThat(count("miss", TOPIC_ID.toString())).isEqualTo(2.0);
+
+        // Uncached topic
+        var filter = TopicMessageFilter.builder()
+                .startTime(0L)
+                .topicId(EntityId.of(101L))
+                .build();
+        assertThat(topicMessageCache.get(filter)).isNull();
+        assertThat(count("miss", "none")).isEqualTo(1.0);
+    }
+
+    @Test
+    void duplicatesAndGaps() {
+        var sink = feed();
+        var topicMessages = topicMessages(1, 3);
+        topicMessages.forEach(sink::tryEmitNext);
+        topicMessages.forEach(sink::tryEmitNext);
+        assertThat(topicMessageCache.get(filter(0L))).containsExactlyElementsOf(topicMessages);
+
+        // A gap starts over from the next message
+        var afterGap = topicMessages(5, 6);
+        afterGap.forEach(sink::tryEmitNext);
+        assertThat(topicMessageCache.get(filter(5L))).isNull();
+        assertThat(topicMessageCache.get(filter(6L))).containsExactly(afterGap.get(1));
+    }
+
+    @Test
+    void maxMessages() {
+        var sink = feed();
+        var topicMessages = topicMessages(1, 8);
+        topicMessages.forEach(sink::tryEmitNext);
+
+        assertThat(topicMessageCache.get(filter(0L))).isNull();
+        assertThat(topicMessageCache.get(filter(5L))).containsExactlyElementsOf(topicMessages.subList(4, 8));
+    }
+
+    @Test
+    void maxAge() {
+        retrieverProperties.getCache().setMaxAge(Duration.ofSeconds(1L));
+        var sink = feed();
+        var first = topicMessage(1, 1L);
+        var second = topicMessage(2, 2L);
+        var third = topicMessage(3, Duration.ofSeconds(1L).toNanos() + 2L);
+        sink.tryEmitNext(first);
+        sink.tryEmitNext(second);
+        sink.tryEmitNext(third);
+
+        assertThat(topicMessageCache.get(filter(0L))).isNull();
+        assertThat(topicMessageCache.get(filter(3L))).containsExactly(third);
+    }
+
+    @Test
+    void maxTopics() {
+        retrieverProperties.getCache().setMaxTopics(1);
+        var sink = feed();
+        sink.tryEmitNext(topicMessage(1, 1L));
+
+        var otherTopicId = EntityId.of(101L);
+        var otherTopicMessage = topicMessage(1, 2L);
+        otherTopicMessage.setTopicId(otherTopicId);
+        topicMessageCache
+                .feed(otherTopicId, Flux.just(otherTopicMessage))
+                .as(StepVerifier::create)
+                .expectNext(otherTopicMessage)
+                .verifyComplete();
+
+        var filter = TopicMessageFilter.builder().startTime(0L).topicId(otherTopicId).build();
+        assertThat(topicMessageCache.get(filter)).isNull();
+        assertThat(topicMessageCache.get(filter(0L))).isNotNull();
+    }
+
+    @Test
+    void evictedWithoutSubscribers() {
+        var sink1 = feed();
+        var sink2 = feed();
+        topicMessages(1, 3).forEach(sink1::tryEmitNext);
+
+        sink1.tryEmitComplete();
+        assertThat(topicMessageCache.get(filter(0L))).hasSize(3);
+
+        sink2.tryEmitComplete();
+        assertThat(topicMessageCache.get(filter(0L))).isNull();
+        assertThat(meterRegistry.find(TopicMessageCache.METRIC).tag("topic", TOPIC_ID.toString()).counters())
+                .isEmpty();
+    }
+
+    private Sinks.Many<TopicMessage> feed() {
+        Sinks.Many<TopicMessage> sink = Sinks.many().multicast().directBestEffort();
+        topicMessageCache.feed(TOPIC_ID, sink.asFlux()).subscribe();
+        return sink;
+    }
+
+    private double count(String result, String topic) {
+        return meterRegistry
+                .get(TopicMessageCache.METRIC)
+                .tag("result", result)
+                .tag("topic", topic)
+                .counter()
+                .count();
+    }
+
+    private TopicMessageFilter filter(long startTime) {
+        return TopicMessageFilter.builder().startTime(startTime).topicId(TOPIC_ID).build();
+    }
+
+    // The consensus timestamp of each message is its sequence number
+    private List<TopicMessage> topicMessages(long fromSequenceNumber, long toSequenceNumber) {
+        return LongStream.rangeClosed(fromSequenceNumber, toSequenceNumber)
+                .mapToObj(n -> topicMessage(n, n))
+                .toList();
+    }
+
+    private TopicMessage topicMessage(long sequenceNumber, long consensusTimestamp) {
+        return TopicMessage.builder()
+                .consensusTimestamp(consensusTimestamp)
+                .sequenceNumber(sequenceNumber)
+                .topicId(TOPIC_ID)
+                .build();
+    }
+}
@@ -154,6 +154,64 @@ class NetworkServiceTest extends GrpcIntegrationTest {
         assertThat(getNodes(filter)).containsExactly(addressBookEntry1, addressBookEntry2, addressBookEntry3);
     }
 
+    @Test
+    void cachedWithLimit() {
+        AddressBook addressBook = addressBook();
+        AddressBookEntry addressBookEntry1 = addressBookEntry();
+        AddressBookEntry addressBookEntry2 = addressBookEntry();
+        var filter = AddressBookFilter.builder().fileId(addressBook.getFileId()).build();
+
+        assertThat(getNodes(filter)).containsExactly(addressBookEntry1, addressBookEntry2);
+
+        addressBookEntryRepository.deleteAll();
+
+        var limitFilter = AddressBookFilter.builder()
+                .fileId(addressBook.getFileId())
+                .limit(1)
+                .build();
+        assertThat(getNodes(limitFilter)).containsExactly(addressBookEntry1);
+    }
+
+    @Test
+    void cachedInvalidatedByAddressBook() {
+        var addressBook = addressBook();
+        var addressBookEntry1 = addressBookEntry();
+        var filter = AddressBookFilter.builder().fileId(addressBook.getFileId()).build();
+
+        assertThat(getNodes(filter)).containsExactly(addressBookEntry1);
+
+        long consensusTimestamp = CONSENSUS_TIMESTAMP + 1;
+        domainBuilder
+                .addressBook()
+                .customize(a -> a.startConsensusTimestamp(consensusTimestamp))
+                .persist();
+        var addressBookEntry2 = domainBuilder
+                .addressBookEntry()
+                .customize(a -> a.consensusTimestamp(consensusTimestamp))
+                .persist();
+
+        assertThat(getNodes(filter)).containsExactly(addressBookEntry2);
+    }
+
+    @Test
+    void cachedInvalidatedByNodeStake() {
+        var addressBook = addressBook();
+        var addressBookEntry = addressBookEntry(10L);
+        nodeStake(addressBookEntry.getNodeId(), 100L);
+        var filter = AddressBookFilter.builder().fileId(addressBook.getFileId()).build();
+
+        assertThat(getNodes(filter)).extracting(AddressBookEntry::getStake).containsExactly(100L);
+
+        domainBuilder
+                .nodeStake()
+                .customize(e -> e.consensusTimestamp(NODE_STAKE_CONSENSUS_TIMESTAMP + 1)
+                        .nodeId(addressBookEntry.getNodeId())
+                        .stake(200L))
+                .persist();
+
+        assertThat(getNodes(filter)).extracting(AddressBookEntry::getStake).containsExactly(200L);
+    }
+
     @Test
     void overrideStakeToZeroWhenEmptyNodeStakeTable() {
         var addressBook = addressBook();
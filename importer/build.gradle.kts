@@ -6,6 +6,7 @@ description = "Mirror Node Importer"
 
 plugins {
     id("com.google.protobuf")
+    id("me.champeau.jmh")
     id("spring-conventions")
 }
 
@@ -67,8 +68,22 @@ dependencies {
     testImplementation("org.springframework.boot:spring-boot-testcontainers")
     testImplementation("org.testcontainers:postgresql")
     testRuntimeOnly("org.junit.platform:junit-platform-launcher")
+    jmh(project(path = ":common", configuration = "testClasses"))
 }
 
+// Run with ./gradlew :importer:jmh -Pjmh.includes=<regex> to compare benchmarks across commits
+jmh {
+    includeTests = true // Reuse the test domain builders and fixture files
+    includes = providers.gradleProperty("jmh.includes").map { listOf(it) }.orElse(listOf())
+    jmhVersion = "1.37"
+    jvmArgsAppend = listOf("-XX:+EnableDynamicAgentLoading") // Allow byte buddy for Mockito
+    profilers = listOf("gc")
+    resultFormat = "JSON"
+}
+
+// Generated benchmark code doesn't compile cleanly with all lint warnings enabled
+tasks.named<JavaCompile>("jmhCompileGeneratedClasses") { options.compilerArgs.remove("-Werror") }
+
 protobuf {
     val protobufVersion: String by rootProject.extra
 
@@ -0,0 +1,74 @@
+// SPDX-License-Identifier: Apache-2.0
+
+package org.hiero.mirror.importer.domain;
+
+import com.hederahashgraph.api.proto.java.AccountID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.hiero.mirror.common.domain.entity.EntityId;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@BenchmarkMode(Mode.Throughput)
+@Fork(1)
+@Measurement(iterations = 5, time = 2)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 2)
+public class EntityIdBenchmark {
+
+    private static final int SIZE = 1024;
+
+    private final AccountID[] accountIds = new AccountID[SIZE];
+    private final long[] encodedIds = new long[SIZE];
+    private final long[] nums = new long[SIZE];
+    private final String[] strings = new String[SIZE];
+    private int index;
+
+    @Setup
+    public void setup() {
+        var random = ThreadLocalRandom.current();
+
+        for (int i = 0; i < SIZE; i++) {
+            long num = random.nextLong(1, 10_000_000L);
+            var entityId = EntityId.of(0L, 0L, num);
+            accountIds[i] = AccountID.newBuilder().setAccountNum(num).build();
+            encodedIds[i] = entityId.getId();
+            nums[i] = num;
+            strings[i] = entityId.toString();
+        }
+    }
+
+    @Benchmark
+    public EntityId ofAccountId() {
+        return EntityId.of(accountIds[next()]);
+    }
+
+    @Benchmark
+    public EntityId ofEncodedId() {
+        return EntityId.of(encodedIds[next()]);
+    }
+
+    @Benchmark
+    public EntityId ofShardRealmNum() {
+        return EntityId.of(0L, 0L, nums[next()]);
+    }
+
+    @Benchmark
+    public EntityId ofString() {
+        return EntityId.of(strings[next()]);
+    }
+
+    private int next() {
+        index = (index + 1) & (SIZE - 1);
+        return index;
+    }
+}
@@ -0,0 +1,118 @@
+// SPDX-License-Identifier: Apache-2.0
+
+package org.hiero.mirror.importer.parser.batch;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+import javax.sql.DataSource;
+import org.hiero.mirror.common.config.CommonTestConfiguration;
+import org.hiero.mirror.common.config.RedisTestConfiguration;
+import org.hiero.mirror.common.domain.DomainBuilder;
+import org.hiero.mirror.common.domain.contract.ContractResult;
+import org.hiero.mirror.common.domain.transaction.Transaction;
+import org.hiero.mirror.common.domain.transaction.TransactionHash;
+import org.hiero.mirror.importer.ImporterApplication;
+import org.hiero.mirror.importer.parser.CommonParserProperties;
+import org.hiero.mirror.importer.repository.upsert.EntityMetadataRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcOperations;
+
+/**
+ * Compares the CSV and binary COPY formats when inserting hash heavy tables, including the database round trip. The
+ * binary format needs the column types from the database, so the importer is started against a PostgreSQL container
+ * the same way the integration tests do and Docker must be available.
+ */
+@BenchmarkMode(Mode.Throughput)
+@Fork(1)
+@Measurement(iterations = 5, time = 2)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 2)
+public class BatchInserterBenchmark {
+
+    private static final int BATCH_SIZE = 1000;
+
+    @Param({"false", "true"})
+    private boolean binaryCopy;
+
+    @Param({"ContractResult", "Transaction", "TransactionHash"})
+    private String table;
+
+    private BatchInserter batchInserter;
+    private ConfigurableApplicationContext context;
+    private List<?> items;
+    private JdbcOperations jdbcOperations;
+
+    @Setup
+    public void setup() {
+        var domainBuilder = new DomainBuilder();
+        Class<?> entityClass;
+        Supplier<?> supplier;
+
+        switch (table) {
+            case "ContractResult" -> {
+                entityClass = ContractResult.class;
+                supplier = () -> domainBuilder.contractResult().get();
+            }
+            case "Transaction" -> {
+                entityClass = Transaction.class;
+                supplier = () -> domainBuilder.transaction().get();
+            }
+            case "TransactionHash" -> {
+                entityClass = TransactionHash.class;
+                supplier = () -> domainBuilder.transactionHash().get();
+            }
+            default -> throw new IllegalArgumentException("Unsupported table " + table);
+        }
+
+        context = new SpringApplicationBuilder(
+                        ImporterApplication.class, CommonTestConfiguration.class, RedisTestConfiguration.class)
+                .run();
+        jdbcOperations = context.getBean(JdbcOperations.class);
+
+        var binaryCopyWriter = binaryCopy
+                ? new BinaryCopyWriter(context.getBean(EntityMetadataRegistry.class).lookupColumns(entityClass))
+                : null;
+        batchInserter = new BatchInserter(
+                entityClass,
+                context.getBean(DataSource.class),
+                new SimpleMeterRegistry(),
+                context.getBean(CommonParserProperties.class),
+                entityClass.getSimpleName(),
+                binaryCopyWriter);
+        items = Stream.generate(supplier).limit(BATCH_SIZE).toList();
+    }
+
+    @TearDown
+    public void teardown() {
+        context.close();
+    }
+
+    // Persisting a batch takes milliseconds, so truncating before each invocation doesn't skew the measurement
+    @Setup(Level.Invocation)
+    public void truncate() {
+        jdbcOperations.execute("truncate table " + batchInserter.tableName);
+    }
+
+    @Benchmark
+    public void persist() {
+        batchInserter.persist(items);
+    }
+}
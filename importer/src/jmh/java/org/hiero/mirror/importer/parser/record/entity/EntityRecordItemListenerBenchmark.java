@@ -0,0 +1,86 @@
+// SPDX-License-Identifier: Apache-2.0
+
+package org.hiero.mirror.importer.parser.record.entity;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.concurrent.TimeUnit;
+import org.hiero.mirror.common.CommonProperties;
+import org.hiero.mirror.common.domain.SystemEntity;
+import org.hiero.mirror.common.domain.transaction.RecordItem;
+import org.hiero.mirror.common.domain.transaction.TransactionType;
+import org.hiero.mirror.importer.domain.ContractResultService;
+import org.hiero.mirror.importer.domain.EntityIdService;
+import org.hiero.mirror.importer.parser.CommonParserProperties;
+import org.hiero.mirror.importer.parser.contractlog.SyntheticContractLogService;
+import org.hiero.mirror.importer.parser.contractresult.SyntheticContractResultService;
+import org.hiero.mirror.importer.parser.domain.RecordItemBuilder;
+import org.hiero.mirror.importer.parser.record.transactionhandler.TransactionHandler;
+import org.hiero.mirror.importer.parser.record.transactionhandler.TransactionHandlerFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the transaction independent work of the listener such as building the transaction and its transfers. The
+ * transaction handlers and services are stubbed so only the listener itself is measured and no database is needed.
+ */
+@BenchmarkMode(Mode.Throughput)
+@Fork(1)
+@Measurement(iterations = 5, time = 2)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 2)
+public class EntityRecordItemListenerBenchmark {
+
+    private static final int SIZE = 1024;
+
+    @Param({"CONSENSUSSUBMITMESSAGE", "CONTRACTCALL", "CRYPTOTRANSFER", "TOKENCREATION"})
+    private TransactionType transactionType;
+
+    private final RecordItem[] recordItems = new RecordItem[SIZE];
+    private EntityRecordItemListener entityRecordItemListener;
+    private int index;
+
+    @Setup
+    public void setup() {
+        var commonProperties = CommonProperties.getInstance();
+        var systemEntity = new SystemEntity(commonProperties);
+        var transactionHandlerFactory = mock(TransactionHandlerFactory.class);
+        TransactionHandler transactionHandler = () -> transactionType;
+        when(transactionHandlerFactory.get(any())).thenReturn(transactionHandler);
+
+        entityRecordItemListener = new EntityRecordItemListener(
+                new CommonParserProperties(),
+                mock(ContractResultService.class),
+                mock(EntityIdService.class),
+                new EntityListener() {},
+                new EntityProperties(systemEntity),
+                transactionHandlerFactory,
+                mock(SyntheticContractLogService.class),
+                mock(SyntheticContractResultService.class));
+
+        var recordItemBuilder = new RecordItemBuilder(commonProperties, systemEntity);
+        var builder = recordItemBuilder.lookup(transactionType);
+
+        for (int i = 0; i < SIZE; i++) {
+            recordItems[i] = builder.get().build();
+        }
+    }
+
+    @Benchmark
+    public void onItem() {
+        index = (index + 1) & (SIZE - 1);
+        entityRecordItemListener.onItem(recordItems[index]);
+    }
+}
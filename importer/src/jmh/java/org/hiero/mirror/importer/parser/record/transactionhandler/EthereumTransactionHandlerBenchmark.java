@@ -0,0 +1,88 @@
+// SPDX-License-Identifier: Apache-2.0
+
+package org.hiero.mirror.importer.parser.record.transactionhandler;
+
+import static org.mockito.Mockito.mock;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import org.hiero.mirror.common.CommonProperties;
+import org.hiero.mirror.common.domain.SystemEntity;
+import org.hiero.mirror.common.domain.transaction.RecordItem;
+import org.hiero.mirror.common.domain.transaction.Transaction;
+import org.hiero.mirror.importer.parser.domain.RecordItemBuilder;
+import org.hiero.mirror.importer.parser.record.RecordFilePipeline;
+import org.hiero.mirror.importer.parser.record.entity.EntityListener;
+import org.hiero.mirror.importer.parser.record.entity.EntityProperties;
+import org.hiero.mirror.importer.parser.record.ethereum.CompositeEthereumTransactionParser;
+import org.hiero.mirror.importer.parser.record.ethereum.Eip1559EthereumTransactionParser;
+import org.hiero.mirror.importer.parser.record.ethereum.Eip2930EthereumTransactionParser;
+import org.hiero.mirror.importer.parser.record.ethereum.LegacyEthereumTransactionParser;
+import org.hiero.mirror.importer.repository.FileDataRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Processes a record file of ethereum transactions in order, with and without first preparing the record items in
+ * parallel the way the record file parser does with parallelPrepare enabled, so decoding the ethereum data moves off
+ * the ordered path.
+ */
+@BenchmarkMode(Mode.Throughput)
+@Fork(1)
+@Measurement(iterations = 5, time = 2)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 2)
+public class EthereumTransactionHandlerBenchmark {
+
+    @Param({"false", "true"})
+    private boolean parallelPrepare;
+
+    @Param({"100", "1000"})
+    private int transactions;
+
+    private RecordItem[] recordItems;
+    private TransactionHandler transactionHandler;
+
+    @Setup
+    public void setup() {
+        var fileDataRepository = mock(FileDataRepository.class);
+        var pipeline = mock(RecordFilePipeline.class);
+        var ethereumTransactionParser = new CompositeEthereumTransactionParser(
+                new LegacyEthereumTransactionParser(fileDataRepository, pipeline),
+                new Eip2930EthereumTransactionParser(fileDataRepository, pipeline),
+                new Eip1559EthereumTransactionParser(fileDataRepository, pipeline));
+        var systemEntity = new SystemEntity(CommonProperties.getInstance());
+        transactionHandler = new EthereumTransactionHandler(
+                new EntityListener() {}, new EntityProperties(systemEntity), ethereumTransactionParser);
+
+        var recordItemBuilder = new RecordItemBuilder();
+        recordItems = new RecordItem[transactions];
+        for (int i = 0; i < transactions; i++) {
+            recordItems[i] = recordItemBuilder.ethereumTransaction().build();
+        }
+    }
+
+    @Benchmark
+    public void processFile() {
+        if (parallelPrepare) {
+            Arrays.stream(recordItems).parallel().forEach(transactionHandler::prepare);
+        }
+
+        for (var recordItem : recordItems) {
+            var transaction = new Transaction();
+            transaction.setConsensusTimestamp(recordItem.getConsensusTimestamp());
+            transaction.setPayerAccountId(recordItem.getPayerAccountId());
+            transactionHandler.updateTransaction(transaction, recordItem);
+        }
+    }
+}
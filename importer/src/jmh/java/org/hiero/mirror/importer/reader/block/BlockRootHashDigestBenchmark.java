@@ -0,0 +1,126 @@
+// SPDX-License-Identifier: Apache-2.0
+
+package org.hiero.mirror.importer.reader.block;
+
+import static org.hiero.mirror.common.util.DomainUtils.createSha384Digest;
+
+import com.google.protobuf.ByteString;
+import com.hedera.hapi.block.stream.protoc.BlockItem;
+import com.hedera.hapi.platform.event.legacy.EventTransaction;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.hiero.mirror.common.util.DomainUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Calculates the root hash of synthetic blocks of increasing size. The baseline serializes each block item again and
+ * hashes the padded tree on a single thread, while the other benchmarks use {@link BlockRootHashDigest} with either the
+ * parsed block items or their serialized bytes as received.
+ */
+@BenchmarkMode(Mode.Throughput)
+@Fork(1)
+@Measurement(iterations = 5, time = 2)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 2)
+public class BlockRootHashDigestBenchmark {
+
+    private static final byte[] EMPTY_HASH = createSha384Digest().digest(new byte[0]);
+    private static final int TRANSACTION_SIZE = 256;
+
+    @Param({"100", "1000", "10000", "100000"})
+    private int blockItemCount;
+
+    private final List<BlockItem> blockItems = new ArrayList<>();
+    private final List<ByteString> blockItemBytes = new ArrayList<>();
+
+    @Setup
+    public void setup() {
+        var random = new Random(blockItemCount);
+
+        for (int i = 0; i < blockItemCount; i++) {
+            var transaction = new byte[TRANSACTION_SIZE];
+            random.nextBytes(transaction);
+            var blockItem = BlockItem.newBuilder()
+                    .setEventTransaction(EventTransaction.newBuilder()
+                            .setApplicationTransaction(ByteString.copyFrom(transaction)))
+                    .build();
+            blockItems.add(blockItem);
+            blockItemBytes.add(blockItem.toByteString());
+        }
+    }
+
+    @Benchmark
+    public String baseline() {
+        var digest = createSha384Digest();
+        List<byte[]> inputHashes = new ArrayList<>(blockItems.size());
+        for (var blockItem : blockItems) {
+            inputHashes.add(digest.digest(blockItem.toByteArray()));
+        }
+
+        // The output tree is empty so its root hash is the empty hash
+        var leaves = new ArrayList<>(List.of(EMPTY_HASH, sequentialRootHash(inputHashes), EMPTY_HASH, EMPTY_HASH));
+        return DomainUtils.bytesToHex(sequentialRootHash(leaves));
+    }
+
+    @Benchmark
+    public String blockItems() {
+        var blockRootHashDigest = newBlockRootHashDigest();
+        blockItems.forEach(blockRootHashDigest::addInputBlockItem);
+        return blockRootHashDigest.digest();
+    }
+
+    @Benchmark
+    public String blockItemBytes() {
+        var blockRootHashDigest = newBlockRootHashDigest();
+        blockItemBytes.forEach(blockRootHashDigest::addInputBlockItem);
+        return blockRootHashDigest.digest();
+    }
+
+    private BlockRootHashDigest newBlockRootHashDigest() {
+        var blockRootHashDigest = new BlockRootHashDigest();
+        blockRootHashDigest.setPreviousHash(EMPTY_HASH);
+        blockRootHashDigest.setStartOfBlockStateHash(EMPTY_HASH);
+        return blockRootHashDigest;
+    }
+
+    // The single threaded calculation with materialized padding that BlockRootHashDigest used to do
+    private static byte[] sequentialRootHash(List<byte[]> leaves) {
+        if (leaves.isEmpty()) {
+            return EMPTY_HASH;
+        }
+
+        int size = leaves.size();
+        if ((size & (size - 1)) != 0) {
+            size = Integer.highestOneBit(size) << 1;
+            while (leaves.size() < size) {
+                leaves.add(EMPTY_HASH);
+            }
+        }
+
+        var digest = createSha384Digest();
+        while (size > 1) {
+            for (int i = 0; i < size; i += 2) {
+                digest.update(leaves.get(i));
+                digest.update(leaves.get(i + 1));
+                leaves.set(i >> 1, digest.digest());
+            }
+
+            size >>= 1;
+        }
+
+        return leaves.getFirst();
+    }
+}
@@ -0,0 +1,59 @@
+// SPDX-License-Identifier: Apache-2.0
+
+package org.hiero.mirror.importer.reader.block;
+
+import com.hedera.hapi.block.stream.protoc.Block;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import org.hiero.mirror.common.domain.transaction.BlockFile;
+import org.hiero.mirror.importer.TestUtils;
+import org.hiero.mirror.importer.domain.StreamFileData;
+import org.hiero.mirror.importer.parser.record.RecordParserProperties;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Reads the block stream test fixtures. Block 0 contains a large number of state changes while blocks 76 and 77 are
+ * typical blocks with a handful of transactions.
+ */
+@BenchmarkMode(Mode.Throughput)
+@Fork(1)
+@Measurement(iterations = 5, time = 2)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 2)
+public class BlockStreamReaderBenchmark {
+
+    private final BlockStreamReader reader = new BlockStreamReaderImpl(new RecordParserProperties());
+
+    @Param({"0", "76"})
+    private long blockNumber;
+
+    private BlockStream blockStream;
+
+    @Setup
+    public void setup() throws IOException {
+        var filename = BlockFile.getFilename(blockNumber, true);
+        var streamFileData = StreamFileData.from(TestUtils.getResource("data/blockstreams/" + filename));
+
+        try (var inputStream = streamFileData.getInputStream()) {
+            var block = Block.parseFrom(inputStream.readAllBytes());
+            blockStream = new BlockStream(
+                    block.getItemsList(), streamFileData.getBytes(), filename, System.currentTimeMillis(), 0L);
+        }
+    }
+
+    @Benchmark
+    public BlockFile read() {
+        return reader.read(blockStream);
+    }
+}
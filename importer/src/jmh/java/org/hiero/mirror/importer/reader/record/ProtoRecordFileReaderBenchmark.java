@@ -0,0 +1,104 @@
+// SPDX-License-Identifier: Apache-2.0
+
+package org.hiero.mirror.importer.reader.record;
+
+import static org.hiero.mirror.common.util.DomainUtils.createSha384Digest;
+
+import com.google.protobuf.ByteString;
+import com.hedera.services.stream.proto.HashAlgorithm;
+import com.hedera.services.stream.proto.HashObject;
+import com.hedera.services.stream.proto.RecordStreamFile;
+import com.hedera.services.stream.proto.RecordStreamItem;
+import com.hederahashgraph.api.proto.java.SemanticVersion;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+import org.hiero.mirror.common.domain.StreamType;
+import org.hiero.mirror.common.domain.transaction.RecordFile;
+import org.hiero.mirror.importer.domain.StreamFileData;
+import org.hiero.mirror.importer.domain.StreamFilename;
+import org.hiero.mirror.importer.parser.domain.RecordItemBuilder;
+import org.hiero.mirror.importer.parser.record.RecordParserProperties;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Reads a v6 record file generated with the test {@link RecordItemBuilder}. The file contains a mix of crypto transfers,
+ * contract calls and consensus submit messages to approximate mainnet traffic. Compare the gc.alloc.rate.norm of the gc
+ * profiler to see the bytes allocated per file with and without protobuf aliasing.
+ */
+@BenchmarkMode(Mode.Throughput)
+@Fork(1)
+@Measurement(iterations = 5, time = 2)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 2)
+public class ProtoRecordFileReaderBenchmark {
+
+    @Param({"false", "true"})
+    private boolean protobufAliasing;
+
+    @Param({"100", "1000"})
+    private int transactions;
+
+    private byte[] bytes;
+    private String filename;
+    private ProtoRecordFileReader reader;
+
+    @Setup
+    public void setup() throws IOException {
+        var recordParserProperties = new RecordParserProperties();
+        recordParserProperties.setProtobufAliasing(protobufAliasing);
+        reader = new ProtoRecordFileReader(recordParserProperties);
+
+        var recordItemBuilder = new RecordItemBuilder();
+        var hash = HashObject.newBuilder()
+                .setAlgorithm(HashAlgorithm.SHA_384)
+                .setHash(ByteString.copyFrom(createSha384Digest().digest(new byte[0])))
+                .build();
+        var recordStreamFile = RecordStreamFile.newBuilder()
+                .setBlockNumber(1L)
+                .setEndObjectRunningHash(hash)
+                .setHapiProtoVersion(SemanticVersion.newBuilder().setMinor(64))
+                .setStartObjectRunningHash(hash);
+
+        for (int i = 0; i < transactions; i++) {
+            var builder =
+                    switch (i % 3) {
+                        case 0 -> recordItemBuilder.cryptoTransfer();
+                        case 1 -> recordItemBuilder.contractCall();
+                        default -> recordItemBuilder.consensusSubmitMessage();
+                    };
+            var recordItem = builder.build();
+            recordStreamFile.addRecordStreamItems(RecordStreamItem.newBuilder()
+                    .setRecord(recordItem.getTransactionRecord())
+                    .setTransaction(recordItem.getTransaction()));
+        }
+
+        try (var byteArrayOutputStream = new ByteArrayOutputStream();
+                var dataOutputStream = new DataOutputStream(byteArrayOutputStream)) {
+            dataOutputStream.writeInt(ProtoRecordFileReader.VERSION);
+            recordStreamFile.build().writeTo(dataOutputStream);
+            dataOutputStream.flush();
+            bytes = byteArrayOutputStream.toByteArray();
+        }
+
+        filename = StreamFilename.getFilename(StreamType.RECORD, StreamFilename.FileType.DATA, Instant.now());
+    }
+
+    @Benchmark
+    public RecordFile read() {
+        return reader.read(StreamFileData.from(filename, bytes));
+    }
+}
@@ -5,6 +5,11 @@ package org.hiero.mirror.importer.db;
 import java.util.List;
 
 public interface TimePartitionService {
+    /**
+     * Evict the cached time partitions of all tables, so they are queried again after time partitions are dropped
+     */
+    void evictTimePartitions();
+
     /**
      * Get the time partitions overlapping the range [fromTimestamp, toTimestamp]
      *
@@ -42,6 +42,12 @@ public class TimePartitionServiceImpl implements TimePartitionService {
         this.jdbcTemplate = jdbcTemplate;
     }
 
+    @Override
+    public void evictTimePartitions() {
+        cacheTimePartitionOverlap.clear();
+        cacheTimePartition.clear();
+    }
+
     @Override
     public List<TimePartition> getOverlappingTimePartitions(String tableName, long fromTimestamp, long toTimestamp) {
         String cacheKey = tableName + "-" + fromTimestamp + "-" + toTimestamp;
@@ -4,9 +4,11 @@ package org.hiero.mirror.importer.domain;
 
 import com.hederahashgraph.api.proto.java.AccountID;
 import com.hederahashgraph.api.proto.java.ContractID;
+import java.util.Collection;
 import java.util.Optional;
 import org.hiero.mirror.common.domain.entity.Entity;
 import org.hiero.mirror.common.domain.entity.EntityId;
+import org.hiero.mirror.common.domain.transaction.RecordItem;
 
 /**
  * This service is used to centralize the conversion logic from protobuf-based HAPI entities to its internal EntityId
@@ -57,6 +59,14 @@ public interface EntityIdService {
      */
     Optional<EntityId> lookup(ContractID... contractIds);
 
+    /**
+     * Resolves the aliases and EVM addresses referenced by the record items with batched queries, so their lookups
+     * while parsing the record items are served from the cache instead of querying the database one at a time.
+     *
+     * @param recordItems The record items about to be parsed
+     */
+    void prefetch(Collection<RecordItem> recordItems);
+
     /**
      * Used to notify the system of new aliases / evm addresses for potential use in future lookups.
      *
@@ -9,14 +9,23 @@ import static org.hiero.mirror.importer.config.CacheConfiguration.CACHE_ALIAS;
 import static org.hiero.mirror.importer.config.CacheConfiguration.CACHE_NAME;
 import static org.hiero.mirror.importer.util.Utility.aliasToEvmAddress;
 
+import com.google.common.collect.Iterables;
 import com.google.protobuf.ByteString;
 import com.google.protobuf.GeneratedMessage;
 import com.hederahashgraph.api.proto.java.AccountID;
 import com.hederahashgraph.api.proto.java.ContractID;
+import com.hederahashgraph.api.proto.java.TransactionBody;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.annotation.Nonnull;
 import jakarta.inject.Named;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.Callable;
 import java.util.function.Function;
 import lombok.CustomLog;
@@ -24,7 +33,9 @@ import org.apache.commons.codec.binary.Hex;
 import org.hiero.mirror.common.domain.entity.Entity;
 import org.hiero.mirror.common.domain.entity.EntityId;
 import org.hiero.mirror.common.domain.entity.EntityType;
+import org.hiero.mirror.common.domain.transaction.RecordItem;
 import org.hiero.mirror.common.util.DomainUtils;
+import org.hiero.mirror.importer.parser.record.RecordFilePipeline;
 import org.hiero.mirror.importer.repository.EntityRepository;
 import org.hiero.mirror.importer.util.Utility;
 import org.springframework.beans.factory.annotation.Qualifier;
@@ -36,13 +47,24 @@ import org.springframework.cache.CacheManager;
 public class EntityIdServiceImpl implements EntityIdService {
 
     private static final Optional<EntityId> EMPTY = Optional.of(EntityId.EMPTY);
+    private static final int PREFETCH_BATCH_SIZE = 1000;
 
     private final Cache cache;
     private final EntityRepository entityRepository;
+    private final RecordFilePipeline pipeline;
+    private final Counter prefetchMetric;
 
-    public EntityIdServiceImpl(@Qualifier(CACHE_ALIAS) CacheManager cacheManager, EntityRepository entityRepository) {
+    public EntityIdServiceImpl(
+            @Qualifier(CACHE_ALIAS) CacheManager cacheManager,
+            EntityRepository entityRepository,
+            MeterRegistry meterRegistry,
+            RecordFilePipeline pipeline) {
         this.cache = cacheManager.getCache(CACHE_NAME);
         this.entityRepository = entityRepository;
+        this.pipeline = pipeline;
+        this.prefetchMetric = Counter.builder("hiero.mirror.importer.alias.prefetch")
+                .description("The number of alias and EVM address cache misses avoided by resolving them in batch")
+                .register(meterRegistry);
     }
 
     @Override
@@ -104,7 +126,16 @@ public class EntityIdServiceImpl implements EntityIdService {
 
     private @Nonnull Optional<EntityId> cacheLookup(ByteString key, Callable<Optional<EntityId>> loader) {
         try {
-            return Objects.requireNonNullElse(cache.get(key, loader), Optional.empty());
+            // Detach the key since it may alias the buffer of a whole stream file, which the cache would then retain
+            var detached = DomainUtils.detach(key);
+
+            // The entity may have been created in a record file that's still being persisted, so wait for it before
+            // falling back to the database and caching what's found
+            if (cache.get(detached) == null) {
+                pipeline.await();
+            }
+
+            return Objects.requireNonNullElse(cache.get(detached, loader), Optional.empty());
         } catch (Cache.ValueRetrievalException e) {
             Utility.handleRecoverableError("Error looking up alias or EVM address {} from cache", key, e);
             return Optional.empty();
@@ -122,6 +153,112 @@ public class EntityIdServiceImpl implements EntityIdService {
         return EMPTY;
     }
 
+    @Override
+    public void prefetch(Collection<RecordItem> recordItems) {
+        var aliases = new HashSet<ByteString>();
+        var evmAddresses = new HashSet<ByteString>();
+
+        for (var recordItem : recordItems) {
+            collect(recordItem.getTransactionBody(), aliases, evmAddresses);
+        }
+
+        if (aliases.isEmpty() && evmAddresses.isEmpty()) {
+            return;
+        }
+
+        // Query the database only once the record file that's still being persisted, if any, is committed
+        pipeline.await();
+        int count = prefetch(aliases, entityRepository::findAllByAliasIn, AliasMapping::getAlias, AliasMapping::getId);
+        count += prefetch(
+                evmAddresses,
+                entityRepository::findAllByEvmAddressIn,
+                EvmAddressMapping::getEvmAddress,
+                EvmAddressMapping::getId);
+        prefetchMetric.increment(count);
+    }
+
+    private void collect(TransactionBody body, Set<ByteString> aliases, Set<ByteString> evmAddresses) {
+        switch (body.getDataCase()) {
+            case CONTRACTCALL -> {
+                var contractId = body.getContractCall().getContractID();
+                if (contractId.getContractCase() == ContractID.ContractCase.EVM_ADDRESS) {
+                    collect(contractId.getEvmAddress(), evmAddresses);
+                }
+            }
+            case CRYPTOTRANSFER -> {
+                var cryptoTransfer = body.getCryptoTransfer();
+                for (var accountAmount : cryptoTransfer.getTransfers().getAccountAmountsList()) {
+                    collect(accountAmount.getAccountID(), aliases, evmAddresses);
+                }
+
+                for (var tokenTransferList : cryptoTransfer.getTokenTransfersList()) {
+                    for (var accountAmount : tokenTransferList.getTransfersList()) {
+                        collect(accountAmount.getAccountID(), aliases, evmAddresses);
+                    }
+
+                    for (var nftTransfer : tokenTransferList.getNftTransfersList()) {
+                        collect(nftTransfer.getSenderAccountID(), aliases, evmAddresses);
+                        collect(nftTransfer.getReceiverAccountID(), aliases, evmAddresses);
+                    }
+                }
+            }
+            default -> {
+                // Other transactions rarely reference an alias or EVM address
+            }
+        }
+    }
+
+    private void collect(AccountID accountId, Set<ByteString> aliases, Set<ByteString> evmAddresses) {
+        if (accountId.getAccountCase() != AccountID.AccountCase.ALIAS) {
+            return;
+        }
+
+        var alias = accountId.getAlias();
+        if (alias.size() == EVM_ADDRESS_LENGTH) {
+            collect(alias, evmAddresses);
+        } else if (cache.get(alias) == null) {
+            aliases.add(alias);
+        }
+    }
+
+    private void collect(ByteString evmAddress, Set<ByteString> evmAddresses) {
+        // Long-zero EVM addresses are parsed instead of looked up
+        if (cache.get(evmAddress) == null && DomainUtils.fromEvmAddress(toBytes(evmAddress)) == null) {
+            evmAddresses.add(evmAddress);
+        }
+    }
+
+    /*
+     * Queries the entity IDs of the keys in batches and caches the ones found. Keys that aren't found or aren't unique
+     * are left to the lookup, which also reports them.
+     */
+    private <T> int prefetch(
+            Set<ByteString> keys,
+            Function<Collection<byte[]>, List<T>> finder,
+            Function<T, byte[]> keyMapper,
+            Function<T, Long> idMapper) {
+        if (keys.isEmpty()) {
+            return 0;
+        }
+
+        var found = new HashMap<ByteString, Long>();
+        var duplicates = new HashSet<ByteString>();
+
+        for (var batch : Iterables.partition(keys, PREFETCH_BATCH_SIZE)) {
+            var values = batch.stream().map(DomainUtils::toBytes).toList();
+            for (var mapping : finder.apply(values)) {
+                var key = fromBytes(keyMapper.apply(mapping));
+                if (found.put(key, idMapper.apply(mapping)) != null) {
+                    duplicates.add(key);
+                }
+            }
+        }
+
+        duplicates.forEach(found::remove);
+        found.forEach((key, id) -> cache.put(key, Optional.of(EntityId.of(id))));
+        return found.size();
+    }
+
     @Override
     public void notify(Entity entity) {
         if (entity == null || (entity.getDeleted() != null && entity.getDeleted())) {
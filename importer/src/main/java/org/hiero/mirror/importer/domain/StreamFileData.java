@@ -89,6 +89,28 @@ public class StreamFileData {
         return new ByteArrayInputStream(getDecompressedBytes());
     }
 
+    /**
+     * Returns an input stream that decompresses the bytes as they're read, so the decompressed data is never held in
+     * memory as a whole. Unlike {@link #getInputStream()}, the decompressed bytes aren't cached.
+     *
+     * @return the decompressing input stream
+     */
+    public InputStream getStreamingInputStream() {
+        var inputStream = new ByteArrayInputStream(getBytes());
+        var compressor = streamFilename.getCompressor();
+        if (StringUtils.isBlank(compressor)) {
+            return inputStream;
+        }
+
+        try {
+            return compressorStreamFactory.createCompressorInputStream(compressor, inputStream);
+        } catch (CompressorException e) {
+            var filename = streamFilename.getFilename();
+            log.error("Failed to decompress stream file {}", filename);
+            throw new InvalidStreamFileException(filename, e);
+        }
+    }
+
     public String getFilename() {
         return streamFilename.getFilename();
     }
@@ -103,16 +125,13 @@ public class StreamFileData {
     }
 
     private byte[] decompressBytes() {
-        var compressor = streamFilename.getCompressor();
-        if (StringUtils.isBlank(compressor)) {
+        if (StringUtils.isBlank(streamFilename.getCompressor())) {
             return getBytes();
         }
 
-        try (var inputStream = new ByteArrayInputStream(getBytes());
-                var compressorInputStream =
-                        compressorStreamFactory.createCompressorInputStream(compressor, inputStream)) {
-            return compressorInputStream.readAllBytes();
-        } catch (CompressorException | IOException e) {
+        try (var inputStream = getStreamingInputStream()) {
+            return inputStream.readAllBytes();
+        } catch (IOException e) {
             var filename = streamFilename.getFilename();
             log.error("Failed to decompress stream file {}", filename);
             throw new InvalidStreamFileException(filename, e);
@@ -70,10 +70,17 @@ public class CommonDownloaderProperties {
 
     private String pathPrefix = "";
 
+    @NotNull
+    @Valid
+    private PrefetchProperties prefetch = new PrefetchProperties();
+
     private String region = "us-east-1";
 
     private String secretKey;
 
+    @Min(1)
+    private int signatureVerificationThreads = 4;
+
     @NotNull
     @Valid
     private List<StreamSourceProperties> sources = new ArrayList<>();
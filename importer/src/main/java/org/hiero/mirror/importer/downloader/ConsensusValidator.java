@@ -7,4 +7,15 @@ import org.hiero.mirror.importer.domain.StreamFileSignature;
 
 public interface ConsensusValidator {
     void validate(Collection<StreamFileSignature> signatures);
+
+    /**
+     * Checks whether the signatures verified so far already satisfy the consensus requirement so the remaining
+     * signatures don't need to be verified.
+     *
+     * @param signatures a list of signature files which have the same filename
+     * @return whether the verified signatures have reached consensus
+     */
+    default boolean isConsensusReached(Collection<StreamFileSignature> signatures) {
+        return false;
+    }
 }
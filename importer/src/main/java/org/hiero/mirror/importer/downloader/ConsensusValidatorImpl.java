@@ -8,6 +8,8 @@ import jakarta.inject.Named;
 import java.math.BigDecimal;
 import java.math.RoundingMode;
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
 import lombok.CustomLog;
 import lombok.RequiredArgsConstructor;
 import org.hiero.mirror.importer.domain.StreamFileSignature;
@@ -85,6 +87,30 @@ public class ConsensusValidatorImpl implements ConsensusValidator {
                 String.format("Consensus not reached for file %s with %d/%d stake", filename, debugStake, totalStake));
     }
 
+    @Override
+    public boolean isConsensusReached(Collection<StreamFileSignature> signatures) {
+        Map<String, Long> stakes = new HashMap<>();
+        long totalStake = 0L;
+
+        for (var signature : signatures) {
+            if (signature.getStatus() == StreamFileSignature.SignatureStatus.VERIFIED) {
+                totalStake = signature.getNode().getTotalStake();
+                stakes.merge(signature.getFileHashAsHex(), signature.getNode().getStake(), Long::sum);
+            }
+        }
+
+        if (stakes.isEmpty() || totalStake == 0) {
+            return false;
+        }
+
+        if (BigDecimal.ZERO.equals(commonDownloaderProperties.getConsensusRatio())) {
+            return true;
+        }
+
+        var stakeRequiredForConsensus = getStakeRequiredForConsensus(totalStake);
+        return stakes.values().stream().anyMatch(stake -> canReachConsensus(stake, stakeRequiredForConsensus));
+    }
+
     private boolean canReachConsensus(long stake, BigDecimal stakeRequiredForConsensus) {
         return BigDecimal.valueOf(stake).compareTo(stakeRequiredForConsensus) >= 0;
     }
@@ -6,6 +6,7 @@ import static org.hiero.mirror.common.domain.DigestAlgorithm.SHA_384;
 import static org.hiero.mirror.importer.domain.StreamFileSignature.SignatureStatus;
 
 import com.google.common.base.Stopwatch;
+import com.google.common.collect.Iterables;
 import com.google.common.collect.Multimap;
 import com.google.common.collect.Ordering;
 import com.google.common.collect.Sets;
@@ -53,6 +54,7 @@ import org.hiero.mirror.importer.util.Utility;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 import reactor.core.scheduler.Schedulers;
 
 public abstract class Downloader<T extends StreamFile<I>, I extends StreamItem> {
@@ -90,6 +92,7 @@ public abstract class Downloader<T extends StreamFile<I>, I extends StreamItem>
 
     // Metrics
     private final MeterRegistry meterRegistry;
+    private final StreamFilePrefetcher prefetcher;
     private final Map<Long, Counter> nodeSignatureStatusMetricMap = new ConcurrentHashMap<>();
     private final Timer cloudStorageLatencyMetric;
     private final Timer downloadLatencyMetric;
@@ -119,6 +122,8 @@ public abstract class Downloader<T extends StreamFile<I>, I extends StreamItem>
         this.streamFileReader = streamFileReader;
         this.streamFileNotifier = streamFileNotifier;
         this.streamType = downloaderProperties.getStreamType();
+        this.prefetcher = new StreamFilePrefetcher(
+                downloaderProperties.getCommon().getPrefetch(), meterRegistry, streamFileProvider, streamType);
 
         // Metrics
         cloudStorageLatencyMetric = Timer.builder("hiero.mirror.importer.cloud.latency")
@@ -166,6 +171,8 @@ public abstract class Downloader<T extends StreamFile<I>, I extends StreamItem>
             log.warn(e.getMessage());
         } catch (Exception e) {
             log.error("Error downloading files", e);
+        } finally {
+            prefetcher.clear();
         }
     }
 
@@ -208,21 +215,18 @@ public abstract class Downloader<T extends StreamFile<I>, I extends StreamItem>
         var startAfterFilename = getStartAfterFilename();
         log.debug("Asking for new signature files created after file: {}", startAfterFilename);
 
-        final var signatures = Objects.requireNonNull(Flux.fromIterable(nodes)
-                .flatMap(node -> streamFileProvider
-                        .list(node, startAfterFilename)
-                        .take(listLimit)
-                        .map(s -> {
-                            var streamFileSignature = signatureFileReader.read(s);
-                            streamFileSignature.setNode(node);
-                            streamFileSignature.setStreamType(streamType);
-                            return streamFileSignature;
-                        })
-                        .onErrorContinue((e, s) -> log.error("Error downloading signature files for node {}", node, e)))
-                .timeout(downloaderProperties.getCommon().getTimeout())
-                .collect(this::getStreamFileSignatureMultiMap, (map, s) -> map.put(s.getFilename(), s))
-                .subscribeOn(Schedulers.parallel())
-                .block());
+        boolean prefetch = prefetcher.isEnabled() && downloaderProperties.isEnabled();
+        var prefetched = prefetch ? prefetcher.getListing(startAfterFilename) : null;
+        final var signatures = prefetched != null
+                ? prefetched
+                : Objects.requireNonNull(listSignatures(nodes, startAfterFilename, listLimit).block());
+
+        // List the next batch and download the data files of this batch while its signatures are verified
+        if (prefetch && !signatures.isEmpty()) {
+            var lastFilename = Iterables.getLast(signatures.keySet());
+            prefetcher.prefetchListing(lastFilename, listSignatures(nodes, lastFilename, listLimit));
+            prefetcher.prefetch(signatures);
+        }
 
         long total = signatures.size();
         if (total > 0) {
@@ -242,6 +246,24 @@ public abstract class Downloader<T extends StreamFile<I>, I extends StreamItem>
         return signatures;
     }
 
+    private Mono<Multimap<StreamFilename, StreamFileSignature>> listSignatures(
+            Collection<ConsensusNode> nodes, StreamFilename startAfterFilename, long listLimit) {
+        return Flux.fromIterable(nodes)
+                .flatMap(node -> streamFileProvider
+                        .list(node, startAfterFilename)
+                        .take(listLimit)
+                        .map(s -> {
+                            var streamFileSignature = signatureFileReader.read(s);
+                            streamFileSignature.setNode(node);
+                            streamFileSignature.setStreamType(streamType);
+                            return streamFileSignature;
+                        })
+                        .onErrorContinue((e, s) -> log.error("Error downloading signature files for node {}", node, e)))
+                .timeout(downloaderProperties.getCommon().getTimeout())
+                .collect(this::getStreamFileSignatureMultiMap, (map, s) -> map.put(s.getFilename(), s))
+                .subscribeOn(Schedulers.parallel());
+    }
+
     /**
      * Returns the file name in between the last signature file name that was successfully verified and the next stream
      * file to process in the cloud bucket. On startup, the last signature file name will be the last file successfully
@@ -301,6 +323,10 @@ public abstract class Downloader<T extends StreamFile<I>, I extends StreamItem>
             }
 
             boolean valid = verifySignatures(signatures);
+            if (!valid && downloaderProperties.isEnabled() && verifyRemaining(signatures)) {
+                valid = verifySignatures(signatures);
+            }
+
             if (!valid) {
                 log.error("None of the data files could be verified, signatures: {}", signatures);
             }
@@ -312,6 +338,19 @@ public abstract class Downloader<T extends StreamFile<I>, I extends StreamItem>
         }
     }
 
+    /*
+     * Signature verification stops once consensus is reached, so fall back to the data files of the remaining nodes when
+     * none of the nodes that reached consensus first had a valid data file.
+     */
+    private boolean verifyRemaining(Collection<StreamFileSignature> signatures) {
+        try {
+            return nodeSignatureVerifier.verifyRemaining(signatures);
+        } catch (SignatureVerificationException e) {
+            log.warn("Unable to verify the remaining signatures: {}", e.getMessage());
+            return false;
+        }
+    }
+
     private boolean verifySignatures(Collection<StreamFileSignature> signatures) {
         Instant endDate = importerProperties.getEndDate();
 
@@ -326,8 +365,7 @@ public abstract class Downloader<T extends StreamFile<I>, I extends StreamItem>
             try {
                 var dataFilename = signature.getDataFilename();
                 var node = signature.getNode();
-                var streamFileData = Objects.requireNonNull(
-                        streamFileProvider.get(node, dataFilename).block());
+                var streamFileData = Objects.requireNonNull(getDataFile(node, dataFilename).block());
                 T streamFile = streamFileReader.read(streamFileData);
                 streamFile.setNodeId(nodeId);
 
@@ -374,6 +412,12 @@ public abstract class Downloader<T extends StreamFile<I>, I extends StreamItem>
         return false;
     }
 
+    private Mono<StreamFileData> getDataFile(ConsensusNode node, StreamFilename dataFilename) {
+        return prefetcher.isEnabled()
+                ? prefetcher.get(node, dataFilename)
+                : streamFileProvider.get(node, dataFilename);
+    }
+
     @SuppressWarnings({"unchecked", "java:S1172"}) // Unused Parameter (node) required by subclass implementations
     protected void onVerified(StreamFileData streamFileData, T streamFile, ConsensusNode node) {
         setStreamFileIndex(streamFile);
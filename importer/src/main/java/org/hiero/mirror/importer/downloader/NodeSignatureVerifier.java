@@ -2,21 +2,64 @@
 
 package org.hiero.mirror.importer.downloader;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import jakarta.inject.Named;
+import java.io.Closeable;
+import java.security.GeneralSecurityException;
+import java.security.PublicKey;
 import java.security.Signature;
 import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Predicate;
 import lombok.CustomLog;
-import lombok.RequiredArgsConstructor;
+import org.hiero.mirror.common.domain.StreamType;
 import org.hiero.mirror.importer.domain.StreamFileSignature;
 import org.hiero.mirror.importer.domain.StreamFileSignature.SignatureStatus;
+import org.hiero.mirror.importer.domain.StreamFileSignature.SignatureType;
 import org.hiero.mirror.importer.exception.SignatureVerificationException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
 
 @Named
 @CustomLog
-@RequiredArgsConstructor
-public class NodeSignatureVerifier {
+public class NodeSignatureVerifier implements Closeable {
+
+    private static final int MAX_CACHED_SIGNATURES = 256;
 
     private final ConsensusValidator consensusValidator;
+    private final MeterRegistry meterRegistry;
+    private final int parallelism;
+    private final Scheduler scheduler;
+    private final ThreadLocal<Map<SignatureKey, Signature>> cachedSignatures = ThreadLocal.withInitial(HashMap::new);
+    private final Map<StreamType, Timer> verificationTimers = new EnumMap<>(StreamType.class);
+
+    public NodeSignatureVerifier(
+            CommonDownloaderProperties commonDownloaderProperties,
+            ConsensusValidator consensusValidator,
+            MeterRegistry meterRegistry) {
+        this.consensusValidator = consensusValidator;
+        this.meterRegistry = meterRegistry;
+        this.parallelism = commonDownloaderProperties.getSignatureVerificationThreads();
+        this.scheduler = Schedulers.newParallel("signature-verifier", parallelism, true);
+
+        for (var streamType : StreamType.values()) {
+            var timer = Timer.builder("hiero.mirror.importer.stream.signature.duration")
+                    .description("The duration in seconds it took to verify the node signatures of a stream file")
+                    .tag("type", streamType.toString())
+                    .register(meterRegistry);
+            verificationTimers.put(streamType, timer);
+        }
+    }
+
+    @Override
+    public void close() {
+        scheduler.dispose();
+    }
 
     /**
      * Verifies that the signature files satisfy the consensus requirement:
@@ -29,19 +72,93 @@ public class NodeSignatureVerifier {
      *      valid, we put the hash in its content and its file to the map, to see if at least 1/3 valid signatures have
      *      the same hash</li>
      * </ol>
+     * <p>
+     * The signatures are verified concurrently and verification stops once the verified signatures reach consensus,
+     * leaving the remaining signatures unverified.
      *
      * @param signatures a list of signature files which have the same filename
      * @throws SignatureVerificationException
      */
     public void verify(Collection<StreamFileSignature> signatures) throws SignatureVerificationException {
+        verify(signatures, signatures, true);
+    }
+
+    /**
+     * Verifies the signatures that were skipped once consensus was reached, so the data file can be downloaded from the
+     * remaining nodes when it couldn't be verified from the nodes that reached consensus first.
+     *
+     * @param signatures a list of signature files which have the same filename
+     * @return whether there were any skipped signatures to verify
+     * @throws SignatureVerificationException
+     */
+    public boolean verifyRemaining(Collection<StreamFileSignature> signatures) throws SignatureVerificationException {
+        var remaining = signatures.stream()
+                .filter(s -> s.getStatus() == SignatureStatus.DOWNLOADED)
+                .toList();
+
+        if (remaining.isEmpty()) {
+            return false;
+        }
+
+        // Consensus is validated again over all of the verified signatures
+        signatures.stream()
+                .filter(s -> s.getStatus() == SignatureStatus.CONSENSUS_REACHED)
+                .forEach(s -> s.setStatus(SignatureStatus.VERIFIED));
+        verify(signatures, remaining, false);
+        return true;
+    }
+
+    private void verify(
+            Collection<StreamFileSignature> signatures,
+            Collection<StreamFileSignature> unverified,
+            boolean stopAtConsensus) {
+        var sample = Timer.start(meterRegistry);
+        var streamType = signatures.isEmpty() ? null : signatures.iterator().next().getStreamType();
+        Predicate<StreamFileSignature> consensusReached =
+                s -> stopAtConsensus && consensusValidator.isConsensusReached(signatures);
 
-        for (StreamFileSignature streamFileSignature : signatures) {
+        try {
+            if (parallelism > 1 && unverified.size() > 1) {
+                verifyParallel(unverified, consensusReached);
+            } else {
+                verifySerial(unverified, consensusReached);
+            }
+
+            consensusValidator.validate(signatures);
+        } finally {
+            var timer = verificationTimers.get(streamType);
+            if (timer != null) {
+                sample.stop(timer);
+            }
+        }
+    }
+
+    private void verifySerial(
+            Collection<StreamFileSignature> unverified, Predicate<StreamFileSignature> consensusReached) {
+        for (StreamFileSignature streamFileSignature : unverified) {
             if (verifySignature(streamFileSignature)) {
                 streamFileSignature.setStatus(SignatureStatus.VERIFIED);
+
+                if (consensusReached.test(streamFileSignature)) {
+                    return;
+                }
             }
         }
+    }
 
-        consensusValidator.validate(signatures);
+    private void verifyParallel(
+            Collection<StreamFileSignature> unverified, Predicate<StreamFileSignature> consensusReached) {
+        // Statuses are only updated and checked on the serialized flatMap output, so no further locking is needed
+        Flux.fromIterable(unverified)
+                .flatMap(
+                        s -> Mono.fromCallable(() -> verifySignature(s))
+                                .subscribeOn(scheduler)
+                                .filter(Boolean::booleanValue)
+                                .map(v -> s),
+                        parallelism)
+                .doOnNext(s -> s.setStatus(SignatureStatus.VERIFIED))
+                .takeUntil(consensusReached)
+                .blockLast();
     }
 
     /**
@@ -63,13 +180,12 @@ public class NodeSignatureVerifier {
             return false;
         }
 
+        var key = new SignatureKey(publicKey, streamFileSignature.getSignatureType());
+
         try {
             log.trace("Verifying signature: {}", streamFileSignature);
 
-            Signature sig = Signature.getInstance(
-                    streamFileSignature.getSignatureType().getAlgorithm(),
-                    streamFileSignature.getSignatureType().getProvider());
-            sig.initVerify(publicKey);
+            Signature sig = getSignature(key);
             sig.update(streamFileSignature.getFileHash());
 
             if (!sig.verify(streamFileSignature.getFileHashSignature())) {
@@ -83,8 +199,35 @@ public class NodeSignatureVerifier {
 
             return true;
         } catch (Exception e) {
+            // The signature may be left partially updated so don't reuse it
+            cachedSignatures.get().remove(key);
             log.error("Failed to verify signature with public key {}: {}", publicKey, streamFileSignature, e);
         }
         return false;
     }
+
+    /*
+     * A Signature is reset to its initialized state after each verify() call, so it can be reused by the same thread
+     * for the next signature from the same node instead of creating and initializing a new one.
+     */
+    private Signature getSignature(SignatureKey key) throws GeneralSecurityException {
+        var cache = cachedSignatures.get();
+        var signature = cache.get(key);
+
+        if (signature == null) {
+            var signatureType = key.signatureType();
+            signature = Signature.getInstance(signatureType.getAlgorithm(), signatureType.getProvider());
+            signature.initVerify(key.publicKey());
+
+            if (cache.size() >= MAX_CACHED_SIGNATURES) {
+                cache.clear(); // Node keys only change with the address book, so simply start over
+            }
+
+            cache.put(key, signature);
+        }
+
+        return signature;
+    }
+
+    private record SignatureKey(PublicKey publicKey, SignatureType signatureType) {}
 }
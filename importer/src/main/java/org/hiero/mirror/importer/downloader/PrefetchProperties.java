@@ -0,0 +1,22 @@
+// SPDX-License-Identifier: Apache-2.0
+
+package org.hiero.mirror.importer.downloader;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.Data;
+import org.springframework.util.unit.DataSize;
+import org.springframework.validation.annotation.Validated;
+
+@Data
+@Validated
+public class PrefetchProperties {
+
+    private boolean enabled = false;
+
+    @Min(1)
+    private int maxConcurrency = 16;
+
+    @NotNull
+    private DataSize maxSize = DataSize.ofMegabytes(256);
+}
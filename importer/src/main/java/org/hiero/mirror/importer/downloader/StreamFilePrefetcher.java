@@ -0,0 +1,322 @@
+// SPDX-License-Identifier: Apache-2.0
+
+package org.hiero.mirror.importer.downloader;
+
+import com.google.common.collect.Multimap;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import javax.annotation.Nullable;
+import lombok.CustomLog;
+import org.hiero.mirror.common.domain.StreamType;
+import org.hiero.mirror.importer.addressbook.ConsensusNode;
+import org.hiero.mirror.importer.domain.StreamFileData;
+import org.hiero.mirror.importer.domain.StreamFileSignature;
+import org.hiero.mirror.importer.domain.StreamFilename;
+import org.hiero.mirror.importer.downloader.provider.StreamFileProvider;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+
+/**
+ * Downloads stream files ahead of the downloader so that catching up from a cloud bucket isn't bound by its latency.
+ * The data file of each signature group is requested from the first node in the group before the group is verified,
+ * and the next signature listing is requested while the current batch is being verified.
+ * <p>
+ * The number of concurrent data file downloads adapts to the observed download latency relative to the rate at which
+ * the downloader consumes them, and the bytes held by in flight and downloaded files are bounded by the configured
+ * memory budget. Methods are synchronized since downloads complete on other threads.
+ */
+@CustomLog
+class StreamFilePrefetcher {
+
+    private static final double ALPHA = 0.2; // Weight of the latest sample in the moving averages
+    private static final long INITIAL_SIZE = 1024L * 1024L;
+    private static final String METRIC_NAME = "hiero.mirror.importer.downloader.prefetch";
+
+    private final Counter dataHitMetric;
+    private final Counter dataMissMetric;
+    private final Counter listingHitMetric;
+    private final Counter listingMissMetric;
+    private final Map<PrefetchKey, ConsensusNode> pending = new LinkedHashMap<>();
+    private final Map<PrefetchKey, Prefetch> prefetches = new HashMap<>();
+    private final PrefetchProperties properties;
+    private final StreamFileProvider streamFileProvider;
+
+    private double averageInterval;
+    private double averageLatency;
+    private double averageSize = INITIAL_SIZE;
+    private long generation;
+    private int inFlight;
+    private long lastConsumed;
+    private Listing listing;
+    private long reservedBytes;
+
+    StreamFilePrefetcher(
+            PrefetchProperties properties,
+            MeterRegistry meterRegistry,
+            StreamFileProvider streamFileProvider,
+            StreamType streamType) {
+        this.properties = properties;
+        this.streamFileProvider = streamFileProvider;
+
+        var type = streamType.toString();
+        dataHitMetric = counter(meterRegistry, type, "data", "hit");
+        dataMissMetric = counter(meterRegistry, type, "data", "miss");
+        listingHitMetric = counter(meterRegistry, type, "listing", "hit");
+        listingMissMetric = counter(meterRegistry, type, "listing", "miss");
+
+        Gauge.builder(METRIC_NAME + ".bytes", this, StreamFilePrefetcher::getReservedBytes)
+                .description("The bytes reserved by in flight and downloaded stream files that have not been consumed")
+                .tag("type", type)
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        Gauge.builder(METRIC_NAME + ".concurrency", this, StreamFilePrefetcher::getConcurrency)
+                .description("The current maximum number of concurrent stream file downloads")
+                .tag("type", type)
+                .register(meterRegistry);
+        Gauge.builder(METRIC_NAME + ".queue", this, StreamFilePrefetcher::getQueueDepth)
+                .description("The number of stream files waiting to be downloaded, in flight or downloaded")
+                .tag("type", type)
+                .register(meterRegistry);
+    }
+
+    boolean isEnabled() {
+        return properties.isEnabled();
+    }
+
+    /**
+     * Queues the data files of the signature groups for download in order.
+     *
+     * @param signatures the signatures grouped by filename
+     */
+    synchronized void prefetch(Multimap<StreamFilename, StreamFileSignature> signatures) {
+        for (var filename : signatures.keySet()) {
+            var signature = signatures.get(filename).iterator().next();
+            var node = signature.getNode();
+            var key = new PrefetchKey(node.getNodeId(), signature.getDataFilename());
+
+            if (!prefetches.containsKey(key)) {
+                pending.putIfAbsent(key, node);
+            }
+        }
+
+        drain();
+    }
+
+    /**
+     * Gets the data file from the prefetched downloads, falling back to downloading it directly if it wasn't
+     * prefetched.
+     *
+     * @param node         the consensus node to download from
+     * @param dataFilename the data filename
+     * @return the stream file data
+     */
+    Mono<StreamFileData> get(ConsensusNode node, StreamFilename dataFilename) {
+        Prefetch prefetch;
+
+        synchronized (this) {
+            var key = new PrefetchKey(node.getNodeId(), dataFilename);
+            pending.remove(key);
+            prefetch = prefetches.remove(key);
+
+            long now = System.nanoTime();
+            if (lastConsumed > 0) {
+                averageInterval = average(averageInterval, now - lastConsumed);
+            }
+            lastConsumed = now;
+
+            if (prefetch != null) {
+                prefetch.consumed = true;
+                reservedBytes -= prefetch.reserved;
+                prefetch.reserved = 0;
+            }
+
+            drain();
+        }
+
+        if (prefetch == null) {
+            dataMissMetric.increment();
+            return streamFileProvider.get(node, dataFilename);
+        }
+
+        dataHitMetric.increment();
+        return prefetch.data;
+    }
+
+    /**
+     * Gets the signatures listed ahead of time if they were listed after the same file and found any signatures.
+     *
+     * @param startAfter the filename to search after
+     * @return the prefetched signatures or null if they need to be listed again
+     */
+    @Nullable
+    Multimap<StreamFilename, StreamFileSignature> getListing(StreamFilename startAfter) {
+        Listing current;
+
+        synchronized (this) {
+            current = listing;
+            listing = null;
+        }
+
+        if (current == null) {
+            return null;
+        }
+
+        if (current.startAfter().getFilenameAfter().equals(startAfter.getFilenameAfter())) {
+            var signatures = current.signatures().block();
+            if (signatures != null && !signatures.isEmpty()) {
+                listingHitMetric.increment();
+                return signatures;
+            }
+        }
+
+        listingMissMetric.increment();
+        return null;
+    }
+
+    /**
+     * Starts listing the signatures after the given file while the current batch is verified.
+     *
+     * @param startAfter the last signature filename of the current batch
+     * @param signatures the listing of the next signatures
+     */
+    void prefetchListing(StreamFilename startAfter, Mono<Multimap<StreamFilename, StreamFileSignature>> signatures) {
+        var cached = signatures
+                .onErrorResume(e -> {
+                    log.warn("Error prefetching signatures after {}: {}", startAfter, e.getMessage());
+                    return Mono.empty();
+                })
+                .cache();
+        cached.subscribe();
+
+        synchronized (this) {
+            listing = new Listing(startAfter, cached);
+        }
+    }
+
+    /**
+     * Discards the queued and downloaded data files that weren't consumed by the current batch to free their memory.
+     */
+    synchronized void clear() {
+        pending.clear();
+        prefetches.values().forEach(p -> p.disposable.dispose());
+        prefetches.clear();
+        generation++;
+        inFlight = 0;
+        lastConsumed = 0;
+        reservedBytes = 0;
+    }
+
+    synchronized int getConcurrency() {
+        int max = properties.getMaxConcurrency();
+        if (averageInterval <= 0) {
+            return Math.min(2, max);
+        }
+
+        // Little's law plus one so the next file is already downloaded by the time it's needed
+        int concurrency = (int) Math.ceil(averageLatency / averageInterval) + 1;
+        return Math.clamp(concurrency, 1, max);
+    }
+
+    synchronized int getQueueDepth() {
+        return pending.size() + prefetches.size();
+    }
+
+    synchronized long getReservedBytes() {
+        return reservedBytes;
+    }
+
+    private void drain() {
+        int concurrency = getConcurrency();
+        long maxBytes = properties.getMaxSize().toBytes();
+
+        while (!pending.isEmpty() && inFlight < concurrency) {
+            long estimate = (long) averageSize;
+            if (reservedBytes > 0 && reservedBytes + estimate > maxBytes) {
+                return;
+            }
+
+            var iterator = pending.entrySet().iterator();
+            var entry = iterator.next();
+            iterator.remove();
+            var key = entry.getKey();
+            var prefetch = new Prefetch(key, entry.getValue(), estimate);
+            inFlight++;
+            reservedBytes += estimate;
+            prefetches.put(key, prefetch);
+            prefetch.start();
+        }
+    }
+
+    private synchronized void onComplete(Prefetch prefetch, @Nullable StreamFileData streamFileData, long start) {
+        if (prefetch.generation != generation) {
+            return; // Cleared while in flight
+        }
+
+        inFlight = Math.max(0, inFlight - 1);
+        averageLatency = average(averageLatency, System.nanoTime() - start);
+
+        if (streamFileData != null) {
+            long size = streamFileData.getBytes().length;
+            averageSize = average(averageSize, size);
+
+            if (!prefetch.consumed) {
+                reservedBytes += size - prefetch.reserved;
+                prefetch.reserved = size;
+            }
+        } else if (!prefetch.consumed) {
+            // Let the downloader retry the download itself
+            prefetches.remove(prefetch.key);
+            reservedBytes -= prefetch.reserved;
+            prefetch.reserved = 0;
+        }
+
+        drain();
+    }
+
+    private double average(double average, double sample) {
+        return average <= 0 ? sample : ALPHA * sample + (1 - ALPHA) * average;
+    }
+
+    private Counter counter(MeterRegistry meterRegistry, String type, String item, String result) {
+        return Counter.builder(METRIC_NAME)
+                .description("The number of stream file downloads that were or were not prefetched")
+                .tag("item", item)
+                .tag("result", result)
+                .tag("type", type)
+                .register(meterRegistry);
+    }
+
+    private record Listing(StreamFilename startAfter, Mono<Multimap<StreamFilename, StreamFileSignature>> signatures) {}
+
+    private record PrefetchKey(long nodeId, StreamFilename dataFilename) {}
+
+    private class Prefetch {
+
+        private final Mono<StreamFileData> data;
+        private final long generation = StreamFilePrefetcher.this.generation;
+        private final PrefetchKey key;
+        private boolean consumed;
+        private Disposable disposable;
+        private long reserved;
+
+        private Prefetch(PrefetchKey key, ConsensusNode node, long reserved) {
+            this.key = key;
+            this.reserved = reserved;
+
+            long start = System.nanoTime();
+            this.data = streamFileProvider
+                    .get(node, key.dataFilename())
+                    .doOnSuccess(d -> onComplete(this, d, start))
+                    .doOnError(e -> onComplete(this, null, start))
+                    .cache();
+        }
+
+        private void start() {
+            disposable = data.subscribe(null, e -> log.debug("Error prefetching {}", key.dataFilename(), e));
+        }
+    }
+}
@@ -36,6 +36,8 @@ abstract class AbstractBlockSource implements BlockSource {
         var blockFile = blockStreamReader.read(blockStream);
         if (!properties.isPersistBytes()) {
             blockFile.setBytes(null);
+        } else if (blockFile.getBytes() == null) {
+            blockFile.setBytes(blockStream.serializeBlock());
         }
 
         blockStreamVerifier.verify(blockFile);
@@ -3,7 +3,11 @@
 package org.hiero.mirror.importer.downloader.block;
 
 import com.google.common.base.Stopwatch;
+import com.google.protobuf.ByteString;
+import com.google.protobuf.UnsafeByteOperations;
+import com.google.protobuf.WireFormat;
 import com.hedera.hapi.block.stream.protoc.Block;
+import com.hedera.hapi.block.stream.protoc.BlockItem;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Timer;
 import jakarta.inject.Named;
@@ -14,6 +18,7 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import org.hiero.mirror.common.domain.StreamType;
+import org.hiero.mirror.common.util.DomainUtils;
 import org.hiero.mirror.importer.addressbook.ConsensusNode;
 import org.hiero.mirror.importer.addressbook.ConsensusNodeService;
 import org.hiero.mirror.importer.domain.StreamFileData;
@@ -22,6 +27,7 @@ import org.hiero.mirror.importer.downloader.CommonDownloaderProperties;
 import org.hiero.mirror.importer.downloader.provider.StreamFileProvider;
 import org.hiero.mirror.importer.downloader.provider.TransientProviderException;
 import org.hiero.mirror.importer.exception.BlockStreamException;
+import org.hiero.mirror.importer.parser.record.RecordParserProperties;
 import org.hiero.mirror.importer.reader.block.BlockStream;
 import org.hiero.mirror.importer.reader.block.BlockStreamReader;
 import org.hiero.mirror.importer.util.Utility;
@@ -29,7 +35,11 @@ import org.hiero.mirror.importer.util.Utility;
 @Named
 final class BlockFileSource extends AbstractBlockSource {
 
+    // The protobuf tag of the repeated items field, the field number followed by the 3 bit wire type
+    private static final int BLOCK_ITEM_TAG = (Block.ITEMS_FIELD_NUMBER << 3) | WireFormat.WIRETYPE_LENGTH_DELIMITED;
+
     private final ConsensusNodeService consensusNodeService;
+    private final RecordParserProperties recordParserProperties;
     private final StreamFileProvider streamFileProvider;
 
     // metrics
@@ -43,9 +53,11 @@ final class BlockFileSource extends AbstractBlockSource {
             ConsensusNodeService consensusNodeService,
             MeterRegistry meterRegistry,
             BlockProperties properties,
+            RecordParserProperties recordParserProperties,
             StreamFileProvider streamFileProvider) {
         super(blockStreamReader, blockStreamVerifier, commonDownloaderProperties, properties);
         this.consensusNodeService = consensusNodeService;
+        this.recordParserProperties = recordParserProperties;
         this.streamFileProvider = streamFileProvider;
 
         cloudStorageLatencyMetric = Timer.builder("hiero.mirror.importer.cloud.latency")
@@ -117,17 +129,36 @@ final class BlockFileSource extends AbstractBlockSource {
         throw new BlockStreamException("Failed to download block file " + filename);
     }
 
+    /*
+     * Parses the block items one by one instead of parsing the whole block so the serialized bytes of each block item
+     * are kept for calculating the block root hash without serializing them again.
+     */
     private BlockStream getBlockStream(StreamFileData blockFileData, long nodeId) throws IOException {
-        try (var inputStream = blockFileData.getInputStream()) {
-            var block = Block.parseFrom(inputStream);
-            byte[] bytes = blockFileData.getBytes();
-            return new BlockStream(
-                    block.getItemsList(),
-                    bytes,
-                    blockFileData.getFilename(),
-                    blockFileData.getStreamFilename().getTimestamp(),
-                    nodeId);
+        // Wrapping the buffer marks it as immutable so the block item bytes alias it instead of being copied
+        var input = UnsafeByteOperations.unsafeWrap(blockFileData.getDecompressedBytes()).newCodedInput();
+        input.enableAliasing(true);
+        List<BlockItem> blockItems = new ArrayList<>();
+        List<ByteString> blockItemBytes = new ArrayList<>();
+        boolean protobufAliasing = recordParserProperties.isProtobufAliasing();
+
+        for (int tag = input.readTag(); tag != 0; tag = input.readTag()) {
+            if (tag == BLOCK_ITEM_TAG) {
+                var bytes = input.readBytes();
+                // The block item bytes are retained anyway, so aliasing them in its bytes fields adds no retention
+                blockItems.add(DomainUtils.parse(BlockItem.parser(), bytes, protobufAliasing));
+                blockItemBytes.add(bytes);
+            } else if (!input.skipField(tag)) {
+                break;
+            }
         }
+
+        return new BlockStream(
+                blockItems,
+                blockItemBytes,
+                blockFileData.getBytes(),
+                blockFileData.getFilename(),
+                blockFileData.getStreamFilename().getTimestamp(),
+                nodeId);
     }
 
     private List<ConsensusNode> getRandomizedNodes() {
@@ -7,9 +7,11 @@ import static com.hedera.hapi.block.stream.protoc.BlockItem.ItemCase.BLOCK_PROOF
 import static com.hedera.hapi.block.stream.protoc.BlockItem.ItemCase.RECORD_FILE;
 
 import com.google.common.base.Stopwatch;
+import com.google.protobuf.ByteString;
 import com.hedera.hapi.block.stream.protoc.BlockItem;
 import io.grpc.CallOptions;
 import io.grpc.ManagedChannel;
+import io.grpc.MethodDescriptor;
 import io.grpc.stub.BlockingClientCall;
 import io.grpc.stub.ClientCalls;
 import java.time.Duration;
@@ -41,6 +43,16 @@ final class BlockNode implements AutoCloseable, Comparable<BlockNode> {
     private static final Comparator<BlockNode> COMPARATOR = Comparator.comparing(blockNode -> blockNode.properties);
     private static final ServerStatusRequest SERVER_STATUS_REQUEST = ServerStatusRequest.getDefaultInstance();
     private static final long UNKNOWN_NODE_ID = -1;
+    private static final MethodDescriptor<SubscribeStreamRequest, SubscribeStreamResponseMarshaller.Response>
+            SUBSCRIBE_BLOCK_STREAM_METHOD;
+
+    static {
+        var method = BlockStreamSubscribeServiceGrpc.getSubscribeBlockStreamMethod();
+        SUBSCRIBE_BLOCK_STREAM_METHOD = method.toBuilder(
+                        method.getRequestMarshaller(), SubscribeStreamResponseMarshaller.INSTANCE)
+                .build();
+    }
+
     private final ManagedChannel channel;
     private final AtomicInteger errors = new AtomicInteger();
     private final BlockNodeProperties properties;
@@ -88,7 +100,8 @@ final class BlockNode implements AutoCloseable, Comparable<BlockNode> {
             long blockNumber,
             CommonDownloaderProperties commonDownloaderProperties,
             Consumer<BlockStream> onBlockStream) {
-        var grpcCall = new AtomicReference<BlockingClientCall<SubscribeStreamRequest, SubscribeStreamResponse>>();
+        var grpcCall = new AtomicReference<
+                BlockingClientCall<SubscribeStreamRequest, SubscribeStreamResponseMarshaller.Response>>();
 
         try {
             long endBlockNumber = Objects.requireNonNullElse(
@@ -99,18 +112,16 @@ final class BlockNode implements AutoCloseable, Comparable<BlockNode> {
                     .setStartBlockNumber(blockNumber)
                     .build();
             grpcCall.set(ClientCalls.blockingV2ServerStreamingCall(
-                    channel,
-                    BlockStreamSubscribeServiceGrpc.getSubscribeBlockStreamMethod(),
-                    CallOptions.DEFAULT,
-                    request));
-            SubscribeStreamResponse response;
+                    channel, SUBSCRIBE_BLOCK_STREAM_METHOD, CallOptions.DEFAULT, request));
+            SubscribeStreamResponseMarshaller.Response received;
 
             boolean serverSuccess = false;
             while (!serverSuccess
-                    && (response = grpcCall.get().read(assembler.timeout(), TimeUnit.MILLISECONDS)) != null) {
+                    && (received = grpcCall.get().read(assembler.timeout(), TimeUnit.MILLISECONDS)) != null) {
+                var response = received.response();
                 switch (response.getResponseCase()) {
                     case BLOCK_ITEMS -> {
-                        var blockStream = assembler.assemble(response.getBlockItems());
+                        var blockStream = assembler.assemble(response.getBlockItems(), received.blockItemBytes());
                         if (blockStream != null) {
                             onBlockStream.accept(blockStream);
                         }
@@ -178,6 +189,7 @@ final class BlockNode implements AutoCloseable, Comparable<BlockNode> {
     private class BlockAssembler {
 
         private final List<List<BlockItem>> pending = new ArrayList<>();
+        private final List<List<ByteString>> pendingBytes = new ArrayList<>();
         private final Stopwatch stopwatch;
         private final Duration timeout;
         private long loadStart;
@@ -188,7 +200,7 @@ final class BlockNode implements AutoCloseable, Comparable<BlockNode> {
             this.timeout = timeout;
         }
 
-        BlockStream assemble(BlockItemSet blockItemSet) {
+        BlockStream assemble(BlockItemSet blockItemSet, List<ByteString> blockItemBytes) {
             var blockItems = blockItemSet.getBlockItemsList();
             if (blockItems.isEmpty()) {
                 log.warn("Received empty BlockItemSet from block node");
@@ -196,7 +208,7 @@ final class BlockNode implements AutoCloseable, Comparable<BlockNode> {
             }
 
             var firstItemCase = blockItems.getFirst().getItemCase();
-            append(blockItems, firstItemCase);
+            append(blockItems, blockItemBytes, firstItemCase);
 
             if (firstItemCase == BLOCK_HEADER || firstItemCase == RECORD_FILE) {
                 loadStart = System.currentTimeMillis();
@@ -207,24 +219,29 @@ final class BlockNode implements AutoCloseable, Comparable<BlockNode> {
             }
 
             List<BlockItem> block;
+            List<ByteString> blockBytes;
             if (pending.size() == 1) {
                 block = pending.getFirst();
+                blockBytes = pendingBytes.getFirst();
             } else {
                 // assemble when there are more than one BlockItemSet
-                block = new ArrayList<>();
-                for (var items : pending) {
-                    block.addAll(items);
+                block = new ArrayList<>(pendingCount);
+                blockBytes = new ArrayList<>(pendingCount);
+                for (int i = 0; i < pending.size(); i++) {
+                    block.addAll(pending.get(i));
+                    blockBytes.addAll(pendingBytes.get(i));
                 }
             }
 
             pending.clear();
+            pendingBytes.clear();
             pendingCount = 0;
             stopwatch.reset();
 
             var filename = firstItemCase != RECORD_FILE
                     ? BlockFile.getFilename(block.getFirst().getBlockHeader().getNumber(), false)
                     : null;
-            return new BlockStream(block, null, filename, loadStart, UNKNOWN_NODE_ID);
+            return new BlockStream(block, blockBytes, null, filename, loadStart, UNKNOWN_NODE_ID);
         }
 
         long timeout() {
@@ -236,7 +253,8 @@ final class BlockNode implements AutoCloseable, Comparable<BlockNode> {
             return timeout.toMillis() - stopwatch.elapsed(TimeUnit.MILLISECONDS);
         }
 
-        private void append(List<BlockItem> blockItems, BlockItem.ItemCase firstItemCase) {
+        private void append(
+                List<BlockItem> blockItems, List<ByteString> blockItemBytes, BlockItem.ItemCase firstItemCase) {
             if ((firstItemCase == BLOCK_HEADER || firstItemCase == RECORD_FILE) && !pending.isEmpty()) {
                 throw new BlockStreamException(
                         "Received block items of a new block while the previous block is still pending");
@@ -247,7 +265,14 @@ final class BlockNode implements AutoCloseable, Comparable<BlockNode> {
                         "The first block item is record file and there are more than one block items");
             }
 
+            if (blockItemBytes.size() != blockItems.size()) {
+                throw new BlockStreamException(String.format(
+                        "Mismatched block item bytes: received %d block items and %d serialized block items",
+                        blockItems.size(), blockItemBytes.size()));
+            }
+
             pending.add(blockItems);
+            pendingBytes.add(blockItemBytes);
             pendingCount += blockItems.size();
             if (pendingCount > streamProperties.getMaxBlockItems()) {
                 throw new BlockStreamException(String.format(
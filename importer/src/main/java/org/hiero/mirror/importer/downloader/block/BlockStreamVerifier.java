@@ -17,7 +17,9 @@ import org.hiero.mirror.common.domain.transaction.BlockFile;
 import org.hiero.mirror.importer.downloader.StreamFileNotifier;
 import org.hiero.mirror.importer.exception.HashMismatchException;
 import org.hiero.mirror.importer.exception.InvalidStreamFileException;
+import org.hiero.mirror.importer.parser.record.RecordFileFlushFailedEvent;
 import org.hiero.mirror.importer.repository.RecordFileRepository;
+import org.springframework.context.event.EventListener;
 
 @Named
 public class BlockStreamVerifier {
@@ -71,6 +73,15 @@ public class BlockStreamVerifier {
         });
     }
 
+    /**
+     * Resumes verifying from the last record file in the database since the verified blocks after it were not
+     * persisted.
+     */
+    @EventListener
+    public void onFlushFailed(RecordFileFlushFailedEvent event) {
+        lastBlockFile.set(Optional.empty());
+    }
+
     public void verify(@NotNull BlockFile blockFile) {
         var startTime = Instant.now();
         boolean success = true;
@@ -0,0 +1,103 @@
+// SPDX-License-Identifier: Apache-2.0
+
+package org.hiero.mirror.importer.downloader.block;
+
+import com.google.protobuf.ByteString;
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.UnsafeByteOperations;
+import com.google.protobuf.WireFormat;
+import io.grpc.MethodDescriptor;
+import io.grpc.Status;
+import io.grpc.protobuf.ProtoUtils;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import org.hiero.block.api.protoc.BlockItemSet;
+import org.hiero.block.api.protoc.SubscribeStreamResponse;
+
+/**
+ * Parses subscribe stream responses while keeping the serialized bytes of each block item as received. The bytes are
+ * slices of the received buffer, and the parsed messages alias it as well, so the block items don't need to be
+ * serialized again to calculate the block hash or size.
+ */
+final class SubscribeStreamResponseMarshaller
+        implements MethodDescriptor.Marshaller<SubscribeStreamResponseMarshaller.Response> {
+
+    static final SubscribeStreamResponseMarshaller INSTANCE = new SubscribeStreamResponseMarshaller();
+
+    private static final int BLOCK_ITEM_SET_TAG = tag(SubscribeStreamResponse.BLOCK_ITEMS_FIELD_NUMBER);
+    private static final int BLOCK_ITEM_TAG = tag(BlockItemSet.BLOCK_ITEMS_FIELD_NUMBER);
+    private static final MethodDescriptor.Marshaller<SubscribeStreamResponse> DELEGATE =
+            ProtoUtils.marshaller(SubscribeStreamResponse.getDefaultInstance());
+
+    private SubscribeStreamResponseMarshaller() {}
+
+    @Override
+    public InputStream stream(Response value) {
+        return DELEGATE.stream(value.response());
+    }
+
+    @Override
+    public Response parse(InputStream stream) {
+        try {
+            var bytes = stream.readAllBytes();
+            var response = SubscribeStreamResponse.parseFrom(newCodedInput(bytes));
+            var blockItemBytes = response.hasBlockItems() ? getBlockItemBytes(bytes) : List.<ByteString>of();
+            return new Response(response, blockItemBytes);
+        } catch (IOException e) {
+            throw Status.INTERNAL
+                    .withDescription("Invalid protobuf byte sequence")
+                    .withCause(e)
+                    .asRuntimeException();
+        }
+    }
+
+    private static List<ByteString> getBlockItemBytes(byte[] bytes) throws IOException {
+        var input = newCodedInput(bytes);
+
+        for (int tag = input.readTag(); tag != 0; tag = input.readTag()) {
+            if (tag != BLOCK_ITEM_SET_TAG) {
+                input.skipField(tag);
+                continue;
+            }
+
+            var blockItemSet = input.readBytes().newCodedInput();
+            blockItemSet.enableAliasing(true);
+            List<ByteString> blockItemBytes = new ArrayList<>();
+
+            for (int itemTag = blockItemSet.readTag(); itemTag != 0; itemTag = blockItemSet.readTag()) {
+                if (itemTag == BLOCK_ITEM_TAG) {
+                    blockItemBytes.add(blockItemSet.readBytes());
+                } else {
+                    blockItemSet.skipField(itemTag);
+                }
+            }
+
+            return blockItemBytes;
+        }
+
+        return Collections.emptyList();
+    }
+
+    // Wrapping the buffer marks it as immutable, which is required for the parsed bytes to alias it instead of copying
+    private static CodedInputStream newCodedInput(byte[] bytes) {
+        var input = UnsafeByteOperations.unsafeWrap(bytes).newCodedInput();
+        input.enableAliasing(true);
+        return input;
+    }
+
+    // The protobuf tag of a length delimited field, the field number followed by the 3 bit wire type
+    private static int tag(int fieldNumber) {
+        return (fieldNumber << 3) | WireFormat.WIRETYPE_LENGTH_DELIMITED;
+    }
+
+    /**
+     * A subscribe stream response along with the serialized bytes of its block items.
+     *
+     * @param response       the parsed response
+     * @param blockItemBytes the serialized bytes of each block item in the same order as the parsed block items
+     */
+    record Response(SubscribeStreamResponse response, List<ByteString> blockItemBytes) {}
+}
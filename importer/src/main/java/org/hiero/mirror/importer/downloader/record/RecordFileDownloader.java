@@ -9,6 +9,7 @@ import com.hedera.services.stream.proto.TransactionSidecarRecord;
 import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.inject.Named;
 import java.util.Arrays;
+import java.util.Optional;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import org.hiero.mirror.common.domain.transaction.RecordFile;
@@ -26,6 +27,7 @@ import org.hiero.mirror.importer.downloader.StreamFileNotifier;
 import org.hiero.mirror.importer.downloader.provider.StreamFileProvider;
 import org.hiero.mirror.importer.exception.HashMismatchException;
 import org.hiero.mirror.importer.leader.Leader;
+import org.hiero.mirror.importer.parser.record.RecordFileFlushFailedEvent;
 import org.hiero.mirror.importer.parser.record.sidecar.SidecarProperties;
 import org.hiero.mirror.importer.reader.record.ProtoRecordFileReader;
 import org.hiero.mirror.importer.reader.record.RecordFileReader;
@@ -33,6 +35,7 @@ import org.hiero.mirror.importer.reader.record.sidecar.SidecarFileReader;
 import org.hiero.mirror.importer.reader.signature.SignatureFileReader;
 import org.hiero.mirror.importer.util.Utility;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.event.EventListener;
 import org.springframework.scheduling.annotation.Scheduled;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
@@ -85,6 +88,16 @@ public class RecordFileDownloader extends Downloader<RecordFile, RecordItem> {
         downloadNextBatch();
     }
 
+    /**
+     * Resumes downloading after the last record file in the database since the verified files after it were not
+     * persisted.
+     */
+    @EventListener
+    public void onFlushFailed(RecordFileFlushFailedEvent event) {
+        log.warn("Resetting the last record file after failing to persist {}", event.getFilename());
+        lastStreamFile.set(Optional.empty());
+    }
+
     @Override
     protected void onVerified(StreamFileData streamFileData, RecordFile recordFile, ConsensusNode node) {
         downloadSidecars(streamFileData.getStreamFilename(), recordFile, node);
@@ -0,0 +1,17 @@
+// SPDX-License-Identifier: Apache-2.0
+
+package org.hiero.mirror.importer.exception;
+
+/**
+ * Signals that a record file persisted in the background by the pipelined parser failed, so the stream files parsed
+ * after it can't be accepted until the failed file is delivered again. It's not retried by the parser.
+ */
+@SuppressWarnings("java:S110")
+public class ParserPipelineException extends ParserException {
+
+    private static final long serialVersionUID = -3618424727437953381L;
+
+    public ParserPipelineException(String message, Throwable throwable) {
+        super(message, throwable);
+    }
+}
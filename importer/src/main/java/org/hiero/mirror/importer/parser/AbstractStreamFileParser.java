@@ -187,6 +187,10 @@ public abstract class AbstractStreamFileParser<T extends StreamFile<?>> implemen
         return streamFileRepository.findLatest().orElse(null);
     }
 
+    protected final void setLast(T streamFile) {
+        last.set(streamFile);
+    }
+
     private boolean shouldParse(T previous, T current) {
         if (!parserProperties.isEnabled()) {
             return false;
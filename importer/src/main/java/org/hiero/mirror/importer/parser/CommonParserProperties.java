@@ -40,6 +40,8 @@ import org.springframework.validation.annotation.Validated;
 @Validated
 public class CommonParserProperties {
 
+    private boolean binaryCopy = false;
+
     @Min(8192)
     private int bufferSize = 32768; // tested max byte size of buffer used by PGCopyOutputStream
 
@@ -7,6 +7,7 @@ import com.fasterxml.jackson.databind.module.SimpleModule;
 import com.fasterxml.jackson.dataformat.csv.CsvGenerator;
 import com.fasterxml.jackson.dataformat.csv.CsvMapper;
 import com.fasterxml.jackson.dataformat.csv.CsvSchema;
+import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.CaseFormat;
 import com.google.common.base.Stopwatch;
 import com.google.common.collect.Lists;
@@ -14,10 +15,12 @@ import io.micrometer.core.instrument.Counter;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Timer;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.sql.Connection;
 import java.sql.SQLException;
 import java.util.Collection;
 import java.util.stream.Collectors;
+import javax.annotation.Nullable;
 import javax.sql.DataSource;
 import lombok.CustomLog;
 import org.hiero.mirror.common.converter.EntityIdSerializer;
@@ -43,6 +46,7 @@ public class BatchInserter implements BatchPersister {
     protected final MeterRegistry meterRegistry;
     protected final String tableName;
 
+    private final BinaryCopyWriter binaryCopyWriter;
     private final Counter rowsMetric;
     private final String sql;
     private final ObjectWriter writer;
@@ -62,6 +66,17 @@ public class BatchInserter implements BatchPersister {
             MeterRegistry meterRegistry,
             CommonParserProperties properties,
             String tableName) {
+        this(entityClass, dataSource, meterRegistry, properties, tableName, null);
+    }
+
+    public BatchInserter(
+            Class<?> entityClass,
+            DataSource dataSource,
+            MeterRegistry meterRegistry,
+            CommonParserProperties properties,
+            String tableName,
+            @Nullable BinaryCopyWriter binaryCopyWriter) {
+        this.binaryCopyWriter = binaryCopyWriter;
         this.dataSource = dataSource;
         this.properties = properties;
         this.meterRegistry = meterRegistry;
@@ -82,7 +97,10 @@ public class BatchInserter implements BatchPersister {
                 .distinct()
                 .map(name -> CaseFormat.UPPER_CAMEL.to(CaseFormat.LOWER_UNDERSCORE, name))
                 .collect(Collectors.joining(", "));
-        sql = String.format("COPY %s(%s) FROM STDIN WITH CSV", this.tableName, columnsCsv);
+        sql = binaryCopyWriter != null
+                ? String.format(
+                        "COPY %s(%s) FROM STDIN WITH (FORMAT binary)", this.tableName, binaryCopyWriter.getColumns())
+                : String.format("COPY %s(%s) FROM STDIN WITH CSV", this.tableName, columnsCsv);
         var parentTableName = this.tableName.replaceAll("_\\d+$", ""); // Strip _01 shard suffix
         latencyMetric = Timer.builder(LATENCY_METRIC)
                 .description("The time it took to batch insert rows")
@@ -119,13 +137,13 @@ public class BatchInserter implements BatchPersister {
         PGConnection pgConnection = connection.unwrap(PGConnection.class);
         CopyIn copyIn = pgConnection.getCopyAPI().copyIn(sql);
 
-        if (log.isTraceEnabled()) {
+        if (log.isTraceEnabled() && binaryCopyWriter == null) {
             String csv = writer.writeValueAsString(items);
             log.trace("Generated SQL: {}\n{}", sql, csv);
         }
 
         try (var pgCopyOutputStream = new PGCopyOutputStream(copyIn, properties.getBufferSize())) {
-            writer.writeValue(pgCopyOutputStream, items);
+            write(items, pgCopyOutputStream);
             rowsMetric.increment(items.size());
             latencyMetric.record(stopwatch.elapsed());
         } finally {
@@ -134,4 +152,13 @@ public class BatchInserter implements BatchPersister {
             }
         }
     }
+
+    @VisibleForTesting
+    void write(Collection<?> items, OutputStream outputStream) throws IOException {
+        if (binaryCopyWriter != null) {
+            binaryCopyWriter.write(items, outputStream);
+        } else {
+            writer.writeValue(outputStream, items);
+        }
+    }
 }
@@ -9,6 +9,7 @@ import java.sql.PreparedStatement;
 import java.sql.SQLException;
 import java.util.Collection;
 import java.util.concurrent.TimeUnit;
+import javax.annotation.Nullable;
 import javax.sql.DataSource;
 import lombok.CustomLog;
 import org.hiero.mirror.importer.exception.ParserException;
@@ -33,7 +34,23 @@ public class BatchUpserter extends BatchInserter {
             MeterRegistry meterRegistry,
             CommonParserProperties properties,
             UpsertQueryGenerator upsertQueryGenerator) {
-        super(entityClass, dataSource, meterRegistry, properties, upsertQueryGenerator.getTemporaryTableName());
+        this(entityClass, dataSource, meterRegistry, properties, upsertQueryGenerator, null);
+    }
+
+    public BatchUpserter(
+            Class<?> entityClass,
+            DataSource dataSource,
+            MeterRegistry meterRegistry,
+            CommonParserProperties properties,
+            UpsertQueryGenerator upsertQueryGenerator,
+            @Nullable BinaryCopyWriter binaryCopyWriter) {
+        super(
+                entityClass,
+                dataSource,
+                meterRegistry,
+                properties,
+                upsertQueryGenerator.getTemporaryTableName(),
+                binaryCopyWriter);
         tempTableCleanupSql = String.format("truncate table %s restart identity cascade", tableName);
         finalTableName = upsertQueryGenerator.getFinalTableName();
         upsertSql = upsertQueryGenerator.getUpsertQuery();
@@ -0,0 +1,265 @@
+// SPDX-License-Identifier: Apache-2.0
+
+package org.hiero.mirror.importer.parser.batch;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import com.google.common.collect.BoundType;
+import com.google.common.collect.Range;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.Getter;
+import org.hiero.mirror.common.converter.ObjectToStringSerializer;
+import org.hiero.mirror.common.domain.entity.EntityId;
+import org.hiero.mirror.importer.repository.upsert.ColumnMetadata;
+import org.hiero.mirror.importer.repository.upsert.EntityMetadata;
+
+/**
+ * Writes rows using the PostgreSQL binary COPY format. Values are read directly from the entity using the getters in its
+ * column metadata and encoded according to the column's database type, so byte arrays and numbers are written as is
+ * instead of being converted to text first.
+ */
+public class BinaryCopyWriter {
+
+    private static final byte[] HEADER = {'P', 'G', 'C', 'O', 'P', 'Y', '\n', (byte) 0xFF, '\r', '\n', 0};
+    private static final int NULL_LENGTH = -1;
+
+    // Object identifiers of the array element types
+    private static final int BYTEA_OID = 17;
+    private static final int INT4_OID = 23;
+    private static final int INT8_OID = 20;
+
+    // Range flags from rangetypes.h
+    private static final int RANGE_EMPTY = 0x01;
+    private static final int RANGE_LB_INC = 0x02;
+    private static final int RANGE_UB_INC = 0x04;
+    private static final int RANGE_LB_INF = 0x08;
+    private static final int RANGE_UB_INF = 0x10;
+
+    @Getter
+    private final String columns;
+
+    private final List<Field> fields;
+
+    /**
+     * Creates a writer for the entity.
+     *
+     * @param entityMetadata the metadata of the entity
+     * @throws UnsupportedOperationException if any of the column types can't be encoded
+     */
+    public BinaryCopyWriter(EntityMetadata entityMetadata) {
+        this.columns = entityMetadata.getColumns().stream()
+                .map(ColumnMetadata::getName)
+                .collect(Collectors.joining(", "));
+        this.fields = entityMetadata.getColumns().stream()
+                .map(c -> new Field(c.getGetter(), encoder(c)))
+                .toList();
+    }
+
+    public void write(Collection<?> items, OutputStream outputStream) throws IOException {
+        var out = new DataOutputStream(outputStream);
+        out.write(HEADER);
+        out.writeInt(0); // Flags
+        out.writeInt(0); // Header extension length
+
+        for (var item : items) {
+            out.writeShort(fields.size());
+
+            for (var field : fields) {
+                var value = field.getter().apply(item);
+
+                if (value == null) {
+                    out.writeInt(NULL_LENGTH);
+                } else {
+                    field.encoder().encode(out, value);
+                }
+            }
+        }
+
+        out.writeShort(-1); // Trailer
+        out.flush();
+    }
+
+    private static Encoder encoder(ColumnMetadata column) {
+        return switch (column.getDataType()) {
+            case "bool" -> (out, value) -> {
+                out.writeInt(1);
+                out.writeBoolean((Boolean) value);
+            };
+            case "int2" -> (out, value) -> {
+                out.writeInt(Short.BYTES);
+                out.writeShort((int) toLong(value));
+            };
+            case "int4" -> (out, value) -> {
+                out.writeInt(Integer.BYTES);
+                out.writeInt((int) toLong(value));
+            };
+            case "int8" -> (out, value) -> {
+                out.writeInt(Long.BYTES);
+                out.writeLong(toLong(value));
+            };
+            case "bytea" -> (out, value) -> writeBytes(out, (byte[]) value);
+            case "enum", "text", "varchar" -> (out, value) -> writeBytes(out, toText(value));
+            case "jsonb" -> BinaryCopyWriter::writeJson;
+            case "int8range" -> (out, value) -> writeRange(out, (Range<?>) value);
+            case "_bytea" -> (out, value) -> writeByteaArray(out, toList(value));
+            case "_int4" -> (out, value) -> writeNumberArray(out, toList(value), INT4_OID, Integer.BYTES);
+            case "_int8" -> (out, value) -> writeNumberArray(out, toList(value), INT8_OID, Long.BYTES);
+            default ->
+                throw new UnsupportedOperationException(
+                        "Unsupported type " + column.getDataType() + " for column " + column.getName());
+        };
+    }
+
+    private static long toLong(Object value) {
+        return switch (value) {
+            case Number number -> number.longValue();
+            case EntityId entityId -> entityId.getId();
+            case Enum<?> e -> e.ordinal();
+            default -> throw new IllegalArgumentException("Unable to convert " + value.getClass() + " to a number");
+        };
+    }
+
+    private static byte[] toText(Object value) {
+        var text = value instanceof Enum<?> e ? e.name() : value.toString();
+        return text.getBytes(UTF_8);
+    }
+
+    private static List<?> toList(Object value) {
+        return value instanceof List<?> list ? list : Arrays.asList((Object[]) value);
+    }
+
+    private static void writeBytes(DataOutputStream out, byte[] bytes) throws IOException {
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static void writeJson(DataOutputStream out, Object value) throws IOException {
+        var json = value instanceof String text
+                ? text.getBytes(UTF_8)
+                : ObjectToStringSerializer.OBJECT_MAPPER.writeValueAsBytes(value);
+        out.writeInt(json.length + 1);
+        out.writeByte(1); // jsonb version
+        out.write(json);
+    }
+
+    private static void writeRange(DataOutputStream out, Range<?> range) throws IOException {
+        if (range.isEmpty()) {
+            out.writeInt(1);
+            out.writeByte(RANGE_EMPTY);
+            return;
+        }
+
+        int flags = 0;
+        int length = 1;
+
+        if (range.hasLowerBound()) {
+            flags |= range.lowerBoundType() == BoundType.CLOSED ? RANGE_LB_INC : 0;
+            length += Integer.BYTES + Long.BYTES;
+        } else {
+            flags |= RANGE_LB_INF;
+        }
+
+        if (range.hasUpperBound()) {
+            flags |= range.upperBoundType() == BoundType.CLOSED ? RANGE_UB_INC : 0;
+            length += Integer.BYTES + Long.BYTES;
+        } else {
+            flags |= RANGE_UB_INF;
+        }
+
+        out.writeInt(length);
+        out.writeByte(flags);
+
+        if (range.hasLowerBound()) {
+            out.writeInt(Long.BYTES);
+            out.writeLong(toLong(range.lowerEndpoint()));
+        }
+
+        if (range.hasUpperBound()) {
+            out.writeInt(Long.BYTES);
+            out.writeLong(toLong(range.upperEndpoint()));
+        }
+    }
+
+    private static void writeByteaArray(DataOutputStream out, List<?> elements) throws IOException {
+        int length = 0;
+        boolean hasNull = false;
+
+        for (var element : elements) {
+            if (element == null) {
+                hasNull = true;
+            } else {
+                length += ((byte[]) element).length;
+            }
+        }
+
+        writeArrayHeader(out, elements.size(), hasNull, BYTEA_OID, length);
+
+        for (var element : elements) {
+            if (element == null) {
+                out.writeInt(NULL_LENGTH);
+            } else {
+                writeBytes(out, (byte[]) element);
+            }
+        }
+    }
+
+    private static void writeNumberArray(DataOutputStream out, List<?> elements, int oid, int size)
+            throws IOException {
+        int length = 0;
+        boolean hasNull = false;
+
+        for (var element : elements) {
+            if (element == null) {
+                hasNull = true;
+            } else {
+                length += size;
+            }
+        }
+
+        writeArrayHeader(out, elements.size(), hasNull, oid, length);
+
+        for (var element : elements) {
+            if (element == null) {
+                out.writeInt(NULL_LENGTH);
+            } else if (size == Long.BYTES) {
+                out.writeInt(Long.BYTES);
+                out.writeLong(toLong(element));
+            } else {
+                out.writeInt(Integer.BYTES);
+                out.writeInt((int) toLong(element));
+            }
+        }
+    }
+
+    /*
+     * Writes the total length of the array followed by the header of a one dimensional array. The data length excludes
+     * the four byte length prefix of each element.
+     */
+    private static void writeArrayHeader(DataOutputStream out, int count, boolean hasNull, int oid, int dataLength)
+            throws IOException {
+        int dimensions = count > 0 ? 1 : 0;
+        out.writeInt(3 * Integer.BYTES + dimensions * 2 * Integer.BYTES + count * Integer.BYTES + dataLength);
+        out.writeInt(dimensions);
+        out.writeInt(hasNull ? 1 : 0);
+        out.writeInt(oid);
+
+        if (dimensions > 0) {
+            out.writeInt(count);
+            out.writeInt(1); // Lower bound
+        }
+    }
+
+    @FunctionalInterface
+    private interface Encoder {
+        void encode(DataOutputStream out, Object value) throws IOException;
+    }
+
+    private record Field(Function<Object, Object> getter, Encoder encoder) {}
+}
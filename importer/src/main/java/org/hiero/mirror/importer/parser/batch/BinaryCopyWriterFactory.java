@@ -0,0 +1,41 @@
+// SPDX-License-Identifier: Apache-2.0
+
+package org.hiero.mirror.importer.parser.batch;
+
+import jakarta.inject.Named;
+import javax.annotation.Nullable;
+import lombok.CustomLog;
+import lombok.RequiredArgsConstructor;
+import org.hiero.mirror.importer.parser.CommonParserProperties;
+import org.hiero.mirror.importer.repository.upsert.EntityMetadataRegistry;
+
+@CustomLog
+@Named
+@RequiredArgsConstructor
+public class BinaryCopyWriterFactory {
+
+    private final EntityMetadataRegistry entityMetadataRegistry;
+    private final CommonParserProperties properties;
+
+    /**
+     * Creates a binary COPY writer for the entity if the binary format is enabled and all of its column types are
+     * supported.
+     *
+     * @param entityClass the entity class annotated with @Entity
+     * @return the writer or null if the rows should be copied using CSV
+     */
+    @Nullable
+    public BinaryCopyWriter get(Class<?> entityClass) {
+        if (!properties.isBinaryCopy()) {
+            return null;
+        }
+
+        try {
+            var entityMetadata = entityMetadataRegistry.lookupColumns(entityClass);
+            return new BinaryCopyWriter(entityMetadata);
+        } catch (RuntimeException e) {
+            log.warn("Using CSV to copy {}: {}", entityClass.getSimpleName(), e.getMessage());
+            return null;
+        }
+    }
+}
@@ -23,17 +23,20 @@ import org.springframework.core.annotation.AnnotationUtils;
 public class CompositeBatchPersister implements BatchPersister {
 
     private final Map<Class<?>, BatchPersister> batchPersisters = new ConcurrentHashMap<>();
+    private final BinaryCopyWriterFactory binaryCopyWriterFactory;
     private final DataSource dataSource;
     private final MeterRegistry meterRegistry;
     private final CommonParserProperties properties;
     private final UpsertQueryGeneratorFactory upsertQueryGeneratorFactory;
 
     public CompositeBatchPersister(
+            BinaryCopyWriterFactory binaryCopyWriterFactory,
             DataSource dataSource,
             MeterRegistry meterRegistry,
             CommonParserProperties properties,
             UpsertQueryGeneratorFactory upsertQueryGeneratorFactory,
             Optional<TransactionHashBatchInserter> transactionHashV1BatchPersister) {
+        this.binaryCopyWriterFactory = binaryCopyWriterFactory;
         this.dataSource = dataSource;
         this.meterRegistry = meterRegistry;
         this.properties = properties;
@@ -66,13 +69,20 @@ public class CompositeBatchPersister implements BatchPersister {
         }
 
         var entityClass = getEntityClass(domainClass);
+        var binaryCopyWriter = binaryCopyWriterFactory.get(entityClass);
         Upsertable upsertable = AnnotationUtils.findAnnotation(domainClass, Upsertable.class);
 
         if (upsertable != null) {
             UpsertQueryGenerator generator = upsertQueryGeneratorFactory.get(domainClass);
-            return new BatchUpserter(entityClass, dataSource, meterRegistry, properties, generator);
+            return new BatchUpserter(entityClass, dataSource, meterRegistry, properties, generator, binaryCopyWriter);
         } else {
-            return new BatchInserter(entityClass, dataSource, meterRegistry, properties);
+            return new BatchInserter(
+                    entityClass,
+                    dataSource,
+                    meterRegistry,
+                    properties,
+                    entityClass.getSimpleName(),
+                    binaryCopyWriter);
         }
     }
 
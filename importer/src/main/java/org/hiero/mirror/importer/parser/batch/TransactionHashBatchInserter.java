@@ -7,6 +7,7 @@ import static org.hiero.mirror.common.domain.transaction.TransactionHash.V1_SHAR
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.CaseFormat;
 import com.google.common.base.Stopwatch;
+import com.google.common.base.Suppliers;
 import com.google.common.collect.ImmutableMap;
 import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.inject.Named;
@@ -14,6 +15,7 @@ import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 import javax.sql.DataSource;
@@ -31,12 +33,13 @@ import reactor.core.scheduler.Schedulers;
 @Named
 @Profile("!v2")
 public class TransactionHashBatchInserter implements BatchPersister {
-    private final Map<Integer, BatchInserter> shardBatchInserters;
+    private final Supplier<Map<Integer, BatchInserter>> shardBatchInserters;
     private final String tableName;
     private final Scheduler scheduler;
     private final TransactionHashTxManager transactionManager;
 
     public TransactionHashBatchInserter(
+            BinaryCopyWriterFactory binaryCopyWriterFactory,
             DataSource dataSource,
             MeterRegistry meterRegistry,
             CommonParserProperties commonParserProperties,
@@ -45,16 +48,21 @@ public class TransactionHashBatchInserter implements BatchPersister {
         this.scheduler = Schedulers.newParallel(this.tableName, 8);
         this.transactionManager = transactionHashTxManager;
 
-        this.shardBatchInserters = IntStream.range(0, V1_SHARD_COUNT)
-                .boxed()
-                .collect(ImmutableMap.toImmutableMap(
-                        Function.identity(),
-                        shard -> new BatchInserter(
-                                TransactionHash.class,
-                                dataSource,
-                                meterRegistry,
-                                commonParserProperties,
-                                String.format("%s_%02d", tableName, shard))));
+        // Created lazily since the binary COPY writer reads the table schema which may not exist yet during startup
+        this.shardBatchInserters = Suppliers.memoize(() -> {
+            var binaryCopyWriter = binaryCopyWriterFactory.get(TransactionHash.class);
+            return IntStream.range(0, V1_SHARD_COUNT)
+                    .boxed()
+                    .collect(ImmutableMap.toImmutableMap(
+                            Function.identity(),
+                            shard -> new BatchInserter(
+                                    TransactionHash.class,
+                                    dataSource,
+                                    meterRegistry,
+                                    commonParserProperties,
+                                    String.format("%s_%02d", tableName, shard),
+                                    binaryCopyWriter)));
+        });
     }
 
     @Override
@@ -99,7 +107,7 @@ public class TransactionHashBatchInserter implements BatchPersister {
     @SneakyThrows
     private void persist(Map.Entry<Integer, List<TransactionHash>> data) {
         var threadState = transactionManager.updateAndGetThreadState(data.getKey());
-        shardBatchInserters.get(data.getKey()).persistItems(data.getValue(), threadState.getConnection());
+        shardBatchInserters.get().get(data.getKey()).persistItems(data.getValue(), threadState.getConnection());
     }
 
     @VisibleForTesting
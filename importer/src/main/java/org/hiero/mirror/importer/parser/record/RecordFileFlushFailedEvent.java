@@ -0,0 +1,25 @@
+// SPDX-License-Identifier: Apache-2.0
+
+package org.hiero.mirror.importer.parser.record;
+
+import java.io.Serial;
+import lombok.Value;
+import org.springframework.context.ApplicationEvent;
+
+/**
+ * Published when a record file persisted in the background failed, so components tracking the last stream file can
+ * resume from the last record file in the database.
+ */
+@Value
+public class RecordFileFlushFailedEvent extends ApplicationEvent {
+
+    @Serial
+    private static final long serialVersionUID = -6064423245232417420L;
+
+    private final String filename;
+
+    public RecordFileFlushFailedEvent(Object source, String filename) {
+        super(source);
+        this.filename = filename;
+    }
+}
@@ -23,8 +23,9 @@ import org.hiero.mirror.common.aggregator.LogsBloomAggregator;
 import org.hiero.mirror.common.domain.transaction.RecordFile;
 import org.hiero.mirror.common.domain.transaction.RecordItem;
 import org.hiero.mirror.common.domain.transaction.TransactionType;
-import org.hiero.mirror.common.util.DomainUtils;
 import org.hiero.mirror.importer.config.DateRangeCalculator;
+import org.hiero.mirror.importer.domain.EntityIdService;
+import org.hiero.mirror.importer.exception.ParserPipelineException;
 import org.hiero.mirror.importer.leader.Leader;
 import org.hiero.mirror.importer.parser.AbstractStreamFileParser;
 import org.hiero.mirror.importer.parser.record.entity.ParserContext;
@@ -42,7 +43,10 @@ public class RecordFileParser extends AbstractStreamFileParser<RecordFile> {
     private final ApplicationEventPublisher applicationEventPublisher;
     private final RecordItemListener recordItemListener;
     private final DateRangeCalculator dateRangeCalculator;
+    private final EntityIdService entityIdService;
     private final ParserContext parserContext;
+    private final RecordFilePipeline pipeline;
+    private final RecordParserProperties recordParserProperties;
 
     // Metrics
     private final Map<Integer, Timer> latencyMetrics;
@@ -59,12 +63,17 @@ public class RecordFileParser extends AbstractStreamFileParser<RecordFile> {
             RecordItemListener recordItemListener,
             RecordStreamFileListener recordStreamFileListener,
             DateRangeCalculator dateRangeCalculator,
-            ParserContext parserContext) {
+            EntityIdService entityIdService,
+            ParserContext parserContext,
+            RecordFilePipeline pipeline) {
         super(meterRegistry, parserProperties, recordStreamFileListener, streamFileRepository);
         this.applicationEventPublisher = applicationEventPublisher;
         this.recordItemListener = recordItemListener;
         this.dateRangeCalculator = dateRangeCalculator;
+        this.entityIdService = entityIdService;
         this.parserContext = parserContext;
+        this.pipeline = pipeline;
+        this.recordParserProperties = parserProperties;
 
         // build transaction latency metrics
         ImmutableMap.Builder<Integer, Timer> latencyMetricsBuilder = ImmutableMap.builder();
@@ -107,13 +116,15 @@ public class RecordFileParser extends AbstractStreamFileParser<RecordFile> {
                             maxDelayExpression = "#{@recordParserProperties.getRetry().getMaxBackoff().toMillis()}",
                             multiplierExpression = "#{@recordParserProperties.getRetry().getMultiplier()}"),
             retryFor = Throwable.class,
-            noRetryFor = OutOfMemoryError.class,
+            noRetryFor = {OutOfMemoryError.class, ParserPipelineException.class},
             maxAttemptsExpression = "#{@recordParserProperties.getRetry().getMaxAttempts()}")
     @Transactional(timeoutString = "#{@recordParserProperties.getTransactionTimeout().toSeconds()}")
     public synchronized void parse(RecordFile recordFile) {
         try {
+            awaitPipeline(List.of(recordFile));
             super.parse(recordFile);
         } finally {
+            pipeline.reset();
             parserContext.clear();
         }
     }
@@ -127,19 +138,28 @@ public class RecordFileParser extends AbstractStreamFileParser<RecordFile> {
                             maxDelayExpression = "#{@recordParserProperties.getRetry().getMaxBackoff().toMillis()}",
                             multiplierExpression = "#{@recordParserProperties.getRetry().getMultiplier()}"),
             retryFor = Throwable.class,
-            noRetryFor = OutOfMemoryError.class,
+            noRetryFor = {OutOfMemoryError.class, ParserPipelineException.class},
             maxAttemptsExpression = "#{@recordParserProperties.getRetry().getMaxAttempts()}")
     @Transactional(timeoutString = "#{@recordParserProperties.getTransactionTimeout().toSeconds()}")
     public synchronized void parse(List<RecordFile> recordFiles) {
         try {
+            awaitPipeline(recordFiles);
             super.parse(recordFiles);
         } finally {
+            pipeline.reset();
             parserContext.clear();
         }
     }
 
     @Override
     protected void doFlush(RecordFile streamFile) {
+        if (pipeline.isEnabled() && !pipeline.isSynchronous()) {
+            flushAsync(streamFile);
+            return;
+        }
+
+        // Written to the database outside the flush so commit all of it in the parser's transaction
+        pipeline.await();
         super.doFlush(streamFile);
         applicationEventPublisher.publishEvent(new RecordFileParsedEvent(this, streamFile.getConsensusEnd()));
     }
@@ -151,6 +171,18 @@ public class RecordFileParser extends AbstractStreamFileParser<RecordFile> {
         var count = new AtomicLong(0L);
         boolean shouldLog = log.isDebugEnabled() || log.isTraceEnabled();
         final var logIndex = new AtomicInteger(0);
+
+        if (recordParserProperties.isPrefetchAliases()) {
+            entityIdService.prefetch(recordFile.getItems());
+        }
+
+        // Prepare what only depends on each record item on the fork-join pool before processing them in order
+        if (recordParserProperties.isParallelPrepare()) {
+            recordFile.getItems().parallelStream()
+                    .filter(recordItem -> dateRangeFilter.filter(recordItem.getConsensusTimestamp()))
+                    .forEach(recordItemListener::prepare);
+        }
+
         recordFile.getItems().forEach(recordItem -> {
             if (shouldLog) {
                 logItem(recordItem);
@@ -174,6 +206,73 @@ public class RecordFileParser extends AbstractStreamFileParser<RecordFile> {
         parserContext.addAll(recordFile.getSidecars());
     }
 
+    /*
+     * Waits for the previous record file to be persisted. If persisting a previous record file failed, the files after
+     * it that were already parsed were lost with it, so parsing only resumes once the stream files continue from the
+     * last record file in the database. Until then, the files are rejected without retry and the downloaders are reset
+     * to redeliver the files after the last record file in the database.
+     */
+    private void awaitPipeline(List<RecordFile> recordFiles) {
+        try {
+            pipeline.await();
+        } catch (ParserPipelineException e) {
+            clear();
+            var last = getLast();
+            var next = recordFiles.stream()
+                    .filter(r -> last == null || r.getConsensusStart() > last.getConsensusEnd())
+                    .findFirst();
+
+            if (next.isEmpty()) {
+                return;
+            }
+
+            if (last != null && !last.getHash().contentEquals(next.get().getPreviousHash())) {
+                applicationEventPublisher.publishEvent(new RecordFileFlushFailedEvent(this, last.getName()));
+                throw e;
+            }
+
+            log.info("Resuming parsing at {} after failing to persist a previous record file", next.get().getName());
+            pipeline.resume();
+        }
+    }
+
+    /*
+     * Hands the parsed state of the record file to the pipeline to be persisted in the background while the next file
+     * is parsed into the standby buffer. The record file becomes the last parsed file immediately so the hash chain of
+     * the next file can be verified, and is reset to the database state if persisting it ultimately fails.
+     */
+    private void flushAsync(RecordFile recordFile) {
+        pipeline.await();
+        var buffer = parserContext.swap();
+        setLast(recordFile);
+
+        pipeline.submit(
+                () -> {
+                    parserContext.bind(buffer);
+                    try {
+                        streamFileListener.onEnd(recordFile);
+                        applicationEventPublisher.publishEvent(
+                                new RecordFileParsedEvent(this, recordFile.getConsensusEnd()));
+                    } finally {
+                        parserContext.bind(null);
+                    }
+                },
+                e -> {
+                    parserContext.bind(buffer);
+                    parserContext.clear();
+                    parserContext.bind(null);
+
+                    if (e != null) {
+                        log.error("Error persisting record file {}", recordFile.getName(), e);
+                        clear();
+                        applicationEventPublisher.publishEvent(
+                                new RecordFileFlushFailedEvent(this, recordFile.getName()));
+                    } else {
+                        recordFile.clear();
+                    }
+                });
+    }
+
     private void logItem(RecordItem recordItem) {
         if (log.isTraceEnabled()) {
             log.trace(
@@ -204,6 +303,7 @@ public class RecordFileParser extends AbstractStreamFileParser<RecordFile> {
             long offset = recordFile.getIndex() - lastRecordFile.getIndex() - 1;
 
             if (offset != 0 && streamFileRepository instanceof RecordFileRepository repository) {
+                pipeline.awaitForWrite();
                 var stopwatch = Stopwatch.createStarted();
                 int count = repository.updateIndex(offset);
                 log.info("Updated {} blocks with offset {} in {}", count, offset, stopwatch);
@@ -230,7 +330,7 @@ public class RecordFileParser extends AbstractStreamFileParser<RecordFile> {
             }
 
             gasUsed += result.getGasUsed();
-            logsBloom.aggregate(DomainUtils.toBytes(result.getBloom()));
+            logsBloom.aggregate(result.getBloom());
         }
 
         public void update(RecordFile recordFile) {
@@ -0,0 +1,193 @@
+// SPDX-License-Identifier: Apache-2.0
+
+package org.hiero.mirror.importer.parser.record;
+
+import com.google.common.base.Stopwatch;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.inject.Named;
+import java.io.Closeable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import lombok.CustomLog;
+import org.hiero.mirror.importer.exception.ParserException;
+import org.hiero.mirror.importer.exception.ParserPipelineException;
+import org.springframework.retry.support.RetryTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Overlaps the parsing of the next record file with the persistence of the previous record file. At most one flush is
+ * in flight at any time so flushes are committed in the order they were submitted. Each flush runs on a dedicated thread
+ * in its own transaction and is retried using the record parser retry properties.
+ * <p>
+ * Once a flush fails after exhausting its retries, the pipeline stays failed and {@link #await()} throws until the
+ * parser {@link #resume() resumes} it from the last record file in the database.
+ */
+@CustomLog
+@Named
+public class RecordFilePipeline implements Closeable {
+
+    static final String STALL_METRIC_NAME = "hiero.mirror.importer.parse.pipeline.stall";
+    private static final String THREAD_NAME = "record-flush";
+
+    private final ExecutorService executor;
+    private final AtomicReference<Throwable> failure = new AtomicReference<>();
+    private final RecordParserProperties properties;
+    private final RetryTemplate retryTemplate;
+    private final Timer stallMetric;
+    private final TransactionTemplate transactionTemplate;
+    private volatile Thread flushThread;
+    private volatile Future<?> pending;
+    private volatile boolean synchronous;
+
+    public RecordFilePipeline(
+            MeterRegistry meterRegistry,
+            RecordParserProperties properties,
+            PlatformTransactionManager transactionManager) {
+        var retry = properties.getRetry();
+        this.executor = Executors.newSingleThreadExecutor(r -> {
+            var thread = new Thread(r, THREAD_NAME);
+            thread.setDaemon(true);
+            flushThread = thread;
+            return thread;
+        });
+        this.properties = properties;
+        this.retryTemplate = RetryTemplate.builder()
+                .maxAttempts(Math.max(retry.getMaxAttempts(), 1))
+                .exponentialBackoff(
+                        retry.getMinBackoff().toMillis(),
+                        retry.getMultiplier(),
+                        retry.getMaxBackoff().toMillis())
+                .retryOn(Exception.class)
+                .build();
+        this.stallMetric = Timer.builder(STALL_METRIC_NAME)
+                .description("The time the parser spent waiting for the previous record file to be persisted")
+                .tag("type", properties.getStreamType().toString())
+                .register(meterRegistry);
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setTimeout((int) properties.getTransactionTimeout().toSeconds());
+    }
+
+    /**
+     * Waits for the in-flight flush, if any, to be committed. Parser code that reads state that may have been changed
+     * by the previous record file must call this first to preserve ordering. It's a no-op when invoked from the flush
+     * thread itself.
+     *
+     * @throws ParserPipelineException if a previous flush failed after exhausting all retries
+     */
+    public void await() {
+        if (isFlushThread()) {
+            return;
+        }
+
+        var future = pending;
+
+        if (future != null) {
+            var stopwatch = Stopwatch.createStarted();
+
+            try {
+                future.get();
+            } catch (ExecutionException e) {
+                // The failure is recorded by the flush itself
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new ParserException("Interrupted waiting for the previous record file to be persisted", e);
+            } finally {
+                pending = null;
+                stallMetric.record(stopwatch.elapsed());
+            }
+        }
+
+        var cause = failure.get();
+        if (cause != null) {
+            throw new ParserPipelineException("Error persisting a previous record file", cause);
+        }
+    }
+
+    /**
+     * Waits for the in-flight flush like {@link #await()} before the parser writes to the database outside of the
+     * flush. The record file being parsed is then flushed synchronously in the parser's transaction, so these writes
+     * are committed atomically with the rest of the record file.
+     */
+    public void awaitForWrite() {
+        if (isFlushThread()) {
+            return;
+        }
+
+        await();
+        synchronous = true;
+    }
+
+    @Override
+    public void close() {
+        executor.close();
+    }
+
+    public boolean isEnabled() {
+        return properties.getPipeline().isEnabled();
+    }
+
+    public boolean isFailed() {
+        return failure.get() != null;
+    }
+
+    /**
+     * Returns whether the record file being parsed wrote to the database outside of the flush and needs to be
+     * flushed synchronously.
+     */
+    public boolean isSynchronous() {
+        return synchronous;
+    }
+
+    /**
+     * Resets the state of the record file being parsed once it's flushed or failed.
+     */
+    public void reset() {
+        synchronous = false;
+    }
+
+    /**
+     * Clears the failure of a previous flush once the parser resumes from the last record file in the database.
+     */
+    public void resume() {
+        failure.set(null);
+    }
+
+    /**
+     * Waits for the previous flush to complete and then asynchronously runs the flush in a new transaction.
+     *
+     * @param flush      the persistence logic to run and retry on failure
+     * @param completion invoked once after the last attempt with null on success or the failure cause
+     */
+    public void submit(Runnable flush, Consumer<Throwable> completion) {
+        await();
+        pending = CompletableFuture.runAsync(() -> execute(flush), executor).whenComplete((r, e) -> {
+            if (e != null) {
+                failure.set(e instanceof CompletionException ? e.getCause() : e);
+            }
+            completion.accept(e);
+        });
+    }
+
+    private boolean isFlushThread() {
+        return Thread.currentThread() == flushThread;
+    }
+
+    private void execute(Runnable flush) {
+        retryTemplate.execute(context -> {
+            if (context.getRetryCount() > 0) {
+                log.warn("Retrying record file flush attempt #{}", context.getRetryCount() + 1);
+            }
+
+            transactionTemplate.executeWithoutResult(status -> flush.run());
+            return null;
+        });
+    }
+}
@@ -5,4 +5,14 @@ package org.hiero.mirror.importer.parser.record;
 import org.hiero.mirror.common.domain.transaction.RecordItem;
 import org.hiero.mirror.importer.parser.StreamItemListener;
 
-public interface RecordItemListener extends StreamItemListener<RecordItem> {}
+public interface RecordItemListener extends StreamItemListener<RecordItem> {
+
+    /**
+     * Prepares the data derived from the record item alone before it's processed in order by {@link #onItem}. It can be
+     * invoked concurrently for the record items of a record file, so it must not depend on any other record item or on
+     * the state built while processing them.
+     *
+     * @param recordItem The record item to prepare
+     */
+    default void prepare(RecordItem recordItem) {}
+}
@@ -2,6 +2,8 @@
 
 package org.hiero.mirror.importer.parser.record;
 
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
 import lombok.Data;
 import org.hiero.mirror.common.domain.StreamType;
 import org.hiero.mirror.importer.parser.AbstractParserProperties;
@@ -15,8 +17,25 @@ import org.springframework.validation.annotation.Validated;
 @ConfigurationProperties("hiero.mirror.importer.parser.record")
 public class RecordParserProperties extends AbstractParserProperties {
 
+    private boolean parallelPrepare = false;
+
+    @NotNull
+    @Valid
+    private PipelineProperties pipeline = new PipelineProperties();
+
+    private boolean prefetchAliases = true;
+
+    private boolean protobufAliasing = false;
+
     @Override
     public StreamType getStreamType() {
         return StreamType.RECORD;
     }
+
+    @Data
+    @Validated
+    public static class PipelineProperties {
+
+        private boolean enabled = false;
+    }
 }
@@ -23,7 +23,7 @@ import org.hiero.mirror.common.domain.transaction.Transaction;
  * without an explicit order against one with an explicit order, the explicitly ordered one should always sort last.
  * Comparing two that are not explicitly ordered falls back to order by class name.
  */
-class DomainClassComparator implements Comparator<Class<?>> {
+public class DomainClassComparator implements Comparator<Class<?>> {
 
     // Potentially we could add a dependsOn parameter to @Upsertable and inject the EntityMetadataRegistry for this
     static final List<Class<?>> ORDER = List.of(
@@ -37,6 +37,17 @@ class DomainClassComparator implements Comparator<Class<?>> {
     private static final Map<Class<?>, Integer> ORDER_MAP =
             IntStream.range(0, ORDER.size()).boxed().collect(toMap(ORDER::get, Function.identity()));
 
+    /**
+     * Whether the domain class has an explicit persistence order relative to other domain classes. Domain classes
+     * without an explicit order are independent of each other and can be persisted in any order.
+     *
+     * @param domainClass the domain class to check
+     * @return true if the domain class is explicitly ordered
+     */
+    public static boolean isOrdered(Class<?> domainClass) {
+        return ORDER_MAP.containsKey(domainClass);
+    }
+
     @Override
     public int compare(Class<?> left, Class<?> right) {
         if (Objects.equals(left, right)) {
@@ -104,6 +104,7 @@ public class EntityRecordItemListener implements RecordItemListener {
         Collection<EntityId> entities = transactionFilterFields.getEntities();
         log.debug("Processing {} transaction {} for entities {}", transactionType, consensusTimestamp, entities);
         if (!commonParserProperties.getFilter().test(transactionFilterFields)) {
+            recordItem.clearPrepared();
             log.debug(
                     "Ignoring transaction. consensusTimestamp={}, transactionType={}, entities={}",
                     consensusTimestamp,
@@ -158,7 +159,29 @@ public class EntityRecordItemListener implements RecordItemListener {
         log.debug("Storing transaction: {}", transaction);
     }
 
+    @Override
+    public void prepare(RecordItem recordItem) {
+        recordItem.setPreparedTransaction(newTransaction(recordItem));
+        var transactionType = TransactionType.of(recordItem.getTransactionType());
+        transactionHandlerFactory.get(transactionType).prepare(recordItem);
+    }
+
     private Transaction buildTransaction(EntityId entityId, RecordItem recordItem) {
+        var transaction = recordItem.getPreparedTransaction();
+        if (transaction == null) {
+            transaction = newTransaction(recordItem);
+        } else {
+            // Processing the same record item again on retry must start from a fresh transaction
+            recordItem.setPreparedTransaction(null);
+        }
+
+        transaction.setEntityId(entityId);
+        transaction.setMaxCustomFees(getMaxCustomFees(recordItem.getTransactionBody(), recordItem));
+        return transaction;
+    }
+
+    // Builds the fields of the transaction that only depend on the record item itself
+    private Transaction newTransaction(RecordItem recordItem) {
         TransactionBody body = recordItem.getTransactionBody();
         TransactionRecord txRecord = recordItem.getTransactionRecord();
 
@@ -173,10 +196,8 @@ public class EntityRecordItemListener implements RecordItemListener {
         Transaction transaction = new Transaction();
         transaction.setChargedTxFee(txRecord.getTransactionFee());
         transaction.setConsensusTimestamp(recordItem.getConsensusTimestamp());
-        transaction.setEntityId(entityId);
         transaction.setIndex(recordItem.getTransactionIndex());
         transaction.setInitialBalance(0L);
-        transaction.setMaxCustomFees(getMaxCustomFees(body, recordItem));
         transaction.setMaxFee(body.getTransactionFee());
         transaction.setMemo(DomainUtils.toBytes(body.getMemoBytes()));
         transaction.setNodeAccountId(nodeAccount);
@@ -12,19 +12,23 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.function.BiConsumer;
 import java.util.function.BinaryOperator;
 import java.util.function.Consumer;
 import lombok.Getter;
 import lombok.NonNull;
 
 /**
- * Stores the domain objects parsed from the stream files before persisting to the database.
+ * Stores the domain objects parsed from the stream files before persisting to the database. The context is double
+ * buffered so that a pipelined parser can fill one buffer with the next stream file while the other buffer is being
+ * persisted. A thread can {@link #bind(Buffer)} a swapped out buffer to operate on it instead of the active buffer.
  */
 @Named
 public class ParserContext {
-    private Set<Long> evmAddressLookupIds = new HashSet<>();
 
-    private final Map<Class<?>, DomainContext<?>> state = new ConcurrentSkipListMap<>(new DomainClassComparator());
+    private final Buffer[] buffers = {new Buffer(), new Buffer()};
+    private final ThreadLocal<Buffer> bound = new ThreadLocal<>();
+    private volatile int active = 0;
 
     public <T> void addTransient(T object) {
         var domainContext = getDomainContext(object);
@@ -52,13 +56,30 @@ public class ParserContext {
         }
     }
 
+    /**
+     * Binds the buffer to the current thread so subsequent operations from this thread use it instead of the active
+     * buffer. Passing null unbinds any previously bound buffer.
+     *
+     * @param buffer the buffer to bind or null to unbind
+     */
+    public void bind(Buffer buffer) {
+        if (buffer == null) {
+            bound.remove();
+        } else {
+            bound.set(buffer);
+        }
+    }
+
     public void clear() {
-        state.clear();
-        evmAddressLookupIds.clear();
+        buffer().clear();
     }
 
     public void forEach(@NonNull Consumer<Collection<?>> sink) {
-        state.forEach((c, v) -> sink.accept(v.getInserts()));
+        buffer().state.forEach((c, v) -> sink.accept(v.getInserts()));
+    }
+
+    public void forEachDomainClass(@NonNull BiConsumer<Class<?>, Collection<?>> sink) {
+        buffer().state.forEach((c, v) -> sink.accept(c, v.getInserts()));
     }
 
     public <T> T get(@NonNull Class<T> domainClass, @NonNull Object key) {
@@ -91,11 +112,34 @@ public class ParserContext {
     }
 
     public Collection<Long> getEvmAddressLookupIds() {
-        return Collections.unmodifiableSet(evmAddressLookupIds);
+        return Collections.unmodifiableSet(buffer().evmAddressLookupIds);
     }
 
     public void addEvmAddressLookupId(long id) {
-        evmAddressLookupIds.add(id);
+        buffer().evmAddressLookupIds.add(id);
+    }
+
+    /**
+     * Swaps the active buffer with the standby buffer. The standby buffer must have been cleared after its previous
+     * use before calling this method.
+     *
+     * @return the previously active buffer holding all domain objects added since the last swap
+     */
+    public Buffer swap() {
+        int previous = active;
+        var standby = buffers[1 - previous];
+
+        if (!standby.isEmpty()) {
+            throw new IllegalStateException("Unable to swap to a standby buffer that has not been cleared");
+        }
+
+        active = 1 - previous;
+        return buffers[previous];
+    }
+
+    private Buffer buffer() {
+        var buffer = bound.get();
+        return buffer != null ? buffer : buffers[active];
     }
 
     @SuppressWarnings("unchecked")
@@ -106,10 +150,26 @@ public class ParserContext {
 
     @SuppressWarnings("unchecked")
     private <T> DomainContext<T> getDomainContext(Class<T> domainClass) {
-        return (DomainContext<T>) state.computeIfAbsent(domainClass, c -> new DomainContext<>());
+        return (DomainContext<T>) buffer().state.computeIfAbsent(domainClass, c -> new DomainContext<>());
+    }
+
+    public static final class Buffer {
+
+        private final Set<Long> evmAddressLookupIds = new HashSet<>();
+        private final Map<Class<?>, DomainContext<?>> state =
+                new ConcurrentSkipListMap<>(new DomainClassComparator());
+
+        private void clear() {
+            state.clear();
+            evmAddressLookupIds.clear();
+        }
+
+        private boolean isEmpty() {
+            return state.isEmpty() && evmAddressLookupIds.isEmpty();
+        }
     }
 
-    private class DomainContext<T> {
+    private static class DomainContext<T> {
 
         @Getter
         private final List<T> inserts = new ArrayList<>();
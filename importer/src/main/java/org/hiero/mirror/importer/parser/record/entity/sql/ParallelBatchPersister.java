@@ -0,0 +1,271 @@
+// SPDX-License-Identifier: Apache-2.0
+
+package org.hiero.mirror.importer.parser.record.entity.sql;
+
+import com.google.common.annotations.VisibleForTesting;
+import jakarta.inject.Named;
+import java.io.Closeable;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import javax.sql.DataSource;
+import lombok.CustomLog;
+import lombok.SneakyThrows;
+import org.hiero.mirror.importer.exception.ParserException;
+import org.hiero.mirror.importer.parser.batch.BatchPersister;
+import org.hiero.mirror.importer.parser.record.entity.ConditionOnEntityRecordParser;
+import org.springframework.jdbc.datasource.DataSourceUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * Persists batches of independent tables concurrently using a bounded pool of threads. Each thread writes using its own
+ * connection and transaction, and the child transactions are committed atomically with the parent transaction using
+ * PostgreSQL's two-phase commit. The children are prepared right before the parent commits, so a child that fails to
+ * prepare fails the parent, and once the parent completes the prepared children are committed or rolled back the same
+ * way. The global identifier of each prepared child holds the parent's transaction ID, so children left prepared by a
+ * crash are resolved by the outcome of their parent before the next parallel flush.
+ * <p>
+ * Requires the database's max_prepared_transactions to be at least the flush parallelism.
+ */
+@ConditionOnEntityRecordParser
+@CustomLog
+@Named
+class ParallelBatchPersister implements Closeable, TransactionSynchronization {
+
+    static final String GID_PREFIX = "parallel_flush";
+
+    private static final String RECOVER_SQL =
+            """
+            select gid, pg_xact_status(split_part(gid, ':', 2)::xid8) as parent_status
+            from pg_prepared_xacts
+            where database = current_database() and gid like 'parallel\\_flush:%'
+            """;
+
+    private final BatchPersister batchPersister;
+    private final Map<String, Connection> connections = new ConcurrentHashMap<>();
+    private final DataSource dataSource;
+    private final int parallelism;
+    private final Map<String, Connection> prepared = new ConcurrentHashMap<>();
+    private final AtomicBoolean registered = new AtomicBoolean(false);
+    private final Scheduler scheduler;
+    private final AtomicBoolean validated = new AtomicBoolean(false);
+    private String parentTransactionId;
+
+    ParallelBatchPersister(BatchPersister batchPersister, DataSource dataSource, SqlProperties sqlProperties) {
+        this.batchPersister = batchPersister;
+        this.dataSource = dataSource;
+        this.parallelism = sqlProperties.getFlushParallelism();
+        this.scheduler = Schedulers.newParallel("parallel-flush", parallelism);
+    }
+
+    /**
+     * Commits or rolls back the prepared child transactions the same way as the parent, and rolls back the child
+     * transactions that were not prepared, either because the parent transaction rolled back or because another child
+     * failed to prepare. Prepared children are left for recovery if the outcome of the parent is unknown or resolving
+     * them fails.
+     */
+    @Override
+    public void afterCompletion(int status) {
+        try {
+            var resolution =
+                    switch (status) {
+                        case STATUS_COMMITTED -> "commit prepared";
+                        case STATUS_ROLLED_BACK -> "rollback prepared";
+                        default -> null;
+                    };
+
+            for (var entry : prepared.entrySet()) {
+                try (var connection = entry.getValue()) {
+                    if (resolution != null) {
+                        resolve(connection, resolution, entry.getKey());
+                    }
+                } catch (Exception e) {
+                    log.error("Error completing prepared parallel flush transaction {}", entry.getKey(), e);
+                }
+            }
+
+            for (var entry : connections.entrySet()) {
+                try (var connection = entry.getValue()) {
+                    connection.rollback();
+                } catch (Exception e) {
+                    log.error(
+                            "Error rolling back parallel flush transaction on thread {} with parent status {}",
+                            entry.getKey(),
+                            status,
+                            e);
+                }
+            }
+        } finally {
+            connections.clear();
+            prepared.clear();
+            parentTransactionId = null;
+            registered.set(false);
+        }
+    }
+
+    /**
+     * Prepares the child transactions just before the parent transaction commits. If a child fails to prepare, the
+     * exception fails the parent transaction, so the parent and the children are rolled back.
+     */
+    @Override
+    public void beforeCommit(boolean readOnly) {
+        int index = 0;
+
+        for (var iterator = connections.entrySet().iterator(); iterator.hasNext(); ) {
+            var entry = iterator.next();
+            var connection = entry.getValue();
+            var gid = String.join(":", GID_PREFIX, parentTransactionId, String.valueOf(index++));
+
+            try (var statement = connection.createStatement()) {
+                statement.execute("prepare transaction '" + gid + "'");
+                // The prepared transaction is no longer associated with the session, which can resolve it afterward
+                connection.setAutoCommit(true);
+                prepared.put(gid, connection);
+                iterator.remove();
+            } catch (SQLException e) {
+                throw new ParserException("Error preparing parallel flush transaction on thread " + entry.getKey(), e);
+            }
+        }
+    }
+
+    @Override
+    public void close() {
+        scheduler.dispose();
+    }
+
+    /**
+     * Persists each batch concurrently and waits for all of them to complete. Must be called within a transaction.
+     *
+     * @param batches the batches of domain objects, each belonging to a different table
+     */
+    public void persist(Collection<Collection<?>> batches) {
+        if (batches.isEmpty()) {
+            return;
+        }
+
+        if (!registered.get()) {
+            validate();
+            recover();
+            parentTransactionId = getParentTransactionId();
+            TransactionSynchronizationManager.registerSynchronization(this);
+            registered.set(true);
+        }
+
+        Mono.when(batches.stream().map(this::process).toList()).block();
+    }
+
+    @VisibleForTesting
+    Map<String, Connection> getConnections() {
+        return connections;
+    }
+
+    @VisibleForTesting
+    Map<String, Connection> getPrepared() {
+        return prepared;
+    }
+
+    /**
+     * Resolves the child transactions left prepared by a previous run by the outcome of their parent transaction.
+     * Children of a parent still in progress are left alone.
+     */
+    @VisibleForTesting
+    void recover() {
+        try (var connection = dataSource.getConnection()) {
+            connection.setAutoCommit(true);
+
+            try (var statement = connection.createStatement();
+                    var resultSet = statement.executeQuery(RECOVER_SQL)) {
+                while (resultSet.next()) {
+                    var gid = resultSet.getString("gid");
+                    var parentStatus = resultSet.getString("parent_status");
+
+                    if (parentStatus == null) {
+                        log.error("Unable to recover parallel flush transaction {} with unknown parent status", gid);
+                    } else if (!"in progress".equals(parentStatus)) {
+                        var resolution = "committed".equals(parentStatus) ? "commit prepared" : "rollback prepared";
+                        log.warn("Recovering parallel flush transaction {} with {}", gid, resolution);
+
+                        try {
+                            resolve(connection, resolution, gid);
+                        } catch (SQLException e) {
+                            // It may have been resolved concurrently by the completion of its parent
+                            log.warn("Unable to recover parallel flush transaction {}: {}", gid, e.getMessage());
+                        }
+                    }
+                }
+            }
+        } catch (SQLException e) {
+            throw new ParserException("Error recovering prepared parallel flush transactions", e);
+        }
+    }
+
+    private void resolve(Connection connection, String resolution, String gid) throws SQLException {
+        try (var statement = connection.createStatement()) {
+            statement.execute(resolution + " '" + gid + "'");
+        }
+    }
+
+    private void validate() {
+        if (validated.get()) {
+            return;
+        }
+
+        try (var connection = dataSource.getConnection();
+                var statement = connection.createStatement();
+                var resultSet = statement.executeQuery("show max_prepared_transactions")) {
+            int maxPreparedTransactions = resultSet.next() ? resultSet.getInt(1) : 0;
+            if (maxPreparedTransactions < parallelism) {
+                throw new ParserException(String.format(
+                        "Parallel flush requires max_prepared_transactions of at least %d but it is %d",
+                        parallelism, maxPreparedTransactions));
+            }
+            validated.set(true);
+        } catch (SQLException e) {
+            throw new ParserException("Error reading max_prepared_transactions", e);
+        }
+    }
+
+    private String getParentTransactionId() {
+        var connection = DataSourceUtils.getConnection(dataSource);
+
+        try (var statement = connection.createStatement();
+                var resultSet = statement.executeQuery("select pg_current_xact_id()::text")) {
+            resultSet.next();
+            return resultSet.getString(1);
+        } catch (SQLException e) {
+            throw new ParserException("Error getting the parser transaction ID", e);
+        } finally {
+            DataSourceUtils.releaseConnection(connection, dataSource);
+        }
+    }
+
+    private Mono<Void> process(Collection<?> items) {
+        return Mono.fromRunnable(() -> persistBatch(items)).subscribeOn(scheduler).then();
+    }
+
+    private void persistBatch(Collection<?> items) {
+        connections.computeIfAbsent(Thread.currentThread().getName(), k -> beginTransaction());
+        batchPersister.persist(items);
+    }
+
+    @SneakyThrows
+    private Connection beginTransaction() {
+        // Clean thread from previous run
+        TransactionSynchronizationManager.clear();
+        TransactionSynchronizationManager.unbindResourceIfPossible(dataSource);
+
+        // Subsequent calls to get connection on this thread will use the same connection
+        TransactionSynchronizationManager.initSynchronization();
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+        var connection = DataSourceUtils.getConnection(dataSource);
+        connection.setAutoCommit(false);
+        return connection;
+    }
+}
@@ -4,9 +4,11 @@ package org.hiero.mirror.importer.parser.record.entity.sql;
 
 import com.google.common.base.Stopwatch;
 import jakarta.inject.Named;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import java.util.Objects;
+import java.util.Set;
 import lombok.CustomLog;
 import lombok.RequiredArgsConstructor;
 import org.apache.commons.lang3.ArrayUtils;
@@ -49,14 +51,17 @@ import org.hiero.mirror.common.domain.transaction.Prng;
 import org.hiero.mirror.common.domain.transaction.RecordFile;
 import org.hiero.mirror.common.domain.transaction.StakingRewardTransfer;
 import org.hiero.mirror.common.domain.transaction.Transaction;
+import org.hiero.mirror.common.domain.transaction.TransactionHash;
 import org.hiero.mirror.common.domain.transaction.TransactionSignature;
 import org.hiero.mirror.common.domain.transaction.TransactionType;
 import org.hiero.mirror.importer.domain.EntityIdService;
 import org.hiero.mirror.importer.exception.ImporterException;
 import org.hiero.mirror.importer.exception.ParserException;
 import org.hiero.mirror.importer.parser.batch.BatchPersister;
+import org.hiero.mirror.importer.parser.record.RecordFilePipeline;
 import org.hiero.mirror.importer.parser.record.RecordStreamFileListener;
 import org.hiero.mirror.importer.parser.record.entity.ConditionOnEntityRecordParser;
+import org.hiero.mirror.importer.parser.record.entity.DomainClassComparator;
 import org.hiero.mirror.importer.parser.record.entity.EntityListener;
 import org.hiero.mirror.importer.parser.record.entity.EntityProperties;
 import org.hiero.mirror.importer.parser.record.entity.ParserContext;
@@ -75,11 +80,17 @@ public class SqlEntityListener implements EntityListener, RecordStreamFileListen
 
     private static final List<Class<?>> NFT_FLUSH = List.of(Token.class, TokenAccount.class, Nft.class);
 
+    // Persisted on the parent connection when flushing in parallel. TransactionHash manages its own sharded connections
+    // and RecordFile should only become visible once the parent transaction commits.
+    private static final Set<Class<?>> SEQUENTIAL_FLUSH = Set.of(RecordFile.class, TransactionHash.class);
+
     private final BatchPersister batchPersister;
     private final ParserContext context;
     private final EntityIdService entityIdService;
     private final EntityProperties entityProperties;
     private final NftRepository nftRepository;
+    private final ParallelBatchPersister parallelBatchPersister;
+    private final RecordFilePipeline pipeline;
     private final TokenAccountRepository tokenAccountRepository;
     private final SqlProperties sqlProperties;
 
@@ -301,6 +312,7 @@ public class SqlEntityListener implements EntityListener, RecordStreamFileListen
             return Objects.requireNonNullElse(existing.getAssociated(), true);
         }
 
+        pipeline.await();
         return tokenAccountRepository
                 .findById(id)
                 .map(TokenAccount::getAssociated)
@@ -378,7 +390,13 @@ public class SqlEntityListener implements EntityListener, RecordStreamFileListen
     private void flush() {
         try {
             var stopwatch = Stopwatch.createStarted();
-            context.forEach(batchPersister::persist);
+
+            if (sqlProperties.isParallelFlush()) {
+                flushParallel();
+            } else {
+                context.forEach(batchPersister::persist);
+            }
+
             log.info("Completed batch inserts in {}", stopwatch);
         } catch (ParserException e) {
             throw e;
@@ -387,8 +405,29 @@ public class SqlEntityListener implements EntityListener, RecordStreamFileListen
         }
     }
 
+    private void flushParallel() {
+        var independent = new ArrayList<Collection<?>>();
+        var ordered = new ArrayList<Collection<?>>();
+
+        context.forEachDomainClass((domainClass, items) -> {
+            if (items.isEmpty()) {
+                return;
+            }
+
+            if (DomainClassComparator.isOrdered(domainClass) || SEQUENTIAL_FLUSH.contains(domainClass)) {
+                ordered.add(items);
+            } else {
+                independent.add(items);
+            }
+        });
+
+        parallelBatchPersister.persist(independent);
+        ordered.forEach(batchPersister::persist);
+    }
+
     private void flushNftState() {
         try {
+            pipeline.awaitForWrite();
             // flush tables required for an accurate nft state in database to ensure correct state-dependent changes
             NFT_FLUSH.forEach(c -> {
                 var data = context.get(c);
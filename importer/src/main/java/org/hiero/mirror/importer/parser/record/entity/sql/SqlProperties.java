@@ -2,6 +2,7 @@
 
 package org.hiero.mirror.importer.parser.record.entity.sql;
 
+import jakarta.validation.constraints.Min;
 import lombok.Data;
 import org.hiero.mirror.importer.parser.record.entity.ConditionOnEntityRecordParser;
 import org.springframework.boot.context.properties.ConfigurationProperties;
@@ -14,4 +15,9 @@ import org.springframework.validation.annotation.Validated;
 public class SqlProperties {
 
     private boolean enabled = true;
+
+    @Min(1)
+    private int flushParallelism = 4;
+
+    private boolean parallelFlush = false;
 }
@@ -12,6 +12,7 @@ import org.bouncycastle.jcajce.provider.digest.Keccak;
 import org.bouncycastle.util.encoders.Hex;
 import org.hiero.mirror.common.domain.entity.EntityId;
 import org.hiero.mirror.common.domain.transaction.EthereumTransaction;
+import org.hiero.mirror.importer.parser.record.RecordFilePipeline;
 import org.hiero.mirror.importer.repository.FileDataRepository;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -20,6 +21,7 @@ import org.slf4j.LoggerFactory;
 abstract class AbstractEthereumTransactionParser implements EthereumTransactionParser {
 
     private final FileDataRepository fileDataRepository;
+    private final RecordFilePipeline pipeline;
     private final Logger log = LoggerFactory.getLogger(getClass());
 
     @Override
@@ -31,6 +33,9 @@ abstract class AbstractEthereumTransactionParser implements EthereumTransactionP
             return getHash(transactionBytes);
         }
 
+        // The call data file may have been created in a record file that's still being persisted
+        pipeline.await();
+
         try {
             var ethereumTransaction = decode(transactionBytes);
 
@@ -9,6 +9,7 @@ import jakarta.inject.Named;
 import java.util.List;
 import org.hiero.mirror.common.domain.transaction.EthereumTransaction;
 import org.hiero.mirror.importer.exception.InvalidEthereumBytesException;
+import org.hiero.mirror.importer.parser.record.RecordFilePipeline;
 import org.hiero.mirror.importer.repository.FileDataRepository;
 
 @Named
@@ -19,8 +20,8 @@ public class Eip1559EthereumTransactionParser extends AbstractEthereumTransactio
     private static final String TRANSACTION_TYPE_NAME = "EIP1559";
     private static final int EIP1559_TYPE_RLP_ITEM_COUNT = 12;
 
-    public Eip1559EthereumTransactionParser(FileDataRepository fileDataRepository) {
-        super(fileDataRepository);
+    public Eip1559EthereumTransactionParser(FileDataRepository fileDataRepository, RecordFilePipeline pipeline) {
+        super(fileDataRepository, pipeline);
     }
 
     @Override
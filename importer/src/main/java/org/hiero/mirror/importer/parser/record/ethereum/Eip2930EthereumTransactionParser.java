@@ -9,6 +9,7 @@ import jakarta.inject.Named;
 import java.util.List;
 import org.hiero.mirror.common.domain.transaction.EthereumTransaction;
 import org.hiero.mirror.importer.exception.InvalidEthereumBytesException;
+import org.hiero.mirror.importer.parser.record.RecordFilePipeline;
 import org.hiero.mirror.importer.repository.FileDataRepository;
 
 @Named
@@ -19,8 +20,8 @@ public class Eip2930EthereumTransactionParser extends AbstractEthereumTransactio
     private static final String TRANSACTION_TYPE_NAME = "EIP2930";
     private static final int EIP2930_TYPE_RLP_ITEM_COUNT = 11;
 
-    public Eip2930EthereumTransactionParser(FileDataRepository fileDataRepository) {
-        super(fileDataRepository);
+    public Eip2930EthereumTransactionParser(FileDataRepository fileDataRepository, RecordFilePipeline pipeline) {
+        super(fileDataRepository, pipeline);
     }
 
     @Override
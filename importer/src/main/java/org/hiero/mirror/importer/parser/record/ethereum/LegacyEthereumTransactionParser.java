@@ -9,6 +9,7 @@ import jakarta.inject.Named;
 import java.math.BigInteger;
 import org.hiero.mirror.common.domain.transaction.EthereumTransaction;
 import org.hiero.mirror.importer.exception.InvalidEthereumBytesException;
+import org.hiero.mirror.importer.parser.record.RecordFilePipeline;
 import org.hiero.mirror.importer.repository.FileDataRepository;
 
 @Named
@@ -18,8 +19,8 @@ public class LegacyEthereumTransactionParser extends AbstractEthereumTransaction
     private static final int LEGACY_TYPE_RLP_ITEM_COUNT = 9;
     private static final String TRANSACTION_TYPE_NAME = "Legacy";
 
-    public LegacyEthereumTransactionParser(FileDataRepository fileDataRepository) {
-        super(fileDataRepository);
+    public LegacyEthereumTransactionParser(FileDataRepository fileDataRepository, RecordFilePipeline pipeline) {
+        super(fileDataRepository, pipeline);
     }
 
     @Override
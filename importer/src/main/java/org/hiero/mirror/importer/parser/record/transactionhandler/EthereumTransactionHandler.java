@@ -50,6 +50,24 @@ class EthereumTransactionHandler extends AbstractTransactionHandler {
         return TransactionType.ETHEREUMTRANSACTION;
     }
 
+    /**
+     * Decodes the RLP encoded ethereum data ahead of time, which is the bulk of the CPU work of this handler.
+     */
+    @Override
+    public void prepare(RecordItem recordItem) {
+        if (!entityProperties.getPersist().isEthereumTransactions()) {
+            return;
+        }
+
+        try {
+            var body = recordItem.getTransactionBody().getEthereumTransaction();
+            recordItem.setPreparedEthereumTransaction(
+                    ethereumTransactionParser.decode(DomainUtils.toBytes(body.getEthereumData())));
+        } catch (RuntimeException e) {
+            // Left for updateTransaction to decode again and report in order
+        }
+    }
+
     @Override
     protected void doUpdateTransaction(Transaction transaction, RecordItem recordItem) {
         if (!entityProperties.getPersist().isEthereumTransactions()) {
@@ -59,7 +77,13 @@ class EthereumTransactionHandler extends AbstractTransactionHandler {
         var body = recordItem.getTransactionBody().getEthereumTransaction();
         var ethereumDataBytes = DomainUtils.toBytes(body.getEthereumData());
         try {
-            var ethereumTransaction = ethereumTransactionParser.decode(ethereumDataBytes);
+            var ethereumTransaction = recordItem.getPreparedEthereumTransaction();
+            if (ethereumTransaction == null) {
+                ethereumTransaction = ethereumTransactionParser.decode(ethereumDataBytes);
+            } else {
+                // Processing the same record item again on retry must start from a freshly decoded transaction
+                recordItem.setPreparedEthereumTransaction(null);
+            }
 
             // update ethereumTransaction with body values
             if (body.hasCallData()) {
@@ -29,6 +29,12 @@ public interface TransactionHandler {
      */
     TransactionType getType();
 
+    /**
+     * Override to prepare the data that only depends on the record item itself, like decoding its transaction body. It
+     * can be invoked concurrently for the record items of a record file, before they're processed in order.
+     */
+    default void prepare(RecordItem recordItem) {}
+
     /**
      * Override to update fields of the ContractResult's (domain) fields.
      */
@@ -5,11 +5,14 @@ package org.hiero.mirror.importer.reader.block;
 import static org.hiero.mirror.common.domain.DigestAlgorithm.SHA_384;
 import static org.hiero.mirror.common.util.DomainUtils.createSha384Digest;
 
+import com.google.protobuf.ByteString;
 import com.hedera.hapi.block.stream.protoc.BlockItem;
 import java.security.MessageDigest;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
+import java.util.function.IntConsumer;
+import java.util.stream.IntStream;
 import lombok.Data;
 import org.hiero.mirror.common.util.DomainUtils;
 
@@ -17,25 +20,50 @@ import org.hiero.mirror.common.util.DomainUtils;
  * Calculates a block's root hash per the algorithm defined in HIP-1056. Note both the input merkle tree and the output
  * merkle tree are padded with SHA2-384 hash of an empty bytearray to be perfect binary trees. Note none of the methods
  * are reentrant.
+ * <p>
+ * The serialized block items are only hashed when the root hash is calculated, so the leaves and each level of large
+ * trees can be hashed in parallel. The padding is never materialized, instead the hash of a fully padded subtree at
+ * each level is used for the missing right siblings.
  */
 @Data
 class BlockRootHashDigest {
 
     private static final byte[] EMPTY_HASH = createSha384Digest().digest(new byte[0]);
+    private static final int MAX_DEPTH = Integer.SIZE;
+    private static final byte[][] PADDING_HASHES = paddingHashes();
+    private static final int PARALLEL_THRESHOLD = 256;
+    private static final ThreadLocal<MessageDigest> DIGEST = ThreadLocal.withInitial(DomainUtils::createSha384Digest);
 
-    private final MessageDigest digest = createSha384Digest();
     private boolean finalized;
-    private final List<byte[]> inputHashes = new ArrayList<>();
-    private final List<byte[]> outputHashes = new ArrayList<>();
+    private final List<ByteString> inputBlockItems = new ArrayList<>();
+    private final List<ByteString> outputBlockItems = new ArrayList<>();
     private byte[] previousHash;
     private byte[] startOfBlockStateHash;
 
     public void addInputBlockItem(BlockItem blockItem) {
-        inputHashes.add(digest.digest(blockItem.toByteArray()));
+        addInputBlockItem(blockItem.toByteString());
+    }
+
+    /**
+     * Adds an input block item using its serialized bytes as received, avoiding the cost of serializing it again.
+     *
+     * @param blockItem the serialized block item
+     */
+    public void addInputBlockItem(ByteString blockItem) {
+        inputBlockItems.add(blockItem);
     }
 
     public void addOutputBlockItem(BlockItem blockItem) {
-        outputHashes.add(digest.digest(blockItem.toByteArray()));
+        addOutputBlockItem(blockItem.toByteString());
+    }
+
+    /**
+     * Adds an output block item using its serialized bytes as received, avoiding the cost of serializing it again.
+     *
+     * @param blockItem the serialized block item
+     */
+    public void addOutputBlockItem(ByteString blockItem) {
+        outputBlockItems.add(blockItem);
     }
 
     public String digest() {
@@ -46,11 +74,12 @@ class BlockRootHashDigest {
         validateHash(previousHash, "previousHash");
         validateHash(startOfBlockStateHash, "startOfBlockStateHash");
 
-        List<byte[]> leaves = new ArrayList<>();
-        leaves.add(previousHash);
-        leaves.add(getRootHash(inputHashes));
-        leaves.add(getRootHash(outputHashes));
-        leaves.add(startOfBlockStateHash);
+        byte[][] leaves = {
+            previousHash,
+            getRootHash(hashLeaves(inputBlockItems)),
+            getRootHash(hashLeaves(outputBlockItems)),
+            startOfBlockStateHash
+        };
 
         byte[] rootHash = getRootHash(leaves);
         finalized = true;
@@ -68,34 +97,60 @@ class BlockRootHashDigest {
         this.startOfBlockStateHash = startOfBlockStateHash;
     }
 
-    private byte[] getRootHash(List<byte[]> leaves) {
-        if (leaves.isEmpty()) {
+    private static byte[][] hashLeaves(List<ByteString> blockItems) {
+        var hashes = new byte[blockItems.size()][];
+        forEach(hashes.length, i -> {
+            var digest = DIGEST.get();
+            digest.update(blockItems.get(i).asReadOnlyByteBuffer());
+            hashes[i] = digest.digest();
+        });
+        return hashes;
+    }
+
+    private static byte[] getRootHash(byte[][] leaves) {
+        if (leaves.length == 0) {
             return EMPTY_HASH;
         }
 
-        // Pad leaves with EMPTY_HASH to the next 2^n to form a perfect binary tree
-        int size = leaves.size();
-        if ((size & (size - 1)) != 0) {
-            size = Integer.highestOneBit(size) << 1;
-            while (leaves.size() < size) {
-                leaves.add(EMPTY_HASH);
-            }
+        // Iteratively calculate the parent node hash as h(left | right) to get the root hash in bottom-up fashion. A
+        // missing right sibling is the root of a subtree made entirely of padding at the current level.
+        var nodes = leaves;
+        for (int level = 0; nodes.length > 1; level++) {
+            var children = nodes;
+            var padding = PADDING_HASHES[level];
+            var parents = new byte[(children.length + 1) >> 1][];
+
+            forEach(parents.length, i -> {
+                int left = i << 1;
+                var digest = DIGEST.get();
+                digest.update(children[left]);
+                digest.update(left + 1 < children.length ? children[left + 1] : padding);
+                parents[i] = digest.digest();
+            });
+
+            nodes = parents;
         }
 
-        // Iteratively calculate the parent node hash as h(left | right) to get the root hash in bottom-up fashion
-        while (size > 1) {
-            for (int i = 0; i < size; i += 2) {
-                byte[] left = leaves.get(i);
-                byte[] right = leaves.get(i + 1);
-                digest.update(left);
-                digest.update(right);
-                leaves.set(i >> 1, digest.digest());
-            }
-
-            size >>= 1;
+        return nodes[0];
+    }
+
+    private static void forEach(int count, IntConsumer action) {
+        var range = IntStream.range(0, count);
+        (count >= PARALLEL_THRESHOLD ? range.parallel() : range).forEach(action);
+    }
+
+    private static byte[][] paddingHashes() {
+        var digest = createSha384Digest();
+        var hashes = new byte[MAX_DEPTH][];
+        hashes[0] = EMPTY_HASH;
+
+        for (int i = 1; i < MAX_DEPTH; i++) {
+            digest.update(hashes[i - 1]);
+            digest.update(hashes[i - 1]);
+            hashes[i] = digest.digest();
         }
 
-        return leaves.getFirst();
+        return hashes;
     }
 
     private static void validateHash(byte[] hash, String name) {
@@ -2,7 +2,84 @@
 
 package org.hiero.mirror.importer.reader.block;
 
+import com.google.protobuf.ByteString;
+import com.google.protobuf.CodedOutputStream;
+import com.hedera.hapi.block.stream.protoc.Block;
 import com.hedera.hapi.block.stream.protoc.BlockItem;
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.List;
+import javax.annotation.Nullable;
 
-public record BlockStream(List<BlockItem> blockItems, byte[] bytes, String filename, long loadStart, long nodeId) {}
+/**
+ * A block's items to be read.
+ *
+ * @param blockItems     the parsed block items
+ * @param blockItemBytes the serialized block items as received, in the same order as the block items, or null if not
+ *                       available
+ * @param bytes          the block file bytes as downloaded, compressed, or null for a block streamed from a block node
+ * @param filename       the block filename
+ * @param loadStart      the time the block started loading
+ * @param nodeId         the node the block was downloaded from
+ */
+public record BlockStream(
+        List<BlockItem> blockItems,
+        @Nullable List<ByteString> blockItemBytes,
+        byte[] bytes,
+        String filename,
+        long loadStart,
+        long nodeId) {
+
+    public BlockStream(List<BlockItem> blockItems, byte[] bytes, String filename, long loadStart, long nodeId) {
+        this(blockItems, null, bytes, filename, loadStart, nodeId);
+    }
+
+    /**
+     * Gets the size of the block file as downloaded, or the size of the uncompressed serialized block calculated from
+     * the block item bytes for a block streamed from a block node, which has no block file.
+     *
+     * @return the size in bytes or null if unknown
+     */
+    @Nullable
+    public Integer size() {
+        if (bytes != null) {
+            return bytes.length;
+        }
+
+        return blockItemBytes != null ? getSerializedSize(blockItemBytes) : null;
+    }
+
+    /**
+     * Serializes the block by copying the block item bytes as received instead of serializing the block items again.
+     *
+     * @return the serialized block or null if the block item bytes aren't available
+     */
+    @Nullable
+    public byte[] serializeBlock() {
+        if (blockItemBytes == null) {
+            return null;
+        }
+
+        var serialized = new byte[getSerializedSize(blockItemBytes)];
+        var output = CodedOutputStream.newInstance(serialized);
+
+        try {
+            for (var blockItem : blockItemBytes) {
+                output.writeBytes(Block.ITEMS_FIELD_NUMBER, blockItem);
+            }
+
+            output.checkNoSpaceLeft();
+            return serialized;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static int getSerializedSize(List<ByteString> blockItemBytes) {
+        int size = 0;
+        for (var blockItem : blockItemBytes) {
+            size += CodedOutputStream.computeBytesSize(Block.ITEMS_FIELD_NUMBER, blockItem);
+        }
+        return size;
+    }
+}
@@ -12,6 +12,7 @@ import static com.hedera.hapi.block.stream.protoc.BlockItem.ItemCase.STATE_CHANG
 import static com.hedera.hapi.block.stream.protoc.BlockItem.ItemCase.TRANSACTION_OUTPUT;
 import static com.hedera.hapi.block.stream.protoc.BlockItem.ItemCase.TRANSACTION_RESULT;
 
+import com.google.protobuf.ByteString;
 import com.google.protobuf.InvalidProtocolBufferException;
 import com.hedera.hapi.block.stream.output.protoc.StateChanges;
 import com.hedera.hapi.block.stream.output.protoc.TransactionOutput;
@@ -26,7 +27,9 @@ import java.util.Collections;
 import java.util.EnumMap;
 import java.util.List;
 import java.util.Objects;
+import javax.annotation.Nullable;
 import lombok.CustomLog;
+import lombok.RequiredArgsConstructor;
 import lombok.Setter;
 import lombok.Value;
 import lombok.experimental.NonFinal;
@@ -34,22 +37,28 @@ import org.hiero.mirror.common.domain.DigestAlgorithm;
 import org.hiero.mirror.common.domain.transaction.BlockFile;
 import org.hiero.mirror.common.util.DomainUtils;
 import org.hiero.mirror.importer.exception.InvalidStreamFileException;
+import org.hiero.mirror.importer.parser.record.RecordParserProperties;
 
 @CustomLog
 @Named
+@RequiredArgsConstructor
 public class BlockStreamReaderImpl implements BlockStreamReader {
 
+    private final RecordParserProperties recordParserProperties;
+
     @Override
     public BlockFile read(@NotNull BlockStream blockStream) {
-        var context = new ReaderContext(blockStream.blockItems(), blockStream.filename());
-        byte[] bytes = blockStream.bytes();
-        Integer size = bytes != null ? bytes.length : null;
+        var context = new ReaderContext(
+                blockStream.blockItems(),
+                blockStream.blockItemBytes(),
+                blockStream.filename(),
+                recordParserProperties.isProtobufAliasing());
         var blockFileBuilder = context.getBlockFile()
-                .bytes(bytes)
+                .bytes(blockStream.bytes())
                 .loadStart(blockStream.loadStart())
                 .name(blockStream.filename())
                 .nodeId(blockStream.nodeId())
-                .size(size)
+                .size(blockStream.size())
                 .version(VERSION);
 
         var blockItem = context.readBlockItemFor(RECORD_FILE);
@@ -154,6 +163,7 @@ public class BlockStreamReaderImpl implements BlockStreamReader {
 
                 var blockItem = org.hiero.mirror.common.domain.transaction.BlockItem.builder()
                         .previous(context.getLastBlockItem())
+                        .protobufAliasing(context.isProtobufAliasing())
                         .stateChanges(Collections.unmodifiableList(stateChangesList))
                         .transaction(transaction)
                         .transactionResult(transactionResult)
@@ -197,8 +207,10 @@ public class BlockStreamReaderImpl implements BlockStreamReader {
     private static class ReaderContext {
         private BlockFile.BlockFileBuilder blockFile;
         private List<BlockItem> blockItems;
+        private List<ByteString> blockItemBytes;
         private BlockRootHashDigest blockRootHashDigest;
         private String filename;
+        private boolean protobufAliasing;
 
         @NonFinal
         private int batchIndex;
@@ -216,11 +228,17 @@ public class BlockStreamReaderImpl implements BlockStreamReader {
         @Setter
         private Long lastMetaTimestamp; // The last consensus timestamp from metadata
 
-        ReaderContext(@NotNull List<BlockItem> blockItems, @NotNull String filename) {
+        ReaderContext(
+                @NotNull List<BlockItem> blockItems,
+                @Nullable List<ByteString> blockItemBytes,
+                @NotNull String filename,
+                boolean protobufAliasing) {
             this.blockFile = BlockFile.builder();
             this.blockItems = blockItems;
+            this.blockItemBytes = blockItemBytes;
             this.blockRootHashDigest = new BlockRootHashDigest();
             this.filename = filename;
+            this.protobufAliasing = protobufAliasing;
         }
 
         public void setLastBlockItem(org.hiero.mirror.common.domain.transaction.BlockItem lastBlockItem) {
@@ -235,12 +253,15 @@ public class BlockStreamReaderImpl implements BlockStreamReader {
             var blockItemProto = readBlockItemFor(EVENT_TRANSACTION);
 
             if (blockItemProto != null && blockItemProto.hasEventTransaction()) {
-                return Transaction.parseFrom(
-                        blockItemProto.getEventTransaction().getApplicationTransaction());
+                return DomainUtils.parse(
+                        Transaction.parser(),
+                        blockItemProto.getEventTransaction().getApplicationTransaction(),
+                        protobufAliasing);
             }
 
             if (batchBody != null && batchIndex < batchBody.getTransactionsCount()) {
-                var innerTransaction = Transaction.parseFrom(batchBody.getTransactions(batchIndex++));
+                var innerTransaction = DomainUtils.parse(
+                        Transaction.parser(), batchBody.getTransactions(batchIndex++), protobufAliasing);
                 if (innerTransaction == null || Transaction.getDefaultInstance().equals(innerTransaction)) {
                     throw new InvalidStreamFileException(
                             "Failed to parse inner transaction from atomic batch in block " + filename);
@@ -267,17 +288,22 @@ public class BlockStreamReaderImpl implements BlockStreamReader {
                 return null;
             }
 
-            index++;
             switch (itemCase) {
-                case EVENT_HEADER, EVENT_TRANSACTION, ROUND_HEADER -> blockRootHashDigest.addInputBlockItem(blockItem);
+                case EVENT_HEADER, EVENT_TRANSACTION, ROUND_HEADER ->
+                    blockRootHashDigest.addInputBlockItem(getBlockItemBytes(blockItem));
                 case BLOCK_HEADER, STATE_CHANGES, TRANSACTION_OUTPUT, TRANSACTION_RESULT ->
-                    blockRootHashDigest.addOutputBlockItem(blockItem);
+                    blockRootHashDigest.addOutputBlockItem(getBlockItemBytes(blockItem));
                 default -> {
                     // other block items aren't considered input / output
                 }
             }
 
+            index++;
             return blockItem;
         }
+
+        private ByteString getBlockItemBytes(BlockItem blockItem) {
+            return blockItemBytes != null ? blockItemBytes.get(index) : blockItem.toByteString();
+        }
     }
 }
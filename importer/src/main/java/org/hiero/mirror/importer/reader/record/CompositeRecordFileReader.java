@@ -3,12 +3,16 @@
 package org.hiero.mirror.importer.reader.record;
 
 import com.google.common.base.Stopwatch;
+import com.sun.management.ThreadMXBean;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Meter.MeterProvider;
+import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.inject.Named;
 import java.io.DataInputStream;
 import java.io.IOException;
+import java.lang.management.ManagementFactory;
 import lombok.CustomLog;
 import lombok.NonNull;
-import lombok.RequiredArgsConstructor;
 import org.hiero.mirror.common.domain.transaction.RecordFile;
 import org.hiero.mirror.importer.domain.StreamFileData;
 import org.hiero.mirror.importer.exception.InvalidStreamFileException;
@@ -18,13 +22,36 @@ import org.springframework.context.annotation.Primary;
 @CustomLog
 @Named
 @Primary
-@RequiredArgsConstructor
 public class CompositeRecordFileReader implements RecordFileReader {
 
     private final RecordFileReaderImplV1 version1Reader;
     private final RecordFileReaderImplV2 version2Reader;
     private final RecordFileReaderImplV5 version5Reader;
     private final ProtoRecordFileReader version6Reader;
+    private final MeterProvider<DistributionSummary> memoryMetric;
+    private final ThreadMXBean threadMXBean;
+
+    public CompositeRecordFileReader(
+            MeterRegistry meterRegistry,
+            RecordFileReaderImplV1 version1Reader,
+            RecordFileReaderImplV2 version2Reader,
+            RecordFileReaderImplV5 version5Reader,
+            ProtoRecordFileReader version6Reader) {
+        this.version1Reader = version1Reader;
+        this.version2Reader = version2Reader;
+        this.version5Reader = version5Reader;
+        this.version6Reader = version6Reader;
+        this.memoryMetric = DistributionSummary.builder("hiero.mirror.importer.stream.read.memory")
+                .description("The memory allocated while reading a record file, an upper bound of its peak memory")
+                .baseUnit("bytes")
+                .tag("type", "RECORD")
+                .withRegistry(meterRegistry);
+        this.threadMXBean = ManagementFactory.getThreadMXBean() instanceof ThreadMXBean t
+                        && t.isThreadAllocatedMemorySupported()
+                        && t.isThreadAllocatedMemoryEnabled()
+                ? t
+                : null;
+    }
 
     @Override
     public RecordFile read(@NonNull StreamFileData streamFileData) {
@@ -32,8 +59,10 @@ public class CompositeRecordFileReader implements RecordFileReader {
         Stopwatch stopwatch = Stopwatch.createStarted();
         String filename = streamFileData.getFilename();
         int version = 0;
+        long allocatedBefore = getAllocatedBytes();
 
-        try (DataInputStream dis = new DataInputStream(streamFileData.getInputStream())) {
+        // Peek at the version without decompressing and caching the whole file, since the v6 reader streams it
+        try (DataInputStream dis = new DataInputStream(streamFileData.getStreamingInputStream())) {
             RecordFileReader reader;
             version = dis.readInt();
 
@@ -57,6 +86,12 @@ public class CompositeRecordFileReader implements RecordFileReader {
 
             RecordFile recordFile = reader.read(streamFileData);
             count = recordFile.getCount();
+
+            if (threadMXBean != null) {
+                long allocated = getAllocatedBytes() - allocatedBefore;
+                memoryMetric.withTag("version", String.valueOf(version)).record(allocated);
+            }
+
             return recordFile;
         } catch (IOException e) {
             throw new StreamFileReaderException("Error reading record file " + filename, e);
@@ -70,4 +105,8 @@ public class CompositeRecordFileReader implements RecordFileReader {
                     stopwatch);
         }
     }
+
+    private long getAllocatedBytes() {
+        return threadMXBean != null ? threadMXBean.getCurrentThreadAllocatedBytes() : 0L;
+    }
 }
@@ -5,19 +5,26 @@ package org.hiero.mirror.importer.reader.record;
 import static java.lang.String.format;
 import static org.hiero.mirror.common.util.DomainUtils.createSha384Digest;
 
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.ExtensionRegistryLite;
+import com.google.protobuf.UnknownFieldSet;
+import com.google.protobuf.UnsafeByteOperations;
+import com.google.protobuf.WireFormat;
 import com.hedera.services.stream.proto.HashAlgorithm;
 import com.hedera.services.stream.proto.RecordStreamFile;
+import com.hedera.services.stream.proto.RecordStreamItem;
 import jakarta.inject.Named;
-import java.io.DataInputStream;
 import java.io.DataOutputStream;
 import java.io.IOException;
-import java.io.InputStream;
+import java.security.DigestInputStream;
 import java.security.DigestOutputStream;
+import java.security.MessageDigest;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 import java.util.stream.Stream;
 import lombok.CustomLog;
+import lombok.RequiredArgsConstructor;
 import org.apache.commons.io.output.NullOutputStream;
 import org.hiero.mirror.common.domain.DigestAlgorithm;
 import org.hiero.mirror.common.domain.transaction.RecordFile;
@@ -27,21 +34,32 @@ import org.hiero.mirror.common.util.DomainUtils;
 import org.hiero.mirror.importer.domain.StreamFileData;
 import org.hiero.mirror.importer.domain.StreamFilename;
 import org.hiero.mirror.importer.exception.InvalidStreamFileException;
+import org.hiero.mirror.importer.parser.record.RecordParserProperties;
 import org.springframework.data.util.Version;
 
 @CustomLog
 @Named
+@RequiredArgsConstructor
 public class ProtoRecordFileReader implements RecordFileReader {
 
     public static final int VERSION = 6;
 
+    private static final ExtensionRegistryLite EXTENSION_REGISTRY = ExtensionRegistryLite.getEmptyRegistry();
+
+    private final RecordParserProperties recordParserProperties;
+
     @Override
     public RecordFile read(StreamFileData streamFileData) {
         var filename = streamFileData.getFilename();
         var loadStart = streamFileData.getStreamFilename().getTimestamp();
 
-        try (var inputStream = streamFileData.getInputStream()) {
-            var recordStreamFile = readRecordStreamFile(filename, inputStream);
+        try {
+            var digest = createSha384Digest();
+            var recordStreamItems = new ArrayList<RecordStreamItem>();
+            var recordStreamFile = recordParserProperties.isProtobufAliasing()
+                    ? readAliased(streamFileData, digest, recordStreamItems)
+                    : readStreaming(streamFileData, digest, recordStreamItems);
+            var fileHash = DomainUtils.bytesToHex(digest.digest());
             var startObjectRunningHash = recordStreamFile.getStartObjectRunningHash();
             var endObjectRunningHash = recordStreamFile.getEndObjectRunningHash();
             var startHashAlgorithm = startObjectRunningHash.getAlgorithm();
@@ -56,7 +74,7 @@ public class ProtoRecordFileReader implements RecordFileReader {
             }
 
             var bytes = streamFileData.getBytes();
-            var items = readItems(filename, recordStreamFile);
+            var items = readItems(filename, recordStreamFile, recordStreamItems);
             int count = items.size();
             long consensusEnd = items.get(count - 1).getConsensusTimestamp();
             var digestAlgorithm = getDigestAlgorithm(filename, startHashAlgorithm, endHashAlgorithm);
@@ -72,7 +90,7 @@ public class ProtoRecordFileReader implements RecordFileReader {
                     .consensusEnd(consensusEnd)
                     .count((long) count)
                     .digestAlgorithm(digestAlgorithm)
-                    .fileHash(getFileHash(streamFileData.getDecompressedBytes()))
+                    .fileHash(fileHash)
                     .hapiVersionMajor(majorVersion)
                     .hapiVersionMinor(minorVersion)
                     .hapiVersionPatch(patchVersion)
@@ -116,11 +134,6 @@ public class ProtoRecordFileReader implements RecordFileReader {
                 });
     }
 
-    private String getFileHash(byte[] fileData) {
-        var messageDigest = createSha384Digest();
-        return DomainUtils.bytesToHex(messageDigest.digest(fileData));
-    }
-
     private String getMetadataHash(RecordStreamFile recordStreamFile) throws IOException {
         try (var digestOutputStream = new DigestOutputStream(NullOutputStream.INSTANCE, createSha384Digest());
                 var dataOutputStream = new DataOutputStream(digestOutputStream)) {
@@ -157,8 +170,9 @@ public class ProtoRecordFileReader implements RecordFileReader {
         }
     }
 
-    private List<RecordItem> readItems(String filename, RecordStreamFile recordStreamFile) {
-        int count = recordStreamFile.getRecordStreamItemsCount();
+    private List<RecordItem> readItems(
+            String filename, RecordStreamFile recordStreamFile, List<RecordStreamItem> recordStreamItems) {
+        int count = recordStreamItems.size();
         if (count == 0) {
             throw new InvalidStreamFileException("No record stream objects in record file " + filename);
         }
@@ -168,10 +182,11 @@ public class ProtoRecordFileReader implements RecordFileReader {
                 new Version(hapiProtoVersion.getMajor(), hapiProtoVersion.getMinor(), hapiProtoVersion.getPatch());
         var items = new ArrayList<RecordItem>(count);
         RecordItem previousItem = null;
-        for (var recordStreamItem : recordStreamFile.getRecordStreamItemsList()) {
+        for (var recordStreamItem : recordStreamItems) {
             var recordItem = RecordItem.builder()
                     .hapiVersion(hapiVersion)
                     .previous(previousItem)
+                    .protobufAliasing(recordParserProperties.isProtobufAliasing())
                     .transactionRecord(recordStreamItem.getRecord())
                     .transaction(recordStreamItem.getTransaction())
                     .transactionIndex(items.size())
@@ -183,15 +198,54 @@ public class ProtoRecordFileReader implements RecordFileReader {
         return items;
     }
 
-    private RecordStreamFile readRecordStreamFile(String filename, InputStream inputStream) throws IOException {
-        try (var dataInputStream = new DataInputStream(inputStream)) {
-            int version = dataInputStream.readInt();
-            if (version != VERSION) {
-                throw new InvalidStreamFileException(
-                        format("Expected file %s with version %d, got %d.", filename, VERSION, version));
-            }
+    /*
+     * Parses the decompressed bytes with aliasing enabled, so the bytes fields of the items are views of the
+     * decompressed bytes instead of copies of them. This avoids a copy of every bytes field, like the call data, memos,
+     * hashes and bytecode, at the cost of materializing the decompressed bytes.
+     */
+    private RecordStreamFile readAliased(
+            StreamFileData streamFileData, MessageDigest digest, List<RecordStreamItem> recordStreamItems)
+            throws IOException {
+        var decompressedBytes = streamFileData.getDecompressedBytes();
+        digest.update(decompressedBytes);
+        // Wrapping the buffer marks it as immutable, which is required for the parsed bytes to alias it
+        var input = UnsafeByteOperations.unsafeWrap(decompressedBytes).newCodedInput();
+        input.enableAliasing(true);
+        return readRecordStreamFile(streamFileData.getFilename(), input, recordStreamItems);
+    }
 
-            return RecordStreamFile.parseFrom(dataInputStream);
+    // Hashes and parses the file as it's decompressed instead of materializing the decompressed bytes
+    private RecordStreamFile readStreaming(
+            StreamFileData streamFileData, MessageDigest digest, List<RecordStreamItem> recordStreamItems)
+            throws IOException {
+        try (var inputStream = new DigestInputStream(streamFileData.getStreamingInputStream(), digest)) {
+            var input = CodedInputStream.newInstance(inputStream);
+            return readRecordStreamFile(streamFileData.getFilename(), input, recordStreamItems);
         }
     }
+
+    /*
+     * Parses the record stream items one at a time as they're read from the input stream into the given list, and
+     * returns the record stream file with the remaining fields only.
+     */
+    private RecordStreamFile readRecordStreamFile(
+            String filename, CodedInputStream input, List<RecordStreamItem> recordStreamItems) throws IOException {
+        // The version is a big-endian int preceding the protobuf message
+        int version = Integer.reverseBytes(input.readRawLittleEndian32());
+        if (version != VERSION) {
+            throw new InvalidStreamFileException(
+                    format("Expected file %s with version %d, got %d.", filename, VERSION, version));
+        }
+
+        var otherFields = UnknownFieldSet.newBuilder();
+        for (int tag = input.readTag(); tag != 0; tag = input.readTag()) {
+            if (WireFormat.getTagFieldNumber(tag) == RecordStreamFile.RECORD_STREAM_ITEMS_FIELD_NUMBER) {
+                recordStreamItems.add(input.readMessage(RecordStreamItem.parser(), EXTENSION_REGISTRY));
+            } else {
+                otherFields.mergeFieldFrom(tag, input);
+            }
+        }
+
+        return RecordStreamFile.parseFrom(otherFields.build().toByteString());
+    }
 }
@@ -46,16 +46,23 @@ public class EntityMetadataRegistry {
     private final JdbcOperations jdbcOperations;
 
     public EntityMetadata lookup(Class<?> domainClass) {
+        if (AnnotationUtils.findAnnotation(domainClass, Upsertable.class) == null) {
+            throw new UnsupportedOperationException("Class is not annotated with @Upsertable: " + domainClass);
+        }
+
+        return lookupColumns(domainClass);
+    }
+
+    /**
+     * Looks up the column metadata of any entity, regardless of whether it is upsertable. The upsertable annotation of
+     * the returned metadata will be null if the entity is insert only.
+     */
+    public EntityMetadata lookupColumns(Class<?> domainClass) {
         return domainEntityMetadata.computeIfAbsent(domainClass, this::create);
     }
 
     private EntityMetadata create(Class<?> domainClass) {
         Upsertable upsertable = AnnotationUtils.findAnnotation(domainClass, Upsertable.class);
-
-        if (upsertable == null) {
-            throw new UnsupportedOperationException("Class is not annotated with @Upsertable: " + domainClass);
-        }
-
         EntityType<?> entityType = entityManager.getMetamodel().entity(domainClass);
         Table table = AnnotationUtils.findAnnotation(domainClass, Table.class);
         String tableName = table != null ? table.name() : toSnakeCase(entityType.getName());
@@ -70,11 +77,12 @@ public class EntityMetadataRegistry {
             if (attribute.getPersistentAttributeType() == Attribute.PersistentAttributeType.EMBEDDED) {
                 var persistentAttribute = (SingularPersistentAttribute) attribute;
                 var embeddableType = (EmbeddableType<?>) persistentAttribute.getType();
+                var embeddedGetter = getter((Field) attribute.getJavaMember());
                 embeddableType
                         .getDeclaredSingularAttributes()
-                        .forEach(a -> columnMetadata.add(columnMetadata(schema, a, id)));
+                        .forEach(a -> columnMetadata.add(columnMetadata(schema, a, id, embeddedGetter)));
             } else {
-                columnMetadata.add(columnMetadata(schema, attribute, id));
+                columnMetadata.add(columnMetadata(schema, attribute, id, null));
             }
         }
 
@@ -85,7 +93,10 @@ public class EntityMetadataRegistry {
 
     @SuppressWarnings("java:S4276")
     private ColumnMetadata columnMetadata(
-            Map<String, InformationSchemaColumns> schema, Attribute<?, ?> attribute, boolean id) {
+            Map<String, InformationSchemaColumns> schema,
+            Attribute<?, ?> attribute,
+            boolean id,
+            Function<Object, Object> embeddedGetter) {
         String name = attribute.getName();
         Field field = (Field) attribute.getJavaMember();
         Column column = field.getAnnotation(Column.class);
@@ -102,8 +113,21 @@ public class EntityMetadataRegistry {
 
         var getter = getter(field);
         var setter = setter(field);
+
+        // Embedded attributes are accessed through the embeddable object owned by the entity
+        if (embeddedGetter != null) {
+            var embeddableGetter = getter;
+            var embeddableSetter = setter;
+            getter = e -> {
+                var embeddable = embeddedGetter.apply(e);
+                return embeddable != null ? embeddableGetter.apply(embeddable) : null;
+            };
+            setter = (e, v) -> embeddableSetter.accept(embeddedGetter.apply(e), v);
+        }
+
         boolean updatable = !id && (column == null || column.updatable());
         return new ColumnMetadata(
+                columnSchema.getDataType(),
                 columnSchema.getColumnDefault(),
                 getter,
                 id,
@@ -116,13 +140,16 @@ public class EntityMetadataRegistry {
     }
 
     /*
-     * Looks up column defaults in the information_schema.columns table.
+     * Looks up column defaults and types in the information_schema.columns table. All user-defined column types are
+     * enums so they're reported as such instead of by their type name.
      */
     private Map<String, InformationSchemaColumns> getColumnSchema(String tableName) {
         String sql =
                 """
                 select column_name, regexp_replace(column_default, '::.*', '') as column_default,
-                is_nullable = 'YES' as nullable from information_schema.columns where table_name = ?
+                is_nullable = 'YES' as nullable,
+                case when data_type = 'USER-DEFINED' then 'enum' else udt_name end as data_type
+                from information_schema.columns where table_name = ?
                 """;
 
         var columnSchemas = jdbcOperations.query(
@@ -132,6 +159,7 @@ public class EntityMetadataRegistry {
                     columnSchema.setColumnName(rs.getString(1));
                     columnSchema.setColumnDefault(rs.getString(2));
                     columnSchema.setNullable(rs.getBoolean(3));
+                    columnSchema.setDataType(rs.getString(4));
                     return columnSchema;
                 },
                 tableName);
@@ -199,6 +227,7 @@ public class EntityMetadataRegistry {
     static class InformationSchemaColumns {
         private String columnName;
         private String columnDefault;
+        private String dataType;
         private boolean nullable;
     }
 }
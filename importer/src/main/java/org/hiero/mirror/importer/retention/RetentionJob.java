@@ -3,7 +3,12 @@
 package org.hiero.mirror.importer.retention;
 
 import com.google.common.base.Stopwatch;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Meter.MeterProvider;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import jakarta.inject.Named;
+import java.time.Duration;
 import java.time.Instant;
 import java.util.Collection;
 import java.util.Iterator;
@@ -13,25 +18,65 @@ import java.util.TreeMap;
 import java.util.concurrent.TimeUnit;
 import lombok.CustomLog;
 import lombok.Data;
-import lombok.RequiredArgsConstructor;
 import org.apache.commons.lang3.ClassUtils;
 import org.apache.commons.lang3.Strings;
 import org.hiero.mirror.common.domain.transaction.RecordFile;
+import org.hiero.mirror.importer.config.Owner;
+import org.hiero.mirror.importer.db.TimePartition;
+import org.hiero.mirror.importer.db.TimePartitionService;
 import org.hiero.mirror.importer.repository.RecordFileRepository;
 import org.hiero.mirror.importer.repository.RetentionRepository;
 import org.hiero.mirror.importer.util.Utility;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.transaction.support.TransactionOperations;
 
 @CustomLog
 @Named
-@RequiredArgsConstructor
 public class RetentionJob {
 
+    static final String ACTION_DELETE = "delete";
+    static final String ACTION_DROP = "drop";
+
+    private static final String DETACH_PARTITION_SQL = "alter table %s detach partition %s";
+    private static final String DROP_PARTITION_SQL = "drop table %s";
+    private static final String ESTIMATED_ROWS_SQL =
+            "select greatest(reltuples::bigint, 0) from pg_class where oid = ?::regclass";
+
+    private final JdbcTemplate jdbcTemplate;
     private final RecordFileRepository recordFileRepository;
     private final RetentionProperties retentionProperties;
     private final Collection<RetentionRepository> retentionRepositories;
+    private final TimePartitionService timePartitionService;
     private final TransactionOperations transactionOperations;
+    private final MeterProvider<Timer> durationMetric;
+    private final MeterProvider<Counter> partitionsMetric;
+    private final MeterProvider<Counter> rowsMetric;
+
+    public RetentionJob(
+            @Owner JdbcTemplate jdbcTemplate,
+            MeterRegistry meterRegistry,
+            RecordFileRepository recordFileRepository,
+            RetentionProperties retentionProperties,
+            Collection<RetentionRepository> retentionRepositories,
+            TimePartitionService timePartitionService,
+            TransactionOperations transactionOperations) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.recordFileRepository = recordFileRepository;
+        this.retentionProperties = retentionProperties;
+        this.retentionRepositories = retentionRepositories;
+        this.timePartitionService = timePartitionService;
+        this.transactionOperations = transactionOperations;
+        this.durationMetric = Timer.builder("hiero.mirror.importer.retention.duration")
+                .description("The time it took to prune a table")
+                .withRegistry(meterRegistry);
+        this.partitionsMetric = Counter.builder("hiero.mirror.importer.retention.partitions")
+                .description("The number of time partitions dropped from a table")
+                .withRegistry(meterRegistry);
+        this.rowsMetric = Counter.builder("hiero.mirror.importer.retention.rows")
+                .description("The number of rows pruned from a table. Estimated for dropped time partitions")
+                .withRegistry(meterRegistry);
+    }
 
     @Scheduled(fixedDelayString = "#{@retentionProperties.getFrequency().toMillis()}", initialDelay = 120_000)
     public synchronized void prune() {
@@ -53,6 +98,10 @@ public class RetentionJob {
                 "Using retention period {} to prune entries on or before {}", retentionPeriod, toInstant(maxTimestamp));
 
         try {
+            if (retentionProperties.isDropPartitions()) {
+                dropPartitions(iterator, maxTimestamp);
+            }
+
             while (iterator.hasNext()) {
                 prune(iterator);
             }
@@ -74,7 +123,10 @@ public class RetentionJob {
             String table = getTableName(repository);
 
             if (retentionProperties.shouldPrune(table)) {
+                var sample = Timer.start();
                 long count = repository.prune(endTimestamp);
+                sample.stop(durationMetric.withTags("action", ACTION_DELETE, "table", table));
+                rowsMetric.withTags("action", ACTION_DELETE, "table", table).increment(count);
                 counters.merge(table, count, Long::sum);
             }
         }));
@@ -86,6 +138,65 @@ public class RetentionJob {
         log.info("Pruned {} entries on or before {} in {} at {}/s", count, toInstant(endTimestamp), stopwatch, rate);
     }
 
+    /**
+     * Drops the time partitions that lie entirely on or before the max timestamp, so the row by row pruning afterward
+     * only deletes from the partition containing the max timestamp. This relies on the time partitioned tables being
+     * pruned by their partition column. The latest time partition of a table is always kept since partition
+     * maintenance creates the next time partitions from it.
+     */
+    private void dropPartitions(RecordFileIterator iterator, long maxTimestamp) {
+        int dropped = 0;
+
+        try {
+            for (var repository : retentionRepositories) {
+                String table = getTableName(repository);
+                if (!retentionProperties.shouldPrune(table)) {
+                    continue;
+                }
+
+                var partitions = timePartitionService.getTimePartitions(table);
+                for (int i = 0; i < partitions.size() - 1; i++) {
+                    var partition = partitions.get(i);
+                    if (partition.getEnd() > maxTimestamp) {
+                        break;
+                    }
+
+                    long count = dropPartition(partition);
+                    iterator.getCounters().merge(table, count, Long::sum);
+                    dropped++;
+                }
+            }
+        } finally {
+            if (dropped > 0) {
+                timePartitionService.evictTimePartitions();
+                log.info("Dropped {} time partitions in {}", dropped, iterator.getStopwatch());
+            }
+        }
+    }
+
+    private long dropPartition(TimePartition partition) {
+        var sample = Timer.start();
+        String name = partition.getName();
+        String table = partition.getParent();
+        Long count = jdbcTemplate.queryForObject(ESTIMATED_ROWS_SQL, Long.class, name);
+        long estimatedCount = count != null ? count : 0L;
+
+        jdbcTemplate.execute(DETACH_PARTITION_SQL.formatted(table, name));
+        jdbcTemplate.execute(DROP_PARTITION_SQL.formatted(name));
+
+        long elapsed = sample.stop(durationMetric.withTags("action", ACTION_DROP, "table", table));
+        partitionsMetric.withTags("table", table).increment();
+        rowsMetric.withTags("action", ACTION_DROP, "table", table).increment(estimatedCount);
+        log.info(
+                "Dropped time partition {} of {} ending {} with about {} entries in {}",
+                name,
+                table,
+                toInstant(partition.getEnd()),
+                estimatedCount,
+                Duration.ofNanos(elapsed));
+        return estimatedCount;
+    }
+
     private String getTableName(RetentionRepository repository) {
         Class<?> targetClass = repository.getClass().getInterfaces()[0];
         String className = ClassUtils.getSimpleName(targetClass);
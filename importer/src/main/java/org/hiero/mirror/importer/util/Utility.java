@@ -22,7 +22,6 @@ import java.nio.file.StandardOpenOption;
 import java.time.Instant;
 import java.time.LocalDate;
 import java.time.ZoneOffset;
-import java.util.Arrays;
 import lombok.CustomLog;
 import lombok.experimental.UtilityClass;
 import org.apache.commons.codec.binary.Hex;
@@ -151,15 +150,16 @@ public class Utility {
             return null;
         }
 
-        byte[] topic = DomainUtils.toBytes(byteString);
+        int size = byteString.size();
         int firstNonZero = 0;
-        for (int i = 0; i < topic.length; i++) {
-            if (topic[i] != 0 || i == topic.length - 1) {
+        for (int i = 0; i < size; i++) {
+            if (byteString.byteAt(i) != 0 || i == size - 1) {
                 firstNonZero = i;
                 break;
             }
         }
-        return Arrays.copyOfRange(topic, firstNonZero, topic.length);
+        // Copies only the trimmed topic, even when the topic is a view of a larger buffer
+        return byteString.substring(firstNonZero).toByteArray();
     }
 
     /**
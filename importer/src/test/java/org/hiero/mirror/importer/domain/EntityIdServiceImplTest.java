@@ -9,14 +9,23 @@ import static org.hiero.mirror.importer.util.UtilityTest.ALIAS_ECDSA_SECP256K1;
 import static org.hiero.mirror.importer.util.UtilityTest.EVM_ADDRESS;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 
+import com.google.common.util.concurrent.Uninterruptibles;
+import com.hederahashgraph.api.proto.java.AccountAmount;
 import com.hederahashgraph.api.proto.java.AccountID;
 import com.hederahashgraph.api.proto.java.ContractID;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Stream;
 import lombok.RequiredArgsConstructor;
 import org.hiero.mirror.common.domain.entity.Entity;
 import org.hiero.mirror.common.domain.entity.EntityId;
 import org.hiero.mirror.common.util.DomainUtils;
 import org.hiero.mirror.importer.ImporterIntegrationTest;
+import org.hiero.mirror.importer.parser.domain.RecordItemBuilder;
+import org.hiero.mirror.importer.parser.record.RecordFilePipeline;
 import org.hiero.mirror.importer.repository.EntityRepository;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -60,6 +69,9 @@ class EntityIdServiceImplTest extends ImporterIntegrationTest {
 
     private final EntityRepository entityRepository;
     private final EntityIdService entityIdService;
+    private final MeterRegistry meterRegistry;
+    private final RecordFilePipeline pipeline;
+    private final RecordItemBuilder recordItemBuilder;
 
     private static Stream<Arguments> shardAndRealmData() {
         return Stream.of(Arguments.of(0L, 0L), Arguments.of(1L, 0L), Arguments.of(0L, 1L), Arguments.of(1L, 2L));
@@ -93,6 +105,77 @@ class EntityIdServiceImplTest extends ImporterIntegrationTest {
         assertThat(entityIdService.lookup(contractIdProto)).isEmpty();
     }
 
+    @Test
+    void prefetch() {
+        // given
+        var account = domainBuilder.entity().persist();
+        var contract = domainBuilder
+                .entity()
+                .customize(e -> e.alias(null).type(CONTRACT))
+                .persist();
+        var missing = domainBuilder.entity().get();
+        var cryptoTransfer = recordItemBuilder
+                .cryptoTransfer()
+                .transactionBody(b -> b.getTransfersBuilder()
+                        .addAccountAmounts(AccountAmount.newBuilder()
+                                .setAccountID(getProtoAccountId(account))
+                                .setAmount(-100L))
+                        .addAccountAmounts(AccountAmount.newBuilder()
+                                .setAccountID(getProtoAccountId(missing))
+                                .setAmount(100L)))
+                .build();
+        var contractCall =
+                recordItemBuilder.contractCall(getProtoContractId(contract)).build();
+        double prefetched = meterRegistry
+                .get("hiero.mirror.importer.alias.prefetch")
+                .counter()
+                .count();
+
+        // when
+        entityIdService.prefetch(List.of(cryptoTransfer, contractCall));
+        entityRepository.deleteAll();
+
+        // then
+        assertThat(entityIdService.lookup(getProtoAccountId(account))).hasValue(account.toEntityId());
+        assertThat(entityIdService.lookup(getProtoContractId(contract))).hasValue(contract.toEntityId());
+        assertThat(meterRegistry
+                        .get("hiero.mirror.importer.alias.prefetch")
+                        .counter()
+                        .count())
+                .isEqualTo(prefetched + 2);
+    }
+
+    @Test
+    void lookupAwaitsPipeline() {
+        // given an account created in a record file that's still being persisted
+        var account = domainBuilder.entity().get();
+        persistInPipeline(account);
+
+        // when, then
+        assertThat(entityIdService.lookup(getProtoAccountId(account))).hasValue(account.toEntityId());
+    }
+
+    @Test
+    void prefetchAwaitsPipeline() {
+        // given an account created in a record file that's still being persisted
+        var account = domainBuilder.entity().get();
+        var cryptoTransfer = recordItemBuilder
+                .cryptoTransfer()
+                .transactionBody(b -> b.getTransfersBuilder()
+                        .addAccountAmounts(AccountAmount.newBuilder()
+                                .setAccountID(getProtoAccountId(account))
+                                .setAmount(100L)))
+                .build();
+        persistInPipeline(account);
+
+        // when
+        entityIdService.prefetch(List.of(cryptoTransfer));
+        entityRepository.deleteAll();
+
+        // then
+        assertThat(entityIdService.lookup(getProtoAccountId(account))).hasValue(account.toEntityId());
+    }
+
     @Test
     void lookupAccountNum() {
         AccountID accountId = AccountID.newBuilder().setAccountNum(100).build();
@@ -422,6 +505,18 @@ class EntityIdServiceImplTest extends ImporterIntegrationTest {
         assertThat(entityIdService.lookup(accountId)).isNotPresent();
     }
 
+    // Persists the entity in a flush that's only committed after the caller has had time to look it up
+    private void persistInPipeline(Entity entity) {
+        var latch = new CountDownLatch(1);
+        pipeline.submit(
+                () -> {
+                    Uninterruptibles.awaitUninterruptibly(latch);
+                    entityRepository.save(entity);
+                },
+                e -> {});
+        CompletableFuture.delayedExecutor(200L, TimeUnit.MILLISECONDS).execute(latch::countDown);
+    }
+
     private AccountID getProtoAccountId(Entity account) {
         var accountId = AccountID.newBuilder().setShardNum(account.getShard()).setRealmNum(account.getRealm());
         if (account.getAlias() == null) {
@@ -82,6 +82,38 @@ class StreamFileDataTest {
         }
     }
 
+    @Test
+    void getStreamingInputStream() throws IOException {
+        String filename = "2021-03-10T16_00_00Z.rcd.gz";
+        byte[] uncompressedBytes = {1, 2, 3};
+
+        try (ByteArrayOutputStream baos = new ByteArrayOutputStream()) {
+            try (OutputStream os = new GZIPOutputStream(baos)) {
+                os.write(uncompressedBytes);
+            }
+
+            StreamFileData streamFileData = StreamFileData.from(filename, baos.toByteArray());
+
+            try (InputStream is = streamFileData.getStreamingInputStream()) {
+                assertThat(is.readAllBytes()).isEqualTo(uncompressedBytes);
+            }
+
+            try (InputStream is = streamFileData.getStreamingInputStream()) {
+                assertThat(is.readAllBytes()).isEqualTo(uncompressedBytes);
+            }
+        }
+    }
+
+    @Test
+    void getStreamingInputStreamUncompressed() throws IOException {
+        byte[] bytes = {1, 2, 3};
+        StreamFileData streamFileData = StreamFileData.from(FILENAME, bytes);
+
+        try (InputStream is = streamFileData.getStreamingInputStream()) {
+            assertThat(is.readAllBytes()).isEqualTo(bytes);
+        }
+    }
+
     @Test
     void createWithCompressorAndUncompressedData() {
         String filename = "2021-03-10T16_00_00Z.rcd.gz";
@@ -89,5 +121,6 @@ class StreamFileDataTest {
 
         StreamFileData streamFileData = StreamFileData.from(filename, uncompressedBytes);
         assertThrows(InvalidStreamFileException.class, streamFileData::getInputStream);
+        assertThrows(InvalidStreamFileException.class, streamFileData::getStreamingInputStream);
     }
 }
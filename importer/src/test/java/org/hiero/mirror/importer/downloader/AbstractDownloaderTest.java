@@ -238,7 +238,8 @@ public abstract class AbstractDownloaderTest<T extends StreamFile<?>> {
         signatureFileReader = new CompositeSignatureFileReader(
                 new SignatureFileReaderV2(), new SignatureFileReaderV5(), new ProtoSignatureFileReader());
         var consensusValidator = new ConsensusValidatorImpl(commonDownloaderProperties);
-        nodeSignatureVerifier = new NodeSignatureVerifier(consensusValidator);
+        nodeSignatureVerifier =
+                new NodeSignatureVerifier(commonDownloaderProperties, consensusValidator, meterRegistry);
         downloader = getDownloader();
         streamType = downloaderProperties.getStreamType();
 
@@ -172,6 +172,42 @@ class ConsensusValidatorImplTest {
         assertConsensusNotReached(signatures);
     }
 
+    @Test
+    void isConsensusReached() {
+        var signatures = signatures(3, 3, 3);
+        signatures.get(1).setStatus(DOWNLOADED);
+        signatures.get(2).setStatus(DOWNLOADED);
+        assertThat(consensusValidator.isConsensusReached(signatures)).isTrue();
+        assertThat(signatures).map(StreamFileSignature::getStatus).containsExactly(VERIFIED, DOWNLOADED, DOWNLOADED);
+    }
+
+    @Test
+    void isConsensusReachedInsufficientStake() {
+        var signatures = signatures(2, 3, 3);
+        signatures.get(1).setStatus(DOWNLOADED);
+        signatures.get(2).setStatus(DOWNLOADED);
+        assertThat(consensusValidator.isConsensusReached(signatures)).isFalse();
+    }
+
+    @Test
+    void isConsensusReachedMultipleFileHashes() {
+        var signatures = signatures(0, 0, 0, 0, 0, 0);
+        signatures.get(1).setFileHash(domainBuilder.bytes(256));
+        signatures.subList(2, signatures.size()).forEach(s -> s.setStatus(DOWNLOADED));
+        assertThat(consensusValidator.isConsensusReached(signatures)).isFalse();
+
+        signatures.get(2).setStatus(VERIFIED);
+        assertThat(consensusValidator.isConsensusReached(signatures)).isTrue();
+    }
+
+    @Test
+    void isConsensusReachedNotVerified() {
+        var signatures = signatures(3, 3, 3);
+        signatures.forEach(s -> s.setStatus(DOWNLOADED));
+        assertThat(consensusValidator.isConsensusReached(signatures)).isFalse();
+        assertThat(consensusValidator.isConsensusReached(List.of())).isFalse();
+    }
+
     private void assertConsensusNotReached(List<StreamFileSignature> signatures) {
         assertThatThrownBy(() -> consensusValidator.validate(signatures))
                 .isInstanceOf(SignatureVerificationException.class)
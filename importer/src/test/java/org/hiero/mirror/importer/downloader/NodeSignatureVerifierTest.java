@@ -6,7 +6,10 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.hiero.mirror.importer.domain.StreamFileSignature.SignatureStatus.DOWNLOADED;
 import static org.hiero.mirror.importer.domain.StreamFileSignature.SignatureStatus.VERIFIED;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.math.BigDecimal;
 import java.math.RoundingMode;
 import java.security.KeyPair;
@@ -15,6 +18,7 @@ import java.security.PrivateKey;
 import java.security.PublicKey;
 import java.security.Signature;
 import java.util.List;
+import java.util.stream.Stream;
 import lombok.SneakyThrows;
 import org.hiero.mirror.common.domain.StreamType;
 import org.hiero.mirror.common.domain.entity.EntityId;
@@ -24,11 +28,11 @@ import org.hiero.mirror.importer.domain.ConsensusNodeStub;
 import org.hiero.mirror.importer.domain.StreamFileSignature;
 import org.hiero.mirror.importer.domain.StreamFileSignature.SignatureType;
 import org.hiero.mirror.importer.domain.StreamFilename;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
@@ -44,7 +48,7 @@ class NodeSignatureVerifierTest {
     @Mock
     private ConsensusValidator consensusValidator;
 
-    @InjectMocks
+    private MeterRegistry meterRegistry;
     private NodeSignatureVerifier nodeSignatureVerifier;
 
     @BeforeAll
@@ -61,12 +65,19 @@ class NodeSignatureVerifierTest {
         commonDownloaderProperties = new CommonDownloaderProperties(new ImporterProperties());
         commonDownloaderProperties.setConsensusRatio(
                 BigDecimal.ONE.divide(BigDecimal.valueOf(3), 19, RoundingMode.DOWN));
-        nodeSignatureVerifier = new NodeSignatureVerifier(consensusValidator);
+        meterRegistry = new SimpleMeterRegistry();
+        nodeSignatureVerifier =
+                new NodeSignatureVerifier(commonDownloaderProperties, consensusValidator, meterRegistry);
         signer = Signature.getInstance("SHA384withRSA", "SunRsaSign");
         signer.initSign(privateKey);
         consensusValidator.validate(any());
     }
 
+    @AfterEach
+    void teardown() {
+        nodeSignatureVerifier.close();
+    }
+
     @Test
     void v2() {
         var signature = streamFileSignature();
@@ -109,6 +120,81 @@ class NodeSignatureVerifierTest {
                 .containsExactly(VERIFIED, VERIFIED, DOWNLOADED);
     }
 
+    @Test
+    void parallel() {
+        var signatures = Stream.generate(this::streamFileSignature).limit(10).toList();
+        signatures.get(5).setFileHashSignature(corruptSignature(signatures.get(5).getFileHashSignature()));
+
+        nodeSignatureVerifier.verify(signatures);
+        assertThat(signatures)
+                .extracting(StreamFileSignature::getStatus)
+                .containsExactly(
+                        VERIFIED, VERIFIED, VERIFIED, VERIFIED, VERIFIED, DOWNLOADED, VERIFIED, VERIFIED, VERIFIED,
+                        VERIFIED);
+        assertThat(meterRegistry
+                        .get("hiero.mirror.importer.stream.signature.duration")
+                        .tag("type", StreamType.RECORD.toString())
+                        .timer()
+                        .count())
+                .isOne();
+    }
+
+    @Test
+    void timersRegisteredOnce() {
+        assertThat(meterRegistry
+                        .get("hiero.mirror.importer.stream.signature.duration")
+                        .timers())
+                .hasSize(StreamType.values().length)
+                .allMatch(t -> t.count() == 0);
+
+        nodeSignatureVerifier.verify(List.of(streamFileSignature()));
+        nodeSignatureVerifier.verify(List.of(streamFileSignature()));
+
+        assertThat(meterRegistry
+                        .get("hiero.mirror.importer.stream.signature.duration")
+                        .tag("type", StreamType.RECORD.toString())
+                        .timer()
+                        .count())
+                .isEqualTo(2);
+    }
+
+    @Test
+    void consensusReached() {
+        commonDownloaderProperties.setSignatureVerificationThreads(1);
+        nodeSignatureVerifier.close();
+        nodeSignatureVerifier =
+                new NodeSignatureVerifier(commonDownloaderProperties, consensusValidator, meterRegistry);
+        when(consensusValidator.isConsensusReached(any())).thenReturn(true);
+        var signatures = List.of(streamFileSignature(), streamFileSignature(), streamFileSignature());
+
+        nodeSignatureVerifier.verify(signatures);
+        assertThat(signatures)
+                .extracting(StreamFileSignature::getStatus)
+                .containsExactly(VERIFIED, DOWNLOADED, DOWNLOADED);
+    }
+
+    @Test
+    void verifyRemaining() {
+        when(consensusValidator.isConsensusReached(any())).thenReturn(true);
+        var signatures = Stream.generate(this::streamFileSignature).limit(10).toList();
+
+        nodeSignatureVerifier.verify(signatures);
+        assertThat(signatures).extracting(StreamFileSignature::getStatus).contains(DOWNLOADED);
+
+        assertThat(nodeSignatureVerifier.verifyRemaining(signatures)).isTrue();
+        assertThat(signatures).extracting(StreamFileSignature::getStatus).containsOnly(VERIFIED);
+        assertThat(nodeSignatureVerifier.verifyRemaining(signatures)).isFalse();
+    }
+
+    @Test
+    void consensusReachedParallel() {
+        when(consensusValidator.isConsensusReached(any())).thenReturn(true);
+        var signatures = Stream.generate(this::streamFileSignature).limit(10).toList();
+
+        nodeSignatureVerifier.verify(signatures);
+        assertThat(signatures).extracting(StreamFileSignature::getStatus).contains(VERIFIED, DOWNLOADED);
+    }
+
     @Test
     void invalidFileSignature() {
         var signature = streamFileSignature();
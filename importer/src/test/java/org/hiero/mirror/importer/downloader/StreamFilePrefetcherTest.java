@@ -0,0 +1,179 @@
+// SPDX-License-Identifier: Apache-2.0
+
+package org.hiero.mirror.importer.downloader;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.google.common.collect.ImmutableListMultimap;
+import com.google.common.collect.Multimap;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.hiero.mirror.common.domain.StreamType;
+import org.hiero.mirror.importer.addressbook.ConsensusNode;
+import org.hiero.mirror.importer.domain.ConsensusNodeStub;
+import org.hiero.mirror.importer.domain.StreamFileData;
+import org.hiero.mirror.importer.domain.StreamFileSignature;
+import org.hiero.mirror.importer.domain.StreamFilename;
+import org.hiero.mirror.importer.downloader.provider.StreamFileProvider;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.util.unit.DataSize;
+import reactor.core.publisher.Mono;
+
+@ExtendWith(MockitoExtension.class)
+class StreamFilePrefetcherTest {
+
+    private static final ConsensusNode NODE = ConsensusNodeStub.builder().nodeId(3L).build();
+    private static final StreamFilename SIGNATURE1 = StreamFilename.from("2022-01-01T00_00_00Z.rcd_sig");
+    private static final StreamFilename SIGNATURE2 = StreamFilename.from("2022-01-01T00_00_02Z.rcd_sig");
+    private static final StreamFilename SIGNATURE3 = StreamFilename.from("2022-01-01T00_00_04Z.rcd_sig");
+
+    @Mock
+    private StreamFileProvider streamFileProvider;
+
+    private MeterRegistry meterRegistry;
+    private PrefetchProperties properties;
+    private StreamFilePrefetcher prefetcher;
+
+    @BeforeEach
+    void setup() {
+        meterRegistry = new SimpleMeterRegistry();
+        properties = new PrefetchProperties();
+        properties.setEnabled(true);
+        prefetcher = new StreamFilePrefetcher(properties, meterRegistry, streamFileProvider, StreamType.RECORD);
+    }
+
+    @Test
+    void hit() {
+        var signature = signature(SIGNATURE1);
+        var streamFileData = streamFileData(signature, 100);
+        when(streamFileProvider.get(NODE, signature.getDataFilename())).thenReturn(Mono.just(streamFileData));
+
+        prefetcher.prefetch(signatures(signature));
+        assertThat(prefetcher.getReservedBytes()).isEqualTo(100L);
+        assertThat(prefetcher.getQueueDepth()).isOne();
+
+        assertThat(prefetcher.get(NODE, signature.getDataFilename()).block()).isEqualTo(streamFileData);
+        verify(streamFileProvider, times(1)).get(any(), any());
+        assertThat(prefetcher.getReservedBytes()).isZero();
+        assertThat(prefetcher.getQueueDepth()).isZero();
+        assertThat(count("data", "hit")).isOne();
+        assertThat(count("data", "miss")).isZero();
+    }
+
+    @Test
+    void miss() {
+        var signature = signature(SIGNATURE1);
+        var streamFileData = streamFileData(signature, 100);
+        when(streamFileProvider.get(NODE, signature.getDataFilename())).thenReturn(Mono.just(streamFileData));
+
+        assertThat(prefetcher.get(NODE, signature.getDataFilename()).block()).isEqualTo(streamFileData);
+        assertThat(count("data", "hit")).isZero();
+        assertThat(count("data", "miss")).isOne();
+    }
+
+    @Test
+    void error() {
+        var signature = signature(SIGNATURE1);
+        var streamFileData = streamFileData(signature, 100);
+        when(streamFileProvider.get(NODE, signature.getDataFilename()))
+                .thenReturn(Mono.error(new IllegalStateException()))
+                .thenReturn(Mono.just(streamFileData));
+
+        prefetcher.prefetch(signatures(signature));
+
+        assertThat(prefetcher.getQueueDepth()).isZero();
+        assertThat(prefetcher.getReservedBytes()).isZero();
+        assertThat(prefetcher.get(NODE, signature.getDataFilename()).block()).isEqualTo(streamFileData);
+        assertThat(count("data", "miss")).isOne();
+    }
+
+    @Test
+    void initialConcurrency() {
+        when(streamFileProvider.get(any(), any())).thenReturn(Mono.never());
+
+        prefetcher.prefetch(signatures(signature(SIGNATURE1), signature(SIGNATURE2), signature(SIGNATURE3)));
+
+        verify(streamFileProvider, times(2)).get(any(), any());
+        assertThat(prefetcher.getConcurrency()).isEqualTo(2);
+        assertThat(prefetcher.getQueueDepth()).isEqualTo(3);
+    }
+
+    @Test
+    void maxSize() {
+        properties.setMaxSize(DataSize.ofBytes(1));
+        when(streamFileProvider.get(any(), any())).thenReturn(Mono.never());
+
+        prefetcher.prefetch(signatures(signature(SIGNATURE1), signature(SIGNATURE2), signature(SIGNATURE3)));
+
+        verify(streamFileProvider, times(1)).get(any(), any());
+        assertThat(prefetcher.getQueueDepth()).isEqualTo(3);
+    }
+
+    @Test
+    void clear() {
+        when(streamFileProvider.get(any(), any())).thenReturn(Mono.never());
+        prefetcher.prefetch(signatures(signature(SIGNATURE1), signature(SIGNATURE2), signature(SIGNATURE3)));
+
+        prefetcher.clear();
+
+        assertThat(prefetcher.getQueueDepth()).isZero();
+        assertThat(prefetcher.getReservedBytes()).isZero();
+    }
+
+    @Test
+    void listingHit() {
+        var signatures = signatures(signature(SIGNATURE2));
+        prefetcher.prefetchListing(SIGNATURE1, Mono.just(signatures));
+
+        assertThat(prefetcher.getListing(StreamFilename.from("2022-01-01T00_00_00Z.rcd"))).isEqualTo(signatures);
+        assertThat(prefetcher.getListing(SIGNATURE1)).isNull();
+        assertThat(count("listing", "hit")).isOne();
+    }
+
+    @Test
+    void listingMiss() {
+        prefetcher.prefetchListing(SIGNATURE1, Mono.just(signatures(signature(SIGNATURE2))));
+        assertThat(prefetcher.getListing(SIGNATURE2)).isNull();
+
+        prefetcher.prefetchListing(SIGNATURE1, Mono.error(new IllegalStateException()));
+        assertThat(prefetcher.getListing(SIGNATURE1)).isNull();
+
+        assertThat(count("listing", "hit")).isZero();
+        assertThat(count("listing", "miss")).isEqualTo(2);
+        verify(streamFileProvider, never()).get(any(), any());
+    }
+
+    private double count(String item, String result) {
+        return meterRegistry
+                .get("hiero.mirror.importer.downloader.prefetch")
+                .tag("item", item)
+                .tag("result", result)
+                .counter()
+                .count();
+    }
+
+    private StreamFileSignature signature(StreamFilename filename) {
+        return StreamFileSignature.builder().filename(filename).node(NODE).build();
+    }
+
+    private Multimap<StreamFilename, StreamFileSignature> signatures(StreamFileSignature... signatures) {
+        var builder = ImmutableListMultimap.<StreamFilename, StreamFileSignature>builder();
+        for (var signature : signatures) {
+            builder.put(signature.getFilename(), signature);
+        }
+        return builder.build();
+    }
+
+    private StreamFileData streamFileData(StreamFileSignature signature, int size) {
+        return StreamFileData.from(signature.getDataFilename().getFilename(), new byte[size]);
+    }
+}
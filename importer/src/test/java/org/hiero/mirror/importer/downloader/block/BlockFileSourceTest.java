@@ -54,6 +54,7 @@ import org.hiero.mirror.importer.downloader.provider.S3StreamFileProvider;
 import org.hiero.mirror.importer.downloader.provider.StreamFileProvider;
 import org.hiero.mirror.importer.exception.BlockStreamException;
 import org.hiero.mirror.importer.exception.InvalidStreamFileException;
+import org.hiero.mirror.importer.parser.record.RecordParserProperties;
 import org.hiero.mirror.importer.reader.block.BlockStreamReaderImpl;
 import org.hiero.mirror.importer.repository.RecordFileRepository;
 import org.junit.jupiter.api.AfterEach;
@@ -154,12 +155,13 @@ class BlockFileSourceTest {
         blockStreamVerifier = spy(new BlockStreamVerifier(
                 blockFileTransformer, recordFileRepository, mock(StreamFileNotifier.class), meterRegistry));
         blockFileSource = new BlockFileSource(
-                new BlockStreamReaderImpl(),
+                new BlockStreamReaderImpl(new RecordParserProperties()),
                 blockStreamVerifier,
                 commonDownloaderProperties,
                 consensusNodeService,
                 meterRegistry,
                 properties,
+                new RecordParserProperties(),
                 streamFileProvider);
 
         var fromPath = Path.of("data", "blockstreams");
@@ -216,8 +218,10 @@ class BlockFileSourceTest {
         // then
         byte[] expectedBytes = FileUtils.readFileToByteArray(
                 fileCopier.getTo().resolve("2").resolve(blockFile(1).getName()).toFile());
+        // the bytes and the size are of the block file as downloaded, compressed
         verify(blockStreamVerifier)
                 .verify(argThat(b -> Arrays.equals(b.getBytes(), expectedBytes)
+                        && b.getSize() == expectedBytes.length
                         && b.getIndex() == blockNumber(1)
                         && b.getNodeId() == 2L));
         verify(consensusNodeService, times(2)).getNodes();
@@ -338,12 +342,13 @@ class BlockFileSourceTest {
         when(streamFileProvider.get(any(), any()))
                 .thenReturn(Mono.delay(Duration.ofMillis(120L)).then(Mono.empty()));
         var source = new BlockFileSource(
-                new BlockStreamReaderImpl(),
+                new BlockStreamReaderImpl(new RecordParserProperties()),
                 blockStreamVerifier,
                 commonDownloaderProperties,
                 consensusNodeService,
                 meterRegistry,
                 properties,
+                new RecordParserProperties(),
                 streamFileProvider);
 
         // when
@@ -8,6 +8,7 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import com.asarkar.grpc.test.GrpcCleanupExtension;
 import com.asarkar.grpc.test.Resources;
 import com.hedera.hapi.block.stream.output.protoc.BlockHeader;
+import com.hedera.hapi.block.stream.protoc.Block;
 import com.hedera.hapi.block.stream.protoc.BlockItem;
 import io.grpc.BindableService;
 import io.grpc.Server;
@@ -395,9 +396,19 @@ class BlockNodeTest extends BlockNodeTestBase {
     }
 
     private ObjectAssert<BlockStream> assertBlockStreamCommon(BlockStream blockStream) {
+        var expectedBlockItemBytes =
+                blockStream.blockItems().stream().map(BlockItem::toByteString).toList();
+        // a block streamed from a block node has no block file, so its size is that of the uncompressed block
+        int expectedSize = Block.newBuilder()
+                .addAllItems(blockStream.blockItems())
+                .build()
+                .getSerializedSize();
         return assertThat(blockStream)
                 .satisfies(b -> assertThat(b.loadStart())
                         .isGreaterThan(Instant.now().minusSeconds(10).toEpochMilli()))
+                .satisfies(b -> assertThat(b.blockItemBytes()).containsExactlyElementsOf(expectedBlockItemBytes))
+                .returns(null, BlockStream::bytes)
+                .returns(expectedSize, BlockStream::size)
                 .returns(-1L, BlockStream::nodeId);
     }
 
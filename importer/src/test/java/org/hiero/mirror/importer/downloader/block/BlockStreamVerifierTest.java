@@ -23,6 +23,7 @@ import org.hiero.mirror.importer.TestUtils;
 import org.hiero.mirror.importer.downloader.StreamFileNotifier;
 import org.hiero.mirror.importer.exception.HashMismatchException;
 import org.hiero.mirror.importer.exception.InvalidStreamFileException;
+import org.hiero.mirror.importer.parser.record.RecordFileFlushFailedEvent;
 import org.hiero.mirror.importer.repository.RecordFileRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -187,6 +188,29 @@ class BlockStreamVerifierTest {
         verifyNoInteractions(streamFileNotifier);
     }
 
+    @Test
+    void onFlushFailed() {
+        // given
+        var previous = getRecordFile();
+        when(recordFileRepository.findLatest()).thenReturn(Optional.of(previous));
+        var blockFile = getBlockFile(previous);
+        verifier.verify(blockFile);
+
+        // when
+        verifier.onFlushFailed(new RecordFileFlushFailedEvent(this, blockFile.getName()));
+
+        // then
+        assertThat(verifier.getLastBlockFile()).get().returns(previous.getIndex(), BlockFile::getIndex);
+        verify(recordFileRepository, times(2)).findLatest();
+
+        // when the block after the last record file in the database is delivered again
+        verifier.verify(blockFile);
+
+        // then
+        verify(streamFileNotifier, times(2)).verified(expectedRecordFile);
+        assertThat(verifier.getLastBlockFile()).get().returns(blockFile.getIndex(), BlockFile::getIndex);
+    }
+
     @Test
     void nonConsecutiveBlockNumber() {
         // given
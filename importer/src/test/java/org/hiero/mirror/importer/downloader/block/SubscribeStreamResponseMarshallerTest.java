@@ -0,0 +1,67 @@
+// SPDX-License-Identifier: Apache-2.0
+
+package org.hiero.mirror.importer.downloader.block;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.hedera.hapi.block.stream.protoc.BlockItem;
+import io.grpc.StatusRuntimeException;
+import java.io.ByteArrayInputStream;
+import java.util.List;
+import org.hiero.block.api.protoc.SubscribeStreamResponse;
+import org.junit.jupiter.api.Test;
+
+class SubscribeStreamResponseMarshallerTest extends BlockNodeTestBase {
+
+    private final SubscribeStreamResponseMarshaller marshaller = SubscribeStreamResponseMarshaller.INSTANCE;
+
+    @Test
+    void blockItems() {
+        // given
+        var expected = subscribeStreamResponse(blockItemSet(blockHead(1), eventHeader(), blockProof()));
+
+        // when
+        var actual = parse(expected);
+
+        // then
+        var blockItems = expected.getBlockItems().getBlockItemsList();
+        assertThat(actual.response()).isEqualTo(expected);
+        assertThat(actual.blockItemBytes())
+                .containsExactlyElementsOf(
+                        blockItems.stream().map(BlockItem::toByteString).toList());
+    }
+
+    @Test
+    void emptyBlockItems() {
+        var expected = subscribeStreamResponse(blockItemSet());
+        var actual = parse(expected);
+        assertThat(actual.response()).isEqualTo(expected);
+        assertThat(actual.blockItemBytes()).isEmpty();
+    }
+
+    @Test
+    void status() {
+        var expected = subscribeStreamResponse(SubscribeStreamResponse.Code.SUCCESS);
+        var actual = parse(expected);
+        assertThat(actual.response()).isEqualTo(expected);
+        assertThat(actual.blockItemBytes()).isEmpty();
+    }
+
+    @Test
+    void invalid() {
+        var inputStream = new ByteArrayInputStream(new byte[] {0x12, 0x05, 0x01});
+        assertThatThrownBy(() -> marshaller.parse(inputStream)).isInstanceOf(StatusRuntimeException.class);
+    }
+
+    @Test
+    void stream() {
+        var expected = subscribeStreamResponse(blockItemSet(blockHead(1), blockProof()));
+        var response = new SubscribeStreamResponseMarshaller.Response(expected, List.of());
+        assertThat(marshaller.parse(marshaller.stream(response)).response()).isEqualTo(expected);
+    }
+
+    private SubscribeStreamResponseMarshaller.Response parse(SubscribeStreamResponse response) {
+        return marshaller.parse(new ByteArrayInputStream(response.toByteArray()));
+    }
+}
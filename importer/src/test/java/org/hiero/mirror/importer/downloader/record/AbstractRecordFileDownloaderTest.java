@@ -22,6 +22,7 @@ import org.hiero.mirror.importer.downloader.AbstractLinkedStreamDownloaderTest;
 import org.hiero.mirror.importer.downloader.Downloader;
 import org.hiero.mirror.importer.downloader.DownloaderProperties;
 import org.hiero.mirror.importer.downloader.provider.S3StreamFileProvider;
+import org.hiero.mirror.importer.parser.record.RecordParserProperties;
 import org.hiero.mirror.importer.parser.record.sidecar.SidecarProperties;
 import org.hiero.mirror.importer.reader.record.CompositeRecordFileReader;
 import org.hiero.mirror.importer.reader.record.ProtoRecordFileReader;
@@ -62,10 +63,11 @@ abstract class AbstractRecordFileDownloaderTest extends AbstractLinkedStreamDown
     private Downloader<RecordFile, RecordItem> getDownloader(S3AsyncClient s3AsyncClient) {
 
         var recordFileReader = new CompositeRecordFileReader(
+                meterRegistry,
                 new RecordFileReaderImplV1(),
                 new RecordFileReaderImplV2(),
                 new RecordFileReaderImplV5(),
-                new ProtoRecordFileReader());
+                new ProtoRecordFileReader(new RecordParserProperties()));
         sidecarProperties = new SidecarProperties();
         sidecarProperties.setEnabled(true);
         var streamFileProvider =
@@ -0,0 +1,212 @@
+// SPDX-License-Identifier: Apache-2.0
+
+package org.hiero.mirror.importer.parser.batch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.google.common.collect.Range;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.Collection;
+import java.util.List;
+import javax.sql.DataSource;
+import lombok.RequiredArgsConstructor;
+import org.hiero.mirror.common.domain.contract.ContractResult;
+import org.hiero.mirror.common.domain.entity.Entity;
+import org.hiero.mirror.common.domain.token.CustomFee;
+import org.hiero.mirror.common.domain.token.Token;
+import org.hiero.mirror.common.domain.token.TokenPauseStatusEnum;
+import org.hiero.mirror.common.domain.transaction.AssessedCustomFee;
+import org.hiero.mirror.common.domain.transaction.Transaction;
+import org.hiero.mirror.importer.ImporterIntegrationTest;
+import org.hiero.mirror.importer.parser.CommonParserProperties;
+import org.hiero.mirror.importer.repository.ContractResultRepository;
+import org.hiero.mirror.importer.repository.CustomFeeRepository;
+import org.hiero.mirror.importer.repository.EntityRepository;
+import org.hiero.mirror.importer.repository.TokenRepository;
+import org.hiero.mirror.importer.repository.TransactionRepository;
+import org.hiero.mirror.importer.repository.upsert.EntityMetadataRegistry;
+import org.hiero.mirror.importer.repository.upsert.UpsertQueryGeneratorFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionOperations;
+
+@RequiredArgsConstructor
+class BinaryCopyWriterTest extends ImporterIntegrationTest {
+
+    private final BinaryCopyWriterFactory binaryCopyWriterFactory;
+    private final CommonParserProperties commonParserProperties;
+    private final ContractResultRepository contractResultRepository;
+    private final CustomFeeRepository customFeeRepository;
+    private final DataSource dataSource;
+    private final EntityMetadataRegistry entityMetadataRegistry;
+    private final EntityRepository entityRepository;
+    private final MeterRegistry meterRegistry;
+    private final TokenRepository tokenRepository;
+    private final TransactionOperations transactionOperations;
+    private final TransactionRepository transactionRepository;
+    private final UpsertQueryGeneratorFactory upsertQueryGeneratorFactory;
+
+    @AfterEach
+    void cleanup() {
+        commonParserProperties.setBinaryCopy(false);
+    }
+
+    @Test
+    void contractResult() {
+        var contractResults = List.of(
+                domainBuilder.contractResult().get(),
+                domainBuilder
+                        .contractResult()
+                        .customize(c -> c.createdContractIds(List.of()).failedInitcode(null))
+                        .get());
+
+        persist(ContractResult.class, contractResults);
+
+        assertThat(contractResultRepository.findAll()).containsExactlyInAnyOrderElementsOf(contractResults);
+    }
+
+    @Test
+    void entity() {
+        var entities = List.of(
+                domainBuilder.entity().get(),
+                domainBuilder.entity().customize(e -> e.key(null).memo("")).get());
+
+        persist(Entity.class, entities);
+
+        assertThat(entityRepository.findAll()).containsExactlyInAnyOrderElementsOf(entities);
+    }
+
+    @Test
+    void token() {
+        var tokens = List.of(domainBuilder.token().get(), domainBuilder.token().get());
+
+        persist(Token.class, tokens);
+
+        assertThat(tokenRepository.findAll()).containsExactlyInAnyOrderElementsOf(tokens);
+    }
+
+    @Test
+    void transaction() {
+        var transactions = List.of(
+                domainBuilder.transaction().get(),
+                domainBuilder
+                        .transaction()
+                        .customize(t -> t.itemizedTransfer(null).transactionHash(null))
+                        .get());
+
+        persist(Transaction.class, transactions);
+
+        assertThat(transactionRepository.findAll()).containsExactlyInAnyOrderElementsOf(transactions);
+    }
+
+    @Test
+    void arrays() {
+        var assessedCustomFees = List.of(
+                domainBuilder.assessedCustomFee().get(),
+                domainBuilder
+                        .assessedCustomFee()
+                        .customize(a -> a.effectivePayerAccountIds(List.of()))
+                        .get());
+
+        persist(AssessedCustomFee.class, assessedCustomFees);
+
+        assertThat(jdbcOperations.query("select * from assessed_custom_fee", rowMapper(AssessedCustomFee.class)))
+                .containsExactlyInAnyOrderElementsOf(assessedCustomFees);
+    }
+
+    @Test
+    void upsertNullColumns() {
+        var entity = domainBuilder.entity().get();
+        upsert(Entity.class, List.of(entity));
+
+        // The null columns of an update keep their existing values
+        var update = entity.toBuilder()
+                .autoRenewPeriod(null)
+                .key(null)
+                .memo("updated")
+                .timestampRange(Range.atLeast(entity.getTimestampLower() + 1))
+                .build();
+        upsert(Entity.class, List.of(update));
+
+        assertThat(entityRepository.findById(entity.getId()))
+                .get()
+                .returns(entity.getAutoRenewPeriod(), Entity::getAutoRenewPeriod)
+                .returns(entity.getKey(), Entity::getKey)
+                .returns("updated", Entity::getMemo)
+                .returns(update.getTimestampLower(), Entity::getTimestampLower);
+    }
+
+    @Test
+    void upsertEnumColumns() {
+        var token = domainBuilder
+                .token()
+                .customize(t -> t.pauseStatus(TokenPauseStatusEnum.UNPAUSED))
+                .get();
+        upsert(Token.class, List.of(token));
+
+        assertThat(tokenRepository.findAll()).containsExactly(token);
+
+        var update = new Token();
+        update.setPauseStatus(TokenPauseStatusEnum.PAUSED);
+        update.setTimestampLower(token.getTimestampLower() + 1);
+        update.setTokenId(token.getTokenId());
+        upsert(Token.class, List.of(update));
+
+        token.setPauseStatus(TokenPauseStatusEnum.PAUSED);
+        token.setTimestampLower(update.getTimestampLower());
+        assertThat(tokenRepository.findAll()).containsExactly(token);
+    }
+
+    @Test
+    void upsertArrayColumns() {
+        var customFees = List.of(
+                domainBuilder.customFee().get(),
+                domainBuilder
+                        .customFee()
+                        .customize(c -> c.fixedFees(List.of()).fractionalFees(null).royaltyFees(null))
+                        .get());
+
+        upsert(CustomFee.class, customFees);
+
+        assertThat(customFeeRepository.findAll()).containsExactlyInAnyOrderElementsOf(customFees);
+    }
+
+    @Test
+    void factoryDisabled() {
+        assertThat(binaryCopyWriterFactory.get(Transaction.class)).isNull();
+    }
+
+    @Test
+    void factoryEnabled() {
+        commonParserProperties.setBinaryCopy(true);
+        assertThat(binaryCopyWriterFactory.get(Transaction.class))
+                .isNotNull()
+                .extracting(BinaryCopyWriter::getColumns)
+                .asString()
+                .contains("consensus_timestamp", "transaction_hash");
+    }
+
+    private void persist(Class<?> entityClass, Collection<?> items) {
+        var binaryCopyWriter = new BinaryCopyWriter(entityMetadataRegistry.lookupColumns(entityClass));
+        var batchInserter = new BatchInserter(
+                entityClass,
+                dataSource,
+                meterRegistry,
+                commonParserProperties,
+                entityClass.getSimpleName(),
+                binaryCopyWriter);
+        batchInserter.persist(items);
+    }
+
+    private void upsert(Class<?> entityClass, Collection<?> items) {
+        var binaryCopyWriter = new BinaryCopyWriter(entityMetadataRegistry.lookupColumns(entityClass));
+        var batchUpserter = new BatchUpserter(
+                entityClass,
+                dataSource,
+                meterRegistry,
+                commonParserProperties,
+                upsertQueryGeneratorFactory.get(entityClass),
+                binaryCopyWriter);
+        transactionOperations.executeWithoutResult(t -> batchUpserter.persist(items));
+    }
+}
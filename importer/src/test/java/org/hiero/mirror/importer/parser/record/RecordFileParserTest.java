@@ -11,6 +11,7 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mock.Strictness.LENIENT;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.never;
@@ -40,8 +41,10 @@ import org.hiero.mirror.common.domain.transaction.RecordFile;
 import org.hiero.mirror.common.domain.transaction.RecordItem;
 import org.hiero.mirror.importer.config.DateRangeCalculator;
 import org.hiero.mirror.importer.config.DateRangeCalculator.DateRangeFilter;
+import org.hiero.mirror.importer.domain.EntityIdService;
 import org.hiero.mirror.importer.exception.HashMismatchException;
 import org.hiero.mirror.importer.exception.ParserException;
+import org.hiero.mirror.importer.exception.ParserPipelineException;
 import org.hiero.mirror.importer.parser.AbstractStreamFileParserTest;
 import org.hiero.mirror.importer.parser.domain.RecordItemBuilder;
 import org.hiero.mirror.importer.parser.record.entity.ParserContext;
@@ -50,9 +53,11 @@ import org.hiero.mirror.importer.repository.StreamFileRepository;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.ValueSource;
 import org.mockito.Mock;
 import org.springframework.boot.test.system.CapturedOutput;
 import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.PlatformTransactionManager;
 
 class RecordFileParserTest extends AbstractStreamFileParserTest<RecordFile, RecordFileParser> {
 
@@ -74,6 +79,14 @@ class RecordFileParserTest extends AbstractStreamFileParserTest<RecordFile, Reco
     @Mock(strictness = LENIENT)
     private DateRangeCalculator dateRangeCalculator;
 
+    @Mock(strictness = LENIENT)
+    private EntityIdService entityIdService;
+
+    @Mock(strictness = LENIENT)
+    private PlatformTransactionManager transactionManager;
+
+    private RecordFilePipeline pipeline;
+
     private long count = 0;
 
     private RecordItem recordItem;
@@ -102,15 +115,19 @@ class RecordFileParserTest extends AbstractStreamFileParserTest<RecordFile, Reco
     protected RecordFileParser getParser() {
         RecordParserProperties parserProperties = new RecordParserProperties();
         when(dateRangeCalculator.getFilter(parserProperties.getStreamType())).thenReturn(DateRangeFilter.all());
+        var meterRegistry = new SimpleMeterRegistry();
+        pipeline = new RecordFilePipeline(meterRegistry, parserProperties, transactionManager);
         return new RecordFileParser(
                 applicationEventPublisher,
-                new SimpleMeterRegistry(),
+                meterRegistry,
                 parserProperties,
                 recordFileRepository,
                 recordItemListener,
                 recordStreamFileListener,
                 dateRangeCalculator,
-                new ParserContext());
+                entityIdService,
+                new ParserContext(),
+                pipeline);
     }
 
     @Override
@@ -139,6 +156,48 @@ class RecordFileParserTest extends AbstractStreamFileParserTest<RecordFile, Reco
         verify(recordStreamFileListener).onEnd(recordFile);
     }
 
+    @Test
+    void prefetchAliases() {
+        // given
+        var recordFile = getStreamFile();
+
+        // when
+        parser.parse(recordFile);
+
+        // then
+        verify(entityIdService).prefetch(recordFile.getItems());
+        verify(recordItemListener).onItem(recordItem);
+    }
+
+    @Test
+    void prefetchAliasesDisabled() {
+        // given
+        ((RecordParserProperties) parserProperties).setPrefetchAliases(false);
+        var recordFile = getStreamFile();
+
+        // when
+        parser.parse(recordFile);
+
+        // then
+        verifyNoInteractions(entityIdService);
+        verify(recordItemListener).onItem(recordItem);
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = {true, false})
+    void parallelPrepare(boolean parallelPrepare) {
+        // given
+        ((RecordParserProperties) parserProperties).setParallelPrepare(parallelPrepare);
+        var recordFile = getStreamFile();
+
+        // when
+        parser.parse(recordFile);
+
+        // then
+        verify(recordItemListener, times(parallelPrepare ? 1 : 0)).prepare(recordItem);
+        verify(recordItemListener).onItem(recordItem);
+    }
+
     @ParameterizedTest(name = "endDate with offset {0}ns")
     @CsvSource({"-1", "0", "1"})
     void endDate(long offset) {
@@ -244,6 +303,105 @@ class RecordFileParserTest extends AbstractStreamFileParserTest<RecordFile, Reco
         verify(recordFileRepository).updateIndex(offset - 1);
     }
 
+    @Test
+    void pipelined() {
+        // given
+        ((RecordParserProperties) parserProperties).getPipeline().setEnabled(true);
+        var streamFile1 = getStreamFile();
+        var streamFile2 = getStreamFile();
+        streamFile2.setPreviousHash(streamFile1.getHash());
+
+        // when
+        parser.parse(streamFile1);
+        parser.parse(streamFile2);
+        pipeline.await();
+
+        // then
+        assertParsed(streamFile1, true, false);
+        assertParsed(streamFile2, true, false);
+        verify(transactionManager, times(2)).commit(any());
+    }
+
+    @Test
+    void pipelinedFailure() {
+        // given
+        var properties = (RecordParserProperties) parserProperties;
+        properties.getPipeline().setEnabled(true);
+        properties.getRetry().setMaxAttempts(1);
+        pipeline = new RecordFilePipeline(new SimpleMeterRegistry(), properties, transactionManager);
+        parser = new RecordFileParser(
+                applicationEventPublisher,
+                new SimpleMeterRegistry(),
+                properties,
+                recordFileRepository,
+                recordItemListener,
+                recordStreamFileListener,
+                dateRangeCalculator,
+                entityIdService,
+                new ParserContext(),
+                pipeline);
+        var streamFile0 = getStreamFile();
+        var streamFile1 = getStreamFile();
+        var streamFile2 = getStreamFile();
+        streamFile1.setPreviousHash(streamFile0.getHash());
+        streamFile2.setPreviousHash(streamFile1.getHash());
+        when(recordFileRepository.findLatest()).thenReturn(Optional.of(streamFile0));
+        var exception = new ParserException("boom");
+        doThrow(exception).doNothing().when(recordStreamFileListener).onEnd(streamFile1);
+
+        // when
+        parser.parse(streamFile1);
+
+        // then
+        assertThatThrownBy(pipeline::await)
+                .isInstanceOf(ParserPipelineException.class)
+                .hasCause(exception);
+        assertThatThrownBy(() -> parser.parse(streamFile2))
+                .isInstanceOf(ParserPipelineException.class)
+                .hasCause(exception);
+        assertThat(streamFile1.getItems()).isNotEmpty();
+        assertThat(pipeline.isFailed()).isTrue();
+        verify(recordStreamFileListener, never()).onEnd(streamFile2);
+        verify(applicationEventPublisher, times(2))
+                .publishEvent(argThat(e -> e instanceof RecordFileFlushFailedEvent));
+        verify(applicationEventPublisher, never()).publishEvent(argThat(e -> e instanceof RecordFileParsedEvent));
+        verify(transactionManager).rollback(any());
+
+        // when the downloader redelivers the failed record file
+        parser.parse(streamFile1);
+        parser.parse(streamFile2);
+        pipeline.await();
+
+        // then
+        assertThat(pipeline.isFailed()).isFalse();
+        verify(recordStreamFileListener, times(2)).onEnd(streamFile1);
+        verify(recordStreamFileListener).onEnd(streamFile2);
+        verify(applicationEventPublisher, times(2))
+                .publishEvent(argThat(e -> e instanceof RecordFileParsedEvent));
+        verify(transactionManager, times(2)).commit(any());
+    }
+
+    @Test
+    void pipelinedSynchronous() {
+        // given
+        ((RecordParserProperties) parserProperties).getPipeline().setEnabled(true);
+        var streamFile = getStreamFile();
+        doAnswer(invocation -> {
+                    pipeline.awaitForWrite();
+                    return null;
+                })
+                .when(recordItemListener)
+                .onItem(recordItem);
+
+        // when
+        parser.parse(streamFile);
+
+        // then
+        assertParsed(streamFile, true, false);
+        assertThat(pipeline.isSynchronous()).isFalse();
+        verify(transactionManager, never()).getTransaction(any());
+    }
+
     @Test
     void hashMismatch(CapturedOutput output) {
         // given
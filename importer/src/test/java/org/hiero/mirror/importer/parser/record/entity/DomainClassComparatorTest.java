@@ -44,6 +44,13 @@ class DomainClassComparatorTest {
         assertThat(sortedOrder).containsExactlyElementsOf(ORDER);
     }
 
+    @Test
+    void isOrdered() {
+        assertThat(ORDER).allMatch(DomainClassComparator::isOrdered);
+        assertThat(DomainClassComparator.isOrdered(Entity.class)).isFalse();
+        assertThat(DomainClassComparator.isOrdered(CryptoTransfer.class)).isFalse();
+    }
+
     @Test
     void sortedMap() {
         var map = new TreeMap<Class<?>, Integer>(COMPARATOR);
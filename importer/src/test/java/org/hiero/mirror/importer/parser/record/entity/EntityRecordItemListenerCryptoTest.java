@@ -1711,6 +1711,29 @@ class EntityRecordItemListenerCryptoTest extends AbstractEntityRecordItemListene
                 .containsOnly(transactionRecordBytes);
     }
 
+    @Test
+    void prepared() {
+        // given
+        var recordItem = recordItemBuilder.cryptoTransfer().build();
+        var transactionId = recordItem.getTransactionBody().getTransactionID();
+
+        // when
+        entityRecordItemListener.prepare(recordItem);
+        var preparedTransaction = recordItem.getPreparedTransaction();
+        parseRecordItemAndCommit(recordItem);
+
+        // then
+        assertThat(preparedTransaction).isNotNull();
+        assertThat(recordItem.getPreparedTransaction()).isNull();
+        assertThat(transactionRepository.findAll())
+                .singleElement()
+                .returns(recordItem.getConsensusTimestamp(), t -> t.getConsensusTimestamp())
+                .returns(recordItem.getPayerAccountId(), t -> t.getPayerAccountId())
+                .returns(preparedTransaction.getTransactionHash(), t -> t.getTransactionHash())
+                .returns(DomainUtils.timeStampInNanos(transactionId.getTransactionValidStart()), t -> t.getValidStartNs());
+        assertRecordTransfers(recordItem.getTransactionRecord());
+    }
+
     @Test
     void twoStakingRewardPayoutsInSameBlockAcrossDayBoundary() {
         // given
@@ -105,6 +105,30 @@ class ParserContextTest {
         assertThat(parserContext.getEvmAddressLookupIds()).containsExactlyInAnyOrder(1L, 2L);
     }
 
+    @Test
+    void swap() {
+        var domain1 = domainBuilder.entity().get();
+        var domain2 = domainBuilder.entity().get();
+        parserContext.add(domain1);
+        parserContext.addEvmAddressLookupId(1L);
+
+        var buffer = parserContext.swap();
+        parserContext.add(domain2);
+        assertThat(getItems()).containsExactly(List.of(domain2));
+        assertThat(parserContext.getEvmAddressLookupIds()).isEmpty();
+        assertThatThrownBy(parserContext::swap).isInstanceOf(IllegalStateException.class);
+
+        parserContext.bind(buffer);
+        assertThat(getItems()).containsExactly(List.of(domain1));
+        assertThat(parserContext.getEvmAddressLookupIds()).containsExactly(1L);
+        parserContext.clear();
+        parserContext.bind(null);
+
+        assertThat(getItems()).containsExactly(List.of(domain2));
+        assertThat(parserContext.swap()).isNotSameAs(buffer);
+        assertThat(getItems()).isEmpty();
+    }
+
     private Collection<Collection<?>> getItems() {
         var items = new ArrayList<Collection<?>>();
         parserContext.forEach(items::add);
@@ -0,0 +1,201 @@
+// SPDX-License-Identifier: Apache-2.0
+
+package org.hiero.mirror.importer.parser.record.entity.sql;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.List;
+import javax.sql.DataSource;
+import lombok.RequiredArgsConstructor;
+import lombok.SneakyThrows;
+import org.hiero.mirror.importer.ImporterIntegrationTest;
+import org.hiero.mirror.importer.exception.ParserException;
+import org.hiero.mirror.importer.parser.batch.BatchPersister;
+import org.hiero.mirror.importer.repository.CryptoTransferRepository;
+import org.hiero.mirror.importer.repository.TopicMessageRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.ConnectionHolder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@RequiredArgsConstructor
+class ParallelBatchPersisterTest extends ImporterIntegrationTest {
+
+    private final BatchPersister batchPersister;
+    private final CryptoTransferRepository cryptoTransferRepository;
+    private final DataSource dataSource;
+    private final JdbcTemplate jdbcTemplate;
+    private final ParallelBatchPersister parallelBatchPersister;
+    private final TopicMessageRepository topicMessageRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @Test
+    void persist() {
+        // given
+        var cryptoTransfers = List.of(
+                domainBuilder.cryptoTransfer().get(), domainBuilder.cryptoTransfer().get());
+        var topicMessages = List.of(domainBuilder.topicMessage().get());
+        List<Collection<?>> batches = List.of(cryptoTransfers, topicMessages);
+
+        // when
+        transactionTemplate.executeWithoutResult(status -> {
+            parallelBatchPersister.persist(batches);
+
+            // Inside different transactions so will not be visible until the parent transaction commits
+            assertThat(cryptoTransferRepository.findAll()).isEmpty();
+            assertThat(topicMessageRepository.findAll()).isEmpty();
+            assertThat(parallelBatchPersister.getConnections()).isNotEmpty();
+        });
+
+        // then
+        assertThat(cryptoTransferRepository.findAll()).containsExactlyInAnyOrderElementsOf(cryptoTransfers);
+        assertThat(topicMessageRepository.findAll()).containsExactlyInAnyOrderElementsOf(topicMessages);
+        assertThat(parallelBatchPersister.getConnections()).isEmpty();
+        assertThat(parallelBatchPersister.getPrepared()).isEmpty();
+        assertThat(getPreparedTransactions()).isEmpty();
+    }
+
+    @Test
+    void persistEmpty() {
+        transactionTemplate.executeWithoutResult(status -> parallelBatchPersister.persist(List.of()));
+        assertThat(parallelBatchPersister.getConnections()).isEmpty();
+    }
+
+    @Test
+    void persistParentFails() {
+        // given
+        List<Collection<?>> batches = List.of(
+                List.of(domainBuilder.cryptoTransfer().get()),
+                List.of(domainBuilder.topicMessage().get()));
+
+        // when
+        assertThatThrownBy(() -> transactionTemplate.executeWithoutResult(status -> {
+                    parallelBatchPersister.persist(batches);
+                    throw new RuntimeException("intentional");
+                }))
+                .hasMessage("intentional");
+
+        // then
+        assertThat(cryptoTransferRepository.findAll()).isEmpty();
+        assertThat(topicMessageRepository.findAll()).isEmpty();
+        assertThat(parallelBatchPersister.getConnections()).isEmpty();
+    }
+
+    @Test
+    void persistParentFailsAfterPrepare() {
+        // given
+        List<Collection<?>> batches = List.of(
+                List.of(domainBuilder.cryptoTransfer().get()),
+                List.of(domainBuilder.topicMessage().get()));
+
+        // when
+        assertThatThrownBy(() -> transactionTemplate.executeWithoutResult(status -> {
+                    parallelBatchPersister.persist(batches);
+                    // Fails the parent after the children are prepared
+                    TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                        @Override
+                        public void beforeCommit(boolean readOnly) {
+                            assertThat(getPreparedTransactions()).hasSize(batches.size());
+                            throw new IllegalStateException("intentional");
+                        }
+                    });
+                }))
+                .hasMessage("intentional");
+
+        // then
+        assertThat(cryptoTransferRepository.findAll()).isEmpty();
+        assertThat(topicMessageRepository.findAll()).isEmpty();
+        assertThat(parallelBatchPersister.getConnections()).isEmpty();
+        assertThat(parallelBatchPersister.getPrepared()).isEmpty();
+        assertThat(getPreparedTransactions()).isEmpty();
+    }
+
+    @Test
+    void recover() {
+        // given children left prepared by a crash after their parents completed
+        var committed = domainBuilder.cryptoTransfer().get();
+        var aborted = domainBuilder.topicMessage().get();
+        prepare(committed, transactionTemplate.execute(status -> getTransactionId()));
+        prepare(aborted, transactionTemplate.execute(status -> {
+            status.setRollbackOnly();
+            return getTransactionId();
+        }));
+        assertThat(getPreparedTransactions()).hasSize(2);
+
+        // when
+        parallelBatchPersister.recover();
+
+        // then
+        assertThat(cryptoTransferRepository.findAll()).containsExactly(committed);
+        assertThat(topicMessageRepository.findAll()).isEmpty();
+        assertThat(getPreparedTransactions()).isEmpty();
+    }
+
+    @Test
+    void persistChildPrepareFails() {
+        // given
+        var topicMessage = domainBuilder.topicMessage().get();
+        List<Collection<?>> batches = List.of(List.of(domainBuilder.cryptoTransfer().get()));
+
+        // when
+        assertThatThrownBy(() -> transactionTemplate.executeWithoutResult(status -> {
+                    topicMessageRepository.save(topicMessage);
+                    parallelBatchPersister.persist(batches);
+                    closeConnections();
+                }))
+                .isInstanceOf(ParserException.class)
+                .hasMessageContaining("Error preparing parallel flush transaction")
+                .hasCauseInstanceOf(SQLException.class);
+
+        // then
+        assertThat(cryptoTransferRepository.findAll()).isEmpty();
+        assertThat(topicMessageRepository.findAll()).isEmpty();
+        assertThat(parallelBatchPersister.getConnections()).isEmpty();
+    }
+
+    private List<String> getPreparedTransactions() {
+        return jdbcTemplate.queryForList(
+                "select gid from pg_prepared_xacts where gid like ?",
+                String.class,
+                ParallelBatchPersister.GID_PREFIX + ":%");
+    }
+
+    private String getTransactionId() {
+        return jdbcTemplate.queryForObject("select pg_current_xact_id()::text", String.class);
+    }
+
+    // Prepares a child transaction the same way the parallel flush does
+    @SneakyThrows
+    private void prepare(Object item, String parentTransactionId) {
+        var gid = String.join(":", ParallelBatchPersister.GID_PREFIX, parentTransactionId, "0");
+
+        try (var connection = dataSource.getConnection()) {
+            connection.setAutoCommit(false);
+            TransactionSynchronizationManager.bindResource(dataSource, new ConnectionHolder(connection));
+
+            try {
+                batchPersister.persist(List.of(item));
+            } finally {
+                TransactionSynchronizationManager.unbindResource(dataSource);
+            }
+
+            try (var statement = connection.createStatement()) {
+                statement.execute("prepare transaction '" + gid + "'");
+            }
+
+            connection.setAutoCommit(true);
+        }
+    }
+
+    @SneakyThrows
+    private void closeConnections() {
+        for (var connection : parallelBatchPersister.getConnections().values()) {
+            connection.close();
+        }
+    }
+}
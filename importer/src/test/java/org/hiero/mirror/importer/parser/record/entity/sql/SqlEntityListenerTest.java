@@ -172,6 +172,7 @@ class SqlEntityListenerTest extends ImporterIntegrationTest {
         entityProperties.getPersist().setTransactionHashTypes(defaultTransactionHashTypes);
         entityProperties.getPersist().setTransactionHash(true);
         entityProperties.getPersist().setTrackBalance(true);
+        sqlProperties.setParallelFlush(false);
     }
 
     @Test
@@ -190,6 +191,29 @@ class SqlEntityListenerTest extends ImporterIntegrationTest {
         assertThat(findHistory(Entity.class)).isEmpty();
     }
 
+    @Test
+    void executeBatchParallel() {
+        // given
+        sqlProperties.setParallelFlush(true);
+        var entity = domainBuilder.entity().get();
+        var cryptoTransfer = domainBuilder.cryptoTransfer().get();
+        var token = domainBuilder.token().get();
+        var topicMessage = domainBuilder.topicMessage().get();
+
+        // when
+        sqlEntityListener.onEntity(entity);
+        sqlEntityListener.onCryptoTransfer(cryptoTransfer);
+        sqlEntityListener.onToken(token);
+        sqlEntityListener.onTopicMessage(topicMessage);
+        completeFileAndCommit();
+
+        // then
+        assertThat(entityRepository.findAll()).containsExactly(entity);
+        assertThat(cryptoTransferRepository.findAll()).containsExactly(cryptoTransfer);
+        assertThat(tokenRepository.findAll()).containsExactly(token);
+        assertThat(topicMessageRepository.findAll()).containsExactly(topicMessage);
+    }
+
     @Test
     void isEnabled() {
         sqlProperties.setEnabled(false);
@@ -15,6 +15,7 @@ import static org.mockito.Mock.Strictness.LENIENT;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
 import com.google.protobuf.ByteString;
@@ -167,6 +168,49 @@ class EthereumTransactionHandlerTest extends AbstractTransactionHandlerTest {
         verify(ethereumTransactionParser, never()).getHash(any(), any(), anyLong(), any());
     }
 
+    @Test
+    void prepare() {
+        var ethereumTransaction = domainBuilder.ethereumTransaction(false).get();
+        doReturn(ethereumTransaction).when(ethereumTransactionParser).decode(any());
+        var recordItem = recordItemBuilder.ethereumTransaction().build();
+        var transaction = domainBuilder
+                .transaction()
+                .customize(t -> t.consensusTimestamp(recordItem.getConsensusTimestamp()))
+                .get();
+
+        transactionHandler.prepare(recordItem);
+        assertThat(recordItem.getPreparedEthereumTransaction()).isSameAs(ethereumTransaction);
+
+        transactionHandler.updateTransaction(transaction, recordItem);
+
+        verify(ethereumTransactionParser, times(1)).decode(any());
+        verify(entityListener).onEthereumTransaction(ethereumTransaction);
+        assertThat(recordItem.getEthereumTransaction()).isSameAs(ethereumTransaction);
+        assertThat(recordItem.getPreparedEthereumTransaction()).isNull();
+    }
+
+    @Test
+    void prepareFailure() {
+        var ethereumTransaction = domainBuilder.ethereumTransaction(false).get();
+        doThrow(new IllegalStateException())
+                .doReturn(ethereumTransaction)
+                .when(ethereumTransactionParser)
+                .decode(any());
+        var recordItem = recordItemBuilder.ethereumTransaction().build();
+        var transaction = domainBuilder
+                .transaction()
+                .customize(t -> t.consensusTimestamp(recordItem.getConsensusTimestamp()))
+                .get();
+
+        transactionHandler.prepare(recordItem);
+        assertThat(recordItem.getPreparedEthereumTransaction()).isNull();
+
+        transactionHandler.updateTransaction(transaction, recordItem);
+
+        verify(ethereumTransactionParser, times(2)).decode(any());
+        verify(entityListener).onEthereumTransaction(ethereumTransaction);
+    }
+
     @Test
     void updateTransactionEmptyHash() {
         var ethereumTransaction = domainBuilder.ethereumTransaction(true).get();
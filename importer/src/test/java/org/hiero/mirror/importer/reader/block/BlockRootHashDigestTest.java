@@ -5,9 +5,15 @@ package org.hiero.mirror.importer.reader.block;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
+import com.google.common.primitives.Bytes;
 import com.hedera.hapi.block.stream.output.protoc.BlockHeader;
 import com.hedera.hapi.block.stream.output.protoc.StateChanges;
 import com.hedera.hapi.block.stream.protoc.BlockItem;
+import com.hederahashgraph.api.proto.java.Timestamp;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.SneakyThrows;
 import org.bouncycastle.util.encoders.Hex;
 import org.junit.jupiter.api.Test;
 
@@ -87,6 +93,32 @@ class BlockRootHashDigestTest {
                         "1062c46277c5be0408165dd5eb4aba605b8193066fd66c9f05d92a2ba62150406a897104804e540deb3412657f208f13");
     }
 
+    @Test
+    void digestLargeTree() {
+        // given
+        var subject = new BlockRootHashDigest();
+        subject.setPreviousHash(EMPTY_HASH);
+        subject.setStartOfBlockStateHash(EMPTY_HASH);
+
+        List<byte[]> outputHashes = new ArrayList<>();
+        for (int i = 0; i < 1500; i++) {
+            var outputBlockItem = BlockItem.newBuilder()
+                    .setStateChanges(StateChanges.newBuilder()
+                            .setConsensusTimestamp(Timestamp.newBuilder().setNanos(i)))
+                    .build();
+            subject.addOutputBlockItem(outputBlockItem.toByteString());
+            outputHashes.add(sha384(outputBlockItem.toByteArray()));
+        }
+
+        var leaves = new ArrayList<>(List.of(EMPTY_HASH, EMPTY_HASH, rootHash(outputHashes), EMPTY_HASH));
+
+        // when
+        String actual = subject.digest();
+
+        // then
+        assertThat(actual).isEqualTo(Hex.toHexString(rootHash(leaves)));
+    }
+
     @Test
     void shouldThrowWhenPreviousHashNotSet() {
         var subject = new BlockRootHashDigest();
@@ -115,4 +147,28 @@ class BlockRootHashDigestTest {
         subject.setPreviousHash(EMPTY_HASH);
         assertThatThrownBy(subject::digest).isInstanceOf(NullPointerException.class);
     }
+
+    // A straightforward implementation of the padded merkle tree to compare against
+    private static byte[] rootHash(List<byte[]> leaves) {
+        int size = Integer.highestOneBit(leaves.size());
+        size = size == leaves.size() ? size : size << 1;
+        while (leaves.size() < size) {
+            leaves.add(EMPTY_HASH);
+        }
+
+        while (leaves.size() > 1) {
+            List<byte[]> parents = new ArrayList<>();
+            for (int i = 0; i < leaves.size(); i += 2) {
+                parents.add(sha384(Bytes.concat(leaves.get(i), leaves.get(i + 1))));
+            }
+            leaves = parents;
+        }
+
+        return leaves.getFirst();
+    }
+
+    @SneakyThrows
+    private static byte[] sha384(byte[] bytes) {
+        return MessageDigest.getInstance("SHA-384").digest(bytes);
+    }
 }
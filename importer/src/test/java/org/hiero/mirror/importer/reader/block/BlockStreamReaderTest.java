@@ -35,6 +35,7 @@ import org.hiero.mirror.common.util.DomainUtils;
 import org.hiero.mirror.importer.TestUtils;
 import org.hiero.mirror.importer.domain.StreamFileData;
 import org.hiero.mirror.importer.exception.InvalidStreamFileException;
+import org.hiero.mirror.importer.parser.record.RecordParserProperties;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
@@ -90,7 +91,7 @@ public class BlockStreamReaderTest {
                     .build());
 
     private final DomainBuilder domainBuilder = new DomainBuilder();
-    private final BlockStreamReader reader = new BlockStreamReaderImpl();
+    private final BlockStreamReader reader = new BlockStreamReaderImpl(new RecordParserProperties());
 
     @ParameterizedTest(name = "{0}")
     @MethodSource("readTestArgumentsProvider")
@@ -117,6 +118,23 @@ public class BlockStreamReaderTest {
                 .containsExactlyElementsOf(expectedPreviousItems);
     }
 
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("readTestArgumentsProvider")
+    void readWithBlockItemBytes(BlockStream blockStream, BlockFile expected) {
+        var blockItemBytes = blockStream.blockItems().stream().map(BlockItem::toByteString).toList();
+        var blockStreamWithBytes = new BlockStream(
+                blockStream.blockItems(),
+                blockItemBytes,
+                blockStream.bytes(),
+                blockStream.filename(),
+                blockStream.loadStart(),
+                blockStream.nodeId());
+
+        var actual = reader.read(blockStreamWithBytes);
+        assertThat(actual.getHash()).isEqualTo(expected.getHash());
+        assertThat(actual.getItems()).hasSize(expected.getCount().intValue());
+    }
+
     @Test
     void readRecordFileItem() {
         // given
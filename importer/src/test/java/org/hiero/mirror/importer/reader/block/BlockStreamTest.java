@@ -0,0 +1,50 @@
+// SPDX-License-Identifier: Apache-2.0
+
+package org.hiero.mirror.importer.reader.block;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.hedera.hapi.block.stream.output.protoc.BlockHeader;
+import com.hedera.hapi.block.stream.output.protoc.StateChanges;
+import com.hedera.hapi.block.stream.protoc.Block;
+import com.hedera.hapi.block.stream.protoc.BlockItem;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class BlockStreamTest {
+
+    private static final List<BlockItem> BLOCK_ITEMS = List.of(
+            BlockItem.newBuilder()
+                    .setBlockHeader(BlockHeader.newBuilder().setNumber(1))
+                    .build(),
+            BlockItem.newBuilder()
+                    .setStateChanges(StateChanges.newBuilder())
+                    .build());
+
+    @Test
+    void withBlockItemBytes() {
+        // given
+        var blockItemBytes = BLOCK_ITEMS.stream().map(BlockItem::toByteString).toList();
+        var expected = Block.newBuilder().addAllItems(BLOCK_ITEMS).build().toByteArray();
+        var blockStream = new BlockStream(BLOCK_ITEMS, blockItemBytes, null, "0.blk", 0L, -1L);
+
+        // when, then
+        assertThat(blockStream.serializeBlock()).isEqualTo(expected);
+        assertThat(blockStream.size()).isEqualTo(expected.length);
+    }
+
+    @Test
+    void withBytes() {
+        var bytes = new byte[] {1, 2, 3};
+        var blockStream = new BlockStream(BLOCK_ITEMS, bytes, "0.blk.gz", 0L, 0L);
+        assertThat(blockStream.serializeBlock()).isNull();
+        assertThat(blockStream.size()).isEqualTo(bytes.length);
+    }
+
+    @Test
+    void withoutBytes() {
+        var blockStream = new BlockStream(BLOCK_ITEMS, null, "0.blk", 0L, -1L);
+        assertThat(blockStream.serializeBlock()).isNull();
+        assertThat(blockStream.size()).isNull();
+    }
+}
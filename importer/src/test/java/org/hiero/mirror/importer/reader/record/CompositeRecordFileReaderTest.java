@@ -2,6 +2,9 @@
 
 package org.hiero.mirror.importer.reader.record;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.hiero.mirror.importer.parser.record.RecordParserProperties;
+
 class CompositeRecordFileReaderTest extends RecordFileReaderTest {
 
     @Override
@@ -9,7 +12,8 @@ class CompositeRecordFileReaderTest extends RecordFileReaderTest {
         RecordFileReaderImplV1 v1Reader = new RecordFileReaderImplV1();
         RecordFileReaderImplV2 v2Reader = new RecordFileReaderImplV2();
         RecordFileReaderImplV5 v5Reader = new RecordFileReaderImplV5();
-        return new CompositeRecordFileReader(v1Reader, v2Reader, v5Reader, new ProtoRecordFileReader());
+        ProtoRecordFileReader v6Reader = new ProtoRecordFileReader(new RecordParserProperties());
+        return new CompositeRecordFileReader(new SimpleMeterRegistry(), v1Reader, v2Reader, v5Reader, v6Reader);
     }
 
     @Override
@@ -0,0 +1,15 @@
+// SPDX-License-Identifier: Apache-2.0
+
+package org.hiero.mirror.importer.reader.record;
+
+import org.hiero.mirror.importer.parser.record.RecordParserProperties;
+
+class ProtoRecordFileReaderAliasingTest extends ProtoRecordFileReaderTest {
+
+    @Override
+    protected RecordFileReader getRecordFileReader() {
+        var recordParserProperties = new RecordParserProperties();
+        recordParserProperties.setProtobufAliasing(true);
+        return new ProtoRecordFileReader(recordParserProperties);
+    }
+}
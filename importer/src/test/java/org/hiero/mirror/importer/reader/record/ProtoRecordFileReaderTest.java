@@ -25,6 +25,7 @@ import org.hiero.mirror.common.util.DomainUtils;
 import org.hiero.mirror.importer.TestUtils;
 import org.hiero.mirror.importer.domain.StreamFileData;
 import org.hiero.mirror.importer.exception.InvalidStreamFileException;
+import org.hiero.mirror.importer.parser.record.RecordParserProperties;
 import org.junit.jupiter.api.Test;
 
 class ProtoRecordFileReaderTest extends AbstractRecordFileReaderTest {
@@ -33,7 +34,7 @@ class ProtoRecordFileReaderTest extends AbstractRecordFileReaderTest {
 
     @Override
     protected RecordFileReader getRecordFileReader() {
-        return new ProtoRecordFileReader();
+        return new ProtoRecordFileReader(new RecordParserProperties());
     }
 
     @Override
@@ -44,7 +45,7 @@ class ProtoRecordFileReaderTest extends AbstractRecordFileReaderTest {
     @Test
     void testEmptyRecordStreamItems() {
         var bytes = gzip(ProtoRecordStreamFile.of(RecordStreamFile.Builder::clearRecordStreamItems));
-        var reader = new ProtoRecordFileReader();
+        var reader = getRecordFileReader();
         var streamFileData = StreamFileData.from(FILENAME, bytes);
         var exception = assertThrows(InvalidStreamFileException.class, () -> reader.read(streamFileData));
         var expected = "No record stream objects in record file " + FILENAME;
@@ -58,7 +59,7 @@ class ProtoRecordFileReaderTest extends AbstractRecordFileReaderTest {
             b.getEndObjectRunningHashBuilder().setAlgorithm(HashAlgorithm.HASH_ALGORITHM_UNKNOWN);
             return b;
         }));
-        var reader = new ProtoRecordFileReader();
+        var reader = getRecordFileReader();
         var streamFileData = StreamFileData.from(FILENAME, bytes);
         var exception = assertThrows(InvalidStreamFileException.class, () -> reader.read(streamFileData));
         var expected = String.format(
@@ -74,7 +75,7 @@ class ProtoRecordFileReaderTest extends AbstractRecordFileReaderTest {
             b.getStartObjectRunningHashBuilder().setAlgorithm(HashAlgorithm.HASH_ALGORITHM_UNKNOWN);
             return b;
         }));
-        var reader = new ProtoRecordFileReader();
+        var reader = getRecordFileReader();
         var streamFileData = StreamFileData.from(FILENAME, bytes);
         var recordFile = reader.read(streamFileData);
 
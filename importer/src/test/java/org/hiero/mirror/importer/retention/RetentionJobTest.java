@@ -6,10 +6,15 @@ import static org.assertj.core.api.Assertions.assertThat;
 
 import java.time.Duration;
 import java.util.Collections;
+import java.util.List;
 import java.util.Set;
 import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.hiero.mirror.common.domain.transaction.RecordFile;
+import org.hiero.mirror.importer.EnabledIfV2;
 import org.hiero.mirror.importer.ImporterIntegrationTest;
+import org.hiero.mirror.importer.db.TimePartition;
+import org.hiero.mirror.importer.db.TimePartitionService;
 import org.hiero.mirror.importer.repository.RecordFileRepository;
 import org.hiero.mirror.importer.repository.TransactionRepository;
 import org.junit.jupiter.api.AfterEach;
@@ -19,9 +24,11 @@ import org.junit.jupiter.api.Test;
 @RequiredArgsConstructor
 class RetentionJobTest extends ImporterIntegrationTest {
 
+    private final MeterRegistry meterRegistry;
     private final RecordFileRepository recordFileRepository;
     private final RetentionJob retentionJob;
     private final RetentionProperties retentionProperties;
+    private final TimePartitionService timePartitionService;
     private final TransactionRepository transactionRepository;
 
     @BeforeEach
@@ -35,6 +42,7 @@ class RetentionJobTest extends ImporterIntegrationTest {
 
     @AfterEach
     void cleanup() {
+        retentionProperties.setDropPartitions(false);
         retentionProperties.setEnabled(false);
     }
 
@@ -168,8 +176,71 @@ class RetentionJobTest extends ImporterIntegrationTest {
         assertThat(transactionRepository.count()).isZero();
     }
 
+    @EnabledIfV2
+    @Test
+    void dropPartitions() {
+        // given
+        retentionProperties.setDropPartitions(true);
+        retentionProperties.setInclude(Set.of("transaction"));
+        var partitions = timePartitionService.getTimePartitions("transaction");
+        domainBuilder
+                .transaction()
+                .customize(t -> t.consensusTimestamp(partitions.getFirst().getTimestampRange().lowerEndpoint()))
+                .persist();
+        var recordFile = recordFile();
+        int index = partitions.indexOf(partitions.stream()
+                .filter(p -> p.getTimestampRange().contains(recordFile.getConsensusEnd()))
+                .findFirst()
+                .orElseThrow());
+        var dropped = partitions.subList(0, index);
+        var remaining = partitions.subList(index, partitions.size());
+        var recordFile1 = recordFile(dropped.getLast().getEnd());
+        var recordFile2 = recordFile();
+        long period = recordFile2.getConsensusEnd() - recordFile1.getConsensusEnd() - 1;
+        retentionProperties.setPeriod(Duration.ofSeconds(0, period));
+
+        try {
+            // when
+            retentionJob.prune();
+
+            // then
+            assertThat(dropped).isNotEmpty();
+            assertThat(timePartitionService.getTimePartitions("transaction")).containsExactlyElementsOf(remaining);
+            assertThat(recordFileRepository.findAll()).containsExactlyInAnyOrder(recordFile, recordFile1, recordFile2);
+            assertThat(transactionRepository.count()).isEqualTo(2L);
+            assertThat(meterRegistry
+                            .get("hiero.mirror.importer.retention.partitions")
+                            .tag("table", "transaction")
+                            .counter()
+                            .count())
+                    .isEqualTo(dropped.size());
+        } finally {
+            recreatePartitions(partitions);
+        }
+    }
+
+    private void recreatePartitions(List<TimePartition> partitions) {
+        var existing = timePartitionService.getTimePartitions("transaction");
+        partitions.stream()
+                .filter(p -> !existing.contains(p))
+                .forEach(p -> ownerJdbcTemplate.execute("create table %s partition of %s for values from (%d) to (%d)"
+                        .formatted(
+                                p.getName(),
+                                p.getParent(),
+                                p.getTimestampRange().lowerEndpoint(),
+                                p.getTimestampRange().upperEndpoint())));
+        timePartitionService.evictTimePartitions();
+    }
+
     private RecordFile recordFile() {
-        var recordFile = domainBuilder.recordFile().persist();
+        return recordFile(domainBuilder.timestamp());
+    }
+
+    private RecordFile recordFile(long consensusEnd) {
+        var recordFile = domainBuilder
+                .recordFile()
+                .customize(r -> r.consensusEnd(consensusEnd).consensusStart(consensusEnd - 1))
+                .persist();
         domainBuilder
                 .transaction()
                 .customize(t -> t.consensusTimestamp(recordFile.getConsensusEnd()))
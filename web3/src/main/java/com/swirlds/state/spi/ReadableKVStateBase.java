@@ -47,7 +47,7 @@ public abstract class ReadableKVStateBase<K, V> implements ReadableKVState<K, V>
         // contains call, even if they never need the value itself!
         Objects.requireNonNull(key);
         if (!hasBeenRead(key)) {
-            final var value = readFromDataSource(key);
+            final var value = readThroughLatestReadCache(key);
             markRead(key, value);
         }
         final var value = getReadCache().get(key);
@@ -86,6 +86,17 @@ public abstract class ReadableKVStateBase<K, V> implements ReadableKVState<K, V>
      */
     protected abstract V readFromDataSource(@Nonnull K key);
 
+    /**
+     * Replays the side effects of {@link #readFromDataSource} for a value read from the reads shared by the calls at the
+     * latest block instead, since they only happened in the call that read it from the data source.
+     *
+     * @param key The key
+     * @param value The value read from the shared reads
+     */
+    protected void replayRead(@Nonnull K key, @Nonnull V value) {
+        // No side effects by default
+    }
+
     /**
      * Gets an iterator from the data source that iterates over all keys.
      *
@@ -116,6 +127,31 @@ public abstract class ReadableKVStateBase<K, V> implements ReadableKVState<K, V>
         return getReadCache().containsKey(key);
     }
 
+    /**
+     * Reads the key from the reads shared by the calls at the latest block, if any, before reading it from the
+     * underlying data source.
+     */
+    private V readThroughLatestReadCache(@Nonnull K key) {
+        final var latestReadCache = ContractCallContext.get().getLatestReadCacheState(getStateKey());
+        if (latestReadCache == null) {
+            return readFromDataSource(key);
+        }
+
+        final var cached = latestReadCache.get(key);
+        if (cached == null) {
+            final var value = readFromDataSource(key);
+            latestReadCache.putIfAbsent(key, Objects.requireNonNullElse(value, marker));
+            return value;
+        }
+
+        if (cached == marker) {
+            return null;
+        }
+
+        replayRead(key, (V) cached);
+        return (V) cached;
+    }
+
     private Map<Object, Object> getReadCache() {
         return ContractCallContext.get().getReadCacheState(getStateKey());
     }
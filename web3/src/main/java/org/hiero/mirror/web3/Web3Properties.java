@@ -3,6 +3,9 @@
 package org.hiero.mirror.web3;
 
 import jakarta.inject.Named;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Positive;
 import java.time.Duration;
 import lombok.Data;
@@ -15,9 +18,22 @@ import org.springframework.validation.annotation.Validated;
 @ConfigurationProperties(prefix = "hiero.mirror.web3")
 @Validated
 public class Web3Properties {
+    @NotNull
+    @Valid
+    private BatchProperties batch = new BatchProperties();
+
     @Positive
     private int maxPayloadLogSize = 300;
 
     @DurationMin(seconds = 1L)
     private Duration requestTimeout = Duration.ofSeconds(10L);
+
+    @Data
+    public static class BatchProperties {
+        @Min(1)
+        private int maxParallelism = 8;
+
+        @Min(1)
+        private int maxSize = 100;
+    }
 }
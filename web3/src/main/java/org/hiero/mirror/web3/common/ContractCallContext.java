@@ -9,7 +9,10 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.function.Supplier;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.Setter;
@@ -18,6 +21,7 @@ import org.hiero.mirror.common.domain.transaction.RecordFile;
 import org.hiero.mirror.web3.evm.contracts.execution.traceability.Opcode;
 import org.hiero.mirror.web3.evm.contracts.execution.traceability.OpcodeTracerOptions;
 import org.hiero.mirror.web3.evm.store.CachingStateFrame;
+import org.hiero.mirror.web3.evm.store.SharedROCachingStateFrame;
 import org.hiero.mirror.web3.evm.store.StackedStateFrames;
 import org.hiero.mirror.web3.service.model.CallServiceParameters;
 import org.hiero.mirror.web3.viewmodel.BlockType;
@@ -33,7 +37,15 @@ public class ContractCallContext {
     private final Map<String, Map<Object, Object>> readCache = new HashMap<>();
 
     @Getter
-    private final long startTime = System.currentTimeMillis();
+    private final long startTime;
+
+    @Getter(AccessLevel.NONE)
+    private final ContractCallSharedState sharedState;
+
+    /** The reads of the state at the latest block shared by the calls at the same record file, if any */
+    @Getter(AccessLevel.NONE)
+    @Setter
+    private Map<String, Map<Object, Object>> latestReadCache;
 
     @Getter(AccessLevel.NONE)
     private final Map<String, Map<Object, Object>> writeCache = new HashMap<>();
@@ -47,6 +59,11 @@ public class ContractCallContext {
     @Setter
     private List<Opcode> opcodes = new ArrayList<>();
 
+    /** Receives the traced opcodes instead of them being collected in {@link #opcodes}, if set */
+    @Getter(AccessLevel.NONE)
+    @Setter
+    private Consumer<Opcode> opcodeConsumer;
+
     @Setter
     private CallServiceParameters callServiceParameters;
 
@@ -65,6 +82,10 @@ public class ContractCallContext {
     /** Fixed "base" of stack: a R/O cache frame on top of the DB-backed cache frame */
     private CachingStateFrame<Object> stackBase;
 
+    /** The view of the stack base read through by every fork, so the forks' reads of it are serialized by one lock */
+    @Getter(AccessLevel.NONE)
+    private final AtomicReference<SharedROCachingStateFrame<Object>> sharedStackBase = new AtomicReference<>();
+
     /**
      * The timestamp used to fetch the state from the stackedStateFrames.
      */
@@ -77,7 +98,14 @@ public class ContractCallContext {
     @Setter
     private long gasRequirement;
 
-    private ContractCallContext() {}
+    private ContractCallContext() {
+        this(null);
+    }
+
+    private ContractCallContext(final ContractCallSharedState sharedState) {
+        this.sharedState = sharedState;
+        this.startTime = sharedState != null ? sharedState.getStartTime() : System.currentTimeMillis();
+    }
 
     public static ContractCallContext get() {
         return SCOPED_VALUE.get();
@@ -88,7 +116,52 @@ public class ContractCallContext {
     }
 
     public static <T> T run(Function<ContractCallContext, T> function) {
-        return ScopedValue.getWhere(SCOPED_VALUE, new ContractCallContext(), () -> function.apply(SCOPED_VALUE.get()));
+        return run(null, function);
+    }
+
+    /**
+     * Runs the function in a new context that reads through the given state shared with the contexts of other calls
+     * against the same block.
+     */
+    public static <T> T run(ContractCallSharedState sharedState, Function<ContractCallContext, T> function) {
+        return ScopedValue.getWhere(
+                SCOPED_VALUE, new ContractCallContext(sharedState), () -> function.apply(SCOPED_VALUE.get()));
+    }
+
+    /**
+     * Runs the function in a new context for the same call that reads through the state of this one. The new context
+     * has its own stack frames and written state, so it can execute the call again concurrently with other forks, e.g.
+     * with a different gas limit. Every fork's stack base reads through the stack base of this context by way of the
+     * same view, which serializes their reads of it, so this context must not execute a call while its forks do. The
+     * traced opcodes and contract actions of the fork aren't collected by this context.
+     */
+    public <T> T fork(Function<ContractCallContext, T> function) {
+        final var state = sharedState != null ? sharedState.toConcurrent() : new ContractCallSharedState(true);
+        final var context = new ContractCallContext(state);
+        context.latestReadCache = latestReadCache;
+        context.opcodeTracerOptions = opcodeTracerOptions;
+        context.callServiceParameters = callServiceParameters;
+        context.recordFile = recordFile;
+        context.entityNumber = entityNumber;
+        context.timestamp = timestamp;
+        context.isBalanceCall = isBalanceCall;
+        context.gasRequirement = gasRequirement;
+
+        if (stackBase != null) {
+            context.stackBase = context.stack = getSharedStackBase().readThrough();
+        }
+
+        return ScopedValue.getWhere(SCOPED_VALUE, context, () -> function.apply(context));
+    }
+
+    private SharedROCachingStateFrame<Object> getSharedStackBase() {
+        final var base = stackBase;
+        return sharedStackBase.updateAndGet(shared -> {
+            if (shared != null && shared.getUpstream().orElse(null) == base) {
+                return shared;
+            }
+            return new SharedROCachingStateFrame<>(base);
+        });
     }
 
     public void reset() {
@@ -115,7 +188,11 @@ public class ContractCallContext {
     }
 
     public void addOpcodes(Opcode opcode) {
-        opcodes.add(opcode);
+        if (opcodeConsumer != null) {
+            opcodeConsumer.accept(opcode);
+        } else {
+            opcodes.add(opcode);
+        }
     }
 
     /**
@@ -130,7 +207,9 @@ public class ContractCallContext {
     public void initializeStackFrames(final StackedStateFrames stackedStateFrames) {
         if (stackedStateFrames != null) {
             final var stateTimestamp = getTimestampOrDefaultFromRecordFile();
-            stackBase = stack = stackedStateFrames.getInitializedStackBase(stateTimestamp);
+            final Supplier<CachingStateFrame<Object>> supplier =
+                    () -> stackedStateFrames.getInitializedStackBase(stateTimestamp);
+            stackBase = stack = sharedState != null ? sharedState.getStackBase(supplier) : supplier.get();
         }
     }
 
@@ -157,9 +236,20 @@ public class ContractCallContext {
     }
 
     public Map<Object, Object> getReadCacheState(final String stateKey) {
+        if (sharedState != null) {
+            return sharedState.getReadCacheState(stateKey);
+        }
         return readCache.computeIfAbsent(stateKey, k -> new HashMap<>());
     }
 
+    /**
+     * Returns the reads of the state shared with the other calls at the latest block, or null if the state isn't
+     * shared.
+     */
+    public Map<Object, Object> getLatestReadCacheState(final String stateKey) {
+        return latestReadCache != null ? latestReadCache.get(stateKey) : null;
+    }
+
     public Map<Object, Object> getWriteCacheState(final String stateKey) {
         return writeCache.computeIfAbsent(stateKey, k -> new HashMap<>());
     }
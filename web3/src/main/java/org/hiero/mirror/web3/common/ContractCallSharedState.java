@@ -0,0 +1,58 @@
+// SPDX-License-Identifier: Apache-2.0
+
+package org.hiero.mirror.web3.common;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+import lombok.Getter;
+import org.hiero.mirror.web3.evm.store.CachingStateFrame;
+
+/**
+ * State shared by the contexts of several calls executed against the same block. The entities, tokens, slots and
+ * bytecode read from the database by one call are reused by the others, and the calls are bounded by the request
+ * timeout as a whole instead of each.
+ */
+public final class ContractCallSharedState {
+
+    @Getter
+    private final long startTime;
+
+    private final boolean concurrent;
+    private final Map<String, Map<Object, Object>> readCache;
+    private final AtomicReference<CachingStateFrame<Object>> stackBase = new AtomicReference<>();
+
+    /**
+     * @param concurrent whether the calls sharing this state may be executed concurrently
+     */
+    public ContractCallSharedState(boolean concurrent) {
+        this(System.currentTimeMillis(), concurrent, new ConcurrentHashMap<>());
+    }
+
+    private ContractCallSharedState(long startTime, boolean concurrent, Map<String, Map<Object, Object>> readCache) {
+        this.startTime = startTime;
+        this.concurrent = concurrent;
+        this.readCache = readCache;
+    }
+
+    /**
+     * Returns a view of this state whose calls may be executed concurrently with each other and with the calls of this
+     * state.
+     */
+    ContractCallSharedState toConcurrent() {
+        return concurrent ? this : new ContractCallSharedState(startTime, true, readCache);
+    }
+
+    Map<Object, Object> getReadCacheState(final String stateKey) {
+        return readCache.computeIfAbsent(stateKey, k -> new ConcurrentHashMap<>());
+    }
+
+    CachingStateFrame<Object> getStackBase(final Supplier<CachingStateFrame<Object>> supplier) {
+        // The R/O cache frame isn't thread safe, so concurrent calls each read through their own
+        if (concurrent) {
+            return supplier.get();
+        }
+        return stackBase.updateAndGet(base -> base != null ? base : supplier.get());
+    }
+}
@@ -9,16 +9,25 @@ import static org.hiero.mirror.web3.utils.Constants.MODULARIZED_HEADER;
 import com.hedera.node.app.service.evm.store.models.HederaEvmAccount;
 import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
+import java.util.ArrayList;
 import lombok.CustomLog;
 import lombok.RequiredArgsConstructor;
+import org.apache.commons.lang3.StringUtils;
 import org.apache.tuweni.bytes.Bytes;
+import org.hiero.mirror.web3.Web3Properties;
 import org.hiero.mirror.web3.evm.properties.MirrorNodeEvmProperties;
 import org.hiero.mirror.web3.exception.InvalidParametersException;
+import org.hiero.mirror.web3.exception.ThrottleException;
 import org.hiero.mirror.web3.service.ContractExecutionService;
+import org.hiero.mirror.web3.service.model.ContractCallResult;
 import org.hiero.mirror.web3.service.model.ContractExecutionParameters;
 import org.hiero.mirror.web3.throttle.ThrottleManager;
+import org.hiero.mirror.web3.viewmodel.ContractCallBatchRequest;
+import org.hiero.mirror.web3.viewmodel.ContractCallBatchResponse;
 import org.hiero.mirror.web3.viewmodel.ContractCallRequest;
 import org.hiero.mirror.web3.viewmodel.ContractCallResponse;
+import org.hiero.mirror.web3.viewmodel.GenericErrorResponse;
+import org.hiero.mirror.web3.viewmodel.GenericErrorResponse.ErrorMessage;
 import org.hyperledger.besu.datatypes.Address;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
@@ -35,6 +44,7 @@ class ContractController {
     private final ContractExecutionService contractExecutionService;
     private final MirrorNodeEvmProperties evmProperties;
     private final ThrottleManager throttleManager;
+    private final Web3Properties web3Properties;
 
     @PostMapping(value = "/call")
     ContractCallResponse call(
@@ -56,6 +66,53 @@ class ContractController {
         }
     }
 
+    @PostMapping(value = "/call/batch")
+    ContractCallBatchResponse callBatch(
+            @RequestBody @Valid ContractCallBatchRequest request,
+            @RequestHeader(value = MODULARIZED_HEADER, required = false) String isModularizedHeader,
+            HttpServletResponse response) {
+        validateBatch(request);
+
+        final var calls = request.getCalls();
+        final var params = new ArrayList<ContractExecutionParameters>(calls.size());
+        int throttled = 0;
+
+        try {
+            for (var call : calls) {
+                throttleManager.throttle(call);
+                throttled++;
+                validateContractMaxGasLimit(call);
+                params.add(constructServiceParameters(call, isModularizedHeader));
+            }
+        } catch (InvalidParametersException | ThrottleException e) {
+            // No call was processed, so restore the tokens consumed by the calls that got through the throttle.
+            calls.subList(0, throttled).forEach(call -> throttleManager.restore(call.getGas()));
+            throw e;
+        }
+
+        final var isModularized = params.stream().allMatch(ContractExecutionParameters::isModularized);
+        response.addHeader(MODULARIZED_HEADER, String.valueOf(isModularized));
+
+        final var parallelism = request.isParallel() ? web3Properties.getBatch().getMaxParallelism() : 1;
+        final var results = contractExecutionService.processCalls(params, parallelism).stream()
+                .map(this::toResult)
+                .toList();
+        return new ContractCallBatchResponse(results);
+    }
+
+    private ContractCallBatchResponse.Result toResult(ContractCallResult result) {
+        final var e = result.error();
+        if (e == null) {
+            return new ContractCallBatchResponse.Result(result.result(), null);
+        }
+
+        final var childTransactionErrors = e.getChildTransactionErrors().stream()
+                .map(message -> new ErrorMessage(message, StringUtils.EMPTY, StringUtils.EMPTY))
+                .toList();
+        final var error = new GenericErrorResponse(e.getMessage(), e.getDetail(), e.getData(), childTransactionErrors);
+        return new ContractCallBatchResponse.Result(null, error);
+    }
+
     private ContractExecutionParameters constructServiceParameters(
             ContractCallRequest request, final String isModularizedHeader) {
         final var fromAddress = request.getFrom() != null ? Address.fromHexString(request.getFrom()) : Address.ZERO;
@@ -108,6 +165,19 @@ class ContractController {
                 .build();
     }
 
+    private void validateBatch(ContractCallBatchRequest request) {
+        final var calls = request.getCalls();
+        final int maxSize = web3Properties.getBatch().getMaxSize();
+
+        if (calls.size() > maxSize) {
+            throw new InvalidParametersException("calls field must have at most %d calls".formatted(maxSize));
+        }
+
+        if (calls.stream().map(c -> c.getBlock().number()).distinct().count() > 1) {
+            throw new InvalidParametersException("calls field must have the same block for all calls");
+        }
+    }
+
     private void validateContractMaxGasLimit(ContractCallRequest request) {
         if (request.getGas() > evmProperties.getMaxGasLimit()) {
             throw new InvalidParametersException(
@@ -7,6 +7,7 @@ import static org.hiero.mirror.web3.utils.Constants.MODULARIZED_HEADER;
 
 import io.github.bucket4j.Bucket;
 import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
 import lombok.CustomLog;
 import lombok.RequiredArgsConstructor;
 import org.hiero.mirror.rest.model.OpcodesResponse;
@@ -17,6 +18,7 @@ import org.hiero.mirror.web3.exception.ThrottleException;
 import org.hiero.mirror.web3.service.OpcodeService;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestHeader;
@@ -53,7 +55,9 @@ class OpcodesController {
      * @param stack               Include stack information
      * @param memory              Include memory information
      * @param storage             Include storage information
-     * @return {@link OpcodesResponse} containing the result of the transaction execution
+     * @return {@link OpcodesResponse} containing the result of the transaction execution, or null if it was already
+     * streamed to the response
+     * @throws IOException if streaming the response fails
      */
     @GetMapping(value = "/{transactionIdOrHash}/opcodes")
     OpcodesResponse getContractOpcodes(
@@ -62,7 +66,8 @@ class OpcodesController {
             @RequestParam(required = false, defaultValue = "false") boolean memory,
             @RequestParam(required = false, defaultValue = "false") boolean storage,
             @RequestHeader(value = MODULARIZED_HEADER, required = false) String isModularizedHeader,
-            HttpServletResponse response) {
+            HttpServletResponse response)
+            throws IOException {
         if (!rateLimitBucket.tryConsume(1)) {
             throw new ThrottleException("Requests per second rate limit exceeded.");
         }
@@ -78,6 +83,14 @@ class OpcodesController {
 
         response.addHeader(MODULARIZED_HEADER, String.valueOf(isModularized));
         final var options = new OpcodeTracerOptions(stack, memory, storage, isModularized);
+
+        // Write the opcodes as they're traced, so large traces aren't held in memory
+        if (evmProperties.isOpcodeStreaming()) {
+            response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            opcodeService.streamOpcodeCall(transactionIdOrHash, options, response.getOutputStream());
+            return null;
+        }
+
         return opcodeService.processOpcodeCall(transactionIdOrHash, options);
     }
 }
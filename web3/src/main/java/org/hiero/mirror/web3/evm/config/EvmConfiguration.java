@@ -78,6 +78,7 @@ public class EvmConfiguration {
     public static final String CACHE_MANAGER_CONTRACT = "contract";
     public static final String CACHE_MANAGER_CONTRACT_SLOTS = "contractSlots";
     public static final String CACHE_MANAGER_CONTRACT_STATE = "contractState";
+    public static final String CACHE_MANAGER_CONTRACT_STATE_HISTORICAL = "contractStateHistorical";
     public static final String CACHE_MANAGER_ENTITY = "entity";
     public static final String CACHE_MANAGER_RECORD_FILE_LATEST = "recordFileLatest";
     public static final String CACHE_MANAGER_RECORD_FILE_EARLIEST = "recordFileEarliest";
@@ -147,6 +148,14 @@ public class EvmConfiguration {
         return caffeineCacheManager;
     }
 
+    @Bean(CACHE_MANAGER_CONTRACT_STATE_HISTORICAL)
+    CacheManager cacheManagerContractStateHistorical() {
+        final CaffeineCacheManager caffeineCacheManager = new CaffeineCacheManager();
+        caffeineCacheManager.setCacheNames(Set.of(CACHE_NAME));
+        caffeineCacheManager.setCacheSpecification(cacheProperties.getContractStateHistorical());
+        return caffeineCacheManager;
+    }
+
     @Bean(CACHE_MANAGER_ENTITY)
     CacheManager cacheManagerEntity() {
         final CaffeineCacheManager caffeineCacheManager = new CaffeineCacheManager();
@@ -110,11 +110,13 @@ import org.hiero.mirror.web3.evm.account.MirrorEvmContractAliases;
 import org.hiero.mirror.web3.evm.pricing.RatesAndFeesLoader;
 import org.hiero.mirror.web3.evm.properties.MirrorNodeEvmProperties;
 import org.hiero.mirror.web3.evm.store.Store;
+import org.hiero.mirror.web3.evm.store.contract.ContractCodeCache;
 import org.hiero.mirror.web3.evm.store.contract.EntityAddressSequencer;
 import org.hiero.mirror.web3.evm.store.contract.MirrorEntityAccess;
 import org.hiero.mirror.web3.evm.token.TokenAccessorImpl;
 import org.hiero.mirror.web3.repository.RecordFileRepository;
 import org.hyperledger.besu.datatypes.Address;
+import org.hyperledger.besu.evm.Code;
 import org.hyperledger.besu.evm.frame.MessageFrame;
 import org.hyperledger.besu.evm.gascalculator.GasCalculator;
 import org.springframework.context.annotation.Bean;
@@ -278,9 +280,15 @@ public class ServicesConfiguration {
 
     @Bean
     AbstractCodeCache abstractCodeCache(
-            final MirrorNodeEvmProperties evmProperties, final MirrorEntityAccess mirrorEntityAccess) {
-        return new AbstractCodeCache(
-                (int) evmProperties.getExpirationCacheTime().toSeconds(), mirrorEntityAccess);
+            final MirrorNodeEvmProperties evmProperties,
+            final MirrorEntityAccess mirrorEntityAccess,
+            final ContractCodeCache contractCodeCache) {
+        return new AbstractCodeCache((int) evmProperties.getExpirationCacheTime().toSeconds(), mirrorEntityAccess) {
+            @Override
+            public Code getIfPresent(final Address address) {
+                return contractCodeCache.get(super.getIfPresent(address));
+            }
+        };
     }
 
     @Bean
@@ -51,6 +51,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.util.CollectionUtils;
+import org.springframework.util.unit.DataSize;
 import org.springframework.validation.annotation.Validated;
 
 @RequiredArgsConstructor(onConstructor_ = {@Autowired})
@@ -82,6 +83,15 @@ public class MirrorNodeEvmProperties implements EvmProperties {
     @Positive
     private double estimateGasIterationThresholdPercent = 0.10d;
 
+    // number of gas limits tried concurrently in each iteration of estimate gas' search algorithm
+    @Getter
+    @Min(1)
+    private int estimateGasParallelism = 1;
+
+    // whether estimate gas' search algorithm first tries the gas used plus the 1/64 retained by a CALL frame
+    @Getter
+    private boolean estimateGasSeeded = false;
+
     private boolean directTokenCall = true;
 
     private boolean dynamicEvmVersion = true;
@@ -148,6 +158,16 @@ public class MirrorNodeEvmProperties implements EvmProperties {
     @Getter
     private int maxNftMetadataBytes = 100;
 
+    // maximum number of opcodes traced for the opcodes endpoint before it fails instead of exhausting the heap
+    @Getter
+    @Min(1)
+    private int maxOpcodes = 10_000_000;
+
+    // maximum size of the traced opcodes as hex encoded in the response of the opcodes endpoint before it fails
+    @Getter
+    @NotNull
+    private DataSize maxOpcodesSize = DataSize.ofMegabytes(256);
+
     @Getter
     @Min(1)
     private int maxTokenNameUtf8Bytes = 100;
@@ -196,6 +216,10 @@ public class MirrorNodeEvmProperties implements EvmProperties {
     @Getter
     private long entityNumBuffer = 1000L;
 
+    // whether the opcodes endpoint writes the opcodes to the response as they are traced instead of collecting them
+    @Getter
+    private boolean opcodeStreaming = false;
+
     @Getter
     private long minimumAccountBalance = 100_000_000_000_000_000L;
 
@@ -0,0 +1,45 @@
+// SPDX-License-Identifier: Apache-2.0
+
+package org.hiero.mirror.web3.evm.store;
+
+import java.util.Optional;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import lombok.NonNull;
+
+/**
+ * A R/O view of another frame which serializes the reads through it, so frames used concurrently can share that frame
+ * as their upstream. The values are cached by the shared frame only, this view holds none itself. The reads are only
+ * serialized among the frames reading through the same view, so a single view must be shared by every user of the
+ * frame.
+ */
+public class SharedROCachingStateFrame<K> extends ROCachingStateFrame<K> {
+
+    // A lock instead of synchronized so virtual threads reading the database don't pin their carrier thread
+    private final Lock lock = new ReentrantLock();
+
+    public SharedROCachingStateFrame(@NonNull final CachingStateFrame<K> sharedFrame) {
+        super(Optional.of(sharedFrame), sharedFrame.accessors.keySet().toArray(Class[]::new));
+    }
+
+    /**
+     * Creates a new stack base which reads through the shared frame, holding the values read by its users separately
+     * from those of the shared frame's other users.
+     */
+    @NonNull
+    public CachingStateFrame<K> readThrough() {
+        return new ROCachingStateFrame<>(Optional.of(this), accessors.keySet().toArray(Class[]::new));
+    }
+
+    @Override
+    @NonNull
+    public Optional<Object> getValue(
+            @NonNull final Class<?> klass, @NonNull final UpdatableReferenceCache<K> cache, @NonNull final K key) {
+        lock.lock();
+        try {
+            return upstreamFrame.flatMap(frame -> frame.getAccessor(klass).get(key).map(Object.class::cast));
+        } finally {
+            lock.unlock();
+        }
+    }
+}
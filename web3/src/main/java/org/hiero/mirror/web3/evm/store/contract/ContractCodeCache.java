@@ -0,0 +1,70 @@
+// SPDX-License-Identifier: Apache-2.0
+
+package org.hiero.mirror.web3.evm.store.contract;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.inject.Named;
+import org.hiero.mirror.web3.repository.properties.CacheProperties;
+import org.hyperledger.besu.datatypes.Hash;
+import org.hyperledger.besu.evm.Code;
+
+/**
+ * Holds the analyzed {@link Code} of the contracts executed by the mono EVM, keyed by code hash and bounded by the
+ * total size of the bytecode. Contracts sharing the same bytecode, like the many deployments of the same token
+ * contract, share a single instance, so their jump destinations are analyzed once for all the requests and EVM versions
+ * instead of once for each contract address. The modularized EVM builds its code from the bytecode state on its own.
+ *
+ * <p>The cache is weighed by the size of the bytecode, so its spec has to be bounded by {@code maximumWeight} in bytes
+ * instead of {@code maximumSize}.
+ */
+@Named
+public class ContractCodeCache {
+
+    static final String CACHE_NAME = "contractCode";
+    static final String WEIGHT_METRIC = "hiero.mirror.web3.evm.code.cache.bytes";
+
+    private static final String MAXIMUM_WEIGHT = "maximumWeight";
+
+    private final Cache<Hash, Code> cache;
+
+    public ContractCodeCache(final CacheProperties cacheProperties, final MeterRegistry meterRegistry) {
+        final var spec = cacheProperties.getContractCode();
+        if (spec == null || !spec.contains(MAXIMUM_WEIGHT)) {
+            throw new IllegalArgumentException(
+                    "The contract code cache must be bounded by " + MAXIMUM_WEIGHT + " in bytes: " + spec);
+        }
+
+        this.cache = Caffeine.from(spec)
+                .weigher((Hash hash, Code code) -> code.getSize())
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+        Gauge.builder(WEIGHT_METRIC, cache, ContractCodeCache::weightedSize)
+                .description("The total size of the bytecode held in the contract code cache")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Returns the shared analyzed code with the same hash as the given code, caching the given code if there's none.
+     *
+     * @param code the code, whose hash is usually already computed
+     * @return the shared code with the same hash
+     */
+    public Code get(final Code code) {
+        if (code == null || code.getSize() == 0) {
+            return code;
+        }
+        return cache.get(code.getCodeHash(), h -> code);
+    }
+
+    private static double weightedSize(final Cache<Hash, Code> cache) {
+        return cache.policy()
+                .eviction()
+                .map(e -> e.weightedSize().orElse(0L))
+                .orElse(0L);
+    }
+}
@@ -58,4 +58,36 @@ public interface ContractStateRepository extends CrudRepository<ContractState, L
             """,
             nativeQuery = true)
     Optional<byte[]> findStorageByBlockTimestamp(long id, byte[] slot, long blockTimestamp);
+
+    /**
+     * Retrieves the most recent storage values of the given slots of a contract up to the given block timestamp. Slots
+     * without a state change before or at the block timestamp are omitted from the result. Each slot is looked up with
+     * its own limit 1 probe of the contract_state_change__id_slot_timestamp index, so slots with a long history cost no
+     * more than the single slot lookup.
+     *
+     * @param contractId     The ID of the contract.
+     * @param slots          The slots in the contract's storage.
+     * @param blockTimestamp The block timestamp up to which to retrieve the storage values.
+     * @return The slot and value pairs found.
+     */
+    @Query(
+            value =
+                    """
+            select s.slot, latest.value
+            from unnest(array[:slots]) as s(slot)
+            cross join lateral (
+                select coalesce(value_written, value_read) as value
+                from contract_state_change csc
+                where csc.contract_id = :contractId
+                and csc.slot = s.slot
+                and csc.consensus_timestamp <= :blockTimestamp
+                order by csc.consensus_timestamp desc
+                limit 1
+            ) latest
+            """,
+            nativeQuery = true)
+    List<ContractSlotValue> findStorageBatchByBlockTimestamp(
+            @Param("contractId") long contractId,
+            @Param("slots") List<byte[]> slots,
+            @Param("blockTimestamp") long blockTimestamp);
 }
@@ -21,20 +21,31 @@ public class CacheProperties {
     @NotBlank
     private String contract = "expireAfterAccess=1h,maximumSize=1000,recordStats";
 
+    @NotBlank
+    private String contractCode = "maximumWeight=67108864,recordStats";
+
     @NotBlank
     private String contractSlots = "expireAfterAccess=5m,maximumSize=3000,recordStats";
 
     @NotBlank
     private String contractState = "expireAfterWrite=2s,maximumSize=25000,recordStats";
 
+    @NotBlank
+    private String contractStateHistorical = "expireAfterAccess=5m,maximumSize=25000,recordStats";
+
     private boolean enableBatchContractSlotCaching = true;
 
+    private boolean enableLatestStateCaching = true;
+
     @NotBlank
     private String entity = ENTITY_CACHE_CONFIG;
 
     @NotBlank
     private String fee = "expireAfterWrite=10m,maximumSize=20,recordStats";
 
+    @NotBlank
+    private String latestState = "maximumSize=10000";
+
     @NotBlank
     private String slotsPerContract = "expireAfterAccess=5m,maximumSize=1500";
 
@@ -9,19 +9,24 @@ import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.inject.Named;
 import jakarta.validation.Valid;
 import java.util.Optional;
+import java.util.function.Consumer;
 import lombok.CustomLog;
+import lombok.RequiredArgsConstructor;
 import org.hiero.mirror.web3.common.ContractCallContext;
 import org.hiero.mirror.web3.evm.contracts.execution.MirrorEvmTxProcessor;
 import org.hiero.mirror.web3.evm.contracts.execution.OpcodesProcessingResult;
+import org.hiero.mirror.web3.evm.contracts.execution.traceability.Opcode;
 import org.hiero.mirror.web3.evm.contracts.execution.traceability.OpcodeTracerOptions;
 import org.hiero.mirror.web3.evm.properties.MirrorNodeEvmProperties;
 import org.hiero.mirror.web3.evm.store.Store;
+import org.hiero.mirror.web3.exception.InvalidParametersException;
 import org.hiero.mirror.web3.exception.MirrorEvmTransactionException;
 import org.hiero.mirror.web3.repository.ContractActionRepository;
 import org.hiero.mirror.web3.service.model.CallServiceParameters;
 import org.hiero.mirror.web3.service.model.ContractDebugParameters;
 import org.hiero.mirror.web3.throttle.ThrottleManager;
 import org.hiero.mirror.web3.throttle.ThrottleProperties;
+import org.springframework.lang.Nullable;
 import org.springframework.validation.annotation.Validated;
 
 @CustomLog
@@ -55,12 +60,34 @@ public class ContractDebugService extends ContractCallService {
 
     public OpcodesProcessingResult processOpcodeCall(
             final @Valid ContractDebugParameters params, final OpcodeTracerOptions opcodeTracerOptions) {
+        return processOpcodeCall(params, opcodeTracerOptions, null);
+    }
+
+    /**
+     * Replays the transaction while tracing its opcodes. If an opcode consumer is given, each opcode is passed to it as
+     * soon as it's traced and the opcodes aren't held in the result. Either way, the call fails once the traced opcodes
+     * exceed the configured count or size.
+     *
+     * @param params              the parameters of the transaction to replay
+     * @param opcodeTracerOptions the options of the opcode tracer
+     * @param opcodeConsumer      the consumer of the traced opcodes, or null to collect them in the result
+     * @return the result of the replay and the collected opcodes
+     */
+    public OpcodesProcessingResult processOpcodeCall(
+            final @Valid ContractDebugParameters params,
+            final OpcodeTracerOptions opcodeTracerOptions,
+            final @Nullable Consumer<Opcode> opcodeConsumer) {
         return ContractCallContext.run(ctx -> {
+            final var opcodeLimiter =
+                    new OpcodeLimiter(opcodeConsumer != null ? opcodeConsumer : ctx.getOpcodes()::add);
             ctx.setTimestamp(Optional.of(params.getConsensusTimestamp() - 1));
             ctx.setOpcodeTracerOptions(opcodeTracerOptions);
+            ctx.setOpcodeConsumer(opcodeLimiter);
             ctx.setContractActions(contractActionRepository.findFailedSystemActionsByConsensusTimestamp(
                     params.getConsensusTimestamp()));
             final var ethCallTxnResult = callContract(params, ctx);
+            // The modularized services can turn the exception thrown from the tracer into a failed result
+            opcodeLimiter.validate();
             return new OpcodesProcessingResult(ethCallTxnResult, ctx.getOpcodes());
         });
     }
@@ -78,4 +105,50 @@ public class ContractDebugService extends ContractCallService {
                     e.getData());
         }
     }
+
+    @RequiredArgsConstructor
+    private class OpcodeLimiter implements Consumer<Opcode> {
+
+        private final Consumer<Opcode> delegate;
+        private int count;
+        private long size;
+
+        @Override
+        public void accept(final Opcode opcode) {
+            count++;
+            size += size(opcode);
+            validate();
+            delegate.accept(opcode);
+        }
+
+        private void validate() {
+            final int maxOpcodes = mirrorNodeEvmProperties.getMaxOpcodes();
+            final var maxSize = mirrorNodeEvmProperties.getMaxOpcodesSize();
+
+            if (count > maxOpcodes) {
+                throw new InvalidParametersException(
+                        "Opcode trace exceeds the maximum of %d opcodes".formatted(maxOpcodes));
+            }
+
+            if (size > maxSize.toBytes()) {
+                throw new InvalidParametersException(
+                        "Opcode trace exceeds the maximum size of %d bytes".formatted(maxSize.toBytes()));
+            }
+        }
+
+        // The length of the hex strings of the captured stack, memory and storage, which dominate the size of the trace
+        private static long size(final Opcode opcode) {
+            long bytes = 0;
+            for (final var entry : opcode.stack()) {
+                bytes += entry.size();
+            }
+            for (final var entry : opcode.memory()) {
+                bytes += entry.size();
+            }
+            for (final var entry : opcode.storage().entrySet()) {
+                bytes += entry.getKey().size() + entry.getValue().size();
+            }
+            return bytes * 2;
+        }
+    }
 }
@@ -3,16 +3,27 @@
 package org.hiero.mirror.web3.service;
 
 import com.google.common.base.Stopwatch;
+import com.hedera.node.app.service.evm.contracts.execution.HederaEvmTransactionProcessingResult;
 import com.hederahashgraph.api.proto.java.ResponseCodeEnum;
 import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.inject.Named;
+import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.function.ObjIntConsumer;
 import lombok.CustomLog;
 import org.apache.tuweni.bytes.Bytes;
 import org.hiero.mirror.web3.common.ContractCallContext;
+import org.hiero.mirror.web3.common.ContractCallSharedState;
 import org.hiero.mirror.web3.evm.contracts.execution.MirrorEvmTxProcessor;
 import org.hiero.mirror.web3.evm.properties.MirrorNodeEvmProperties;
 import org.hiero.mirror.web3.evm.store.Store;
+import org.hiero.mirror.web3.exception.MirrorEvmTransactionException;
+import org.hiero.mirror.web3.service.model.ContractCallResult;
 import org.hiero.mirror.web3.service.model.ContractExecutionParameters;
 import org.hiero.mirror.web3.service.utils.BinaryGasEstimator;
 import org.hiero.mirror.web3.throttle.ThrottleManager;
@@ -48,28 +59,100 @@ public class ContractExecutionService extends ContractCallService {
     }
 
     public String processCall(final ContractExecutionParameters params) {
-        return ContractCallContext.run(ctx -> {
-            var stopwatch = Stopwatch.createStarted();
-            var stringResult = "";
-
-            try {
-                updateGasLimitMetric(params);
-
-                Bytes result;
-                if (params.isEstimate()) {
-                    result = estimateGas(params, ctx);
-                } else {
-                    final var ethCallTxnResult = callContract(params, ctx);
-                    result = Objects.requireNonNullElse(ethCallTxnResult.getOutput(), Bytes.EMPTY);
-                }
-
-                stringResult = result.toHexString();
-            } finally {
-                log.debug("Processed request {} in {}: {}", params, stopwatch, stringResult);
+        // The executions of a parallel gas estimate read through the state read by the initial call
+        final var sharedState = params.isEstimate() && mirrorNodeEvmProperties.getEstimateGasParallelism() > 1
+                ? new ContractCallSharedState(false)
+                : null;
+        return ContractCallContext.run(sharedState, ctx -> processCall(params, ctx));
+    }
+
+    /**
+     * Processes calls against the same block, sharing the state read from the database between them. A call that fails
+     * in the EVM doesn't fail the others, so its error is returned in its result instead. Any other failure cancels the
+     * calls still running and is thrown.
+     *
+     * @param params      the parameters of each call
+     * @param parallelism the maximum number of calls to process concurrently on virtual threads
+     * @return the result of each call in the same order as the parameters
+     */
+    public List<ContractCallResult> processCalls(final List<ContractExecutionParameters> params, int parallelism) {
+        final var sharedState = new ContractCallSharedState(parallelism > 1);
+
+        if (parallelism <= 1) {
+            return params.stream().map(p -> processCall(p, sharedState)).toList();
+        }
+
+        final var semaphore = new Semaphore(parallelism);
+        final var executor = Executors.newVirtualThreadPerTaskExecutor();
+        final var completionService = new ExecutorCompletionService<ContractCallResult>(executor);
+
+        try {
+            final var futures = params.stream()
+                    .map(p -> completionService.submit(() -> {
+                        semaphore.acquire();
+                        try {
+                            return processCall(p, sharedState);
+                        } finally {
+                            semaphore.release();
+                        }
+                    }))
+                    .toList();
+
+            // Waits for the calls in order of completion so the first failure is thrown without waiting for the rest
+            for (int i = 0; i < futures.size(); i++) {
+                completionService.take().get();
             }
 
-            return stringResult;
-        });
+            return futures.stream().map(Future::resultNow).toList();
+        } catch (ExecutionException e) {
+            throw propagate(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while processing the batch of calls", e);
+        } finally {
+            // Cancels the calls still running after a failure or an interrupt
+            executor.shutdownNow();
+        }
+    }
+
+    private ContractCallResult processCall(
+            final ContractExecutionParameters params, final ContractCallSharedState sharedState) {
+        try {
+            return new ContractCallResult(ContractCallContext.run(sharedState, ctx -> processCall(params, ctx)), null);
+        } catch (MirrorEvmTransactionException e) {
+            return new ContractCallResult(null, e);
+        }
+    }
+
+    private String processCall(final ContractExecutionParameters params, final ContractCallContext ctx) {
+        var stopwatch = Stopwatch.createStarted();
+        var stringResult = "";
+
+        try {
+            updateGasLimitMetric(params);
+
+            Bytes result;
+            if (params.isEstimate()) {
+                result = estimateGas(params, ctx);
+            } else {
+                final var ethCallTxnResult = callContract(params, ctx);
+                result = Objects.requireNonNullElse(ethCallTxnResult.getOutput(), Bytes.EMPTY);
+            }
+
+            stringResult = result.toHexString();
+        } finally {
+            log.debug("Processed request {} in {}: {}", params, stopwatch, stringResult);
+        }
+
+        return stringResult;
+    }
+
+    private static RuntimeException propagate(final Throwable cause) {
+        if (cause instanceof Error error) {
+            throw error;
+        }
+
+        return cause instanceof RuntimeException e ? e : new IllegalStateException(cause);
     }
 
     /**
@@ -81,7 +164,8 @@ public class ContractExecutionService extends ContractCallService {
      * that would prevent the estimation from succeeding.
      * <p>
      * 2. Finally, if the first step is successful, a binary search is initiated. The lower bound of the search is the
-     * gas used in the first step, while the upper bound is the inputted gas parameter.
+     * gas used in the first step, while the upper bound is the inputted gas parameter. If estimateGasParallelism is
+     * greater than one, several gas limits are tried at once in each step of the search, each in a fork of the context.
      */
     private Bytes estimateGas(final ContractExecutionParameters params, final ContractCallContext context) {
         final var processingResult = callContract(params, context);
@@ -93,12 +177,25 @@ public class ContractExecutionService extends ContractCallService {
         }
 
         final var status = ResponseCodeEnum.SUCCESS.toString();
-        final var estimatedGas = binaryGasEstimator.search(
-                (totalGas, iterations) -> updateMetrics(params, totalGas, iterations, status),
-                gas -> doProcessCall(params, gas, true),
-                gasUsedByInitialCall,
-                params.getGas(),
-                params.isModularized());
+        final ObjIntConsumer<Long> metricUpdater =
+                (totalGas, iterations) -> updateMetrics(params, totalGas, iterations, status);
+        final long estimatedGas;
+
+        if (mirrorNodeEvmProperties.getEstimateGasParallelism() > 1) {
+            estimatedGas = binaryGasEstimator.searchParallel(
+                    metricUpdater,
+                    gas -> context.fork(fork -> doProcessCall(params, gas, true)),
+                    gasUsedByInitialCall,
+                    params.getGas(),
+                    params.isModularized());
+        } else {
+            estimatedGas = binaryGasEstimator.search(
+                    metricUpdater,
+                    gas -> doProcessCall(params, gas, true),
+                    gasUsedByInitialCall,
+                    params.getGas(),
+                    params.isModularized());
+        }
 
         return Bytes.ofUnsignedLong(estimatedGas);
     }
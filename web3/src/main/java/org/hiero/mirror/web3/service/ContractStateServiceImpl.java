@@ -4,13 +4,16 @@ package org.hiero.mirror.web3.service;
 
 import static org.hiero.mirror.web3.evm.config.EvmConfiguration.CACHE_MANAGER_CONTRACT_SLOTS;
 import static org.hiero.mirror.web3.evm.config.EvmConfiguration.CACHE_MANAGER_CONTRACT_STATE;
+import static org.hiero.mirror.web3.evm.config.EvmConfiguration.CACHE_MANAGER_CONTRACT_STATE_HISTORICAL;
 import static org.hiero.mirror.web3.evm.config.EvmConfiguration.CACHE_MANAGER_SLOTS_PER_CONTRACT;
 import static org.hiero.mirror.web3.evm.config.EvmConfiguration.CACHE_NAME;
 
 import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.Optional;
+import java.util.Set;
 import lombok.CustomLog;
 import org.hiero.mirror.common.domain.entity.EntityId;
 import org.hiero.mirror.web3.repository.ContractStateRepository;
@@ -27,16 +30,19 @@ import org.springframework.stereotype.Service;
 final class ContractStateServiceImpl implements ContractStateService {
 
     private static final byte[] EMPTY_VALUE = new byte[0];
+    private static final String HISTORICAL = "historical";
 
     private final CacheManager cacheManagerSlotsPerContract;
     private final CacheProperties cacheProperties;
     private final Cache contractSlotsCache;
     private final Cache contractStateCache;
+    private final Cache contractStateHistoricalCache;
     private final ContractStateRepository contractStateRepository;
 
     ContractStateServiceImpl(
             final @Qualifier(CACHE_MANAGER_CONTRACT_SLOTS) CacheManager cacheManagerContractSlots,
             final @Qualifier(CACHE_MANAGER_CONTRACT_STATE) CacheManager cacheManagerContractState,
+            final @Qualifier(CACHE_MANAGER_CONTRACT_STATE_HISTORICAL) CacheManager cacheManagerContractStateHistorical,
             final @Qualifier(CACHE_MANAGER_SLOTS_PER_CONTRACT) CacheManager cacheManagerSlotsPerContract,
             final CacheProperties cacheProperties,
             final ContractStateRepository contractStateRepository) {
@@ -44,6 +50,7 @@ final class ContractStateServiceImpl implements ContractStateService {
         this.cacheProperties = cacheProperties;
         this.contractSlotsCache = cacheManagerContractSlots.getCache(CACHE_NAME);
         this.contractStateCache = cacheManagerContractState.getCache(CACHE_NAME);
+        this.contractStateHistoricalCache = cacheManagerContractStateHistorical.getCache(CACHE_NAME);
         this.contractStateRepository = contractStateRepository;
     }
 
@@ -69,10 +76,31 @@ final class ContractStateServiceImpl implements ContractStateService {
         return findStorageBatch(contractId, key);
     }
 
+    /**
+     * Executes findStorageBatchByBlockTimestamp query if the slot value at the block timestamp is not cached. Values at
+     * a block timestamp never change, so slots without a value are cached as well.
+     *
+     * @param entityId         Entity ID of the contract that the slot key belongs to
+     * @param slotKeyByteArray The slot key with its leading zeros trimmed
+     * @param blockTimestamp   The block timestamp up to which to look for the slot value
+     * @return slot value as Bytes
+     */
     @Override
     public Optional<byte[]> findStorageByBlockTimestamp(
             final EntityId entityId, final byte[] slotKeyByteArray, final long blockTimestamp) {
-        return contractStateRepository.findStorageByBlockTimestamp(entityId.getId(), slotKeyByteArray, blockTimestamp);
+        if (!cacheProperties.isEnableBatchContractSlotCaching()) {
+            return contractStateRepository.findStorageByBlockTimestamp(
+                    entityId.getId(), slotKeyByteArray, blockTimestamp);
+        }
+
+        final var cachedValue = contractStateHistoricalCache.get(
+                generateCacheKey(entityId, slotKeyByteArray, blockTimestamp), byte[].class);
+
+        if (cachedValue != null) {
+            return cachedValue != EMPTY_VALUE ? Optional.of(cachedValue) : Optional.empty();
+        }
+
+        return findStorageBatchByBlockTimestamp(entityId, slotKeyByteArray, blockTimestamp);
     }
 
     /**
@@ -83,12 +111,8 @@ final class ContractStateServiceImpl implements ContractStateService {
      * @return slotKey-value pairs for contractId
      */
     private Optional<byte[]> findStorageBatch(final EntityId contractId, final byte[] key) {
-        final var contractSlotsCache = ((CaffeineCache) this.contractSlotsCache.get(
-                contractId, () -> cacheManagerSlotsPerContract.getCache(contractId.toString())));
         final var wrappedKey = ByteBuffer.wrap(key);
-        // Cached slot keys for contract, whose slot values are not present in the contractStateCache
-        contractSlotsCache.putIfAbsent(wrappedKey, EMPTY_VALUE);
-        final var cachedSlotKeys = contractSlotsCache.getNativeCache().asMap().keySet();
+        final var cachedSlotKeys = getCachedSlotKeys(contractId, contractId.toString(), wrappedKey);
 
         final var cachedSlots = new ArrayList<byte[]>(cachedSlotKeys.size());
         boolean isKeyEvictedFromCache = true;
@@ -121,8 +145,57 @@ final class ContractStateServiceImpl implements ContractStateService {
         return Optional.ofNullable(cachedValue);
     }
 
+    /**
+     * Executes a batch query for the slot keys previously requested for the contract at any block, returning their
+     * values at the block timestamp, then caches the result including the slots without a value.
+     *
+     * @param contractId     id of the contract that the slotKey-value pairs are queried for.
+     * @param key            the trimmed slot key requested
+     * @param blockTimestamp the block timestamp to query the values at
+     * @return the value of the requested slot key at the block timestamp
+     */
+    private Optional<byte[]> findStorageBatchByBlockTimestamp(
+            final EntityId contractId, final byte[] key, final long blockTimestamp) {
+        // Historical slot keys are trimmed unlike the padded ones of the current state, so they're tracked separately
+        final var wrappedKey = ByteBuffer.wrap(key);
+        final var cachedSlotKeys =
+                getCachedSlotKeys(new SimpleKey(HISTORICAL, contractId), HISTORICAL + contractId, wrappedKey);
+
+        if (!cachedSlotKeys.contains(wrappedKey)) {
+            return contractStateRepository.findStorageByBlockTimestamp(contractId.getId(), key, blockTimestamp);
+        }
+
+        final var cachedSlots = new ArrayList<byte[]>(cachedSlotKeys.size());
+        cachedSlotKeys.forEach(slot -> cachedSlots.add(((ByteBuffer) slot).array()));
+
+        final var contractSlotValues = contractStateRepository.findStorageBatchByBlockTimestamp(
+                contractId.getId(), cachedSlots, blockTimestamp);
+        final var values = new HashMap<ByteBuffer, byte[]>(contractSlotValues.size());
+        contractSlotValues.forEach(v -> values.put(ByteBuffer.wrap(v.getSlot()), v.getValue()));
+
+        for (final var slot : cachedSlots) {
+            final var value = values.getOrDefault(ByteBuffer.wrap(slot), EMPTY_VALUE);
+            contractStateHistoricalCache.put(generateCacheKey(contractId, slot, blockTimestamp), value);
+        }
+
+        return Optional.ofNullable(values.get(wrappedKey));
+    }
+
+    // Tracks the slot key as requested for the contract and returns all the slot keys tracked for it
+    private Set<Object> getCachedSlotKeys(final Object contractKey, final String cacheName, final ByteBuffer key) {
+        final var contractSlotsCache = ((CaffeineCache)
+                this.contractSlotsCache.get(contractKey, () -> cacheManagerSlotsPerContract.getCache(cacheName)));
+        // Cached slot keys for contract, whose slot values are not present in the contractStateCache
+        contractSlotsCache.putIfAbsent(key, EMPTY_VALUE);
+        return contractSlotsCache.getNativeCache().asMap().keySet();
+    }
+
     // Generates a cache key emulating the default caching behavior in Spring
     private SimpleKey generateCacheKey(final EntityId contractId, final byte[] slotKey) {
         return new SimpleKey(contractId, slotKey);
     }
+
+    private SimpleKey generateCacheKey(final EntityId contractId, final byte[] slotKey, final long blockTimestamp) {
+        return new SimpleKey(contractId, slotKey, blockTimestamp);
+    }
 }
@@ -2,6 +2,8 @@
 
 package org.hiero.mirror.web3.service;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import org.hiero.mirror.rest.model.OpcodesResponse;
 import org.hiero.mirror.web3.common.TransactionIdOrHashParameter;
 import org.hiero.mirror.web3.evm.contracts.execution.traceability.OpcodeTracerOptions;
@@ -16,4 +18,21 @@ public interface OpcodeService {
      */
     OpcodesResponse processOpcodeCall(
             @NonNull TransactionIdOrHashParameter transactionIdOrHash, @NonNull OpcodeTracerOptions options);
+
+    /**
+     * Like {@link #processOpcodeCall}, but writes the {@link OpcodesResponse} as JSON to the output stream, writing each
+     * opcode as soon as it's traced instead of holding the whole trace in memory. Nothing is written before the first
+     * opcode is traced, so failures up to then are thrown with nothing written. Failures after that are written to the
+     * response as a {@code _status} field in place of the fields that follow the opcodes.
+     *
+     * @param transactionIdOrHash the {@link TransactionIdOrHashParameter}
+     * @param options the {@link OpcodeTracerOptions}
+     * @param outputStream the stream to write the response to
+     * @throws IOException if writing to the output stream fails
+     */
+    void streamOpcodeCall(
+            @NonNull TransactionIdOrHashParameter transactionIdOrHash,
+            @NonNull OpcodeTracerOptions options,
+            @NonNull OutputStream outputStream)
+            throws IOException;
 }
@@ -8,12 +8,20 @@ import static org.hiero.mirror.common.util.DomainUtils.EVM_ADDRESS_LENGTH;
 import static org.hiero.mirror.common.util.DomainUtils.convertToNanosMax;
 import static org.hiero.mirror.web3.evm.utils.EvmTokenUtils.toAddress;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.hedera.node.app.service.evm.store.models.HederaEvmAccount;
+import java.io.IOException;
+import java.io.OutputStream;
 import java.math.BigInteger;
 import java.util.Optional;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 import lombok.CustomLog;
+import lombok.Getter;
 import lombok.RequiredArgsConstructor;
+import lombok.SneakyThrows;
 import org.apache.commons.lang3.ArrayUtils;
 import org.apache.tuweni.bytes.Bytes;
 import org.hiero.mirror.common.domain.contract.ContractResult;
@@ -32,12 +40,14 @@ import org.hiero.mirror.web3.evm.contracts.execution.OpcodesProcessingResult;
 import org.hiero.mirror.web3.evm.contracts.execution.traceability.OpcodeTracerOptions;
 import org.hiero.mirror.web3.evm.store.accessor.EntityDatabaseAccessor;
 import org.hiero.mirror.web3.exception.EntityNotFoundException;
+import org.hiero.mirror.web3.exception.MirrorEvmTransactionException;
 import org.hiero.mirror.web3.repository.ContractResultRepository;
 import org.hiero.mirror.web3.repository.ContractTransactionHashRepository;
 import org.hiero.mirror.web3.repository.EthereumTransactionRepository;
 import org.hiero.mirror.web3.repository.TransactionRepository;
 import org.hiero.mirror.web3.service.model.ContractDebugParameters;
 import org.hiero.mirror.web3.viewmodel.BlockType;
+import org.hiero.mirror.web3.viewmodel.GenericErrorResponse;
 import org.hyperledger.besu.datatypes.Address;
 import org.springframework.lang.NonNull;
 import org.springframework.stereotype.Service;
@@ -47,6 +57,8 @@ import org.springframework.stereotype.Service;
 @RequiredArgsConstructor
 public class OpcodeServiceImpl implements OpcodeService {
 
+    private static final String OPCODES_FIELD = "opcodes";
+
     private final RecordFileService recordFileService;
     private final ContractDebugService contractDebugService;
     private final ContractTransactionHashRepository contractTransactionHashRepository;
@@ -54,6 +66,7 @@ public class OpcodeServiceImpl implements OpcodeService {
     private final TransactionRepository transactionRepository;
     private final ContractResultRepository contractResultRepository;
     private final EntityDatabaseAccessor entityDatabaseAccessor;
+    private final ObjectMapper objectMapper;
 
     @Override
     public OpcodesResponse processOpcodeCall(
@@ -64,6 +77,42 @@ public class OpcodeServiceImpl implements OpcodeService {
         return buildOpcodesResponse(result);
     }
 
+    @Override
+    public void streamOpcodeCall(
+            @NonNull TransactionIdOrHashParameter transactionIdOrHashParameter,
+            @NonNull OpcodeTracerOptions options,
+            @NonNull OutputStream outputStream)
+            throws IOException {
+        final ContractDebugParameters params =
+                buildCallServiceParameters(transactionIdOrHashParameter, options.isModularized());
+        final var writer = new OpcodesWriter(objectMapper.createGenerator(outputStream));
+        final OpcodesProcessingResult result;
+
+        try {
+            result = contractDebugService.processOpcodeCall(params, options, opcode -> writer.accept(toOpcode(opcode)));
+        } catch (RuntimeException e) {
+            // Nothing was written before the first opcode, so the error can still be returned with its status
+            if (!writer.isStarted()) {
+                throw e;
+            }
+
+            log.warn("Opcode trace failed after the response was streamed: {}", e.getMessage());
+            writer.writeFields(toErrorResponse(e));
+            return;
+        }
+
+        final ObjectNode response = objectMapper.valueToTree(buildOpcodesResponse(result));
+        response.remove(OPCODES_FIELD);
+        writer.writeFields(response);
+    }
+
+    private ObjectNode toErrorResponse(RuntimeException e) {
+        final var errorResponse = e instanceof MirrorEvmTransactionException evmException
+                ? new GenericErrorResponse(evmException.getMessage(), evmException.getDetail(), evmException.getData())
+                : new GenericErrorResponse(e.getMessage());
+        return objectMapper.valueToTree(errorResponse);
+    }
+
     private ContractDebugParameters buildCallServiceParameters(
             @NonNull TransactionIdOrHashParameter transactionIdOrHash, boolean isModularized) {
         final Long consensusTimestamp;
@@ -122,31 +171,29 @@ public class OpcodeServiceImpl implements OpcodeService {
                         .orElse(null))
                 .failed(!result.transactionProcessingResult().isSuccessful())
                 .gas(result.transactionProcessingResult().getGasUsed())
-                .opcodes(result.opcodes().stream()
-                        .map(opcode -> new Opcode()
-                                .depth(opcode.depth())
-                                .gas(opcode.gas())
-                                .gasCost(opcode.gasCost())
-                                .op(opcode.op())
-                                .pc(opcode.pc())
-                                .reason(opcode.reason())
-                                .stack(opcode.stack().stream()
-                                        .map(Bytes::toHexString)
-                                        .toList())
-                                .memory(opcode.memory().stream()
-                                        .map(Bytes::toHexString)
-                                        .toList())
-                                .storage(opcode.storage().entrySet().stream()
-                                        .collect(Collectors.toMap(
-                                                entry -> entry.getKey().toHexString(),
-                                                entry -> entry.getValue().toHexString()))))
-                        .toList())
+                .opcodes(result.opcodes().stream().map(this::toOpcode).toList())
                 .returnValue(
                         Optional.ofNullable(result.transactionProcessingResult().getOutput())
                                 .map(Bytes::toHexString)
                                 .orElse(Bytes.EMPTY.toHexString()));
     }
 
+    private Opcode toOpcode(org.hiero.mirror.web3.evm.contracts.execution.traceability.Opcode opcode) {
+        return new Opcode()
+                .depth(opcode.depth())
+                .gas(opcode.gas())
+                .gasCost(opcode.gasCost())
+                .op(opcode.op())
+                .pc(opcode.pc())
+                .reason(opcode.reason())
+                .stack(opcode.stack().stream().map(Bytes::toHexString).toList())
+                .memory(opcode.memory().stream().map(Bytes::toHexString).toList())
+                .storage(opcode.storage().entrySet().stream()
+                        .collect(Collectors.toMap(
+                                entry -> entry.getKey().toHexString(),
+                                entry -> entry.getValue().toHexString())));
+    }
+
     private ContractDebugParameters buildCallServiceParameters(
             Long consensusTimestamp,
             Optional<Transaction> transaction,
@@ -232,4 +279,47 @@ public class OpcodeServiceImpl implements OpcodeService {
         }
         return EntityId.isEmpty(entity.toEntityId()) ? Address.ZERO : toAddress(entity.toEntityId());
     }
+
+    /*
+     * Writes the opcodes array as the opcodes are traced. Nothing is written until the first opcode, so failures before
+     * the replay starts tracing, including the opcode limits of the first opcode, still get a regular error response.
+     */
+    @RequiredArgsConstructor
+    private static class OpcodesWriter implements Consumer<Opcode> {
+
+        private final JsonGenerator generator;
+
+        @Getter
+        private boolean started;
+
+        @Override
+        @SneakyThrows(IOException.class)
+        public void accept(Opcode opcode) {
+            start();
+            generator.writeObject(opcode);
+        }
+
+        // Closes the opcodes array and the response object after writing the remaining fields
+        private void writeFields(ObjectNode fields) throws IOException {
+            start();
+            generator.writeEndArray();
+
+            for (final var field : fields.properties()) {
+                generator.writeFieldName(field.getKey());
+                generator.writeTree(field.getValue());
+            }
+
+            generator.writeEndObject();
+            generator.close();
+        }
+
+        private void start() throws IOException {
+            if (!started) {
+                // The opcodes are written first since the other fields are only known once the replay completes
+                generator.writeStartObject();
+                generator.writeArrayFieldStart(OPCODES_FIELD);
+                started = true;
+            }
+        }
+    }
 }
@@ -41,6 +41,7 @@ import org.hiero.mirror.web3.evm.contracts.execution.traceability.OpcodeActionTr
 import org.hiero.mirror.web3.evm.properties.MirrorNodeEvmProperties;
 import org.hiero.mirror.web3.exception.MirrorEvmTransactionException;
 import org.hiero.mirror.web3.service.model.CallServiceParameters;
+import org.hiero.mirror.web3.state.LatestStateReadCache;
 import org.hiero.mirror.web3.state.keyvalue.AccountReadableKVState;
 import org.hiero.mirror.web3.state.keyvalue.AliasesReadableKVState;
 import org.hyperledger.besu.datatypes.Address;
@@ -59,6 +60,7 @@ public class TransactionExecutionService {
     private final AccountReadableKVState accountReadableKVState;
     private final AliasesReadableKVState aliasesReadableKVState;
     private final CommonProperties commonProperties;
+    private final LatestStateReadCache latestStateReadCache;
     private final MirrorNodeEvmProperties mirrorNodeEvmProperties;
     private final OpcodeActionTracer opcodeActionTracer;
     private final MirrorOperationActionTracer mirrorOperationActionTracer;
@@ -71,6 +73,12 @@ public class TransactionExecutionService {
         final var maxLifetime =
                 configuration.getConfigData(EntitiesConfig.class).maxLifetime();
         final var executor = transactionExecutorFactory.get();
+        final var context = ContractCallContext.get();
+
+        // Calls reading the current state share their reads with the other calls at the same latest record file
+        if (context.getTimestamp().isEmpty()) {
+            context.setLatestReadCache(latestStateReadCache.get(context.getRecordFile()));
+        }
 
         TransactionBody transactionBody;
         HederaEvmTransactionProcessingResult result = null;
@@ -0,0 +1,10 @@
+// SPDX-License-Identifier: Apache-2.0
+
+package org.hiero.mirror.web3.service.model;
+
+import org.hiero.mirror.web3.exception.MirrorEvmTransactionException;
+
+/**
+ * The outcome of one call in a batch: either its hex encoded result or the error it failed with.
+ */
+public record ContractCallResult(String result, MirrorEvmTransactionException error) {}
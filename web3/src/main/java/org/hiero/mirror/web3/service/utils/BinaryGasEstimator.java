@@ -2,20 +2,48 @@
 
 package org.hiero.mirror.web3.service.utils;
 
+import com.google.common.annotations.VisibleForTesting;
 import com.hedera.node.app.service.evm.contracts.execution.HederaEvmTransactionProcessingResult;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Meter.MeterProvider;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
 import jakarta.inject.Named;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.function.LongFunction;
 import java.util.function.ObjIntConsumer;
 import lombok.CustomLog;
-import lombok.RequiredArgsConstructor;
 import org.hiero.mirror.web3.common.ContractCallContext;
 import org.hiero.mirror.web3.evm.properties.MirrorNodeEvmProperties;
 
 @CustomLog
-@RequiredArgsConstructor
 @Named
 public class BinaryGasEstimator {
+
+    static final String ITERATIONS_METRIC = "hiero.mirror.web3.evm.gas.estimate.iterations";
+    static final String DURATION_METRIC = "hiero.mirror.web3.evm.gas.estimate.duration";
+    static final String MODE_BINARY = "binary";
+    static final String MODE_PARALLEL = "parallel";
+
     private final MirrorNodeEvmProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final MeterProvider<DistributionSummary> iterationsSummary;
+    private final MeterProvider<Timer> durationTimer;
+
+    public BinaryGasEstimator(final MirrorNodeEvmProperties properties, final MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        this.iterationsSummary = DistributionSummary.builder(ITERATIONS_METRIC)
+                .description("The number of sequential iterations made by the gas estimation search")
+                .withRegistry(meterRegistry);
+        this.durationTimer = Timer.builder(DURATION_METRIC)
+                .description("The time it took the gas estimation search to converge")
+                .withRegistry(meterRegistry);
+    }
 
     public long search(
             final ObjIntConsumer<Long> metricUpdater,
@@ -23,6 +51,7 @@ public class BinaryGasEstimator {
             long lo,
             long hi,
             final boolean isModularized) {
+        final var sample = Timer.start(meterRegistry);
         long prevGasLimit = lo;
         int iterationsMade = 0;
         long totalGasUsed = 0;
@@ -39,7 +68,7 @@ public class BinaryGasEstimator {
         while (lo + 1 < hi && iterationsMade < properties.getMaxGasEstimateRetriesCount()) {
             contractCallContext.reset();
 
-            long mid = (hi + lo) / 2;
+            long mid = iterationsMade == 0 && properties.isEstimateGasSeeded() ? seed(lo, hi) : (hi + lo) / 2;
 
             // If modularizedServices is true - we call the safeCall function that handles if an exception is thrown
             HederaEvmTransactionProcessingResult transactionResult =
@@ -47,9 +76,7 @@ public class BinaryGasEstimator {
 
             iterationsMade++;
 
-            boolean err = transactionResult == null
-                    || !transactionResult.isSuccessful()
-                    || transactionResult.getGasUsed() < 0;
+            boolean err = !isSuccessful(transactionResult);
             long gasUsed = err ? prevGasLimit : transactionResult.getGasUsed();
             totalGasUsed += gasUsed;
             if (err || gasUsed == 0) {
@@ -64,9 +91,118 @@ public class BinaryGasEstimator {
         }
 
         metricUpdater.accept(totalGasUsed, iterationsMade);
+        recordMetrics(MODE_BINARY, sample, iterationsMade);
         return hi;
     }
 
+    /**
+     * Searches for the gas estimate like {@link #search}, but executes the call with several gas limits spread evenly
+     * over the search range at once in each iteration, narrowing the range to the one between the highest failing and
+     * the lowest successful gas limits. The call is executed concurrently on virtual threads, so each execution must
+     * run in a context of its own.
+     *
+     * @return the lowest successful gas limit found
+     */
+    public long searchParallel(
+            final ObjIntConsumer<Long> metricUpdater,
+            final LongFunction<HederaEvmTransactionProcessingResult> call,
+            long lo,
+            long hi,
+            final boolean isModularized) {
+        final var sample = Timer.start(meterRegistry);
+        final int parallelism = properties.getEstimateGasParallelism();
+        final long estimateIterationThreshold = (long) (lo * properties.getEstimateGasIterationThresholdPercent());
+        int iterationsMade = 0;
+        int executions = 0;
+        long totalGasUsed = 0;
+
+        while (lo + 1 < hi
+                && hi - lo > estimateIterationThreshold
+                && iterationsMade < properties.getMaxGasEstimateRetriesCount()) {
+            final var gasLimits = iterationsMade == 0 && properties.isEstimateGasSeeded()
+                    ? seededGasLimits(lo, hi, parallelism)
+                    : gasLimits(lo, hi, parallelism);
+            final var futures = new ArrayList<Future<HederaEvmTransactionProcessingResult>>(gasLimits.size());
+
+            try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+                for (final long gasLimit : gasLimits) {
+                    futures.add(executor.submit(() -> isModularized ? safeCall(gasLimit, call) : call.apply(gasLimit)));
+                }
+            } // Waits for all executions to complete
+
+            iterationsMade++;
+            executions += gasLimits.size();
+            long newLo = lo;
+
+            for (int i = 0; i < gasLimits.size(); i++) {
+                final long gasLimit = gasLimits.get(i);
+                final var transactionResult = resultNow(futures.get(i));
+
+                if (isSuccessful(transactionResult) && transactionResult.getGasUsed() > 0) {
+                    totalGasUsed += transactionResult.getGasUsed();
+                    hi = Math.min(hi, gasLimit);
+                } else {
+                    totalGasUsed += gasLimit;
+                    if (gasLimit < hi) {
+                        newLo = Math.max(newLo, gasLimit);
+                    }
+                }
+            }
+
+            lo = newLo;
+        }
+
+        metricUpdater.accept(totalGasUsed, executions);
+        recordMetrics(MODE_PARALLEL, sample, iterationsMade);
+        return hi;
+    }
+
+    // The gas limits spread evenly over the range between lo and hi, both exclusive
+    @VisibleForTesting
+    static List<Long> gasLimits(final long lo, final long hi, final int count) {
+        final long size = Math.min(count, hi - lo - 1);
+        final long step = (hi - lo) / (size + 1);
+        final var gasLimits = new ArrayList<Long>((int) size);
+
+        for (long i = 1; i <= size; i++) {
+            gasLimits.add(lo + step * i);
+        }
+
+        return gasLimits;
+    }
+
+    private static List<Long> seededGasLimits(final long lo, final long hi, final int count) {
+        final long seed = seed(lo, hi);
+        final var gasLimits = new ArrayList<Long>(count);
+        gasLimits.add(seed);
+        gasLimits.addAll(gasLimits(seed, hi, count - 1));
+        return gasLimits;
+    }
+
+    // A CALL frame forwards at most 63/64 of its remaining gas to its callee (EIP-150), so a call that used lo gas with
+    // a higher gas limit usually needs about 1/64 more to succeed. The seed must be strictly between lo and hi.
+    private static long seed(final long lo, final long hi) {
+        return Math.clamp(lo + lo / 63 + 1, lo + 1, hi - 1);
+    }
+
+    private static boolean isSuccessful(final HederaEvmTransactionProcessingResult transactionResult) {
+        return transactionResult != null && transactionResult.isSuccessful() && transactionResult.getGasUsed() >= 0;
+    }
+
+    private static HederaEvmTransactionProcessingResult resultNow(
+            final Future<HederaEvmTransactionProcessingResult> future) {
+        if (future.state() == Future.State.FAILED && future.exceptionNow() instanceof RuntimeException e) {
+            throw e;
+        }
+        return future.resultNow();
+    }
+
+    private void recordMetrics(final String mode, final Timer.Sample sample, final int iterations) {
+        final var tags = Tags.of("mode", mode).and("seeded", String.valueOf(properties.isEstimateGasSeeded()));
+        sample.stop(durationTimer.withTags(tags));
+        iterationsSummary.withTags(tags).record(iterations);
+    }
+
     // This method is needed because within the modularized services if the contract call fails an exception is thrown
     // instead of transaction result with 'failed' status which will result in a failing test. This way we handle the
     // exception and return estimated gas
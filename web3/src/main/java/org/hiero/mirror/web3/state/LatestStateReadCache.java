@@ -0,0 +1,71 @@
+// SPDX-License-Identifier: Apache-2.0
+
+package org.hiero.mirror.web3.state;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.inject.Named;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import org.hiero.mirror.common.domain.transaction.RecordFile;
+import org.hiero.mirror.web3.evm.properties.MirrorNodeEvmProperties;
+import org.hiero.mirror.web3.repository.properties.CacheProperties;
+import org.hiero.mirror.web3.state.keyvalue.AccountReadableKVState;
+import org.hiero.mirror.web3.state.keyvalue.NftReadableKVState;
+import org.hiero.mirror.web3.state.keyvalue.TokenReadableKVState;
+import org.hiero.mirror.web3.state.keyvalue.TokenRelationshipReadableKVState;
+
+/**
+ * Holds the state read by the calls at the latest block, so the calls at the same record file share the accounts,
+ * tokens, token relationships and NFTs read from the database instead of each reading them again. The reads are
+ * discarded as soon as a call at a newer record file arrives.
+ */
+@Named
+@RequiredArgsConstructor
+public class LatestStateReadCache {
+
+    static final Set<String> STATE_KEYS = Set.of(
+            AccountReadableKVState.KEY,
+            NftReadableKVState.KEY,
+            TokenReadableKVState.KEY,
+            TokenRelationshipReadableKVState.KEY);
+
+    private final CacheProperties cacheProperties;
+    private final MirrorNodeEvmProperties mirrorNodeEvmProperties;
+    private final AtomicReference<Block> latest = new AtomicReference<>(new Block(Long.MIN_VALUE, Map.of()));
+
+    /**
+     * Returns the read cache of each state key shared by the calls at the given latest record file.
+     *
+     * @param recordFile the latest record file at the time the call started
+     * @return the read caches by state key, or null if they aren't shared
+     */
+    public Map<String, Map<Object, Object>> get(final RecordFile recordFile) {
+        if (!cacheProperties.isEnableLatestStateCaching()
+                || recordFile == null
+                || recordFile.getConsensusEnd() == null) {
+            return null;
+        }
+
+        final long consensusEnd = recordFile.getConsensusEnd();
+        final var block = latest.updateAndGet(b -> b.consensusEnd() < consensusEnd ? newBlock(consensusEnd) : b);
+
+        // A call that started before a newer record file was seen doesn't share its reads with the newer calls
+        return block.consensusEnd() == consensusEnd ? block.readCache() : null;
+    }
+
+    private Block newBlock(final long consensusEnd) {
+        final var caffeine = Caffeine.from(cacheProperties.getLatestState());
+        final Map<String, Map<Object, Object>> readCache = STATE_KEYS.stream()
+                // The balance of an account then depends on the call reading it
+                .filter(k -> !mirrorNodeEvmProperties.isOverridePayerBalanceValidation()
+                        || !k.equals(AccountReadableKVState.KEY))
+                .collect(Collectors.toUnmodifiableMap(Function.identity(), k -> caffeine.build().asMap()));
+        return new Block(consensusEnd, readCache);
+    }
+
+    private record Block(long consensusEnd, Map<String, Map<Object, Object>> readCache) {}
+}
@@ -66,12 +66,17 @@ public class AccountReadableKVState extends AbstractAliasedAccountReadableKVStat
                 .filter(entity -> entity.getType() != TOKEN)
                 .map(entity -> {
                     final var account = accountFromEntity(entity, timestamp);
-                    // Associate the account alias with this entity in the cache, if any.
-                    if (account.alias().length() > 0) {
-                        aliasedAccountCacheManager.putAccountAlias(account.alias(), key);
-                    }
+                    replayRead(key, account);
                     return account;
                 })
                 .orElse(null);
     }
+
+    @Override
+    protected void replayRead(@Nonnull AccountID key, @Nonnull Account account) {
+        // Associate the account alias with this entity in the cache, if any.
+        if (account.alias().length() > 0) {
+            aliasedAccountCacheManager.putAccountAlias(account.alias(), key);
+        }
+    }
 }
@@ -3,7 +3,8 @@
 package org.hiero.mirror.web3.utils;
 
 import java.util.Objects;
-import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Supplier;
 
 public class Suppliers {
@@ -14,6 +15,9 @@ public class Suppliers {
      * and returns that value on subsequent calls to {@code get()}. See: <a
      * href="http://en.wikipedia.org/wiki/Memoization">memoization</a>
      *
+     * <p>The returned supplier is thread safe and invokes the delegate at most once at a time, so values shared between
+     * calls are only materialized once.
+     *
      * <p>The supplier's serialized
      * form does not contain the cached value, which will be recalculated when {@code get()} is called
      * on the deserialized instance.
@@ -25,17 +29,10 @@ public class Suppliers {
      * returned directly.
      */
     public static <T> Supplier<T> memoize(Supplier<T> delegate) {
-        final var value = new AtomicReference<T>();
-        return () -> {
-            final T previousValue = value.get();
-            if (previousValue != null) {
-                return previousValue;
-            }
-
-            final T newValue = delegate.get();
-            value.set(newValue);
-            return newValue;
-        };
+        if (delegate instanceof MemoizingSupplier<T>) {
+            return delegate;
+        }
+        return new MemoizingSupplier<>(Objects.requireNonNull(delegate));
     }
 
     /**
@@ -59,4 +56,37 @@ public class Suppliers {
 
         return Objects.equals(value1, value2);
     }
+
+    /*
+     * Uses a lock instead of synchronized so virtual threads reading the database in the delegate don't pin their
+     * carrier thread.
+     */
+    private static final class MemoizingSupplier<T> implements Supplier<T> {
+
+        private final Supplier<T> delegate;
+        private final Lock lock = new ReentrantLock();
+        private volatile T value;
+
+        private MemoizingSupplier(Supplier<T> delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public T get() {
+            final T previousValue = value;
+            if (previousValue != null) {
+                return previousValue;
+            }
+
+            lock.lock();
+            try {
+                if (value == null) {
+                    value = delegate.get();
+                }
+                return value;
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
 }
@@ -0,0 +1,17 @@
+// SPDX-License-Identifier: Apache-2.0
+
+package org.hiero.mirror.web3.viewmodel;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import java.util.List;
+import lombok.Data;
+
+@Data
+public class ContractCallBatchRequest {
+
+    @NotEmpty
+    private List<@Valid ContractCallRequest> calls;
+
+    private boolean parallel;
+}
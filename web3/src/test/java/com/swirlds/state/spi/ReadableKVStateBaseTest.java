@@ -2,13 +2,15 @@
 
 package com.swirlds.state.spi;
 
-import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.mock;
 
 import com.hedera.hapi.node.base.AccountID;
 import com.hedera.hapi.node.state.token.Account;
+import java.util.ArrayList;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import org.hiero.mirror.web3.ContextExtension;
 import org.hiero.mirror.web3.common.ContractCallContext;
 import org.hiero.mirror.web3.state.core.MapReadableKVState;
@@ -42,4 +44,66 @@ class ReadableKVStateBaseTest {
         readableKVStateBase.reset();
         assertThat(readableKVStateBase.hasBeenRead(accountID)).isFalse();
     }
+
+    @Test
+    void testReadThroughLatestReadCache() {
+        final var accountID = mock(AccountID.class);
+        final var missingAccountID = mock(AccountID.class);
+        final var account = mock(Account.class);
+        final Map<String, Map<Object, Object>> latestReadCache =
+                Map.of(AccountReadableKVState.KEY, new ConcurrentHashMap<>());
+        ContractCallContext.get().setLatestReadCache(latestReadCache);
+        final ReadableKVStateBase<AccountID, Account> readableKVStateBase =
+                new MapReadableKVState<>(AccountReadableKVState.KEY, Map.of(accountID, account));
+
+        assertThat(readableKVStateBase.get(accountID)).isEqualTo(account);
+        assertThat(readableKVStateBase.get(missingAccountID)).isNull();
+
+        // Another call at the same record file reads the shared state instead of its data source
+        final ReadableKVStateBase<AccountID, Account> otherKVStateBase =
+                new MapReadableKVState<>(AccountReadableKVState.KEY, Map.of(missingAccountID, account));
+        ContractCallContext.run(ctx -> {
+            ctx.setLatestReadCache(latestReadCache);
+            assertThat(otherKVStateBase.get(accountID)).isEqualTo(account);
+            assertThat(otherKVStateBase.get(missingAccountID)).isNull();
+            return ctx;
+        });
+
+        // A call without the shared state reads its data source
+        ContractCallContext.run(ctx -> {
+            assertThat(otherKVStateBase.get(accountID)).isNull();
+            assertThat(otherKVStateBase.get(missingAccountID)).isEqualTo(account);
+            return ctx;
+        });
+    }
+
+    @Test
+    void testReplayReadFromLatestReadCache() {
+        final var accountID = mock(AccountID.class);
+        final var account = mock(Account.class);
+        final var replayed = new ArrayList<AccountID>();
+        final Map<String, Map<Object, Object>> latestReadCache =
+                Map.of(AccountReadableKVState.KEY, new ConcurrentHashMap<>());
+        final ReadableKVStateBase<AccountID, Account> readableKVStateBase =
+                new MapReadableKVState<>(AccountReadableKVState.KEY, Map.of(accountID, account)) {
+                    @Override
+                    protected void replayRead(AccountID key, Account value) {
+                        replayed.add(key);
+                    }
+                };
+        ContractCallContext.get().setLatestReadCache(latestReadCache);
+
+        // The call reading the data source has its own side effects
+        assertThat(readableKVStateBase.get(accountID)).isEqualTo(account);
+        assertThat(replayed).isEmpty();
+
+        // Another call at the same record file replays them once when it reads the shared state
+        ContractCallContext.run(ctx -> {
+            ctx.setLatestReadCache(latestReadCache);
+            assertThat(readableKVStateBase.get(accountID)).isEqualTo(account);
+            assertThat(readableKVStateBase.get(accountID)).isEqualTo(account);
+            return ctx;
+        });
+        assertThat(replayed).containsExactly(accountID);
+    }
 }
@@ -6,9 +6,16 @@ import static org.assertj.core.api.Assertions.assertThat;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import lombok.SneakyThrows;
 import org.hiero.mirror.common.domain.transaction.RecordFile;
 import org.hiero.mirror.web3.ContextExtension;
+import org.hiero.mirror.web3.evm.contracts.execution.traceability.OpcodeTracerOptions;
+import org.hiero.mirror.web3.evm.store.CachingStateFrame;
 import org.hiero.mirror.web3.evm.store.StackedStateFrames;
+import org.hiero.mirror.web3.evm.store.accessor.DatabaseAccessor;
 import org.hiero.mirror.web3.service.model.ContractExecutionParameters;
 import org.hiero.mirror.web3.utils.BareDatabaseAccessor;
 import org.hiero.mirror.web3.viewmodel.BlockType;
@@ -59,4 +66,133 @@ class ContractCallContextTest {
 
         assertThat(context.getTimestamp()).isEqualTo(Optional.of(timestamp));
     }
+
+    @Test
+    void testSharedState() {
+        var sharedState = new ContractCallSharedState(false);
+        var first = ContractCallContext.run(sharedState, ctx -> {
+            ctx.initializeStackFrames(stackedStateFrames);
+            ctx.getReadCacheState("key").put("id", "value");
+            return ctx;
+        });
+
+        ContractCallContext.run(sharedState, ctx -> {
+            ctx.initializeStackFrames(stackedStateFrames);
+            assertThat(ctx).isNotSameAs(first);
+            assertThat(ctx.getStartTime()).isEqualTo(sharedState.getStartTime());
+            assertThat(ctx.getStackBase()).isSameAs(first.getStackBase());
+            assertThat(ctx.getReadCacheState("key")).containsEntry("id", "value");
+            return ctx;
+        });
+
+        // Contexts without shared state don't see its cached reads
+        assertThat(ContractCallContext.get().getReadCacheState("key")).isEmpty();
+    }
+
+    @Test
+    void testSharedStateConcurrent() {
+        var sharedState = new ContractCallSharedState(true);
+        var first = ContractCallContext.run(sharedState, ctx -> {
+            ctx.initializeStackFrames(stackedStateFrames);
+            ctx.getReadCacheState("key").put("id", "value");
+            return ctx;
+        });
+
+        ContractCallContext.run(sharedState, ctx -> {
+            ctx.initializeStackFrames(stackedStateFrames);
+            assertThat(ctx.getStackBase()).isNotSameAs(first.getStackBase());
+            assertThat(ctx.getReadCacheState("key")).containsEntry("id", "value");
+            return ctx;
+        });
+    }
+
+    @Test
+    void testFork() {
+        var params = ContractExecutionParameters.builder().block(BlockType.EARLIEST).build();
+        var recordFile = RecordFile.builder().consensusEnd(123L).build();
+        var opcodeTracerOptions = new OpcodeTracerOptions(true, false, false);
+
+        ContractCallContext.run(new ContractCallSharedState(false), parent -> {
+            parent.setCallServiceParameters(params);
+            parent.setRecordFile(recordFile);
+            parent.setOpcodeTracerOptions(opcodeTracerOptions);
+            parent.setBalanceCall(true);
+            parent.setGasRequirement(100L);
+            parent.initializeStackFrames(stackedStateFrames);
+            parent.getReadCacheState("key").put("id", "value");
+
+            var fork = parent.fork(ctx -> {
+                assertThat(ContractCallContext.get()).isSameAs(ctx);
+                assertThat(ctx.getStack()).isSameAs(ctx.getStackBase());
+                ctx.getWriteCacheState("key").put("id", "written");
+                return ctx;
+            });
+
+            assertThat(ContractCallContext.get()).isSameAs(parent);
+            assertThat(fork.getCallServiceParameters()).isSameAs(params);
+            assertThat(fork.getRecordFile()).isSameAs(recordFile);
+            assertThat(fork.getOpcodeTracerOptions()).isSameAs(opcodeTracerOptions);
+            assertThat(fork.isBalanceCall()).isTrue();
+            assertThat(fork.getGasRequirement()).isEqualTo(100L);
+            assertThat(fork.getStartTime()).isEqualTo(parent.getStartTime());
+            assertThat(fork.getStackBase()).isNotSameAs(parent.getStackBase());
+            assertThat(fork.getStackBase().getUpstream().flatMap(CachingStateFrame::getUpstream))
+                    .as("the fork reads through the stack base of its parent")
+                    .containsSame(parent.getStackBase());
+            assertThat(fork.getReadCacheState("key")).containsEntry("id", "value");
+            assertThat(parent.getWriteCacheState("key")).isEmpty();
+            return fork;
+        });
+    }
+
+    @Test
+    void testConcurrentForks() {
+        int forks = 8;
+        int keys = 100;
+        var reading = new AtomicInteger();
+        var maxReading = new AtomicInteger();
+        var reads = new AtomicInteger();
+        var accessor = new DatabaseAccessor<Object, String>() {
+            @Override
+            @SneakyThrows
+            public Optional<String> get(Object key, Optional<Long> timestamp) {
+                maxReading.accumulateAndGet(reading.incrementAndGet(), Math::max);
+                try {
+                    reads.incrementAndGet();
+                    Thread.sleep(1L);
+                    return Optional.of("value" + key);
+                } finally {
+                    reading.decrementAndGet();
+                }
+            }
+        };
+        var stateFrames = new StackedStateFrames(List.of(accessor));
+
+        ContractCallContext.run(new ContractCallSharedState(false), parent -> {
+            parent.setRecordFile(RecordFile.builder().consensusEnd(123L).build());
+            parent.initializeStackFrames(stateFrames);
+
+            try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+                var futures = IntStream.range(0, forks)
+                        .mapToObj(i -> executor.submit(() -> parent.fork(ctx -> IntStream.range(0, keys)
+                                .mapToObj(key -> ctx.getStack()
+                                        .getAccessor(String.class)
+                                        .get(key)
+                                        .orElseThrow())
+                                .toList())))
+                        .toList();
+                var expected = IntStream.range(0, keys).mapToObj(key -> "value" + key).toList();
+
+                for (var future : futures) {
+                    assertThat(future.get()).containsExactlyElementsOf(expected);
+                }
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+
+            assertThat(maxReading).as("the reads of the parent stack base are serialized").hasValue(1);
+            assertThat(reads).as("each key is read once by the parent stack base").hasValue(keys);
+            return parent;
+        });
+    }
 }
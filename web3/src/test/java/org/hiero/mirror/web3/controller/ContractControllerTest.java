@@ -6,8 +6,13 @@ import static com.hederahashgraph.api.proto.java.ResponseCodeEnum.CONTRACT_REVER
 import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
 import static org.hiero.mirror.web3.validation.HexValidator.MESSAGE;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.springframework.http.HttpStatus.BAD_REQUEST;
 import static org.springframework.http.HttpStatus.NOT_FOUND;
@@ -23,7 +28,9 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import jakarta.annotation.Resource;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 import lombok.SneakyThrows;
 import org.apache.commons.lang3.StringUtils;
@@ -40,10 +47,13 @@ import org.hiero.mirror.web3.exception.InvalidParametersException;
 import org.hiero.mirror.web3.exception.MirrorEvmTransactionException;
 import org.hiero.mirror.web3.exception.ThrottleException;
 import org.hiero.mirror.web3.service.ContractExecutionService;
+import org.hiero.mirror.web3.service.model.ContractCallResult;
 import org.hiero.mirror.web3.service.model.ContractExecutionParameters;
 import org.hiero.mirror.web3.throttle.ThrottleManager;
 import org.hiero.mirror.web3.throttle.ThrottleProperties;
 import org.hiero.mirror.web3.viewmodel.BlockType;
+import org.hiero.mirror.web3.viewmodel.ContractCallBatchRequest;
+import org.hiero.mirror.web3.viewmodel.ContractCallBatchResponse;
 import org.hiero.mirror.web3.viewmodel.ContractCallRequest;
 import org.hiero.mirror.web3.viewmodel.GenericErrorResponse;
 import org.hiero.mirror.web3.web3j.generated.DynamicEthCalls;
@@ -99,6 +109,9 @@ class ContractControllerTest {
     @MockitoBean
     private ThrottleManager throttleManager;
 
+    @Resource
+    private Web3Properties web3Properties;
+
     @BeforeEach
     void setUp() {
         throttleManager.throttle(any(ContractCallRequest.class));
@@ -594,6 +607,101 @@ class ContractControllerTest {
         assertThat(capturedParams.isModularized()).isTrue();
     }
 
+    @Test
+    void callBatch() throws Exception {
+        final var detailedErrorMessage = "Custom revert message";
+        final var revert = new MirrorEvmTransactionException(CONTRACT_REVERT_EXECUTED, detailedErrorMessage, "0x");
+        final var request = batchRequest(request(), request());
+
+        given(service.processCalls(any(), eq(1)))
+                .willReturn(List.of(new ContractCallResult("0x01", null), new ContractCallResult(null, revert)));
+
+        contractCallBatch(request)
+                .andExpect(status().isOk())
+                .andExpect(content()
+                        .string(convert(new ContractCallBatchResponse(List.of(
+                                new ContractCallBatchResponse.Result("0x01", null),
+                                new ContractCallBatchResponse.Result(
+                                        null,
+                                        new GenericErrorResponse(
+                                                CONTRACT_REVERT_EXECUTED.name(), detailedErrorMessage, "0x")))))));
+        verify(throttleManager, times(2)).throttle(any(ContractCallRequest.class));
+    }
+
+    @Test
+    void callBatchParallel() throws Exception {
+        final var request = batchRequest(request());
+        request.setParallel(true);
+
+        given(service.processCalls(any(), anyInt())).willReturn(List.of(new ContractCallResult("0x01", null)));
+
+        contractCallBatch(request).andExpect(status().isOk());
+        verify(service).processCalls(any(), eq(web3Properties.getBatch().getMaxParallelism()));
+    }
+
+    @Test
+    void callBatchEmpty() throws Exception {
+        contractCallBatch(batchRequest())
+                .andExpect(status().isBadRequest())
+                .andExpect(content()
+                        .string(convert(new GenericErrorResponse(
+                                BAD_REQUEST.getReasonPhrase(), "calls field must not be empty"))));
+    }
+
+    @Test
+    void callBatchExceedsMaxSize() throws Exception {
+        final var maxSize = web3Properties.getBatch().getMaxSize();
+        final var calls = new ContractCallRequest[maxSize + 1];
+        Arrays.setAll(calls, i -> request());
+
+        contractCallBatch(batchRequest(calls))
+                .andExpect(status().isBadRequest())
+                .andExpect(content()
+                        .string(convert(new GenericErrorResponse(
+                                BAD_REQUEST.getReasonPhrase(),
+                                "calls field must have at most %d calls".formatted(maxSize)))));
+        verify(service, never()).processCalls(any(), anyInt());
+    }
+
+    @Test
+    void callBatchDifferentBlocks() throws Exception {
+        final var historical = request();
+        historical.setBlock(BlockType.of("0x1"));
+
+        contractCallBatch(batchRequest(request(), historical))
+                .andExpect(status().isBadRequest())
+                .andExpect(content()
+                        .string(convert(new GenericErrorResponse(
+                                BAD_REQUEST.getReasonPhrase(), "calls field must have the same block for all calls"))));
+        verify(service, never()).processCalls(any(), anyInt());
+    }
+
+    @Test
+    void callBatchThrottledRestoresGas() throws Exception {
+        final var request = batchRequest(request(), request());
+        doNothing().doThrow(new ThrottleException("Requests per second rate limit exceeded"))
+                .when(throttleManager)
+                .throttle(any(ContractCallRequest.class));
+
+        contractCallBatch(request).andExpect(status().isTooManyRequests());
+        verify(throttleManager).restore(THROTTLE_GAS_LIMIT);
+        verify(service, never()).processCalls(any(), anyInt());
+    }
+
+    @SneakyThrows
+    private ResultActions contractCallBatch(ContractCallBatchRequest request) {
+        return mockMvc.perform(post(CALL_URI + "/batch")
+                .accept(MediaType.APPLICATION_JSON)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(convert(request)));
+    }
+
+    private ContractCallBatchRequest batchRequest(ContractCallRequest... calls) {
+        final var request = new ContractCallBatchRequest();
+        request.setCalls(List.of(calls));
+        return request;
+    }
+
     private ContractCallRequest request() {
         final var request = new ContractCallRequest();
         request.setBlock(BlockType.LATEST);
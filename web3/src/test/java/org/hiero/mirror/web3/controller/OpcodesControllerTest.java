@@ -8,6 +8,7 @@ import static org.hiero.mirror.common.util.CommonUtils.instant;
 import static org.hiero.mirror.common.util.DomainUtils.convertToNanosMax;
 import static org.hiero.mirror.web3.utils.Constants.OPCODES_URI;
 import static org.hiero.mirror.web3.utils.TransactionProviderEnum.entityAddress;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.reset;
@@ -40,6 +41,7 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -63,6 +65,7 @@ import org.hiero.mirror.web3.evm.contracts.execution.traceability.Opcode;
 import org.hiero.mirror.web3.evm.contracts.execution.traceability.OpcodeTracerOptions;
 import org.hiero.mirror.web3.evm.properties.MirrorNodeEvmProperties;
 import org.hiero.mirror.web3.evm.store.accessor.EntityDatabaseAccessor;
+import org.hiero.mirror.web3.exception.InvalidParametersException;
 import org.hiero.mirror.web3.exception.MirrorEvmTransactionException;
 import org.hiero.mirror.web3.repository.ContractResultRepository;
 import org.hiero.mirror.web3.repository.ContractTransactionHashRepository;
@@ -405,6 +408,62 @@ class OpcodesControllerTest {
                 .isEqualTo(expectedCallServiceParameters.get().toBuilder().build());
     }
 
+    @ParameterizedTest
+    @EnumSource(TransactionProviderEnum.class)
+    void callWithStreaming(final TransactionProviderEnum providerEnum) throws Exception {
+        final TransactionIdOrHashParameter transactionIdOrHash = setUp(providerEnum);
+
+        when(contractDebugService.processOpcodeCall(any(), any(), any())).thenAnswer(context -> {
+            final ContractDebugParameters params = context.getArgument(0);
+            final OpcodeTracerOptions options = context.getArgument(1);
+            final Consumer<Opcode> opcodeConsumer = context.getArgument(2);
+            opcodesResultCaptor.set(Builder.successfulOpcodesProcessingResult(params, options));
+            opcodesResultCaptor.get().opcodes().forEach(opcodeConsumer);
+            return new OpcodesProcessingResult(opcodesResultCaptor.get().transactionProcessingResult(), List.of());
+        });
+        mirrorNodeEvmProperties.setOpcodeStreaming(true);
+
+        try {
+            final var result = mockMvc.perform(opcodesRequest(transactionIdOrHash))
+                    .andExpect(status().isOk())
+                    .andReturn();
+
+            assertThat(objectMapper.readValue(result.getResponse().getContentAsString(), OpcodesResponse.class))
+                    .isEqualTo(Builder.opcodesResponse(opcodesResultCaptor.get(), entityDatabaseAccessor));
+        } finally {
+            mirrorNodeEvmProperties.setOpcodeStreaming(false);
+        }
+    }
+
+    @ParameterizedTest
+    @EnumSource(TransactionProviderEnum.class)
+    void callWithStreamingFailure(final TransactionProviderEnum providerEnum) throws Exception {
+        final TransactionIdOrHashParameter transactionIdOrHash = setUp(providerEnum);
+
+        when(contractDebugService.processOpcodeCall(any(), any(), any())).thenAnswer(context -> {
+            final ContractDebugParameters params = context.getArgument(0);
+            final OpcodeTracerOptions options = context.getArgument(1);
+            final Consumer<Opcode> opcodeConsumer = context.getArgument(2);
+            opcodesResultCaptor.set(Builder.successfulOpcodesProcessingResult(params, options));
+            opcodeConsumer.accept(opcodesResultCaptor.get().opcodes().getFirst());
+            throw new InvalidParametersException("Opcode trace exceeds the maximum of 1 opcodes");
+        });
+        mirrorNodeEvmProperties.setOpcodeStreaming(true);
+
+        try {
+            final var result = mockMvc.perform(opcodesRequest(transactionIdOrHash))
+                    .andExpect(status().isOk())
+                    .andReturn();
+
+            final var response = objectMapper.readTree(result.getResponse().getContentAsString());
+            assertThat(response.get("opcodes")).hasSize(1);
+            assertThat(response.at("/_status/messages/0/message").asText())
+                    .isEqualTo("Opcode trace exceeds the maximum of 1 opcodes");
+        } finally {
+            mirrorNodeEvmProperties.setOpcodeStreaming(false);
+        }
+    }
+
     @ParameterizedTest
     @EnumSource(TransactionProviderEnum.class)
     void callWithContractResultNotFoundExceptionTest(final TransactionProviderEnum providerEnum) throws Exception {
@@ -838,7 +897,8 @@ class OpcodesControllerTest {
                 final EthereumTransactionRepository ethereumTransactionRepository,
                 final TransactionRepository transactionRepository,
                 final ContractResultRepository contractResultRepository,
-                final EntityDatabaseAccessor entityDatabaseAccessor) {
+                final EntityDatabaseAccessor entityDatabaseAccessor,
+                final ObjectMapper objectMapper) {
             return new OpcodeServiceImpl(
                     recordFileService,
                     contractDebugService,
@@ -846,7 +906,8 @@ class OpcodesControllerTest {
                     ethereumTransactionRepository,
                     transactionRepository,
                     contractResultRepository,
-                    entityDatabaseAccessor);
+                    entityDatabaseAccessor,
+                    objectMapper);
         }
     }
 }
@@ -0,0 +1,65 @@
+// SPDX-License-Identifier: Apache-2.0
+
+package org.hiero.mirror.web3.evm.store.contract;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.tuweni.bytes.Bytes;
+import org.hiero.mirror.web3.repository.properties.CacheProperties;
+import org.hyperledger.besu.evm.code.CodeFactory;
+import org.hyperledger.besu.evm.code.CodeV0;
+import org.junit.jupiter.api.Test;
+
+class ContractCodeCacheTest {
+
+    private static final Bytes BYTECODE = Bytes.fromHexString("0x6080604052348015600e575f80fd5b50");
+
+    private final CacheProperties cacheProperties = new CacheProperties();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void sharesCodeWithSameHash() {
+        var contractCodeCache = new ContractCodeCache(cacheProperties, meterRegistry);
+        var code = CodeFactory.createCode(BYTECODE, 0, false);
+        var other = CodeFactory.createCode(BYTECODE, 0, false);
+
+        assertThat(contractCodeCache.get(code)).isSameAs(code);
+        assertThat(contractCodeCache.get(other)).isSameAs(code);
+        assertThat(meterRegistry
+                        .get("cache.gets")
+                        .tag("cache", ContractCodeCache.CACHE_NAME)
+                        .tag("result", "hit")
+                        .functionCounter()
+                        .count())
+                .isEqualTo(1.0);
+        assertThat(meterRegistry
+                        .get(ContractCodeCache.WEIGHT_METRIC)
+                        .gauge()
+                        .value())
+                .isEqualTo(BYTECODE.size());
+    }
+
+    @Test
+    void requiresMaximumWeight() {
+        cacheProperties.setContractCode("maximumSize=1000,recordStats");
+
+        assertThatThrownBy(() -> new ContractCodeCache(cacheProperties, meterRegistry))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("maximumWeight");
+    }
+
+    @Test
+    void emptyCodeNotCached() {
+        var contractCodeCache = new ContractCodeCache(cacheProperties, meterRegistry);
+
+        assertThat(contractCodeCache.get(CodeV0.EMPTY_CODE)).isSameAs(CodeV0.EMPTY_CODE);
+        assertThat(contractCodeCache.get(null)).isNull();
+        assertThat(meterRegistry
+                        .get(ContractCodeCache.WEIGHT_METRIC)
+                        .gauge()
+                        .value())
+                .isZero();
+    }
+}
@@ -75,6 +75,30 @@ class ContractStateRepositoryTest extends Web3IntegrationTest {
                 .isEmpty();
     }
 
+    @Test
+    void findStorageBatchByBlockTimestamp() {
+        final var older = domainBuilder.contractStateChange().persist();
+        final var latest = domainBuilder
+                .contractStateChange()
+                .customize(cs -> cs.contractId(older.getContractId()).slot(older.getSlot()))
+                .persist();
+        final var other = domainBuilder
+                .contractStateChange()
+                .customize(cs -> cs.contractId(older.getContractId()).valueWritten(null))
+                .persist();
+        final var missing = domainBuilder.contractStateChange().get().getSlot();
+        final var slots = List.of(older.getSlot(), other.getSlot(), missing);
+
+        assertThat(contractStateRepository.findStorageBatchByBlockTimestamp(
+                        older.getContractId(), slots, other.getConsensusTimestamp()))
+                .containsExactlyInAnyOrder(
+                        new ContractSlotValue(latest.getSlot(), latest.getValueWritten()),
+                        new ContractSlotValue(other.getSlot(), other.getValueRead()));
+        assertThat(contractStateRepository.findStorageBatchByBlockTimestamp(
+                        older.getContractId(), slots, older.getConsensusTimestamp()))
+                .containsExactly(new ContractSlotValue(older.getSlot(), older.getValueWritten()));
+    }
+
     @Test
     void findStorageFailCall() {
         ContractState contractState = domainBuilder.contractState().persist();
@@ -750,6 +750,32 @@ class ContractCallServiceTest extends AbstractContractCallServiceTest {
         verifyEthCallAndEstimateGas(functionCall, contract);
     }
 
+    @Test
+    void estimateGasParallelEqualsSequential() throws Exception {
+        // Given
+        final var contract = testWeb3jService.deploy(EthCall::deploy);
+        final var functionCall = contract.send_writeToStorageSlot("test2", BigInteger.ZERO);
+        testWeb3jService.setEstimateGas(true);
+
+        try {
+            // Without a threshold both searches converge to the lowest successful gas limit
+            mirrorNodeEvmProperties.setEstimateGasIterationThresholdPercent(Double.MIN_VALUE);
+            mirrorNodeEvmProperties.setMaxGasEstimateRetriesCount(64);
+
+            // When
+            final var sequentialEstimate = functionCall.send().getGasUsed();
+            mirrorNodeEvmProperties.setEstimateGasParallelism(4);
+            final var parallelEstimate = functionCall.send().getGasUsed();
+
+            // Then
+            assertThat(parallelEstimate).isEqualTo(sequentialEstimate);
+        } finally {
+            mirrorNodeEvmProperties.setEstimateGasIterationThresholdPercent(0.10d);
+            mirrorNodeEvmProperties.setEstimateGasParallelism(1);
+            mirrorNodeEvmProperties.setMaxGasEstimateRetriesCount(20);
+        }
+    }
+
     @Test
     void estimateGasForCreate2ContractDeploy() {
         // Given
@@ -6,6 +6,7 @@ import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
 import static org.assertj.core.api.InstanceOfAssertFactories.LIST;
 import static org.awaitility.Awaitility.await;
 import static org.hiero.mirror.web3.evm.config.EvmConfiguration.CACHE_MANAGER_CONTRACT_SLOTS;
+import static org.hiero.mirror.web3.evm.config.EvmConfiguration.CACHE_MANAGER_CONTRACT_STATE_HISTORICAL;
 import static org.hiero.mirror.web3.evm.config.EvmConfiguration.CACHE_MANAGER_SLOTS_PER_CONTRACT;
 import static org.hiero.mirror.web3.evm.config.EvmConfiguration.CACHE_NAME;
 
@@ -36,6 +37,7 @@ import org.junit.jupiter.params.provider.ValueSource;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.cache.caffeine.CaffeineCache;
 import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.interceptor.SimpleKey;
 import org.testcontainers.shaded.org.apache.commons.lang3.RandomUtils;
 
 @RequiredArgsConstructor
@@ -46,6 +48,9 @@ final class ContractStateServiceTest extends Web3IntegrationTest {
     @Qualifier(CACHE_MANAGER_CONTRACT_SLOTS)
     private final CaffeineCacheManager cacheManagerContractSlots;
 
+    @Qualifier(CACHE_MANAGER_CONTRACT_STATE_HISTORICAL)
+    private final CaffeineCacheManager cacheManagerContractStateHistorical;
+
     @Qualifier(CACHE_MANAGER_SLOTS_PER_CONTRACT)
     private final CaffeineCacheManager cacheManagerSlotsPerContract;
 
@@ -283,6 +288,51 @@ final class ContractStateServiceTest extends Web3IntegrationTest {
                 .isEmpty();
     }
 
+    @Test
+    void verifyHistoricalContractSlotsAreBatchLoaded() {
+        // Given
+        final var first = domainBuilder.contractStateChange().persist();
+        final var second = domainBuilder
+                .contractStateChange()
+                .customize(cs -> cs.contractId(first.getContractId()))
+                .persist();
+        final var contractId = EntityId.of(first.getContractId());
+        final var blockTimestamp = second.getConsensusTimestamp();
+
+        // When
+        contractStateService.findStorageByBlockTimestamp(contractId, first.getSlot(), first.getConsensusTimestamp());
+        final var result =
+                contractStateService.findStorageByBlockTimestamp(contractId, second.getSlot(), blockTimestamp);
+
+        // Then
+        assertThat(result).get().isEqualTo(second.getValueWritten());
+        final var historicalCache = getHistoricalCache();
+        assertThat(historicalCache.getIfPresent(new SimpleKey(contractId, first.getSlot(), blockTimestamp)))
+                .isEqualTo(first.getValueWritten());
+        assertThat(contractStateService.findStorageByBlockTimestamp(contractId, first.getSlot(), blockTimestamp))
+                .get()
+                .isEqualTo(first.getValueWritten());
+    }
+
+    @Test
+    void verifyMissingHistoricalContractSlotIsCached() {
+        // Given
+        final var contractStateChange = domainBuilder.contractStateChange().persist();
+        final var contractId = EntityId.of(contractStateChange.getContractId());
+        final var blockTimestamp = contractStateChange.getConsensusTimestamp() - 1;
+
+        // When
+        final var slot = contractStateChange.getSlot();
+        final var result = contractStateService.findStorageByBlockTimestamp(contractId, slot, blockTimestamp);
+
+        // Then
+        assertThat(result).isEmpty();
+        assertThat(getHistoricalCache().getIfPresent(new SimpleKey(contractId, slot, blockTimestamp)))
+                .isNotNull();
+        assertThat(contractStateService.findStorageByBlockTimestamp(contractId, slot, blockTimestamp))
+                .isEmpty();
+    }
+
     @Test
     void verifyConcurrentBatchSlotLoadingReturnsCorrectValues() throws Exception {
         // Given
@@ -503,6 +553,10 @@ final class ContractStateServiceTest extends Web3IntegrationTest {
         return ((CaffeineCache) cacheManagerContractSlots.getCache(CACHE_NAME)).getNativeCache();
     }
 
+    private com.github.benmanes.caffeine.cache.Cache<Object, Object> getHistoricalCache() {
+        return ((CaffeineCache) cacheManagerContractStateHistorical.getCache(CACHE_NAME)).getNativeCache();
+    }
+
     private com.github.benmanes.caffeine.cache.Cache<Object, Object> getSlotsPerContractCache() {
         return ((CaffeineCache) cacheManagerSlotsPerContract.getCache(CACHE_NAME)).getNativeCache();
     }
@@ -3,6 +3,7 @@
 package org.hiero.mirror.web3.service;
 
 import static com.hedera.services.stream.proto.ContractAction.ResultDataCase.OUTPUT;
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 import static org.hiero.mirror.common.domain.entity.EntityType.TOKEN;
 import static org.hiero.mirror.common.domain.transaction.TransactionType.ETHEREUMTRANSACTION;
@@ -14,8 +15,10 @@ import static org.hiero.mirror.web3.utils.ContractCallTestUtil.NEW_ED25519_KEY;
 import static org.hiero.mirror.web3.utils.ContractCallTestUtil.TRANSACTION_GAS_LIMIT;
 import static org.hiero.mirror.web3.validation.HexValidator.HEX_PREFIX;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.hedera.node.app.service.evm.store.contracts.precompile.codec.EvmEncodingFacade;
 import com.hedera.services.store.contracts.precompile.codec.KeyValueWrapper.KeyValueType;
+import java.io.ByteArrayOutputStream;
 import java.math.BigInteger;
 import java.time.Instant;
 import java.util.ArrayList;
@@ -35,11 +38,13 @@ import org.hiero.mirror.common.domain.transaction.EthereumTransaction;
 import org.hiero.mirror.common.domain.transaction.Transaction;
 import org.hiero.mirror.common.domain.transaction.TransactionType;
 import org.hiero.mirror.common.util.DomainUtils;
+import org.hiero.mirror.rest.model.OpcodesResponse;
 import org.hiero.mirror.web3.common.TransactionHashParameter;
 import org.hiero.mirror.web3.common.TransactionIdOrHashParameter;
 import org.hiero.mirror.web3.common.TransactionIdParameter;
 import org.hiero.mirror.web3.evm.contracts.execution.traceability.OpcodeTracerOptions;
 import org.hiero.mirror.web3.exception.EntityNotFoundException;
+import org.hiero.mirror.web3.exception.InvalidParametersException;
 import org.hiero.mirror.web3.web3j.generated.DynamicEthCalls;
 import org.hiero.mirror.web3.web3j.generated.ExchangeRatePrecompile;
 import org.hiero.mirror.web3.web3j.generated.NestedCalls;
@@ -62,6 +67,7 @@ class OpcodeServiceTest extends AbstractContractCallServiceOpcodeTracerTest {
     private static final long DEFAULT_TRANSACTION_VALUE = 100_000_000_000L;
     private static final String SUCCESS_PREFIX = "0x0000000000000000000000000000000000000000000000000000000000000020";
 
+    private final ObjectMapper objectMapper;
     private final OpcodeService opcodeService;
     private final EvmEncodingFacade evmEncoder;
 
@@ -496,6 +502,114 @@ class OpcodeServiceTest extends AbstractContractCallServiceOpcodeTracerTest {
         verifyOpcodesResponse(opcodesResponse, options);
     }
 
+    @Test
+    void streamOpcodeCall() throws Exception {
+        // Given
+        final var senderEntity = accountPersistWithAccountBalances();
+        final var contract = testWeb3jService.deploy(StorageContract::deploy);
+        final var options =
+                new OpcodeTracerOptions(true, true, true, mirrorNodeEvmProperties.isModularizedServices());
+        final var functionCall = contract.send_updateStorage(BigInteger.ONE, BigInteger.TEN);
+        final var callData =
+                Bytes.fromHexString(functionCall.encodeFunctionCall()).toArray();
+        final var transactionIdOrHash = setUp(
+                ETHEREUMTRANSACTION,
+                contract,
+                callData,
+                true,
+                true,
+                senderEntity.toEntityId(),
+                ZERO_AMOUNT,
+                domainBuilder.timestamp());
+        final var outputStream = new ByteArrayOutputStream();
+
+        // When
+        opcodeService.streamOpcodeCall(transactionIdOrHash, options, outputStream);
+
+        // Then
+        final var opcodesResponse = objectMapper.readValue(outputStream.toByteArray(), OpcodesResponse.class);
+        assertThat(opcodesResponse).isEqualTo(opcodeService.processOpcodeCall(transactionIdOrHash, options));
+        verifyOpcodesResponse(opcodesResponse, options);
+    }
+
+    @Test
+    void callExceedingMaxOpcodes() {
+        // Given
+        final var senderEntity = accountPersistWithAccountBalances();
+        final var contract = testWeb3jService.deploy(StorageContract::deploy);
+        final var options =
+                new OpcodeTracerOptions(true, false, false, mirrorNodeEvmProperties.isModularizedServices());
+        final var functionCall = contract.send_updateStorage(BigInteger.ONE, BigInteger.TEN);
+        final var callData =
+                Bytes.fromHexString(functionCall.encodeFunctionCall()).toArray();
+        final var transactionIdOrHash = setUp(
+                ETHEREUMTRANSACTION,
+                contract,
+                callData,
+                true,
+                true,
+                senderEntity.toEntityId(),
+                ZERO_AMOUNT,
+                domainBuilder.timestamp());
+        final int maxOpcodes = mirrorNodeEvmProperties.getMaxOpcodes();
+        mirrorNodeEvmProperties.setMaxOpcodes(1);
+
+        try {
+            // Then
+            assertThatExceptionOfType(InvalidParametersException.class)
+                    .isThrownBy(() -> opcodeService.processOpcodeCall(transactionIdOrHash, options))
+                    .withMessage("Opcode trace exceeds the maximum of 1 opcodes");
+        } finally {
+            mirrorNodeEvmProperties.setMaxOpcodes(maxOpcodes);
+        }
+    }
+
+    @Test
+    void streamExceedingMaxOpcodes() throws Exception {
+        // Given
+        final var options =
+                new OpcodeTracerOptions(true, false, false, mirrorNodeEvmProperties.isModularizedServices());
+        final var transactionIdOrHash = setUpUpdateStorage();
+        final var outputStream = new ByteArrayOutputStream();
+        final int maxOpcodes = mirrorNodeEvmProperties.getMaxOpcodes();
+        mirrorNodeEvmProperties.setMaxOpcodes(1);
+
+        try {
+            // When
+            opcodeService.streamOpcodeCall(transactionIdOrHash, options, outputStream);
+
+            // Then the error is written after the opcodes already streamed and the JSON is complete
+            final var response = objectMapper.readTree(outputStream.toByteArray());
+            assertThat(response.get("opcodes")).hasSize(1);
+            assertThat(response.has("gas")).isFalse();
+            assertThat(response.at("/_status/messages/0/message").asText())
+                    .isEqualTo("Opcode trace exceeds the maximum of 1 opcodes");
+        } finally {
+            mirrorNodeEvmProperties.setMaxOpcodes(maxOpcodes);
+        }
+    }
+
+    @Test
+    void streamExceedingMaxOpcodesBeforeFirstOpcode() {
+        // Given
+        final var options =
+                new OpcodeTracerOptions(true, false, false, mirrorNodeEvmProperties.isModularizedServices());
+        final var transactionIdOrHash = setUpUpdateStorage();
+        final var outputStream = new ByteArrayOutputStream();
+        final int maxOpcodes = mirrorNodeEvmProperties.getMaxOpcodes();
+        mirrorNodeEvmProperties.setMaxOpcodes(0);
+
+        try {
+            // Then
+            assertThatExceptionOfType(InvalidParametersException.class)
+                    .isThrownBy(() -> opcodeService.streamOpcodeCall(transactionIdOrHash, options, outputStream))
+                    .withMessage("Opcode trace exceeds the maximum of 0 opcodes");
+            assertThat(outputStream.size()).isZero();
+        } finally {
+            mirrorNodeEvmProperties.setMaxOpcodes(maxOpcodes);
+        }
+    }
+
     @ParameterizedTest
     @CsvSource({
         "true, true, true",
@@ -1017,4 +1131,21 @@ class OpcodeServiceTest extends AbstractContractCallServiceOpcodeTracerTest {
     private boolean calculateDefaultKycStatus(boolean defaultKycStatus) {
         return mirrorNodeEvmProperties.isModularizedServices() != defaultKycStatus;
     }
+
+    private TransactionIdOrHashParameter setUpUpdateStorage() {
+        final var senderEntity = accountPersistWithAccountBalances();
+        final var contract = testWeb3jService.deploy(StorageContract::deploy);
+        final var functionCall = contract.send_updateStorage(BigInteger.ONE, BigInteger.TEN);
+        final var callData =
+                Bytes.fromHexString(functionCall.encodeFunctionCall()).toArray();
+        return setUp(
+                ETHEREUMTRANSACTION,
+                contract,
+                callData,
+                true,
+                true,
+                senderEntity.toEntityId(),
+                ZERO_AMOUNT,
+                domainBuilder.timestamp());
+    }
 }
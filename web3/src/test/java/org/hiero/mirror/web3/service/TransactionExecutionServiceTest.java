@@ -36,9 +36,11 @@ import org.hiero.mirror.web3.evm.contracts.execution.traceability.OpcodeTracer;
 import org.hiero.mirror.web3.evm.contracts.execution.traceability.OpcodeTracerOptions;
 import org.hiero.mirror.web3.evm.properties.MirrorNodeEvmProperties;
 import org.hiero.mirror.web3.exception.MirrorEvmTransactionException;
+import org.hiero.mirror.web3.repository.properties.CacheProperties;
 import org.hiero.mirror.web3.service.model.CallServiceParameters;
 import org.hiero.mirror.web3.service.model.CallServiceParameters.CallType;
 import org.hiero.mirror.web3.service.model.ContractExecutionParameters;
+import org.hiero.mirror.web3.state.LatestStateReadCache;
 import org.hiero.mirror.web3.state.keyvalue.AccountReadableKVState;
 import org.hiero.mirror.web3.state.keyvalue.AliasesReadableKVState;
 import org.hiero.mirror.web3.viewmodel.BlockType;
@@ -99,11 +101,13 @@ class TransactionExecutionServiceTest {
     void setUp() {
         var commonProperties = new CommonProperties();
         var systemEntity = new SystemEntity(commonProperties);
+        var mirrorNodeEvmProperties = new MirrorNodeEvmProperties(commonProperties, systemEntity);
         transactionExecutionService = new TransactionExecutionService(
                 accountReadableKVState,
                 aliasesReadableKVState,
                 commonProperties,
-                new MirrorNodeEvmProperties(commonProperties, systemEntity),
+                new LatestStateReadCache(new CacheProperties(), mirrorNodeEvmProperties),
+                mirrorNodeEvmProperties,
                 opcodeActionTracer,
                 mirrorOperationActionTracer,
                 systemEntity,
@@ -2,16 +2,18 @@
 
 package org.hiero.mirror.web3.service.utils;
 
-import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+import static org.assertj.core.api.Assertions.assertThat;
 
 import com.hedera.node.app.service.evm.contracts.execution.HederaEvmTransactionProcessingResult;
 import java.util.Optional;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongFunction;
 import lombok.RequiredArgsConstructor;
 import org.assertj.core.data.Percentage;
 import org.hiero.mirror.web3.Web3IntegrationTest;
 import org.hiero.mirror.web3.evm.properties.MirrorNodeEvmProperties;
 import org.hyperledger.besu.datatypes.Address;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -91,6 +93,99 @@ class BinaryGasEstimatorTest extends Web3IntegrationTest {
                 .isGreaterThan(regularCallGasUsage);
     }
 
+    @DisplayName("searchParallel")
+    @ParameterizedTest(name = "#{index} (low {0}, high {1}, parallelism {2}, seeded {3}, iterationLimit {4})")
+    @CsvSource({
+        "21000, 15_000_000, 4, false, 6",
+        "21000, 15_000_000, 8, false, 5",
+        "21000, 15_000_000, 4, true, 1",
+        "1_000_000, 1_000_000_000, 8, false, 6",
+        "1_000_000, 1_000_000_000, 8, true, 1",
+    })
+    void searchParallel(
+            final long low, final long high, final int parallelism, final boolean seeded, final int iterationLimit) {
+        properties.setEstimateGasParallelism(parallelism);
+        properties.setEstimateGasSeeded(seeded);
+        final long required = low + low / 64;
+
+        final var result = binaryGasEstimator.searchParallel(
+                (a, b) -> iterations.addAndGet(b),
+                gas -> createTxnResult(low, gas >= required),
+                low,
+                high,
+                properties.isModularizedServices());
+
+        assertThat(result)
+                .as("result must be a successful gas limit close to the required one")
+                .isBetween(required, high)
+                .isCloseTo(required, Percentage.withPercentage(20));
+        assertThat(iterations.get()).as("executions").isLessThanOrEqualTo(iterationLimit * parallelism);
+        assertThat(meterRegistry
+                        .get(BinaryGasEstimator.ITERATIONS_METRIC)
+                        .tag("mode", BinaryGasEstimator.MODE_PARALLEL)
+                        .tag("seeded", String.valueOf(seeded))
+                        .summary()
+                        .max())
+                .as("iteration limit")
+                .isLessThanOrEqualTo(iterationLimit);
+    }
+
+    @DisplayName("searchParallelEqualsSearch")
+    @ParameterizedTest(name = "#{index} (low {0}, high {1}, parallelism {2}, seeded {3})")
+    @CsvSource({
+        "21000, 100000, 4, false",
+        "21000, 100000, 4, true",
+        "35000, 200_000, 8, false",
+        "35000, 200_000, 8, true",
+    })
+    void searchParallelEqualsSearch(final long low, final long high, final int parallelism, final boolean seeded) {
+        // Without a threshold both searches converge to the lowest successful gas limit
+        properties.setEstimateGasIterationThresholdPercent(Double.MIN_VALUE);
+        properties.setEstimateGasParallelism(parallelism);
+        properties.setEstimateGasSeeded(seeded);
+        final long required = low + low / 50;
+        final LongFunction<HederaEvmTransactionProcessingResult> call = gas -> createTxnResult(low, gas >= required);
+
+        final var result = binaryGasEstimator.search(
+                (a, b) -> iterations.addAndGet(b), call, low, high, properties.isModularizedServices());
+        final var parallelResult = binaryGasEstimator.searchParallel(
+                (a, b) -> iterations.addAndGet(b), call, low, high, properties.isModularizedServices());
+
+        assertThat(parallelResult).isEqualTo(result).isEqualTo(required);
+    }
+
+    @Test
+    void searchSeeded() {
+        properties.setEstimateGasSeeded(true);
+        final long low = 35000;
+        final long required = low + low / 64;
+
+        final var result = binaryGasEstimator.search(
+                (a, b) -> iterations.addAndGet(b),
+                gas -> createTxnResult(low, gas >= required),
+                low,
+                15_000_000L,
+                properties.isModularizedServices());
+
+        assertThat(result).isBetween(required, low + low / 10);
+        assertThat(iterations.get()).as("a successful seed ends the search").isOne();
+        assertThat(meterRegistry
+                        .get(BinaryGasEstimator.DURATION_METRIC)
+                        .tag("mode", BinaryGasEstimator.MODE_BINARY)
+                        .tag("seeded", "true")
+                        .timer()
+                        .count())
+                .isOne();
+    }
+
+    @Test
+    void gasLimits() {
+        assertThat(BinaryGasEstimator.gasLimits(0L, 100L, 4)).containsExactly(20L, 40L, 60L, 80L);
+        assertThat(BinaryGasEstimator.gasLimits(10L, 13L, 4)).containsExactly(11L, 12L);
+        assertThat(BinaryGasEstimator.gasLimits(0L, Long.MAX_VALUE, 2))
+                .allSatisfy(gasLimit -> assertThat(gasLimit).isPositive());
+    }
+
     @Test
     void searchDoesntExceedMaxIterations() {
         /*
@@ -111,6 +206,13 @@ class BinaryGasEstimatorTest extends Web3IntegrationTest {
                 .isLessThanOrEqualTo(properties.getMaxGasEstimateRetriesCount());
     }
 
+    @AfterEach
+    void cleanup() {
+        properties.setEstimateGasIterationThresholdPercent(0.10d);
+        properties.setEstimateGasParallelism(1);
+        properties.setEstimateGasSeeded(false);
+    }
+
     private HederaEvmTransactionProcessingResult createTxnResult(final long gasUsed, final boolean isSuccessful) {
         if (!isSuccessful) {
             return HederaEvmTransactionProcessingResult.failed(gasUsed, 0, 0, Optional.empty(), Optional.empty());
@@ -0,0 +1,74 @@
+// SPDX-License-Identifier: Apache-2.0
+
+package org.hiero.mirror.web3.state;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.hiero.mirror.common.CommonProperties;
+import org.hiero.mirror.common.domain.SystemEntity;
+import org.hiero.mirror.common.domain.transaction.RecordFile;
+import org.hiero.mirror.web3.evm.properties.MirrorNodeEvmProperties;
+import org.hiero.mirror.web3.repository.properties.CacheProperties;
+import org.hiero.mirror.web3.state.keyvalue.AccountReadableKVState;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class LatestStateReadCacheTest {
+
+    private final CacheProperties cacheProperties = new CacheProperties();
+    private MirrorNodeEvmProperties mirrorNodeEvmProperties;
+    private LatestStateReadCache latestStateReadCache;
+
+    @BeforeEach
+    void setup() {
+        var commonProperties = new CommonProperties();
+        mirrorNodeEvmProperties = new MirrorNodeEvmProperties(commonProperties, new SystemEntity(commonProperties));
+        latestStateReadCache = new LatestStateReadCache(cacheProperties, mirrorNodeEvmProperties);
+    }
+
+    @Test
+    void sameRecordFile() {
+        var readCache = latestStateReadCache.get(recordFile(1L));
+
+        assertThat(readCache).containsOnlyKeys(LatestStateReadCache.STATE_KEYS);
+        assertThat(latestStateReadCache.get(recordFile(1L))).isSameAs(readCache);
+    }
+
+    @Test
+    void newerRecordFile() {
+        var readCache = latestStateReadCache.get(recordFile(1L));
+        readCache.get(AccountReadableKVState.KEY).put("key", "value");
+
+        var newerReadCache = latestStateReadCache.get(recordFile(2L));
+        assertThat(newerReadCache).isNotSameAs(readCache);
+        assertThat(newerReadCache.get(AccountReadableKVState.KEY)).isEmpty();
+
+        // Calls that started at the older record file don't share their reads anymore
+        assertThat(latestStateReadCache.get(recordFile(1L))).isNull();
+        assertThat(latestStateReadCache.get(recordFile(2L))).isSameAs(newerReadCache);
+    }
+
+    @Test
+    void disabled() {
+        cacheProperties.setEnableLatestStateCaching(false);
+        assertThat(latestStateReadCache.get(recordFile(1L))).isNull();
+    }
+
+    @Test
+    void noRecordFile() {
+        assertThat(latestStateReadCache.get(null)).isNull();
+        assertThat(latestStateReadCache.get(new RecordFile())).isNull();
+    }
+
+    @Test
+    void overridePayerBalanceValidation() {
+        mirrorNodeEvmProperties.setOverridePayerBalanceValidation(true);
+        assertThat(latestStateReadCache.get(recordFile(1L)))
+                .isNotEmpty()
+                .doesNotContainKey(AccountReadableKVState.KEY);
+    }
+
+    private RecordFile recordFile(long consensusEnd) {
+        return RecordFile.builder().consensusEnd(consensusEnd).build();
+    }
+}